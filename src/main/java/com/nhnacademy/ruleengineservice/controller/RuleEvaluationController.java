@@ -0,0 +1,77 @@
+package com.nhnacademy.ruleengineservice.controller;
+
+import com.nhnacademy.ruleengineservice.domain.rule.EventType;
+import com.nhnacademy.ruleengineservice.dto.engine.BatchEvaluationRequest;
+import com.nhnacademy.ruleengineservice.dto.engine.BatchEvaluationResponse;
+import com.nhnacademy.ruleengineservice.engine.RuleEngine;
+import com.nhnacademy.ruleengineservice.engine.evaluate.BatchEvaluationResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 규칙 평가 요청을 받는 REST 컨트롤러입니다.
+ * <p>
+ * 배치 엔드포인트는 게이트웨이가 모아 보낸 팩트 묶음을 한 번의 요청으로 평가하여
+ * 팩트마다 HTTP 요청을 보내는 비용을 없앱니다.
+ */
+@RestController
+@RequestMapping("/api/v1/rules/evaluations")
+public class RuleEvaluationController {
+
+    private final RuleEngine ruleEngine;
+
+    /**
+     * 한 번에 평가할 수 있는 최대 팩트 수.
+     */
+    private final int maxBatchSize;
+
+    public RuleEvaluationController(RuleEngine ruleEngine,
+                                    @Value("${rule.engine.batch.max-size:1000}") int maxBatchSize) {
+        this.ruleEngine = ruleEngine;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * 팩트 묶음을 현재 규칙 스냅샷 하나로 평가합니다.
+     * dispatch 가 true 이면 발동된 액션을 실행 대기열에 올리며, 실행 완료는 기다리지 않습니다.
+     *
+     * @param request  이벤트 유형과 팩트 목록
+     * @param dispatch 발동된 액션 실행 여부
+     * @return 팩트별 발동 규칙과 렌더링된 액션, 규칙별 실행 대기 액션
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchEvaluationResponse> evaluateBatch(@RequestBody BatchEvaluationRequest request,
+                                                                 @RequestParam(defaultValue = "false") boolean dispatch) {
+        List<Map<String, Object>> facts = request.facts() != null ? request.facts() : List.of();
+        if (facts.size() > maxBatchSize) {
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE,
+                    "한 번에 평가할 수 있는 팩트는 최대 " + maxBatchSize + "개입니다.");
+        }
+        EventType eventType = parseEventType(request.eventType());
+        BatchEvaluationResult result = dispatch
+                ? ruleEngine.fireAll(eventType, facts)
+                : ruleEngine.evaluateAll(eventType, facts);
+        return ResponseEntity.ok(BatchEvaluationResponse.from(result, facts));
+    }
+
+    private static EventType parseEventType(String eventType) {
+        if (eventType == null || eventType.isBlank()) {
+            return null;
+        }
+        try {
+            return EventType.valueOf(eventType.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "알 수 없는 eventType 입니다: " + eventType);
+        }
+    }
+}
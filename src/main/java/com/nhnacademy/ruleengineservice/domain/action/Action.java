@@ -1,8 +1,6 @@
 package com.nhnacademy.ruleengineservice.domain.action;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nhnacademy.ruleengineservice.domain.rule.Rule;
 import jakarta.persistence.*;
 
@@ -109,31 +107,27 @@ public class Action {
         this.createdAt = LocalDateTime.now();
 
         if (actParamsMap != null) {
-            ObjectMapper mapper = new ObjectMapper();
-            this.actParams = mapper.writeValueAsString(actParamsMap);
+            this.actParams = ActionParams.write(actParamsMap);
         }
     }
 
     /**
-     * DB 에 저장되지 않는 임시 필드
+     * DB 에 저장되지 않는 임시 필드.
+     * 조회 시점에는 비어 있으며, {@link #getActParamsMap()} 을 처음 호출할 때 actParams 를 해석해 채웁니다.
      */
     @Transient
     private Map<String, Object> actParamsMap;
 
     /**
-     * 조회 후 JSON 문자열 -> Map 변환
-     * @throws JsonProcessingException Json 임시 처리
+     * actParams 를 Map 으로 반환합니다.
+     * 조회 시마다 파싱하지 않도록 처음 호출될 때 한 번만 해석하며, {@link ActionParams} 의 공유 reader 를 사용합니다.
+     *
+     * @return actParams Map (조회된 값은 불변)
      */
-    @PostLoad
-    public void postLoad() throws JsonProcessingException {
-        if (actParams != null) {
-            ObjectMapper mapper = new ObjectMapper();
-            this.actParamsMap = mapper.readValue(actParams, new TypeReference<Map<String, Object>>() {
-            });
-        }
-    }
-
     public Map<String, Object> getActParamsMap() {
+        if (actParamsMap == null && actParams != null) {
+            actParamsMap = ActionParams.parse(actParams);
+        }
         return actParamsMap;
     }
 
@@ -0,0 +1,85 @@
+package com.nhnacademy.ruleengineservice.domain.action;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ActionParams 는 actParams JSON 문자열과 Map 사이의 변환을 담당합니다.
+ * <p>
+ * {@link ObjectReader}/{@link ObjectWriter} 는 설정이 끝난 뒤 불변이고 스레드 안전하므로
+ * 애플리케이션 전체에서 하나씩만 만들어 공유합니다. 엔티티나 액션마다 ObjectMapper 를 만들지 않습니다.
+ */
+public final class ActionParams {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final ObjectReader READER = MAPPER.readerFor(new TypeReference<Map<String, Object>>() {
+    });
+
+    private static final ObjectWriter WRITER = MAPPER.writer();
+
+    private ActionParams() {
+    }
+
+    /**
+     * actParams JSON 문자열을 불변 Map 으로 변환합니다. 중첩된 객체와 배열도 불변입니다.
+     *
+     * @param actParams actParams JSON 문자열
+     * @return 불변 Map, actParams 가 null 이거나 비어 있으면 빈 Map
+     * @throws IllegalArgumentException JSON 객체 형식이 아닌 경우
+     */
+    public static Map<String, Object> parse(String actParams) {
+        if (actParams == null || actParams.isBlank()) {
+            return Map.of();
+        }
+        try {
+            Map<String, Object> parsed = READER.readValue(actParams);
+            return parsed == null ? Map.of() : freezeMap(parsed);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("actParams 가 JSON 객체 형식이 아닙니다: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    /**
+     * Map 을 actParams JSON 문자열로 변환합니다.
+     *
+     * @param params 파라미터 Map
+     * @return JSON 문자열
+     * @throws JsonProcessingException 직렬화할 수 없는 값이 있는 경우
+     */
+    public static String write(Map<String, Object> params) throws JsonProcessingException {
+        return WRITER.writeValueAsString(params);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object freeze(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            return freezeMap((Map<String, Object>) map);
+        }
+        if (value instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>(list.size());
+            for (Object element : list) {
+                copy.add(freeze(element));
+            }
+            return Collections.unmodifiableList(copy);
+        }
+        return value;
+    }
+
+    private static Map<String, Object> freezeMap(Map<String, Object> map) {
+        Map<String, Object> copy = new LinkedHashMap<>(map.size() * 2);
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            copy.put(entry.getKey(), freeze(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(copy);
+    }
+}
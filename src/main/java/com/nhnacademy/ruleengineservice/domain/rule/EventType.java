@@ -57,7 +57,9 @@ public enum EventType {
     DEVICE_STATUS_CHANGE("장치 상태 변화"),
 
     /**
-     * 매일 정해진 시간에 스케줄링된 이벤트
+     * 매일 정해진 시간에 스케줄링된 이벤트.
+     * 규칙 엔진은 이 유형의 이벤트를 스스로 발생시키지 않으며, 정해진 시각의 실행과 놓친 실행 따라잡기는
+     * RuleSchedule 의 크론 일정으로만 이루어집니다.
      */
     SCHEDULED_DAILY("매일 실행"),
 
@@ -0,0 +1,60 @@
+package com.nhnacademy.ruleengineservice.domain.rule;
+
+import jakarta.persistence.*;
+
+/**
+ * RuleSetRevision 엔티티는 규칙 집합의 변경 번호를 보관하는 단일 행입니다.
+ * <p>
+ * 어떤 인스턴스든 규칙을 구성하는 엔티티를 바꾸고 커밋하면 번호를 1 올리며,
+ * 다른 인스턴스는 주기적으로 번호를 읽어 바뀌었으면 규칙을 다시 적재합니다.
+ */
+@Entity
+@Table(name = "rule_set_revisions")
+public class RuleSetRevision {
+
+    /**
+     * 단일 행의 식별자.
+     */
+    public static final Long SINGLETON_NO = 1L;
+
+    /**
+     * 행의 고유 식별자(PK). 항상 {@link #SINGLETON_NO} 입니다.
+     */
+    @Id
+    @Column(name = "revision_no")
+    private Long revisionNo;
+
+    /**
+     * 규칙 집합 변경 번호. 변경이 커밋될 때마다 1 씩 증가합니다.
+     */
+    @Column(nullable = false)
+    private Long revision;
+
+    /**
+     * JPA 기본 생성자 (외부에서 직접 호출하지 않음).
+     */
+    protected RuleSetRevision() {}
+
+    private RuleSetRevision(Long revisionNo, Long revision) {
+        this.revisionNo = revisionNo;
+        this.revision = revision;
+    }
+
+    /**
+     * 주어진 번호로 시작하는 단일 행을 만듭니다.
+     *
+     * @param revision 시작 변경 번호
+     * @return 새 RuleSetRevision 인스턴스
+     */
+    public static RuleSetRevision startingAt(long revision) {
+        return new RuleSetRevision(SINGLETON_NO, revision);
+    }
+
+    public Long getRevisionNo() {
+        return revisionNo;
+    }
+
+    public Long getRevision() {
+        return revision;
+    }
+}
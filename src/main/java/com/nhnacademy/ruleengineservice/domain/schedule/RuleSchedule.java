@@ -3,6 +3,7 @@ package com.nhnacademy.ruleengineservice.domain.schedule;
 import com.nhnacademy.ruleengineservice.domain.rule.Rule;
 import jakarta.persistence.*;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 
 /**
@@ -83,6 +84,12 @@ public class RuleSchedule {
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
+    /**
+     * 마지막으로 실행된 예정 시각. NULL 허용 (한 번도 실행되지 않았을 경우 NULL).
+     * 재시작 시 놓친 실행을 계산하는 기준이 됩니다.
+     */
+    private Instant lastFiredAt;
+
     /**
      * JPA 기본 생성자 (외부에서 직접 호출하지 않음).
      */
@@ -124,6 +131,17 @@ public class RuleSchedule {
     @PrePersist
     public void prePersist() { this.createdAt = LocalDateTime.now(); }
 
+    /**
+     * 마지막 실행 시각을 기록합니다. 이미 기록된 시각보다 이전이면 무시합니다.
+     *
+     * @param firedAt 실행된 예정 시각
+     */
+    public void markFired(Instant firedAt) {
+        if (lastFiredAt == null || lastFiredAt.isBefore(firedAt)) {
+            this.lastFiredAt = firedAt;
+        }
+    }
+
     public Rule getRule() {
         return rule;
     }
@@ -152,6 +170,10 @@ public class RuleSchedule {
         return createdAt;
     }
 
+    public Instant getLastFiredAt() {
+        return lastFiredAt;
+    }
+
     @Override
     public String toString() {
         return "RuleSchedule{" +
@@ -161,6 +183,7 @@ public class RuleSchedule {
                 ", maxRetires=" + maxRetires +
                 ", active=" + active +
                 ", createdAt=" + createdAt +
+                ", lastFiredAt=" + lastFiredAt +
                 '}';
     }
 }
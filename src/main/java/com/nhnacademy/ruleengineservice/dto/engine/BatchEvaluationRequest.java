@@ -0,0 +1,13 @@
+package com.nhnacademy.ruleengineservice.dto.engine;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 배치 평가 요청입니다. 게이트웨이가 한 번에 전달하는 센서 값 묶음 등을 담습니다.
+ *
+ * @param eventType 이벤트 유형 (예: DEVICE_STATUS_CHANGE), 생략하면 모든 규칙을 대상으로 평가
+ * @param facts     필드명 → 값 형태의 팩트 목록
+ */
+public record BatchEvaluationRequest(String eventType, List<Map<String, Object>> facts) {
+}
@@ -0,0 +1,107 @@
+package com.nhnacademy.ruleengineservice.dto.engine;
+
+import com.nhnacademy.ruleengineservice.engine.compile.CompiledAction;
+import com.nhnacademy.ruleengineservice.engine.evaluate.BatchEvaluationResult;
+import com.nhnacademy.ruleengineservice.engine.evaluate.EvaluationResult;
+import com.nhnacademy.ruleengineservice.engine.evaluate.RuleMatch;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 배치 평가 응답입니다.
+ * <p>
+ * 팩트별 결과에는 발동된 규칙 번호만 담고, 규칙 이름과 실행 대기 액션은 {@code rules} 에 규칙당 한 번만 담습니다.
+ * 자리표시자가 없는 액션 파라미터는 어느 팩트에서나 같으므로 {@code rules} 에 한 번만 직렬화합니다.
+ * 자리표시자가 있는 액션은 실제로 실행될 값과 같도록 팩트마다 렌더링하여 팩트별 결과에 담습니다.
+ *
+ * @param version 평가에 사용된 규칙 스냅샷 버전
+ * @param results 입력 순서의 팩트별 결과
+ * @param rules   발동된 규칙 번호 → 규칙 정보
+ */
+public record BatchEvaluationResponse(long version, List<FactResult> results, Map<Long, MatchedRule> rules) {
+
+    /**
+     * 팩트 하나의 평가 결과입니다.
+     *
+     * @param index           요청의 facts 내 위치
+     * @param ruleNos         발동된 규칙 번호 (평가 순서)
+     * @param renderedActions 이 팩트로 렌더링한 자리표시자 액션 (평가 순서, 없으면 빈 목록)
+     */
+    public record FactResult(int index, List<Long> ruleNos, List<RenderedAction> renderedActions) {
+    }
+
+    /**
+     * 발동된 규칙과 실행 대기 액션입니다.
+     *
+     * @param ruleName 규칙 이름
+     * @param actions  실행 대기 액션 (actPriority 순)
+     */
+    public record MatchedRule(String ruleName, List<QueuedAction> actions) {
+    }
+
+    /**
+     * 실행 대기 액션입니다.
+     *
+     * @param actNo     액션 번호
+     * @param actType   액션 타입
+     * @param actParams 액션 파라미터(JSON 문자열), 자리표시자가 있어 팩트마다 다르면 null
+     */
+    public record QueuedAction(Long actNo, String actType, String actParams) {
+    }
+
+    /**
+     * 팩트 하나로 자리표시자를 채운 액션 파라미터입니다.
+     *
+     * @param ruleNo    발동된 규칙 번호
+     * @param actNo     액션 번호
+     * @param actParams 렌더링된 액션 파라미터(JSON 문자열)
+     */
+    public record RenderedAction(Long ruleNo, Long actNo, String actParams) {
+    }
+
+    /**
+     * 엔진의 배치 평가 결과를 응답으로 변환합니다.
+     *
+     * @param result 배치 평가 결과
+     * @param facts  평가한 팩트 목록 (result 와 같은 순서)
+     * @return 응답
+     */
+    public static BatchEvaluationResponse from(BatchEvaluationResult result, List<Map<String, Object>> facts) {
+        List<FactResult> results = new ArrayList<>(result.getResults().size());
+        Map<Long, MatchedRule> rules = new LinkedHashMap<>();
+        int index = 0;
+        for (EvaluationResult evaluation : result.getResults()) {
+            Map<String, Object> fact = facts.get(index);
+            List<Long> ruleNos = new ArrayList<>(evaluation.getMatches().size());
+            List<RenderedAction> rendered = List.of();
+            for (RuleMatch match : evaluation.getMatches()) {
+                ruleNos.add(match.getRuleNo());
+                rules.computeIfAbsent(match.getRuleNo(), ruleNo -> toMatchedRule(match));
+                for (CompiledAction action : match.getActions()) {
+                    if (action.getTemplate().isConstant()) {
+                        continue;
+                    }
+                    if (rendered.isEmpty()) {
+                        rendered = new ArrayList<>();
+                    }
+                    rendered.add(new RenderedAction(match.getRuleNo(), action.getActNo(),
+                            action.renderParams(fact, match.getParameters())));
+                }
+            }
+            results.add(new FactResult(index++, ruleNos, rendered));
+        }
+        return new BatchEvaluationResponse(result.getVersion(), results, rules);
+    }
+
+    private static MatchedRule toMatchedRule(RuleMatch match) {
+        List<QueuedAction> actions = new ArrayList<>(match.getActions().size());
+        for (CompiledAction action : match.getActions()) {
+            String actParams = action.getTemplate().isConstant() ? action.getActParams() : null;
+            actions.add(new QueuedAction(action.getActNo(), action.getActType(), actParams));
+        }
+        return new MatchedRule(match.getRuleName(), actions);
+    }
+}
@@ -0,0 +1,291 @@
+package com.nhnacademy.ruleengineservice.engine;
+
+import com.nhnacademy.ruleengineservice.domain.rule.EventType;
+import com.nhnacademy.ruleengineservice.engine.action.ActionCallback;
+import com.nhnacademy.ruleengineservice.engine.action.ActionDispatcher;
+import com.nhnacademy.ruleengineservice.engine.compile.CompiledRule;
+import com.nhnacademy.ruleengineservice.engine.compile.RuleCompiler;
+import com.nhnacademy.ruleengineservice.engine.compile.state.ConditionState;
+import com.nhnacademy.ruleengineservice.engine.device.DeviceStateStore;
+import com.nhnacademy.ruleengineservice.engine.exception.RuleCompileException;
+import com.nhnacademy.ruleengineservice.engine.evaluate.BatchEvaluationResult;
+import com.nhnacademy.ruleengineservice.engine.evaluate.EvaluationResult;
+import com.nhnacademy.ruleengineservice.engine.evaluate.ParallelRuleEvaluator;
+import com.nhnacademy.ruleengineservice.engine.evaluate.RuleMatch;
+import com.nhnacademy.ruleengineservice.engine.evaluate.RuleEvaluator;
+import com.nhnacademy.ruleengineservice.engine.loader.RuleSetChange;
+import com.nhnacademy.ruleengineservice.engine.loader.RuleSetLoader;
+import com.nhnacademy.ruleengineservice.engine.network.AlphaNetwork;
+import com.nhnacademy.ruleengineservice.engine.network.AlphaNode;
+import com.nhnacademy.ruleengineservice.engine.snapshot.RuleSetRegistry;
+import com.nhnacademy.ruleengineservice.engine.snapshot.RuleSetSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RuleEngine 은 메모리에 적재된 컴파일 규칙으로 들어오는 팩트를 평가하는 서비스입니다.
+ * <p>
+ * 규칙은 애플리케이션 기동 시 한 번 컴파일되어 {@link RuleSetRegistry} 에 스냅샷으로 게시되며,
+ * {@link #evaluate(Map)} 경로에서는 JPA 나 커넥션 풀에 접근하지 않습니다.
+ * 규칙이 변경되면 {@link #refresh(Collection, Collection)} 가 바뀐 규칙만 다시 컴파일해 새 버전의 스냅샷을 게시하며,
+ * 평가는 멈추지 않습니다.
+ * 파라미터 값만 바뀐 경우에는 {@link #updateParameter} 가 컴파일된 규칙의 파라미터 슬롯만 교체합니다.
+ * 지속 조건처럼 팩트 없이 타이머가 상태를 바꾸면 {@link #onConditionResolved} 가 그 조건의 규칙을 다시 확인합니다.
+ * <p>
+ * {@code DEVICE_STATUS_CHANGE} 팩트는 {@link DeviceStateStore} 로 장치의 이전 값과 비교하여,
+ * 값이 바뀐 필드를 읽는 규칙만 평가합니다. 바뀐 필드가 없으면 평가하지 않습니다.
+ */
+@Service
+public class RuleEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(RuleEngine.class);
+
+    private final RuleSetLoader ruleSetLoader;
+
+    private final RuleSetRegistry ruleSetRegistry;
+
+    private final ParallelRuleEvaluator parallelRuleEvaluator;
+
+    private final ActionDispatcher actionDispatcher;
+
+    private final DeviceStateStore deviceStateStore;
+
+    private final RuleEvaluator ruleEvaluator = new RuleEvaluator();
+
+    public RuleEngine(RuleSetLoader ruleSetLoader, RuleSetRegistry ruleSetRegistry,
+                      ParallelRuleEvaluator parallelRuleEvaluator, ActionDispatcher actionDispatcher,
+                      DeviceStateStore deviceStateStore) {
+        this.ruleSetLoader = ruleSetLoader;
+        this.ruleSetRegistry = ruleSetRegistry;
+        this.parallelRuleEvaluator = parallelRuleEvaluator;
+        this.actionDispatcher = actionDispatcher;
+        this.deviceStateStore = deviceStateStore;
+        ruleSetLoader.getStateStore().setResolutionListener(this::onConditionResolved);
+    }
+
+    /**
+     * 애플리케이션이 준비되면 활성 규칙을 적재합니다.
+     * 놓친 스케줄 따라잡기가 적재된 규칙으로 실행되도록 다른 준비 리스너보다 먼저 실행합니다.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * 활성 규칙을 다시 읽어 컴파일하고 새 스냅샷으로 교체합니다.
+     *
+     * @return 게시된 스냅샷
+     */
+    public synchronized RuleSetSnapshot reload() {
+        return ruleSetRegistry.publish(ruleSetLoader.loadActiveRules());
+    }
+
+    /**
+     * 변경된 규칙과 그룹만 다시 읽어 컴파일하고, 현재 스냅샷에 패치한 새 스냅샷을 게시합니다.
+     * 읽기와 패치가 다른 갱신과 섞이지 않도록 갱신끼리는 직렬화합니다.
+     *
+     * @param ruleNos      변경된 규칙 번호
+     * @param ruleGroupNos 변경된 그룹 번호
+     * @return 게시된 스냅샷
+     */
+    public synchronized RuleSetSnapshot refresh(Collection<Long> ruleNos, Collection<Long> ruleGroupNos) {
+        RuleSetChange change = ruleSetLoader.loadChangedRules(ruleNos, ruleGroupNos);
+        return ruleSetRegistry.patch(change.getRemovedRuleNos(), change.getChangedRules());
+    }
+
+    /**
+     * 현재 스냅샷의 규칙 파라미터 값을 제자리에서 교체합니다. 재컴파일이나 스냅샷 교체는 일어나지 않습니다.
+     * 규칙이 적재되어 있지 않거나, 처음 보는 파라미터이거나, 새 값으로 조건을 컴파일할 수 없으면 false 를 반환하며
+     * 이때는 {@link #refresh} 로 규칙을 다시 컴파일해야 합니다.
+     *
+     * @param ruleNo     규칙 번호
+     * @param paramNo    파라미터 번호
+     * @param paramName  파라미터 이름
+     * @param paramValue 새 값
+     * @return 반영했으면 true
+     */
+    public synchronized boolean updateParameter(Long ruleNo, Long paramNo, String paramName, String paramValue) {
+        CompiledRule rule = ruleSetRegistry.current().getNetwork().findRule(ruleNo);
+        if (rule == null) {
+            return false;
+        }
+        try {
+            return rule.getRuleParameters().update(paramNo, paramName, paramValue);
+        } catch (RuleCompileException e) {
+            log.warn("규칙({}) 파라미터({}) 값을 조건에 반영할 수 없어 재컴파일합니다: {}", ruleNo, paramName, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 팩트를 현재 규칙으로 평가합니다.
+     *
+     * @param fact 필드명 → 값 형태의 팩트
+     * @return 평가 결과
+     */
+    public EvaluationResult evaluate(Map<String, Object> fact) {
+        return evaluate(null, fact);
+    }
+
+    /**
+     * 이벤트 유형을 구독하는 규칙만 대상으로 팩트를 평가합니다.
+     * 수신한 이벤트를 처리하는 경로이므로 장치 최신 값을 {@link DeviceStateStore} 에 기록합니다.
+     *
+     * @param eventType 이벤트 유형
+     * @param fact      필드명 → 값 형태의 팩트
+     * @return 평가 결과 (평가에 사용된 스냅샷 버전 포함)
+     */
+    public EvaluationResult evaluate(EventType eventType, Map<String, Object> fact) {
+        if (tracksDeviceState(eventType)) {
+            return ruleEvaluator.evaluate(ruleSetRegistry.current(), eventType, fact, deviceStateStore.update(fact));
+        }
+        return ruleEvaluator.evaluate(ruleSetRegistry.current(), eventType, fact);
+    }
+
+    /**
+     * 여러 팩트를 현재 스냅샷 하나로 평가합니다.
+     * 배치 도중 새 스냅샷이 게시되어도 모든 팩트는 같은 버전으로 평가되며,
+     * 큰 배치는 {@link ParallelRuleEvaluator} 의 전용 풀에서 나눠 평가합니다.
+     * 드라이런이므로 장치 최신 값은 {@link DeviceStateStore#peekChanges(List)} 로 비교만 하고 기록하지 않으며,
+     * 윈도, 지속, 순서 패턴 조건도 상태를 갱신하지 않고 현재 상태로만 검사합니다.
+     *
+     * @param eventType 이벤트 유형, null 이면 모든 규칙
+     * @param facts     필드명 → 값 형태의 팩트 목록
+     * @return 입력 순서의 팩트별 평가 결과
+     */
+    public BatchEvaluationResult evaluateAll(EventType eventType, List<Map<String, Object>> facts) {
+        List<List<String>> changes = tracksDeviceState(eventType) ? deviceStateStore.peekChanges(facts) : null;
+        return parallelRuleEvaluator.peekAll(ruleSetRegistry.current(), eventType, facts, changes);
+    }
+
+    private boolean tracksDeviceState(EventType eventType) {
+        return eventType == EventType.DEVICE_STATUS_CHANGE && deviceStateStore.isEnabled();
+    }
+
+    /**
+     * 여러 팩트를 평가하고, 발동된 규칙의 액션을 실행 대기열에 올립니다.
+     * 액션은 {@link ActionDispatcher} 가 가상 스레드에서 실행하므로 실행 완료를 기다리지 않고 반환합니다.
+     * 장치 최신 값은 입력 순서대로 {@link DeviceStateStore} 에 기록합니다.
+     *
+     * @param eventType 이벤트 유형, null 이면 모든 규칙
+     * @param facts     필드명 → 값 형태의 팩트 목록
+     * @return 입력 순서의 팩트별 평가 결과
+     */
+    public BatchEvaluationResult fireAll(EventType eventType, List<Map<String, Object>> facts) {
+        BatchEvaluationResult result;
+        if (tracksDeviceState(eventType)) {
+            // 같은 장치의 팩트가 배치 안에 여러 번 있을 수 있으므로 변경 감지는 입력 순서대로 먼저 끝냅니다.
+            List<List<String>> changes = new ArrayList<>(facts.size());
+            for (Map<String, Object> fact : facts) {
+                changes.add(deviceStateStore.update(fact));
+            }
+            result = parallelRuleEvaluator.evaluateAll(ruleSetRegistry.current(), eventType, facts, changes);
+        } else {
+            result = parallelRuleEvaluator.evaluateAll(ruleSetRegistry.current(), eventType, facts);
+        }
+        for (int i = 0; i < facts.size(); i++) {
+            actionDispatcher.dispatch(result.getResults().get(i), facts.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * 규칙 하나만 팩트로 평가하고, 발동되면 액션을 실행 대기열에 올립니다. 스케줄 실행에 사용합니다.
+     * 규칙이 적재되어 있지 않으면(비활성 등) 발동되지 않습니다.
+     *
+     * @param ruleNo 규칙 번호
+     * @param fact   필드명 → 값 형태의 팩트
+     * @return 평가 결과
+     */
+    public EvaluationResult fire(Long ruleNo, Map<String, Object> fact) {
+        return fire(ruleNo, fact, null);
+    }
+
+    /**
+     * 규칙 하나만 팩트로 평가하고, 발동되면 액션을 실행 대기열에 올려 액션마다 실행 결과를 콜백으로 알립니다.
+     *
+     * @param ruleNo   규칙 번호
+     * @param fact     필드명 → 값 형태의 팩트
+     * @param callback 액션 실행 결과 콜백, 없으면 null
+     * @return 평가 결과
+     */
+    public EvaluationResult fire(Long ruleNo, Map<String, Object> fact, ActionCallback callback) {
+        return fire(ruleSetRegistry.current(), ruleNo, fact, callback);
+    }
+
+    /**
+     * 주어진 스냅샷으로 규칙 하나를 평가하고, 발동되면 액션을 실행 대기열에 올립니다.
+     * 여러 실행을 한 스냅샷으로 몰아서 처리할 때(놓친 스케줄 따라잡기 등) 사용합니다.
+     * <p>
+     * 스케줄 실행은 이벤트가 아니라 규칙을 직접 지정하므로 규칙이 구독하는 이벤트 유형과 관계없이 평가합니다.
+     * 윈도, 지속, 순서 패턴 조건은 {@link CompiledRule#holds(Map)} 로 상태를 갱신하지 않고 현재 상태로만 검사하므로,
+     * 스케줄 팩트는 윈도에 집계되지 않고 따라잡기나 재시도 실행도 조건 상태를 바꾸지 않습니다.
+     * 순서 패턴은 팩트의 키 필드로 상태를 찾으므로, 키 필드가 없는 스케줄 팩트에서는 만족하지 않습니다.
+     *
+     * @param snapshot 평가에 사용할 스냅샷
+     * @param ruleNo   규칙 번호
+     * @param fact     필드명 → 값 형태의 팩트
+     * @param callback 액션 실행 결과 콜백, 없으면 null
+     * @return 평가 결과
+     */
+    public EvaluationResult fire(RuleSetSnapshot snapshot, Long ruleNo, Map<String, Object> fact,
+                                 ActionCallback callback) {
+        CompiledRule rule = snapshot.getNetwork().findRule(ruleNo);
+        List<RuleMatch> matches = rule != null && rule.holds(fact) ? List.of(RuleMatch.of(rule)) : List.of();
+        EvaluationResult result = new EvaluationResult(snapshot.getVersion(), matches);
+        actionDispatcher.dispatch(result, fact, callback);
+        return result;
+    }
+
+    /**
+     * 타이머가 조건 상태를 바꾼 뒤 그 조건을 가진 규칙을 현재 스냅샷으로 다시 확인하고,
+     * 상태를 갱신하지 않고도 모든 조건을 만족하는 규칙의 액션을 실행 대기열에 올립니다.
+     * 타이머 스레드에서 호출됩니다.
+     *
+     * @param state 바뀐 조건 상태
+     * @param fact  상태를 바꾼 키의 마지막 팩트
+     * @return 평가 결과, 현재 스냅샷에서 쓰이지 않는 상태이면 빈 결과
+     */
+    public EvaluationResult onConditionResolved(ConditionState state, Map<String, Object> fact) {
+        RuleSetSnapshot snapshot = ruleSetRegistry.current();
+        AlphaNetwork network = snapshot.getNetwork();
+        AlphaNode node = network.findStatefulNode(state);
+        List<RuleMatch> matches = new ArrayList<>();
+        if (node != null) {
+            List<CompiledRule> rules = new ArrayList<>();
+            for (int ruleIndex : node.getRuleIndexes()) {
+                CompiledRule rule = network.getRule(ruleIndex);
+                if (rule != null && rule.holds(fact)) {
+                    rules.add(rule);
+                }
+            }
+            rules.sort(RuleCompiler.EVALUATION_ORDER);
+            for (CompiledRule rule : rules) {
+                matches.add(RuleMatch.of(rule));
+            }
+        }
+        EvaluationResult result = new EvaluationResult(snapshot.getVersion(), matches);
+        actionDispatcher.dispatch(result, fact);
+        return result;
+    }
+
+    public RuleSetSnapshot getSnapshot() {
+        return ruleSetRegistry.current();
+    }
+
+    public List<CompiledRule> getRules() {
+        return ruleSetRegistry.current().getRules();
+    }
+}
@@ -0,0 +1,18 @@
+package com.nhnacademy.ruleengineservice.engine.action;
+
+/**
+ * ActionCallback 은 비동기로 실행된 액션 한 건의 결과를 받습니다.
+ * <p>
+ * 액션을 실행한 가상 스레드에서 호출되므로 오래 걸리는 일을 하지 않아야 합니다.
+ */
+@FunctionalInterface
+public interface ActionCallback {
+
+    /**
+     * 액션 실행이 끝났을 때 호출됩니다.
+     *
+     * @param request 실행한 액션 요청
+     * @param failure 실패 원인, 성공했으면 null (시간 초과는 {@link java.util.concurrent.TimeoutException})
+     */
+    void onComplete(ActionRequest request, Throwable failure);
+}
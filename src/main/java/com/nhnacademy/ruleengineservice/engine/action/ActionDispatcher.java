@@ -0,0 +1,258 @@
+package com.nhnacademy.ruleengineservice.engine.action;
+
+import com.nhnacademy.ruleengineservice.engine.compile.CompiledAction;
+import com.nhnacademy.ruleengineservice.engine.evaluate.EvaluationResult;
+import com.nhnacademy.ruleengineservice.engine.evaluate.RuleMatch;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ActionDispatcher 는 발동된 규칙의 액션을 가상 스레드에서 비동기로 실행하는 디스패치 단계입니다.
+ * <p>
+ * {@link #dispatch} 는 액션을 대기열에 올리기만 하고 바로 반환하므로, 평가 스레드나 Tomcat 요청 스레드는
+ * 외부 시스템의 지연에 묶이지 않습니다. 액션마다 가상 스레드 하나가 배정되며,
+ * actType 별 {@link ActionLane} 이 동시 실행 수와 실행 시간 제한, 대기 한도를 적용합니다.
+ * 같은 규칙의 액션은 actPriority 순으로 제출되지만, 서로 독립적으로 실행됩니다.
+ */
+@Component
+public class ActionDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(ActionDispatcher.class);
+
+    /**
+     * 핸들러 작업 상태: 시작 전, 실행 중, 끝남(또는 시작하지 않기로 함), 결과를 버린 채 실행 중.
+     */
+    private static final int NEW = 0;
+
+    private static final int RUNNING = 1;
+
+    private static final int DONE = 2;
+
+    private static final int ABANDONED = 3;
+
+    private final Map<String, ActionHandler> handlers = new HashMap<>();
+
+    private final ActionExecutionProperties properties;
+
+    private final Map<String, ActionLane> lanes = new ConcurrentHashMap<>();
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ActionDispatcher(List<ActionHandler> handlers, ActionExecutionProperties properties) {
+        for (ActionHandler handler : handlers) {
+            this.handlers.put(normalize(handler.getActType()), handler);
+        }
+        this.properties = properties;
+    }
+
+    /**
+     * 평가 결과의 모든 액션을 실행 대기열에 올립니다.
+     *
+     * @param result 평가 결과
+     * @param fact   규칙을 발동시킨 팩트
+     * @return 대기열에 올린 액션 수
+     */
+    public int dispatch(EvaluationResult result, Map<String, Object> fact) {
+        return dispatch(result, fact, null);
+    }
+
+    /**
+     * 평가 결과의 모든 액션을 실행 대기열에 올리고, 액션마다 실행 결과를 콜백으로 알립니다.
+     *
+     * @param result   평가 결과
+     * @param fact     규칙을 발동시킨 팩트
+     * @param callback 실행 결과 콜백, 없으면 null
+     * @return 대기열에 올린 액션 수
+     */
+    public int dispatch(EvaluationResult result, Map<String, Object> fact, ActionCallback callback) {
+        int submitted = 0;
+        for (RuleMatch match : result.getMatches()) {
+            for (CompiledAction action : match.getActions()) {
+                ActionRequest request = new ActionRequest(match.getRuleNo(), match.getRuleName(), action,
+                        match.getParameters(), fact);
+                if (dispatch(request, callback)) {
+                    submitted++;
+                }
+            }
+        }
+        return submitted;
+    }
+
+    /**
+     * 액션 하나를 실행 대기열에 올립니다.
+     *
+     * @param request 실행할 액션 요청
+     * @return 대기열에 올렸으면 true, 처리할 핸들러가 없거나 대기 한도를 넘었으면 false
+     */
+    public boolean dispatch(ActionRequest request) {
+        return dispatch(request, (ActionCallback) null);
+    }
+
+    /**
+     * 액션 하나를 실행 대기열에 올리고, 실행 결과를 콜백으로 알립니다.
+     *
+     * @param request  실행할 액션 요청
+     * @param callback 실행 결과 콜백, 없으면 null
+     * @return 대기열에 올렸으면 true, 처리할 핸들러가 없거나 대기 한도를 넘었으면 false (콜백은 호출되지 않음)
+     */
+    public boolean dispatch(ActionRequest request, ActionCallback callback) {
+        return dispatch(request, null, callback);
+    }
+
+    /**
+     * 액션 하나를 지정한 레인에서 실행합니다. 재시도처럼 새 액션과 허용량을 나누지 않아야 하는 실행에 사용합니다.
+     *
+     * @param request  실행할 액션 요청
+     * @param lane     실행할 레인, null 이면 actType 의 레인
+     * @param callback 실행 결과 콜백, 없으면 null
+     * @return 대기열에 올렸으면 true, 처리할 핸들러가 없거나 대기 한도를 넘었으면 false (콜백은 호출되지 않음)
+     */
+    public boolean dispatch(ActionRequest request, ActionLane lane, ActionCallback callback) {
+        String actType = normalize(request.getAction().getActType());
+        ActionHandler handler = handlers.get(actType);
+        if (handler == null) {
+            log.warn("actType({}) 을 처리할 핸들러가 없어 액션({})을 건너뜁니다.", actType, request.getAction().getActNo());
+            return false;
+        }
+        ActionLane target = lane != null ? lane : laneOf(actType);
+        if (!target.tryEnqueue()) {
+            log.warn("{} 레인의 대기 한도를 넘어 액션({})을 버립니다.", target.getActType(), request.getAction().getActNo());
+            return false;
+        }
+        executor.execute(() -> execute(target, handler, request, callback));
+        return true;
+    }
+
+    /**
+     * actType 레인과 허용량을 나누지 않는 별도 레인을 만듭니다. 만든 레인은 {@link #dispatch(ActionRequest, ActionLane, ActionCallback)} 로 사용합니다.
+     *
+     * @param name        레인 이름
+     * @param concurrency 동시 실행 수
+     * @param timeout     실행 시간 제한
+     * @param maxPending  최대 대기 수
+     * @return 새 레인
+     */
+    public ActionLane newLane(String name, int concurrency, Duration timeout, int maxPending) {
+        return new ActionLane(name, concurrency, timeout, maxPending);
+    }
+
+    /**
+     * 가상 스레드에서 허용량을 얻은 뒤 시간 제한 안에 액션을 실행합니다.
+     * 허용량은 핸들러 작업이 끝날 때 반납하므로, 시간 제한을 넘겨 결과를 버린 핸들러도
+     * 인터럽트에 응하지 않고 계속 실행되는 동안에는 허용량을 잡고 있습니다.
+     */
+    private void execute(ActionLane lane, ActionHandler handler, ActionRequest request, ActionCallback callback) {
+        try {
+            lane.getPermits().acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            lane.dequeue();
+            return;
+        }
+        AtomicInteger state = new AtomicInteger(NEW);
+        Future<?> future = null;
+        Throwable failure = null;
+        boolean report = callback != null;
+        try {
+            future = executor.submit(() -> {
+                if (!state.compareAndSet(NEW, RUNNING)) {
+                    return null;
+                }
+                try {
+                    handler.handle(request);
+                    return null;
+                } finally {
+                    lane.getPermits().release();
+                    if (!state.compareAndSet(RUNNING, DONE)) {
+                        lane.exitOverrun();
+                    }
+                }
+            });
+            future.get(lane.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            lane.recordCompleted();
+        } catch (TimeoutException e) {
+            abandon(lane, state, future);
+            failure = e;
+            lane.recordTimedOut();
+            log.warn("액션({}, {}) 실행 시간 {} 초과", request.getAction().getActNo(), lane.getActType(), lane.getTimeout());
+        } catch (ExecutionException e) {
+            failure = e.getCause();
+            lane.recordFailed();
+            log.warn("액션({}, {}) 실행 실패: {}", request.getAction().getActNo(), lane.getActType(),
+                    e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            abandon(lane, state, future);
+            Thread.currentThread().interrupt();
+            // 종료 중인 실행은 결과를 알리지 않습니다.
+            report = false;
+        } finally {
+            // 핸들러 작업이 시작되지 못했으면(제출 실패, 시작 전 취소) 허용량은 여기서 반납합니다.
+            if (state.compareAndSet(NEW, DONE)) {
+                lane.getPermits().release();
+            }
+            lane.dequeue();
+        }
+        if (report) {
+            complete(callback, request, failure);
+        }
+    }
+
+    /**
+     * 결과를 기다리지 않기로 한 핸들러 작업을 인터럽트합니다. 실행 중이었으면 끝날 때까지 초과 실행으로 셉니다.
+     */
+    private static void abandon(ActionLane lane, AtomicInteger state, Future<?> future) {
+        lane.enterOverrun();
+        if (!state.compareAndSet(RUNNING, ABANDONED)) {
+            lane.exitOverrun();
+        }
+        future.cancel(true);
+    }
+
+    private static void complete(ActionCallback callback, ActionRequest request, Throwable failure) {
+        try {
+            callback.onComplete(request, failure);
+        } catch (RuntimeException e) {
+            log.error("액션({}) 결과 콜백 실패", request.getAction().getActNo(), e);
+        }
+    }
+
+    private ActionLane laneOf(String actType) {
+        return lanes.computeIfAbsent(actType, type -> new ActionLane(type,
+                properties.concurrencyOf(type), properties.timeoutOf(type), properties.maxPendingOf(type)));
+    }
+
+    /**
+     * actType 의 실행 통계를 반환합니다.
+     *
+     * @param actType 액션 타입
+     * @return 실행 통계, 아직 실행된 적이 없으면 null
+     */
+    public ActionLane getLane(String actType) {
+        return lanes.get(normalize(actType));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static String normalize(String actType) {
+        return actType == null ? "" : actType.trim().toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,154 @@
+package com.nhnacademy.ruleengineservice.engine.action;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 액션 실행 설정입니다. ({@code rule.engine.action.*})
+ * <p>
+ * 기본값은 모든 actType 에 적용되며, {@code types.<actType>.*} 로 타입별로 덮어쓸 수 있습니다.
+ * <pre>
+ * rule.engine.action.concurrency=64
+ * rule.engine.action.timeout=5s
+ * rule.engine.action.types.EMAIL.concurrency=8
+ * rule.engine.action.types.WEBHOOK.timeout=2s
+ * </pre>
+ */
+@Component
+@ConfigurationProperties(prefix = "rule.engine.action")
+public class ActionExecutionProperties {
+
+    /**
+     * actType 별 동시 실행 수 기본값.
+     */
+    private int concurrency = 64;
+
+    /**
+     * 액션 한 건의 실행 시간 제한 기본값.
+     */
+    private Duration timeout = Duration.ofSeconds(5);
+
+    /**
+     * actType 별로 실행을 기다릴 수 있는 최대 액션 수 기본값. 넘으면 새 액션은 버려집니다.
+     */
+    private int maxPending = 10_000;
+
+    /**
+     * actType 별 설정.
+     */
+    private Map<String, Limit> types = new HashMap<>();
+
+    /**
+     * actType 에 적용할 동시 실행 수를 반환합니다.
+     *
+     * @param actType 액션 타입
+     * @return 동시 실행 수
+     */
+    public int concurrencyOf(String actType) {
+        Limit limit = limitOf(actType);
+        return limit != null && limit.getConcurrency() != null ? limit.getConcurrency() : concurrency;
+    }
+
+    /**
+     * actType 에 적용할 실행 시간 제한을 반환합니다.
+     *
+     * @param actType 액션 타입
+     * @return 실행 시간 제한
+     */
+    public Duration timeoutOf(String actType) {
+        Limit limit = limitOf(actType);
+        return limit != null && limit.getTimeout() != null ? limit.getTimeout() : timeout;
+    }
+
+    /**
+     * actType 에 적용할 최대 대기 액션 수를 반환합니다.
+     *
+     * @param actType 액션 타입
+     * @return 최대 대기 액션 수
+     */
+    public int maxPendingOf(String actType) {
+        Limit limit = limitOf(actType);
+        return limit != null && limit.getMaxPending() != null ? limit.getMaxPending() : maxPending;
+    }
+
+    private Limit limitOf(String actType) {
+        for (Map.Entry<String, Limit> entry : types.entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(actType)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public int getMaxPending() {
+        return maxPending;
+    }
+
+    public void setMaxPending(int maxPending) {
+        this.maxPending = maxPending;
+    }
+
+    public Map<String, Limit> getTypes() {
+        return types;
+    }
+
+    public void setTypes(Map<String, Limit> types) {
+        this.types = types;
+    }
+
+    /**
+     * actType 하나의 설정입니다. 지정하지 않은 값은 기본값을 따릅니다.
+     */
+    public static class Limit {
+
+        private Integer concurrency;
+
+        private Duration timeout;
+
+        private Integer maxPending;
+
+        public Integer getConcurrency() {
+            return concurrency;
+        }
+
+        public void setConcurrency(Integer concurrency) {
+            this.concurrency = concurrency;
+        }
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(Duration timeout) {
+            this.timeout = timeout;
+        }
+
+        public Integer getMaxPending() {
+            return maxPending;
+        }
+
+        public void setMaxPending(Integer maxPending) {
+            this.maxPending = maxPending;
+        }
+    }
+}
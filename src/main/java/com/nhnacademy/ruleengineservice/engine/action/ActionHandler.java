@@ -0,0 +1,25 @@
+package com.nhnacademy.ruleengineservice.engine.action;
+
+/**
+ * ActionHandler 는 하나의 actType 을 실제로 실행하는 구현체입니다. (예: EMAIL, WEBHOOK, LOG)
+ * <p>
+ * 구현체는 Spring 빈으로 등록하면 {@link ActionDispatcher} 가 actType 으로 찾아 가상 스레드에서 호출합니다.
+ * 실행 시간 제한을 넘기면 스레드가 인터럽트되므로, 블로킹 I/O 는 인터럽트에 응답하도록 작성해야 합니다.
+ */
+public interface ActionHandler {
+
+    /**
+     * 처리하는 액션 타입을 반환합니다. 대소문자는 구분하지 않습니다.
+     *
+     * @return 액션 타입
+     */
+    String getActType();
+
+    /**
+     * 액션을 실행합니다.
+     *
+     * @param request 실행할 액션 요청
+     * @throws Exception 실행에 실패한 경우
+     */
+    void handle(ActionRequest request) throws Exception;
+}
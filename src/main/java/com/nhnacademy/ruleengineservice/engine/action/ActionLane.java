@@ -0,0 +1,143 @@
+package com.nhnacademy.ruleengineservice.engine.action;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ActionLane 은 하나의 actType 에 대한 실행 제한(동시 실행 수, 시간 제한, 대기 한도)과 실행 통계입니다.
+ * <p>
+ * 느린 actType 이 허용량을 다 써도 다른 actType 의 실행에는 영향을 주지 않습니다.
+ */
+public final class ActionLane {
+
+    private final String actType;
+
+    private final Semaphore permits;
+
+    private final int concurrency;
+
+    private final Duration timeout;
+
+    private final int maxPending;
+
+    /**
+     * 실행 중이거나 실행을 기다리는 액션 수.
+     */
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final LongAdder completed = new LongAdder();
+
+    private final LongAdder failed = new LongAdder();
+
+    private final LongAdder timedOut = new LongAdder();
+
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * 시간 제한을 넘겨 결과를 버렸지만 핸들러가 아직 끝나지 않은 액션 수. 이 액션들도 허용량을 잡고 있습니다.
+     */
+    private final AtomicInteger overrunning = new AtomicInteger();
+
+    ActionLane(String actType, int concurrency, Duration timeout, int maxPending) {
+        this.actType = actType;
+        this.concurrency = Math.max(1, concurrency);
+        this.permits = new Semaphore(this.concurrency);
+        this.timeout = timeout;
+        this.maxPending = maxPending;
+    }
+
+    /**
+     * 대기 한도 안이면 액션 하나를 대기열에 올립니다.
+     *
+     * @return 올렸으면 true, 한도를 넘었으면 false
+     */
+    boolean tryEnqueue() {
+        if (pending.incrementAndGet() > maxPending) {
+            pending.decrementAndGet();
+            rejected.increment();
+            return false;
+        }
+        return true;
+    }
+
+    void dequeue() {
+        pending.decrementAndGet();
+    }
+
+    Semaphore getPermits() {
+        return permits;
+    }
+
+    void recordCompleted() {
+        completed.increment();
+    }
+
+    void recordFailed() {
+        failed.increment();
+    }
+
+    void recordTimedOut() {
+        timedOut.increment();
+    }
+
+    void enterOverrun() {
+        overrunning.incrementAndGet();
+    }
+
+    void exitOverrun() {
+        overrunning.decrementAndGet();
+    }
+
+    public String getActType() {
+        return actType;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public int getPending() {
+        return pending.get();
+    }
+
+    public long getCompleted() {
+        return completed.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    public long getTimedOut() {
+        return timedOut.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public int getOverrunning() {
+        return overrunning.get();
+    }
+
+    @Override
+    public String toString() {
+        return "ActionLane{" +
+                "actType='" + actType + '\'' +
+                ", concurrency=" + concurrency +
+                ", timeout=" + timeout +
+                ", pending=" + getPending() +
+                ", completed=" + getCompleted() +
+                ", failed=" + getFailed() +
+                ", timedOut=" + getTimedOut() +
+                ", rejected=" + getRejected() +
+                ", overrunning=" + getOverrunning() +
+                '}';
+    }
+}
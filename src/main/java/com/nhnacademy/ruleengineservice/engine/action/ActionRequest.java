@@ -0,0 +1,114 @@
+package com.nhnacademy.ruleengineservice.engine.action;
+
+import com.nhnacademy.ruleengineservice.domain.action.ActionParams;
+import com.nhnacademy.ruleengineservice.engine.compile.CompiledAction;
+
+import java.util.Map;
+
+/**
+ * ActionRequest 는 발동된 규칙의 액션 하나를 실행하기 위한 요청입니다.
+ * 어떤 규칙이 어떤 팩트로 발동되었는지와 실행할 액션을 함께 담습니다.
+ * <p>
+ * actParams 의 자리표시자는 핸들러가 {@link #getRenderedParams()} 나 {@link #getParams()} 를 처음 호출할 때
+ * 팩트와 규칙 파라미터로 한 번만 채웁니다.
+ */
+public final class ActionRequest {
+
+    /**
+     * 액션을 발동시킨 규칙의 식별자.
+     */
+    private final Long ruleNo;
+
+    /**
+     * 액션을 발동시킨 규칙의 이름.
+     */
+    private final String ruleName;
+
+    /**
+     * 실행할 액션.
+     */
+    private final CompiledAction action;
+
+    /**
+     * 규칙을 발동시킨 팩트.
+     */
+    private final Map<String, Object> fact;
+
+    /**
+     * 규칙 파라미터 (paramName → paramValue).
+     */
+    private final Map<String, String> parameters;
+
+    /**
+     * 렌더링된 actParams. 처음 사용할 때 채워집니다.
+     */
+    private String renderedParams;
+
+    public ActionRequest(Long ruleNo, String ruleName, CompiledAction action, Map<String, Object> fact) {
+        this(ruleNo, ruleName, action, Map.of(), fact);
+    }
+
+    public ActionRequest(Long ruleNo, String ruleName, CompiledAction action, Map<String, String> parameters,
+                         Map<String, Object> fact) {
+        this.ruleNo = ruleNo;
+        this.ruleName = ruleName;
+        this.action = action;
+        this.parameters = parameters;
+        this.fact = fact;
+    }
+
+    /**
+     * 자리표시자를 채운 actParams 를 반환합니다.
+     *
+     * @return 렌더링된 actParams
+     */
+    public String getRenderedParams() {
+        if (renderedParams == null) {
+            renderedParams = action.renderParams(fact, parameters);
+        }
+        return renderedParams;
+    }
+
+    /**
+     * 자리표시자를 채운 actParams 를 불변 Map 으로 반환합니다.
+     * 자리표시자가 없는 액션은 액션에 보관된 해석 결과를 그대로 사용합니다.
+     *
+     * @return 액션 파라미터
+     * @throws IllegalArgumentException 렌더링 결과가 JSON 객체 형식이 아닌 경우
+     */
+    public Map<String, Object> getParams() {
+        if (action.getTemplate().isConstant()) {
+            return action.getParams();
+        }
+        return ActionParams.parse(getRenderedParams());
+    }
+
+    public Long getRuleNo() {
+        return ruleNo;
+    }
+
+    public String getRuleName() {
+        return ruleName;
+    }
+
+    public CompiledAction getAction() {
+        return action;
+    }
+
+    public Map<String, Object> getFact() {
+        return fact;
+    }
+
+    public Map<String, String> getParameters() {
+        return parameters;
+    }
+
+    @Override
+    public String toString() {
+        return "ActionRequest{" +
+                "ruleNo=" + ruleNo +
+                ", ruleName='" + ruleName + '\'' +
+                ", action=" + action +
+                '}';
+    }
+}
@@ -0,0 +1,25 @@
+package com.nhnacademy.ruleengineservice.engine.action;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * LOG 타입 액션을 시스템 로그로 기록합니다.
+ */
+@Component
+public class LogActionHandler implements ActionHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(LogActionHandler.class);
+
+    @Override
+    public String getActType() {
+        return "LOG";
+    }
+
+    @Override
+    public void handle(ActionRequest request) {
+        log.info("규칙({}, {}) 발동: actNo={}, actParams={}", request.getRuleNo(), request.getRuleName(),
+                request.getAction().getActNo(), request.getRenderedParams());
+    }
+}
@@ -0,0 +1,154 @@
+package com.nhnacademy.ruleengineservice.engine.change;
+
+import com.nhnacademy.ruleengineservice.domain.action.Action;
+import com.nhnacademy.ruleengineservice.domain.condition.Condition;
+import com.nhnacademy.ruleengineservice.domain.parameter.RuleParameter;
+import com.nhnacademy.ruleengineservice.domain.rule.Rule;
+import com.nhnacademy.ruleengineservice.domain.rule.RuleGroup;
+import com.nhnacademy.ruleengineservice.domain.schedule.RuleSchedule;
+import com.nhnacademy.ruleengineservice.domain.trigger.TriggerEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * RuleChangeListener 는 규칙을 구성하는 엔티티의 저장·수정·삭제를 감지하는 Hibernate 이벤트 리스너입니다.
+ * <p>
+ * 변경된 엔티티가 속한 규칙 번호(그룹이면 그룹 번호)만 {@link RuleChangeTracker} 에 전달하며,
+ * 실제 재컴파일은 트랜잭션 커밋 후에 이루어집니다.
+ * 파라미터 수정은 값만 전달하여, 커밋 후 컴파일된 규칙의 파라미터 슬롯만 교체하게 합니다.
+ * 스케줄이 바뀌면 커밋 후 실행 예약을 다시 읽게 하되, 스케줄러가 실행 시각(lastFiredAt)만 기록한 수정은 무시합니다.
+ * <p>
+ * 엔티티가 엔진을 알지 않도록 {@code @EntityListeners} 대신 엔진 쪽에서 세션 팩토리의
+ * {@link EventListenerRegistry} 에 직접 등록하며, 엔티티 매니저 초기화와의 순환 의존을 피하려고
+ * 트래커는 처음 사용할 때 조회합니다.
+ */
+@Component
+public class RuleChangeListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    /**
+     * 스케줄러가 실행 시각을 기록하는 {@link RuleSchedule} 속성명.
+     */
+    private static final String LAST_FIRED_AT = "lastFiredAt";
+
+    private final transient EntityManagerFactory entityManagerFactory;
+
+    private final transient ObjectProvider<RuleChangeTracker> trackerProvider;
+
+    public RuleChangeListener(EntityManagerFactory entityManagerFactory,
+                              ObjectProvider<RuleChangeTracker> trackerProvider) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.trackerProvider = trackerProvider;
+    }
+
+    /**
+     * 세션 팩토리에 저장·수정·삭제 후 리스너로 등록합니다.
+     */
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        onChange(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof RuleSchedule && onlyLastFiredAt(event)) {
+            return;
+        }
+        onUpdate(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        onChange(event.getEntity());
+    }
+
+    /**
+     * 변경 기록은 커밋 후 처리를 {@link RuleChangeTracker} 가 맡으므로 Hibernate 의 커밋 후 처리는 필요하지 않습니다.
+     */
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    /**
+     * 엔티티 변경 시 영향을 받는 규칙 또는 그룹을 기록합니다.
+     *
+     * @param entity 변경된 엔티티
+     */
+    public void onChange(Object entity) {
+        RuleChangeTracker tracker = trackerProvider.getIfAvailable();
+        if (tracker == null) {
+            return;
+        }
+        switch (entity) {
+            case Rule rule -> tracker.markRule(rule.getRuleNo());
+            case RuleGroup group -> tracker.markRuleGroup(group.getRuleGroupNo());
+            case Condition condition -> tracker.markRule(ruleNoOf(condition.getRule()));
+            case Action action -> tracker.markRule(ruleNoOf(action.getRule()));
+            case RuleParameter parameter -> tracker.markRule(ruleNoOf(parameter.getRule()));
+            case TriggerEvent trigger -> tracker.markRule(ruleNoOf(trigger.getRule()));
+            case RuleSchedule schedule -> tracker.markSchedule(schedule.getScheduleNo());
+            default -> {
+                // 규칙 평가에 영향이 없는 엔티티
+            }
+        }
+    }
+
+    /**
+     * 엔티티 수정을 기록합니다. 파라미터 수정은 재컴파일 없이 값만 반영하도록 따로 기록합니다.
+     *
+     * @param entity 수정된 엔티티
+     */
+    public void onUpdate(Object entity) {
+        RuleChangeTracker tracker = trackerProvider.getIfAvailable();
+        if (tracker != null && entity instanceof RuleParameter parameter) {
+            tracker.markParameter(ruleNoOf(parameter.getRule()), parameter.getParamNo(),
+                    parameter.getParamName(), parameter.getParamValue());
+            return;
+        }
+        onChange(entity);
+    }
+
+    /**
+     * 수정된 속성이 스케줄러의 체크포인트가 기록하는 lastFiredAt 뿐인지 확인합니다.
+     * 수정된 속성을 알 수 없으면 스케줄이 바뀐 것으로 봅니다.
+     */
+    private static boolean onlyLastFiredAt(PostUpdateEvent event) {
+        int[] dirty = event.getDirtyProperties();
+        if (dirty == null || dirty.length == 0) {
+            return false;
+        }
+        String[] names = event.getPersister().getPropertyNames();
+        for (int index : dirty) {
+            if (!LAST_FIRED_AT.equals(names[index])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Long ruleNoOf(Rule rule) {
+        return rule != null ? rule.getRuleNo() : null;
+    }
+}
@@ -0,0 +1,333 @@
+package com.nhnacademy.ruleengineservice.engine.change;
+
+import com.nhnacademy.ruleengineservice.engine.RuleEngine;
+import com.nhnacademy.ruleengineservice.engine.schedule.RuleScheduler;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RuleChangeTracker 는 트랜잭션 동안 변경된 규칙과 그룹 번호를 모아 두었다가,
+ * 커밋이 끝나면 {@link RuleEngine#refresh} 로 해당 규칙만 다시 컴파일하게 합니다.
+ * <p>
+ * 한 트랜잭션에서 규칙과 조건 여러 개가 바뀌어도 커밋당 한 번만 갱신하며,
+ * 롤백된 트랜잭션의 변경은 반영하지 않습니다. 트랜잭션 밖의 변경은 커밋을 기다리지 않고 바로 반영 대기 목록에 넣습니다.
+ * <p>
+ * 파라미터 값 수정은 {@link RuleEngine#updateParameter} 로 슬롯만 교체하며,
+ * 같은 트랜잭션에서 규칙 자체도 바뀌었거나 슬롯을 교체할 수 없는 경우에만 규칙을 다시 컴파일합니다.
+ * 스케줄이 추가·수정·삭제되면 커밋 후 {@link RuleScheduler#reload()} 로 실행 예약을 교체합니다.
+ * <p>
+ * 갱신은 커밋한 스레드가 아닌 전용 단일 스레드에서 실행합니다. 커밋 후에는 변경을 대기 목록에 합쳐 두기만 하므로,
+ * 갱신이 밀리는 동안 커밋된 여러 트랜잭션의 변경은 한 번의 갱신으로 합쳐집니다.
+ * <p>
+ * 다른 인스턴스의 변경은 {@link RuleSetRevisionStore} 의 공유 변경 번호로 알아챕니다.
+ * 반영을 마치면 번호를 올리고, 같은 스레드가 주기적으로 번호를 읽어 다른 인스턴스가 올렸으면
+ * 규칙과 실행 예약을 모두 다시 적재합니다.
+ */
+@Component
+public class RuleChangeTracker {
+
+    private static final Logger log = LoggerFactory.getLogger(RuleChangeTracker.class);
+
+    private final RuleEngine ruleEngine;
+
+    private final RuleScheduler ruleScheduler;
+
+    private final RuleSetRevisionStore revisionStore;
+
+    private final Duration pollInterval;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("rule-change-refresher").daemon(true).factory());
+
+    /**
+     * 아직 반영하지 않은 커밋된 변경. {@code this} 로 보호합니다.
+     */
+    private PendingChanges queued = new PendingChanges();
+
+    /**
+     * 반영 작업이 이미 예약되어 있는지 여부. {@code this} 로 보호합니다.
+     */
+    private boolean drainScheduled;
+
+    /**
+     * 이 인스턴스의 규칙이 반영하고 있는 공유 변경 번호. 갱신 스레드에서만 읽고 씁니다.
+     */
+    private long seenRevision = -1;
+
+    public RuleChangeTracker(RuleEngine ruleEngine, RuleScheduler ruleScheduler, RuleSetRevisionStore revisionStore,
+                             @Value("${rule.engine.change.poll-interval:5s}") Duration pollInterval) {
+        this.ruleEngine = ruleEngine;
+        this.ruleScheduler = ruleScheduler;
+        this.revisionStore = revisionStore;
+        this.pollInterval = pollInterval;
+    }
+
+    /**
+     * 애플리케이션이 준비되면 현재 변경 번호를 기억하고 주기적인 번호 확인을 시작합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        long millis = pollInterval.toMillis();
+        executor.execute(() -> seenRevision = readRevision());
+        executor.scheduleWithFixedDelay(this::poll, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 규칙 변경을 기록합니다.
+     *
+     * @param ruleNo 변경된 규칙 번호
+     */
+    public void markRule(Long ruleNo) {
+        if (ruleNo != null) {
+            record(Set.of(ruleNo), Set.of());
+        }
+    }
+
+    /**
+     * 그룹 변경을 기록합니다. 그룹에 속한 모든 규칙이 다시 컴파일됩니다.
+     *
+     * @param ruleGroupNo 변경된 그룹 번호
+     */
+    public void markRuleGroup(Long ruleGroupNo) {
+        if (ruleGroupNo != null) {
+            record(Set.of(), Set.of(ruleGroupNo));
+        }
+    }
+
+    /**
+     * 스케줄 변경을 기록합니다. 커밋 후 모든 실행 예약을 다시 읽습니다.
+     *
+     * @param scheduleNo 변경된 스케줄 번호
+     */
+    public void markSchedule(Long scheduleNo) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            PendingChanges changes = new PendingChanges();
+            changes.scheduleNos.add(scheduleNo);
+            enqueue(changes);
+            return;
+        }
+        pending().scheduleNos.add(scheduleNo);
+    }
+
+    /**
+     * 파라미터 값 수정을 기록합니다.
+     *
+     * @param ruleNo     파라미터가 속한 규칙 번호
+     * @param paramNo    파라미터 번호
+     * @param paramName  파라미터 이름
+     * @param paramValue 새 값
+     */
+    public void markParameter(Long ruleNo, Long paramNo, String paramName, String paramValue) {
+        if (ruleNo == null) {
+            return;
+        }
+        ParameterChange change = new ParameterChange(ruleNo, paramNo, paramName, paramValue);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            PendingChanges changes = new PendingChanges();
+            changes.parameters.put(change.key(), change);
+            enqueue(changes);
+            return;
+        }
+        pending().parameters.put(change.key(), change);
+    }
+
+    private void record(Set<Long> ruleNos, Set<Long> ruleGroupNos) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            PendingChanges changes = new PendingChanges();
+            changes.ruleNos.addAll(ruleNos);
+            changes.ruleGroupNos.addAll(ruleGroupNos);
+            enqueue(changes);
+            return;
+        }
+        PendingChanges pending = pending();
+        pending.ruleNos.addAll(ruleNos);
+        pending.ruleGroupNos.addAll(ruleGroupNos);
+    }
+
+    private PendingChanges pending() {
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending;
+    }
+
+    /**
+     * 커밋된 변경을 대기 목록에 합치고, 반영 작업이 없으면 하나 예약합니다.
+     */
+    private synchronized void enqueue(PendingChanges changes) {
+        queued.merge(changes);
+        if (!drainScheduled) {
+            drainScheduled = true;
+            executor.execute(this::drain);
+        }
+    }
+
+    /**
+     * 대기 중인 변경을 한 번에 꺼내 반영하고 공유 변경 번호를 올립니다.
+     */
+    private void drain() {
+        PendingChanges changes;
+        synchronized (this) {
+            changes = queued;
+            queued = new PendingChanges();
+            drainScheduled = false;
+        }
+        apply(changes.ruleNos, changes.ruleGroupNos, changes.parameters);
+        if (!changes.scheduleNos.isEmpty()) {
+            reloadSchedules();
+        }
+        publishRevision();
+    }
+
+    /**
+     * 공유 변경 번호를 올립니다. 그사이 다른 인스턴스가 올린 번호가 없을 때만 반영한 번호로 기억하여,
+     * 있었다면 다음 확인에서 전체를 다시 적재하게 합니다.
+     */
+    private void publishRevision() {
+        try {
+            long revision = revisionStore.bump();
+            if (seenRevision == revision - 1) {
+                seenRevision = revision;
+            }
+        } catch (RuntimeException e) {
+            log.warn("규칙 변경 번호를 올리지 못했습니다. 다른 인스턴스는 다음 변경 때 반영합니다.", e);
+        }
+    }
+
+    /**
+     * 공유 변경 번호가 바뀌었으면 규칙과 실행 예약을 모두 다시 적재합니다.
+     */
+    private void poll() {
+        long revision = readRevision();
+        if (revision < 0 || revision == seenRevision) {
+            return;
+        }
+        log.info("다른 인스턴스의 규칙 변경을 감지하여 다시 적재합니다. revision={} -> {}", seenRevision, revision);
+        try {
+            ruleEngine.reload();
+            reloadSchedules();
+            seenRevision = revision;
+        } catch (RuntimeException e) {
+            log.error("규칙을 다시 적재하지 못했습니다. 다음 확인에서 다시 시도합니다.", e);
+        }
+    }
+
+    private long readRevision() {
+        try {
+            return revisionStore.current();
+        } catch (RuntimeException e) {
+            log.warn("규칙 변경 번호를 읽지 못했습니다.", e);
+            return -1;
+        }
+    }
+
+    /**
+     * 파라미터 슬롯을 먼저 교체하고, 교체할 수 없었던 규칙은 다른 변경과 함께 다시 컴파일합니다.
+     */
+    private void apply(Set<Long> ruleNos, Set<Long> ruleGroupNos, Map<Object, ParameterChange> parameters) {
+        Set<Long> changedRuleNos = new HashSet<>(ruleNos);
+        for (ParameterChange change : parameters.values()) {
+            if (changedRuleNos.contains(change.ruleNo())) {
+                continue;
+            }
+            if (!ruleEngine.updateParameter(change.ruleNo(), change.paramNo(), change.paramName(), change.paramValue())) {
+                changedRuleNos.add(change.ruleNo());
+            }
+        }
+        if (!changedRuleNos.isEmpty() || !ruleGroupNos.isEmpty()) {
+            refresh(changedRuleNos, ruleGroupNos);
+        }
+    }
+
+    private void refresh(Set<Long> ruleNos, Set<Long> ruleGroupNos) {
+        try {
+            ruleEngine.refresh(ruleNos, ruleGroupNos);
+        } catch (RuntimeException e) {
+            log.error("규칙 증분 갱신 실패, 전체 규칙을 다시 적재합니다. rules={}, groups={}", ruleNos, ruleGroupNos, e);
+            ruleEngine.reload();
+        }
+    }
+
+    private void reloadSchedules() {
+        try {
+            ruleScheduler.reload();
+        } catch (RuntimeException e) {
+            log.error("스케줄 변경을 실행 예약에 반영하지 못했습니다.", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 한 트랜잭션 동안, 또는 반영을 기다리는 동안 쌓인 변경 목록입니다.
+     */
+    private final class PendingChanges implements TransactionSynchronization {
+
+        private final Set<Long> ruleNos = new HashSet<>();
+
+        private final Set<Long> ruleGroupNos = new HashSet<>();
+
+        /**
+         * 바뀐 스케줄 번호 (새 스케줄은 번호가 없을 수 있어 null 도 담습니다).
+         */
+        private final Set<Long> scheduleNos = new HashSet<>();
+
+        /**
+         * 파라미터별 마지막 수정 값.
+         */
+        private final Map<Object, ParameterChange> parameters = new LinkedHashMap<>();
+
+        /**
+         * 다른 변경 목록을 합칩니다. 같은 파라미터는 나중 값이 남습니다.
+         */
+        private void merge(PendingChanges other) {
+            ruleNos.addAll(other.ruleNos);
+            ruleGroupNos.addAll(other.ruleGroupNos);
+            scheduleNos.addAll(other.scheduleNos);
+            for (Map.Entry<Object, ParameterChange> entry : other.parameters.entrySet()) {
+                parameters.remove(entry.getKey());
+                parameters.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(RuleChangeTracker.this);
+            if (status == STATUS_COMMITTED) {
+                enqueue(this);
+            }
+        }
+    }
+
+    /**
+     * 파라미터 값 수정 한 건입니다.
+     */
+    private record ParameterChange(Long ruleNo, Long paramNo, String paramName, String paramValue) {
+
+        private Object key() {
+            return paramNo != null ? paramNo : ruleNo + ":" + paramName;
+        }
+    }
+}
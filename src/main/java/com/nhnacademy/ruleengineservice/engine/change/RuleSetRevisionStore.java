@@ -0,0 +1,46 @@
+package com.nhnacademy.ruleengineservice.engine.change;
+
+import com.nhnacademy.ruleengineservice.domain.rule.RuleSetRevision;
+import com.nhnacademy.ruleengineservice.repository.rule.RuleSetRevisionRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * RuleSetRevisionStore 는 인스턴스들이 공유하는 규칙 집합 변경 번호를 읽고 올립니다.
+ * 행이 아직 없으면 번호를 0 으로 보고, 처음 올릴 때 행을 만듭니다.
+ */
+@Component
+public class RuleSetRevisionStore {
+
+    private final RuleSetRevisionRepository ruleSetRevisionRepository;
+
+    public RuleSetRevisionStore(RuleSetRevisionRepository ruleSetRevisionRepository) {
+        this.ruleSetRevisionRepository = ruleSetRevisionRepository;
+    }
+
+    /**
+     * 현재 변경 번호를 조회합니다.
+     *
+     * @return 변경 번호, 행이 없으면 0
+     */
+    @Transactional(readOnly = true)
+    public long current() {
+        return ruleSetRevisionRepository.findById(RuleSetRevision.SINGLETON_NO)
+                .map(RuleSetRevision::getRevision)
+                .orElse(0L);
+    }
+
+    /**
+     * 변경 번호를 1 올리고 올린 값을 반환합니다.
+     *
+     * @return 올린 뒤의 변경 번호
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long bump() {
+        if (ruleSetRevisionRepository.increment(RuleSetRevision.SINGLETON_NO) == 0) {
+            return ruleSetRevisionRepository.save(RuleSetRevision.startingAt(1L)).getRevision();
+        }
+        return current();
+    }
+}
@@ -0,0 +1,121 @@
+package com.nhnacademy.ruleengineservice.engine.compile;
+
+import com.nhnacademy.ruleengineservice.domain.action.ActionParams;
+import com.nhnacademy.ruleengineservice.engine.compile.template.ParamTemplate;
+
+import java.util.Map;
+
+/**
+ * CompiledAction 은 {@code Action} 엔티티를 JPA 와 분리된 불변 형태로 옮겨 담은 런타임 액션입니다.
+ * 규칙이 발동되면 평가 결과에 그대로 담겨 실행 단계로 전달됩니다.
+ * <p>
+ * actParams 는 적재 시에는 문자열로만 보관하고, 액션이 실제로 실행될 때 {@link #getParams()} 에서
+ * 한 번만 해석하여 불변 Map 으로 보관합니다.
+ * {@code ${name}} 자리표시자는 생성 시 {@link ParamTemplate} 으로 컴파일되며, {@link #renderParams} 로 채웁니다.
+ */
+public final class CompiledAction {
+
+    /**
+     * 원본 액션의 식별자(PK).
+     */
+    private final Long actNo;
+
+    /**
+     * 액션의 타입 (예: EMAIL, PUSH, API_CALL, LOG 등).
+     */
+    private final String actType;
+
+    /**
+     * 액션 실행에 필요한 파라미터(JSON 문자열).
+     */
+    private final String actParams;
+
+    /**
+     * 액션 실행 우선순위(낮을수록 먼저 실행).
+     */
+    private final int actPriority;
+
+    /**
+     * actParams 를 컴파일한 템플릿.
+     */
+    private final ParamTemplate template;
+
+    /**
+     * 해석된 actParams. 처음 사용할 때 채워집니다.
+     * 해석 결과는 불변이고 언제 해석해도 같으므로, 여러 스레드가 동시에 채워도 안전합니다.
+     */
+    private volatile Map<String, Object> params;
+
+    /**
+     * CompiledAction 생성자.
+     *
+     * @param actNo       원본 액션 식별자
+     * @param actType     액션 타입
+     * @param actParams   액션 파라미터(JSON 문자열)
+     * @param actPriority 액션 실행 우선순위
+     */
+    public CompiledAction(Long actNo, String actType, String actParams, int actPriority) {
+        this.actNo = actNo;
+        this.actType = actType;
+        this.actParams = actParams;
+        this.actPriority = actPriority;
+        this.template = ParamTemplate.compile(actParams);
+    }
+
+    /**
+     * 팩트와 규칙 파라미터로 actParams 의 자리표시자를 채웁니다.
+     * 자리표시자가 없으면 원문을 그대로 반환합니다.
+     *
+     * @param fact       규칙을 발동시킨 팩트
+     * @param parameters 규칙 파라미터 (paramName → paramValue)
+     * @return 렌더링된 actParams
+     */
+    public String renderParams(Map<String, Object> fact, Map<String, String> parameters) {
+        return template.render(fact, parameters);
+    }
+
+    /**
+     * actParams 를 해석한 불변 Map 을 반환합니다. 처음 호출될 때만 JSON 을 해석합니다.
+     *
+     * @return 액션 파라미터, actParams 가 없으면 빈 Map
+     * @throws IllegalArgumentException actParams 가 JSON 객체 형식이 아닌 경우
+     */
+    public Map<String, Object> getParams() {
+        Map<String, Object> parsed = params;
+        if (parsed == null) {
+            parsed = ActionParams.parse(actParams);
+            params = parsed;
+        }
+        return parsed;
+    }
+
+    public Long getActNo() {
+        return actNo;
+    }
+
+    public String getActType() {
+        return actType;
+    }
+
+    public String getActParams() {
+        return actParams;
+    }
+
+    public int getActPriority() {
+        return actPriority;
+    }
+
+    public ParamTemplate getTemplate() {
+        return template;
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledAction{" +
+                "actNo=" + actNo +
+                ", actType='" + actType + '\'' +
+                ", actParams='" + actParams + '\'' +
+                ", actPriority=" + actPriority +
+                '}';
+    }
+}
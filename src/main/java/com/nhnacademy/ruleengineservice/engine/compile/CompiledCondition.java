@@ -0,0 +1,157 @@
+package com.nhnacademy.ruleengineservice.engine.compile;
+
+import com.nhnacademy.ruleengineservice.engine.compile.predicate.FactPredicate;
+import com.nhnacademy.ruleengineservice.engine.compile.predicate.FieldPredicate;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * CompiledCondition 은 {@code Condition} 엔티티를 JPA 와 분리된 불변 형태로 옮겨 담은 런타임 조건입니다.
+ * <p>
+ * conType 과 conValue 는 {@link ConditionCompiler} 에서 한 번만 해석되어 {@link FieldPredicate} 로 보관되며,
+ * 평가 시에는 팩트에서 conField 값을 꺼내 predicate 에 전달하기만 합니다.
+ * 윈도 조건처럼 팩트 전체가 필요한 {@link FactPredicate} 는 팩트를 그대로 전달합니다.
+ * 필드 id 는 조건이 아니라 조건을 싣는 알파 네트워크의 심볼 표가 부여합니다.
+ */
+public final class CompiledCondition {
+
+    /**
+     * 원본 조건의 식별자(PK).
+     */
+    private final Long conditionNo;
+
+    /**
+     * 조건 비교 연산자.
+     */
+    private final ConditionOperator operator;
+
+    /**
+     * 조건이 적용될 필드명 (intern 됨).
+     */
+    private final String conField;
+
+    /**
+     * 원본 비교 값.
+     */
+    private final String conValue;
+
+    /**
+     * 조건 평가 우선순위 (낮을수록 먼저 평가됨).
+     */
+    private final int conPriority;
+
+    /**
+     * 컴파일된 필드 검사 로직.
+     */
+    private final FieldPredicate predicate;
+
+    /**
+     * predicate 가 팩트 전체를 보는 조건이면 그 predicate, 아니면 null.
+     */
+    private final FactPredicate factPredicate;
+
+    /**
+     * CompiledCondition 생성자. 직접 호출하지 않고 {@link ConditionCompiler} 를 통해 생성합니다.
+     *
+     * @param conditionNo 원본 조건 식별자
+     * @param operator    조건 비교 연산자
+     * @param conField    조건이 적용될 필드명
+     * @param conValue    원본 비교 값
+     * @param conPriority 조건 평가 우선순위
+     * @param predicate   컴파일된 필드 검사 로직
+     */
+    CompiledCondition(Long conditionNo, ConditionOperator operator, String conField, String conValue,
+                      int conPriority, FieldPredicate predicate) {
+        this.conditionNo = conditionNo;
+        this.operator = operator;
+        this.conField = conField;
+        this.conValue = conValue;
+        this.conPriority = conPriority;
+        this.predicate = predicate;
+        this.factPredicate = predicate instanceof FactPredicate fact ? fact : null;
+    }
+
+    /**
+     * 팩트에 대해 조건을 평가합니다.
+     *
+     * @param fact 필드명 → 값 형태의 팩트
+     * @return 조건을 만족하면 true
+     */
+    public boolean test(Map<String, Object> fact) {
+        return factPredicate != null ? factPredicate.testFact(fact) : predicate.test(fact.get(conField));
+    }
+
+    /**
+     * 상태를 갱신하지 않고 팩트에 대해 조건을 평가합니다.
+     * 상태를 가지는 조건은 현재 상태로 검사하며, 나머지는 {@link #test} 와 같습니다.
+     *
+     * @param fact 필드명 → 값 형태의 팩트
+     * @return 조건을 만족하면 true
+     */
+    public boolean peek(Map<String, Object> fact) {
+        return factPredicate != null ? factPredicate.peekFact(fact) : predicate.test(fact.get(conField));
+    }
+
+    /**
+     * 평가할 때마다 상태(윈도 등)를 갱신하는 조건인지 확인합니다.
+     *
+     * @return 상태를 가지면 true
+     */
+    public boolean isStateful() {
+        return factPredicate != null;
+    }
+
+    /**
+     * 조건이 읽는 팩트 필드를 반환합니다. 상태를 가지는 조건은 키 필드 등을 포함합니다.
+     *
+     * @return 필드명 집합
+     */
+    public Set<String> getReadFields() {
+        return factPredicate != null ? factPredicate.getReadFields() : Set.of(conField);
+    }
+
+    public Long getConditionNo() {
+        return conditionNo;
+    }
+
+    public ConditionOperator getOperator() {
+        return operator;
+    }
+
+    public String getConField() {
+        return conField;
+    }
+
+    public String getConValue() {
+        return conValue;
+    }
+
+    public int getConPriority() {
+        return conPriority;
+    }
+
+    public FieldPredicate getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * 상태를 가지는 조건의 predicate 를 반환합니다.
+     *
+     * @return 팩트 전체를 보는 predicate, 상태가 없는 조건이면 null
+     */
+    public FactPredicate getFactPredicate() {
+        return factPredicate;
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledCondition{" +
+                "conditionNo=" + conditionNo +
+                ", operator=" + operator +
+                ", conField='" + conField + '\'' +
+                ", conValue='" + conValue + '\'' +
+                ", conPriority=" + conPriority +
+                '}';
+    }
+}
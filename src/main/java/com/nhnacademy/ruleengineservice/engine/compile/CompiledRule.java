@@ -0,0 +1,234 @@
+package com.nhnacademy.ruleengineservice.engine.compile;
+
+import com.nhnacademy.ruleengineservice.domain.rule.EventType;
+import com.nhnacademy.ruleengineservice.engine.compile.parameter.RuleParameters;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * CompiledRule 은 하나의 활성 {@code Rule} 과 그에 속한 조건, 액션, 파라미터를
+ * JPA 와 분리된 불변 형태로 묶은 런타임 규칙입니다.
+ * <p>
+ * 컴파일 시점에 지연 로딩 컬렉션을 모두 읽어 복사해 두므로,
+ * 평가 경로에서는 영속성 컨텍스트나 커넥션 풀에 접근하지 않습니다.
+ */
+public final class CompiledRule {
+
+    /**
+     * 원본 규칙의 식별자(PK).
+     */
+    private final Long ruleNo;
+
+    /**
+     * 규칙 이름.
+     */
+    private final String ruleName;
+
+    /**
+     * 규칙 우선순위. 숫자가 낮을수록 높은 우선순위를 가집니다.
+     */
+    private final int rulePriority;
+
+    /**
+     * 규칙이 소속된 그룹의 식별자.
+     */
+    private final Long ruleGroupNo;
+
+    /**
+     * 규칙이 소속된 그룹의 우선순위. 숫자가 낮을수록 높은 우선순위를 가집니다.
+     */
+    private final int groupPriority;
+
+    /**
+     * conPriority 순으로 정렬된 조건 목록. 모두 만족해야 규칙이 발동됩니다.
+     */
+    private final List<CompiledCondition> conditions;
+
+    /**
+     * actPriority 순으로 정렬된 액션 목록.
+     */
+    private final List<CompiledAction> actions;
+
+    /**
+     * 규칙 파라미터. 값은 규칙을 다시 컴파일하지 않고 교체될 수 있습니다.
+     */
+    private final RuleParameters parameters;
+
+    /**
+     * 이 규칙을 평가하는 트리거 이벤트 유형.
+     * 트리거 이벤트가 하나도 없는 규칙은 모든 이벤트 유형을 구독합니다.
+     */
+    private final Set<EventType> eventTypes;
+
+    /**
+     * 모든 이벤트 유형을 구독하는 CompiledRule 을 생성합니다.
+     *
+     * @param ruleNo        규칙 식별자
+     * @param ruleName      규칙 이름
+     * @param rulePriority  규칙 우선순위
+     * @param ruleGroupNo   그룹 식별자
+     * @param groupPriority 그룹 우선순위
+     * @param conditions    조건 목록
+     * @param actions       액션 목록
+     * @param parameters    규칙 파라미터
+     */
+    public CompiledRule(Long ruleNo, String ruleName, int rulePriority, Long ruleGroupNo, int groupPriority,
+                        List<CompiledCondition> conditions, List<CompiledAction> actions,
+                        Map<String, String> parameters) {
+        this(ruleNo, ruleName, rulePriority, ruleGroupNo, groupPriority, conditions, actions, parameters,
+                EnumSet.allOf(EventType.class));
+    }
+
+    /**
+     * 파라미터 값으로 CompiledRule 을 생성합니다.
+     *
+     * @param ruleNo        규칙 식별자
+     * @param ruleName      규칙 이름
+     * @param rulePriority  규칙 우선순위
+     * @param ruleGroupNo   그룹 식별자
+     * @param groupPriority 그룹 우선순위
+     * @param conditions    조건 목록
+     * @param actions       액션 목록
+     * @param parameters    규칙 파라미터
+     * @param eventTypes    구독하는 이벤트 유형
+     */
+    public CompiledRule(Long ruleNo, String ruleName, int rulePriority, Long ruleGroupNo, int groupPriority,
+                        List<CompiledCondition> conditions, List<CompiledAction> actions,
+                        Map<String, String> parameters, Set<EventType> eventTypes) {
+        this(ruleNo, ruleName, rulePriority, ruleGroupNo, groupPriority, conditions, actions,
+                new RuleParameters(parameters), eventTypes);
+    }
+
+    /**
+     * CompiledRule 생성자. 전달된 컬렉션은 불변 복사본으로 보관합니다.
+     *
+     * @param ruleNo        규칙 식별자
+     * @param ruleName      규칙 이름
+     * @param rulePriority  규칙 우선순위
+     * @param ruleGroupNo   그룹 식별자
+     * @param groupPriority 그룹 우선순위
+     * @param conditions    조건 목록
+     * @param actions       액션 목록
+     * @param parameters    조건이 참조하는 규칙 파라미터
+     * @param eventTypes    구독하는 이벤트 유형
+     */
+    public CompiledRule(Long ruleNo, String ruleName, int rulePriority, Long ruleGroupNo, int groupPriority,
+                        List<CompiledCondition> conditions, List<CompiledAction> actions,
+                        RuleParameters parameters, Set<EventType> eventTypes) {
+        this.ruleNo = ruleNo;
+        this.ruleName = ruleName;
+        this.rulePriority = rulePriority;
+        this.ruleGroupNo = ruleGroupNo;
+        this.groupPriority = groupPriority;
+        this.conditions = List.copyOf(conditions);
+        this.actions = List.copyOf(actions);
+        this.parameters = parameters;
+        this.eventTypes = Collections.unmodifiableSet(eventTypes.isEmpty()
+                ? EnumSet.noneOf(EventType.class) : EnumSet.copyOf(eventTypes));
+    }
+
+    /**
+     * 팩트가 이 규칙의 모든 조건을 만족하는지 평가합니다.
+     *
+     * @param fact 필드명 → 값 형태의 팩트
+     * @return 모든 조건을 만족하면 true
+     */
+    public boolean matches(Map<String, Object> fact) {
+        for (CompiledCondition condition : conditions) {
+            if (!condition.test(fact)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 조건 상태를 갱신하지 않고 팩트가 이 규칙의 모든 조건을 만족하는지 확인합니다.
+     * 타이머가 지속 조건 등의 상태를 바꾼 뒤 규칙을 다시 확인할 때 사용합니다.
+     *
+     * @param fact 필드명 → 값 형태의 팩트
+     * @return 모든 조건을 만족하면 true
+     */
+    public boolean holds(Map<String, Object> fact) {
+        for (CompiledCondition condition : conditions) {
+            if (!condition.peek(fact)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 이벤트 유형을 구독하는지 확인합니다.
+     *
+     * @param eventType 이벤트 유형
+     * @return 구독하면 true
+     */
+    public boolean subscribes(EventType eventType) {
+        return eventTypes.contains(eventType);
+    }
+
+    public Long getRuleNo() {
+        return ruleNo;
+    }
+
+    public String getRuleName() {
+        return ruleName;
+    }
+
+    public int getRulePriority() {
+        return rulePriority;
+    }
+
+    public Long getRuleGroupNo() {
+        return ruleGroupNo;
+    }
+
+    public int getGroupPriority() {
+        return groupPriority;
+    }
+
+    public List<CompiledCondition> getConditions() {
+        return conditions;
+    }
+
+    public List<CompiledAction> getActions() {
+        return actions;
+    }
+
+    /**
+     * 현재 파라미터 값을 반환합니다.
+     *
+     * @return paramName → paramValue (불변)
+     */
+    public Map<String, String> getParameters() {
+        return parameters.values();
+    }
+
+    public RuleParameters getRuleParameters() {
+        return parameters;
+    }
+
+    public Set<EventType> getEventTypes() {
+        return eventTypes;
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledRule{" +
+                "ruleNo=" + ruleNo +
+                ", ruleName='" + ruleName + '\'' +
+                ", rulePriority=" + rulePriority +
+                ", ruleGroupNo=" + ruleGroupNo +
+                ", groupPriority=" + groupPriority +
+                ", conditions=" + conditions +
+                ", actions=" + actions +
+                ", parameters=" + parameters +
+                ", eventTypes=" + eventTypes +
+                '}';
+    }
+}
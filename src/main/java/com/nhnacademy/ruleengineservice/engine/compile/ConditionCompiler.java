@@ -0,0 +1,387 @@
+package com.nhnacademy.ruleengineservice.engine.compile;
+
+import com.nhnacademy.ruleengineservice.engine.compile.parameter.RuleParameters;
+import com.nhnacademy.ruleengineservice.engine.compile.predicate.ComparisonPredicate;
+import com.nhnacademy.ruleengineservice.engine.compile.predicate.EqualityPredicate;
+import com.nhnacademy.ruleengineservice.engine.compile.predicate.FieldPredicate;
+import com.nhnacademy.ruleengineservice.engine.compile.predicate.MembershipPredicate;
+import com.nhnacademy.ruleengineservice.engine.compile.predicate.NullPredicate;
+import com.nhnacademy.ruleengineservice.engine.compile.predicate.ParameterPredicate;
+import com.nhnacademy.ruleengineservice.engine.compile.predicate.PatternPredicate;
+import com.nhnacademy.ruleengineservice.engine.compile.predicate.RangePredicate;
+import com.nhnacademy.ruleengineservice.engine.compile.sequence.SequenceNfa;
+import com.nhnacademy.ruleengineservice.engine.compile.sequence.SequencePredicate;
+import com.nhnacademy.ruleengineservice.engine.compile.sequence.SequenceState;
+import com.nhnacademy.ruleengineservice.engine.compile.sequence.SequenceStep;
+import com.nhnacademy.ruleengineservice.engine.compile.state.ConditionStateStore;
+import com.nhnacademy.ruleengineservice.engine.compile.state.DurationText;
+import com.nhnacademy.ruleengineservice.engine.compile.sustained.SustainedPredicate;
+import com.nhnacademy.ruleengineservice.engine.compile.sustained.SustainedState;
+import com.nhnacademy.ruleengineservice.engine.compile.template.ParamTemplate;
+import com.nhnacademy.ruleengineservice.engine.compile.window.SlidingWindow;
+import com.nhnacademy.ruleengineservice.engine.compile.window.WindowAggregate;
+import com.nhnacademy.ruleengineservice.engine.compile.window.WindowPredicate;
+import com.nhnacademy.ruleengineservice.engine.exception.RuleCompileException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * ConditionCompiler 는 {@code Condition} 의 문자열 필드(conType, conField, conValue)를
+ * 한 번만 해석하여 타입이 정해진 {@link FieldPredicate} 로 변환합니다.
+ * <p>
+ * 숫자 피연산자 파싱, LIKE 패턴의 정규식 컴파일, 문자열 intern 이 모두 이 단계에서 끝나므로
+ * 평가 시에는 conValue 를 다시 해석하지 않습니다.
+ * 형식이 잘못된 조건은 {@link RuleCompileException} 으로 거부됩니다.
+ * <p>
+ * conValue 에 {@code ${paramName}} 이 있으면 규칙 파라미터로 채운 값으로 컴파일하고,
+ * 검사는 {@link RuleParameters} 의 슬롯을 통해 참조하여 파라미터 변경 시 슬롯만 교체되게 합니다.
+ * <p>
+ * 윈도 조건(WINDOW_*), 지속 조건(SUSTAINED), 순서 패턴(SEQUENCE)의 상태는 {@link ConditionStateStore} 에서 검사 키로 받아 오므로,
+ * 같은 컴파일러로 다시 컴파일한 조건은 누적된 윈도나 진행 중인 기간을 이어서 사용합니다.
+ */
+public class ConditionCompiler {
+
+    /**
+     * IN, NOT_IN, BETWEEN 피연산자의 구분자입니다.
+     */
+    private static final String VALUE_DELIMITER = ",";
+
+    /**
+     * 상태를 가지는 조건(윈도, 지속, 순서 패턴)의 최소 기간.
+     */
+    private static final long MIN_STATE_MILLIS = 1_000L;
+
+    /**
+     * 상태를 가지는 조건(윈도, 지속, 순서 패턴)의 최대 기간.
+     */
+    private static final long MAX_STATE_MILLIS = 86_400_000L;
+
+    private final ConditionStateStore stateStore;
+
+    /**
+     * 자체 상태 저장소를 가진 컴파일러를 만듭니다.
+     */
+    public ConditionCompiler() {
+        this(new ConditionStateStore());
+    }
+
+    /**
+     * 상태를 가지는 조건의 상태를 주어진 저장소에 보관하는 컴파일러를 만듭니다.
+     *
+     * @param stateStore 조건 상태 저장소
+     */
+    public ConditionCompiler(ConditionStateStore stateStore) {
+        this.stateStore = stateStore;
+    }
+
+    /**
+     * 조건을 컴파일합니다.
+     *
+     * @param conditionNo 조건 식별자 (오류 메시지용)
+     * @param conType     조건 비교 타입
+     * @param conField    조건이 적용될 필드명
+     * @param conValue    비교할 값
+     * @param conPriority 조건 평가 우선순위
+     * @return 컴파일된 조건
+     * @throws RuleCompileException 형식이 잘못된 조건인 경우
+     */
+    public CompiledCondition compile(Long conditionNo, String conType, String conField, String conValue, int conPriority) {
+        return compile(conditionNo, conType, conField, conValue, conPriority, null);
+    }
+
+    /**
+     * 규칙 파라미터를 참조할 수 있는 조건을 컴파일합니다.
+     *
+     * @param conditionNo 조건 식별자 (오류 메시지용)
+     * @param conType     조건 비교 타입
+     * @param conField    조건이 적용될 필드명
+     * @param conValue    비교할 값, {@code ${paramName}} 자리표시자 포함 가능
+     * @param conPriority 조건 평가 우선순위
+     * @param parameters  규칙 파라미터, 없으면 null
+     * @return 컴파일된 조건
+     * @throws RuleCompileException 형식이 잘못되었거나 없는 파라미터를 참조한 조건인 경우
+     */
+    public CompiledCondition compile(Long conditionNo, String conType, String conField, String conValue, int conPriority,
+                                     RuleParameters parameters) {
+        ConditionOperator operator;
+        try {
+            operator = ConditionOperator.from(conType);
+        } catch (RuleCompileException e) {
+            throw new RuleCompileException("조건(" + conditionNo + ") " + e.getMessage(), e);
+        }
+        if (conField == null || conField.isBlank()) {
+            throw new RuleCompileException("조건(" + conditionNo + ") conField 가 비어 있습니다.");
+        }
+
+        String field = conField.trim().intern();
+        FieldPredicate predicate;
+        if (operator.isWindow()) {
+            predicate = compileWindow(conditionNo, operator, field, requireValue(conditionNo, operator, conValue));
+        } else if (operator == ConditionOperator.SUSTAINED) {
+            predicate = compileSustained(conditionNo, field, requireValue(conditionNo, operator, conValue));
+        } else if (operator == ConditionOperator.SEQUENCE) {
+            predicate = compileSequence(conditionNo, field, requireValue(conditionNo, operator, conValue));
+        } else {
+            predicate = compileBound(conditionNo, operator, conValue, parameters);
+        }
+        return new CompiledCondition(conditionNo, operator, field, conValue, conPriority, predicate);
+    }
+
+    /**
+     * 연산자와 피연산자로 FieldPredicate 를 만듭니다.
+     *
+     * @param conditionNo 조건 식별자 (오류 메시지용)
+     * @param operator    연산자
+     * @param conValue    피연산자 문자열
+     * @return 컴파일된 FieldPredicate
+     * @throws RuleCompileException 형식이 잘못되었거나, 상태를 가지는 연산자(WINDOW_*, SUSTAINED, SEQUENCE)인 경우
+     */
+    public FieldPredicate compilePredicate(Long conditionNo, ConditionOperator operator, String conValue) {
+        return switch (operator) {
+            case WINDOW_SUM, WINDOW_AVG, WINDOW_MIN, WINDOW_MAX, WINDOW_COUNT, SUSTAINED, SEQUENCE -> throw new RuleCompileException(
+                    "조건(" + conditionNo + ") " + operator + " 는 conField 와 함께 컴파일해야 합니다.");
+            case IS_NULL -> NullPredicate.IS_NULL;
+            case IS_NOT_NULL -> NullPredicate.IS_NOT_NULL;
+            case EQ, NE -> new EqualityPredicate(requireValue(conditionNo, operator, conValue), operator == ConditionOperator.NE);
+            case GT, GTE, LT, LTE -> {
+                double threshold = parseNumber(conditionNo, operator, requireValue(conditionNo, operator, conValue));
+                yield new ComparisonPredicate(operator, threshold, isIntegral(conValue.trim()));
+            }
+            case BETWEEN -> compileRange(conditionNo, requireValue(conditionNo, operator, conValue));
+            case IN, NOT_IN -> new MembershipPredicate(
+                    splitValues(conditionNo, operator, requireValue(conditionNo, operator, conValue)),
+                    operator == ConditionOperator.NOT_IN);
+            case LIKE, NOT_LIKE -> new PatternPredicate(
+                    PatternPredicate.compileLike(requireValue(conditionNo, operator, conValue)),
+                    operator == ConditionOperator.NOT_LIKE);
+        };
+    }
+
+    private FieldPredicate compileBound(Long conditionNo, ConditionOperator operator, String conValue,
+                                        RuleParameters parameters) {
+        ParamTemplate template = ParamTemplate.compile(conValue);
+        if (parameters == null || template.isConstant()) {
+            return compilePredicate(conditionNo, operator, conValue);
+        }
+        for (String name : template.getVariableNames()) {
+            if (!parameters.values().containsKey(name)) {
+                throw new RuleCompileException("조건(" + conditionNo + ") conValue 가 참조하는 규칙 파라미터가 없습니다: " + name);
+            }
+        }
+        int slot = parameters.bind(template, value -> compilePredicate(conditionNo, operator, value));
+        return new ParameterPredicate(parameters, slot);
+    }
+
+    /**
+     * "기간,연산자,임계값[,키 필드]" 형식의 윈도 조건을 컴파일합니다. 규칙 파라미터는 지원하지 않습니다.
+     */
+    private WindowPredicate compileWindow(Long conditionNo, ConditionOperator operator, String conField,
+                                          String conValue) {
+        requireConstant(conditionNo, operator, conValue);
+        String[] parts = conValue.split(VALUE_DELIMITER);
+        if (parts.length < 3 || parts.length > 4) {
+            throw new RuleCompileException("조건(" + conditionNo + ") " + operator
+                    + " 값은 \"기간,연산자,임계값[,키 필드]\" 형식이어야 합니다: " + conValue);
+        }
+        long windowMillis = parseStateDuration(conditionNo, operator, parts[0]);
+        ConditionOperator comparison = parseThresholdOperator(conditionNo, operator, parts[1]);
+        String thresholdText = parts[2].trim();
+        double threshold = parseNumber(conditionNo, operator, thresholdText);
+        String keyField = parts.length == 4 && !parts[3].isBlank() ? parts[3].trim().intern() : null;
+
+        WindowAggregate aggregate = WindowAggregate.of(operator);
+        String stateKey = stateKeyOf(operator, conField, conValue);
+        SlidingWindow window = stateStore.acquire(stateKey, SlidingWindow.class,
+                () -> new SlidingWindow(aggregate, windowMillis, stateStore.getClock()));
+        return new WindowPredicate(conField, keyField, window,
+                new ComparisonPredicate(comparison, threshold, isIntegral(thresholdText)));
+    }
+
+    /**
+     * "기간,연산자,임계값[,해제 임계값][,키 필드]" 형식의 지속 조건을 컴파일합니다.
+     * 네 번째 값이 숫자이면 해제 임계값, 아니면 키 필드로 봅니다. 해제 임계값이 없으면 임계값과 같습니다.
+     * 규칙 파라미터는 지원하지 않습니다.
+     */
+    private SustainedPredicate compileSustained(Long conditionNo, String conField, String conValue) {
+        ConditionOperator operator = ConditionOperator.SUSTAINED;
+        requireConstant(conditionNo, operator, conValue);
+        String[] parts = conValue.split(VALUE_DELIMITER);
+        if (parts.length < 3 || parts.length > 5) {
+            throw new RuleCompileException("조건(" + conditionNo + ") " + operator
+                    + " 값은 \"기간,연산자,임계값[,해제 임계값][,키 필드]\" 형식이어야 합니다: " + conValue);
+        }
+        long durationMillis = parseStateDuration(conditionNo, operator, parts[0]);
+        ConditionOperator comparison = parseThresholdOperator(conditionNo, operator, parts[1]);
+        String thresholdText = parts[2].trim();
+        double threshold = parseNumber(conditionNo, operator, thresholdText);
+
+        String clearText = thresholdText;
+        int next = 3;
+        if (parts.length > next && isNumber(parts[next].trim())) {
+            clearText = parts[next++].trim();
+        }
+        if (parts.length > next + 1) {
+            throw new RuleCompileException("조건(" + conditionNo + ") " + operator + " 해제 임계값은 숫자여야 합니다: " + parts[3].trim());
+        }
+        String keyField = parts.length > next && !parts[next].isBlank() ? parts[next].trim().intern() : null;
+        double clear = parseNumber(conditionNo, operator, clearText);
+        boolean upward = comparison == ConditionOperator.GT || comparison == ConditionOperator.GTE;
+        if (upward ? clear > threshold : clear < threshold) {
+            throw new RuleCompileException("조건(" + conditionNo + ") " + operator + " 해제 임계값은 "
+                    + (upward ? "임계값 이하" : "임계값 이상") + "여야 합니다: " + conValue);
+        }
+
+        String stateKey = stateKeyOf(operator, conField, conValue);
+        SustainedState state = stateStore.acquire(stateKey, SustainedState.class,
+                () -> new SustainedState(durationMillis, stateStore));
+        return new SustainedPredicate(conField, keyField, state,
+                new ComparisonPredicate(comparison, threshold, isIntegral(thresholdText)),
+                new ComparisonPredicate(comparison, clear, isIntegral(clearText)));
+    }
+
+    /**
+     * "기간,단계,단계[,...]" 형식의 순서 패턴을 컴파일합니다. conField 는 부분 일치를 나누는 키 필드입니다.
+     * 같은 패턴은 하나의 오토마톤과 키별 상태를 공유합니다. 규칙 파라미터는 지원하지 않습니다.
+     */
+    private SequencePredicate compileSequence(Long conditionNo, String conField, String conValue) {
+        ConditionOperator operator = ConditionOperator.SEQUENCE;
+        requireConstant(conditionNo, operator, conValue);
+        String[] parts = conValue.split(VALUE_DELIMITER);
+        if (parts.length < 3) {
+            throw new RuleCompileException("조건(" + conditionNo + ") " + operator
+                    + " 값은 \"기간,단계,단계[,...]\" 형식이어야 합니다: " + conValue);
+        }
+        long withinMillis = parseStateDuration(conditionNo, operator, parts[0]);
+        SequenceNfa nfa;
+        try {
+            List<SequenceStep> steps = new ArrayList<>(parts.length - 1);
+            for (int i = 1; i < parts.length; i++) {
+                steps.add(SequenceStep.parse(parts[i]));
+            }
+            nfa = SequenceNfa.of(steps, withinMillis);
+        } catch (IllegalArgumentException e) {
+            throw new RuleCompileException("조건(" + conditionNo + ") " + operator + " " + e.getMessage(), e);
+        }
+
+        String stateKey = stateKeyOf(operator, conField, conValue);
+        SequenceState state = stateStore.acquire(stateKey, SequenceState.class,
+                () -> new SequenceState(nfa, stateStore));
+        return new SequencePredicate(conField, state);
+    }
+
+    private static void requireConstant(Long conditionNo, ConditionOperator operator, String conValue) {
+        if (!ParamTemplate.compile(conValue).isConstant()) {
+            throw new RuleCompileException("조건(" + conditionNo + ") " + operator + " 는 규칙 파라미터를 지원하지 않습니다: " + conValue);
+        }
+    }
+
+    /**
+     * 상태를 가지는 조건의 기간을 해석합니다. {@link #MIN_STATE_MILLIS} 이상 {@link #MAX_STATE_MILLIS} 이하여야 합니다.
+     */
+    private static long parseStateDuration(Long conditionNo, ConditionOperator operator, String text) {
+        long millis;
+        try {
+            millis = DurationText.parseMillis(text);
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            throw new RuleCompileException("조건(" + conditionNo + ") " + operator + " " + e.getMessage(), e);
+        }
+        if (millis < MIN_STATE_MILLIS || millis > MAX_STATE_MILLIS) {
+            throw new RuleCompileException("조건(" + conditionNo + ") " + operator + " 기간은 1s 이상 1d 이하여야 합니다: " + text.trim());
+        }
+        return millis;
+    }
+
+    /**
+     * 상태를 가지는 조건의 비교 연산자를 해석합니다. GT, GTE, LT, LTE 만 허용합니다.
+     */
+    private static ConditionOperator parseThresholdOperator(Long conditionNo, ConditionOperator operator, String text) {
+        ConditionOperator comparison;
+        try {
+            comparison = ConditionOperator.from(text);
+        } catch (RuleCompileException e) {
+            throw new RuleCompileException("조건(" + conditionNo + ") " + e.getMessage(), e);
+        }
+        if (!comparison.isThreshold()) {
+            throw new RuleCompileException("조건(" + conditionNo + ") " + operator + " 비교 연산자는 GT, GTE, LT, LTE 중 하나여야 합니다: " + text.trim());
+        }
+        return comparison;
+    }
+
+    /**
+     * 같은 연산자, 필드, 값의 조건이 상태를 공유하도록 {@link ConditionStateStore} 의 검사 키를 만듭니다.
+     */
+    private static String stateKeyOf(ConditionOperator operator, String conField, String conValue) {
+        return operator.name() + '\u0000' + conField + '\u0000' + conValue;
+    }
+
+    public ConditionStateStore getStateStore() {
+        return stateStore;
+    }
+
+    private RangePredicate compileRange(Long conditionNo, String conValue) {
+        String[] bounds = conValue.split(VALUE_DELIMITER);
+        if (bounds.length != 2) {
+            throw new RuleCompileException("조건(" + conditionNo + ") BETWEEN 값은 \"하한,상한\" 형식이어야 합니다: " + conValue);
+        }
+        double lower = parseNumber(conditionNo, ConditionOperator.BETWEEN, bounds[0].trim());
+        double upper = parseNumber(conditionNo, ConditionOperator.BETWEEN, bounds[1].trim());
+        if (lower > upper) {
+            throw new RuleCompileException("조건(" + conditionNo + ") BETWEEN 하한이 상한보다 큽니다: " + conValue);
+        }
+        return new RangePredicate(lower, upper);
+    }
+
+    private Set<String> splitValues(Long conditionNo, ConditionOperator operator, String conValue) {
+        Set<String> values = new LinkedHashSet<>();
+        for (String token : conValue.split(VALUE_DELIMITER)) {
+            String value = token.trim();
+            if (!value.isEmpty()) {
+                values.add(value.intern());
+            }
+        }
+        if (values.isEmpty()) {
+            throw new RuleCompileException("조건(" + conditionNo + ") " + operator + " 값 목록이 비어 있습니다.");
+        }
+        return values;
+    }
+
+    private String requireValue(Long conditionNo, ConditionOperator operator, String conValue) {
+        if (conValue == null || conValue.isBlank()) {
+            throw new RuleCompileException("조건(" + conditionNo + ") " + operator + " 의 conValue 가 비어 있습니다.");
+        }
+        return conValue.trim();
+    }
+
+    private double parseNumber(Long conditionNo, ConditionOperator operator, String text) {
+        try {
+            double value = Double.parseDouble(text);
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                throw new NumberFormatException(text);
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            throw new RuleCompileException("조건(" + conditionNo + ") " + operator + " 의 conValue 는 숫자여야 합니다: " + text, e);
+        }
+    }
+
+    private static boolean isNumber(String text) {
+        try {
+            Double.parseDouble(text);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static boolean isIntegral(String text) {
+        try {
+            Long.parseLong(text);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.nhnacademy.ruleengineservice.engine.compile;
+
+import com.nhnacademy.ruleengineservice.engine.exception.RuleCompileException;
+
+/**
+ * {@code Condition.conType} 에 저장되는 조건 비교 타입을 정의하는 열거형입니다.
+ *
+ * <ul>
+ *   <li>{@link #EQ} : 값이 같은지 비교</li>
+ *   <li>{@link #NE} : 값이 다른지 비교</li>
+ *   <li>{@link #GT} : 값이 큰지 비교</li>
+ *   <li>{@link #LT} : 값이 작은지 비교</li>
+ *   <li>{@link #GTE} : 크거나 같은지 비교</li>
+ *   <li>{@link #LTE} : 작거나 같은지 비교</li>
+ *   <li>{@link #IN} : 쉼표로 구분된 목록에 포함</li>
+ *   <li>{@link #NOT_IN} : 쉼표로 구분된 목록에 미포함</li>
+ *   <li>{@link #LIKE} : SQL LIKE 패턴 매칭 (%, _)</li>
+ *   <li>{@link #NOT_LIKE} : SQL LIKE 패턴 불일치</li>
+ *   <li>{@link #BETWEEN} : "하한,상한" 구간 포함 (양 끝 포함)</li>
+ *   <li>{@link #IS_NULL} : 값이 없음</li>
+ *   <li>{@link #IS_NOT_NULL} : 값이 있음</li>
+ *   <li>{@link #WINDOW_SUM}, {@link #WINDOW_AVG}, {@link #WINDOW_MIN}, {@link #WINDOW_MAX}, {@link #WINDOW_COUNT} :
+ *       최근 기간의 집계를 임계값과 비교, conValue 는 "기간,연산자,임계값[,키 필드]" (예: "5m,GT,30,deviceId")</li>
+ *   <li>{@link #SUSTAINED} : 임계값 비교가 기간 동안 계속 만족되면 충족, conValue 는
+ *       "기간,연산자,임계값[,해제 임계값][,키 필드]" (예: "10m,GT,30,28,deviceId")</li>
+ *   <li>{@link #SEQUENCE} : conField 가 같은 이벤트가 기간 안에 순서대로 일어나면 충족, conValue 는
+ *       "기간,단계,단계[,...]" 이고 단계는 "[!]이벤트유형[:필드=값]" (예: "30s,USER_LOGIN,DB_DELETE")</li>
+ * </ul>
+ */
+public enum ConditionOperator {
+    EQ,
+    NE,
+    GT,
+    LT,
+    GTE,
+    LTE,
+    IN,
+    NOT_IN,
+    LIKE,
+    NOT_LIKE,
+    BETWEEN,
+    IS_NULL,
+    IS_NOT_NULL,
+    WINDOW_SUM,
+    WINDOW_AVG,
+    WINDOW_MIN,
+    WINDOW_MAX,
+    WINDOW_COUNT,
+    SUSTAINED,
+    SEQUENCE;
+
+    /**
+     * conType 문자열을 연산자로 변환합니다. 대소문자와 앞뒤 공백은 무시합니다.
+     *
+     * @param conType 조건 비교 타입 문자열
+     * @return 대응되는 연산자
+     * @throws RuleCompileException 알 수 없는 비교 타입인 경우
+     */
+    public static ConditionOperator from(String conType) {
+        if (conType == null || conType.isBlank()) {
+            throw new RuleCompileException("conType 이 비어 있습니다.");
+        }
+        try {
+            return valueOf(conType.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new RuleCompileException("지원하지 않는 conType 입니다: " + conType, e);
+        }
+    }
+
+    /**
+     * 숫자 임계값 비교(GT, GTE, LT, LTE) 연산자인지 확인합니다.
+     *
+     * @return 임계값 비교 연산자이면 true
+     */
+    public boolean isThreshold() {
+        return this == GT || this == GTE || this == LT || this == LTE;
+    }
+
+    /**
+     * 슬라이딩 윈도 집계(WINDOW_*) 연산자인지 확인합니다.
+     *
+     * @return 윈도 연산자이면 true
+     */
+    public boolean isWindow() {
+        return this == WINDOW_SUM || this == WINDOW_AVG || this == WINDOW_MIN || this == WINDOW_MAX
+                || this == WINDOW_COUNT;
+    }
+
+    /**
+     * 팩트마다 키별 상태를 갱신하는(WINDOW_*, SUSTAINED, SEQUENCE) 연산자인지 확인합니다.
+     *
+     * @return 상태를 가지는 연산자이면 true
+     */
+    public boolean isStateful() {
+        return isWindow() || this == SUSTAINED || this == SEQUENCE;
+    }
+}
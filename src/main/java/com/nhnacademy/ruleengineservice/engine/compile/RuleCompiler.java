@@ -0,0 +1,203 @@
+package com.nhnacademy.ruleengineservice.engine.compile;
+
+import com.nhnacademy.ruleengineservice.domain.action.Action;
+import com.nhnacademy.ruleengineservice.domain.condition.Condition;
+import com.nhnacademy.ruleengineservice.domain.parameter.RuleParameter;
+import com.nhnacademy.ruleengineservice.domain.rule.EventType;
+import com.nhnacademy.ruleengineservice.domain.rule.Rule;
+import com.nhnacademy.ruleengineservice.domain.rule.RuleGroup;
+import com.nhnacademy.ruleengineservice.domain.trigger.TriggerEvent;
+import com.nhnacademy.ruleengineservice.engine.compile.parameter.RuleParameters;
+import com.nhnacademy.ruleengineservice.engine.compile.sequence.SequencePredicate;
+import com.nhnacademy.ruleengineservice.engine.compile.state.ConditionStateStore;
+import com.nhnacademy.ruleengineservice.engine.exception.RuleCompileException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * RuleCompiler 는 {@link Rule} 엔티티를 평가 전용 {@link CompiledRule} 로 변환합니다.
+ * <p>
+ * 지연 로딩 컬렉션(conditionList, actionList, ruleParameterList, triggerEventList)을 읽으므로
+ * 반드시 트랜잭션(영속성 컨텍스트) 안에서 호출해야 하며,
+ * 반환된 객체는 엔티티를 참조하지 않아 트랜잭션 밖에서 자유롭게 공유할 수 있습니다.
+ */
+public class RuleCompiler {
+
+    /**
+     * 그룹 우선순위 → 규칙 우선순위 → 규칙 번호 순의 평가 순서입니다.
+     */
+    public static final Comparator<CompiledRule> EVALUATION_ORDER =
+            Comparator.comparingInt(CompiledRule::getGroupPriority)
+                    .thenComparingInt(CompiledRule::getRulePriority)
+                    .thenComparing(CompiledRule::getRuleNo, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private static final Logger log = LoggerFactory.getLogger(RuleCompiler.class);
+
+    private final ConditionCompiler conditionCompiler;
+
+    /**
+     * 자체 조건 상태 저장소를 가진 컴파일러를 만듭니다.
+     */
+    public RuleCompiler() {
+        this(new ConditionStateStore());
+    }
+
+    /**
+     * 윈도 조건 등의 상태를 주어진 저장소에 보관하는 컴파일러를 만듭니다.
+     *
+     * @param stateStore 조건 상태 저장소
+     */
+    public RuleCompiler(ConditionStateStore stateStore) {
+        this.conditionCompiler = new ConditionCompiler(stateStore);
+    }
+
+    /**
+     * 활성 규칙들을 컴파일하여 평가 순서대로 정렬된 목록을 반환합니다.
+     * 비활성 규칙이나 비활성 그룹에 속한 규칙은 제외되며,
+     * 컴파일할 수 없는 조건을 가진 규칙은 경고 로그를 남기고 제외됩니다.
+     *
+     * @param rules 컴파일할 규칙 목록
+     * @return 평가 순서로 정렬된 CompiledRule 목록
+     */
+    public List<CompiledRule> compileAll(Collection<Rule> rules) {
+        List<CompiledRule> compiled = new ArrayList<>(rules.size());
+        for (Rule rule : rules) {
+            if (!isEvaluable(rule)) {
+                continue;
+            }
+            try {
+                compiled.add(compile(rule));
+            } catch (RuleCompileException e) {
+                log.warn("규칙({}) 컴파일 실패로 평가 대상에서 제외합니다: {}", rule.getRuleNo(), e.getMessage());
+            }
+        }
+        compiled.sort(EVALUATION_ORDER);
+        return compiled;
+    }
+
+    /**
+     * 단일 규칙을 컴파일합니다.
+     *
+     * @param rule 컴파일할 규칙
+     * @return 컴파일된 규칙
+     * @throws RuleCompileException 형식이 잘못된 조건이 있거나, 순서 조건의 단계가 구독하지 않는 이벤트 유형을 고르는 경우
+     */
+    public CompiledRule compile(Rule rule) {
+        Map<String, String> values = new HashMap<>();
+        Map<String, Long> paramNos = new HashMap<>();
+        for (RuleParameter parameter : rule.getRuleParameterList()) {
+            values.put(parameter.getParamName(), parameter.getParamValue());
+            paramNos.put(parameter.getParamName(), parameter.getParamNo());
+        }
+        RuleParameters parameters = new RuleParameters(values, paramNos);
+
+        List<CompiledCondition> conditions = new ArrayList<>(rule.getConditionList().size());
+        for (Condition condition : rule.getConditionList()) {
+            conditions.add(conditionCompiler.compile(
+                    condition.getConditionNo(),
+                    condition.getConType(),
+                    condition.getConField(),
+                    condition.getConValue(),
+                    priorityOf(condition.getConPriority()),
+                    parameters));
+        }
+        conditions.sort(Comparator.comparingInt(CompiledCondition::getConPriority));
+
+        List<CompiledAction> actions = new ArrayList<>(rule.getActionList().size());
+        for (Action action : rule.getActionList()) {
+            actions.add(new CompiledAction(
+                    action.getActNo(),
+                    action.getActType(),
+                    action.getActParams(),
+                    priorityOf(action.getActPriority())));
+        }
+        actions.sort(Comparator.comparingInt(CompiledAction::getActPriority));
+
+        Set<EventType> eventTypes = eventTypesOf(rule);
+        checkSequenceSubscriptions(rule.getRuleNo(), conditions, eventTypes);
+
+        RuleGroup group = rule.getRuleGroup();
+        return new CompiledRule(
+                rule.getRuleNo(),
+                rule.getRuleName(),
+                priorityOf(rule.getRulePriority()),
+                group != null ? group.getRuleGroupNo() : null,
+                group != null ? priorityOf(group.getPriority()) : Integer.MAX_VALUE,
+                conditions,
+                actions,
+                parameters,
+                eventTypes);
+    }
+
+    /**
+     * 규칙의 트리거 이벤트를 이벤트 유형 집합으로 변환합니다.
+     * 트리거 이벤트가 없는 규칙은 모든 유형을 구독하며,
+     * {@link EventType} 에 없는 eventType 은 경고 로그를 남기고 무시합니다.
+     *
+     * @param rule 규칙
+     * @return 구독하는 이벤트 유형
+     */
+    private Set<EventType> eventTypesOf(Rule rule) {
+        List<TriggerEvent> triggers = rule.getTriggerEventList();
+        if (triggers.isEmpty()) {
+            return EnumSet.allOf(EventType.class);
+        }
+        Set<EventType> eventTypes = EnumSet.noneOf(EventType.class);
+        for (TriggerEvent trigger : triggers) {
+            String eventType = trigger.getEventType();
+            try {
+                eventTypes.add(EventType.valueOf(eventType.trim().toUpperCase()));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                log.warn("규칙({}) 트리거({})의 알 수 없는 eventType 을 무시합니다: {}",
+                        rule.getRuleNo(), trigger.getEventNo(), eventType);
+            }
+        }
+        return eventTypes;
+    }
+
+    /**
+     * 순서 조건의 단계가 고르는 이벤트 유형을 규칙이 모두 구독하는지 확인합니다.
+     * 구독하지 않는 유형의 이벤트는 규칙에 전달되지 않으므로, 그 단계는 진행하거나 부분 일치를 없앨 수 없습니다.
+     *
+     * @throws RuleCompileException 구독하지 않는 이벤트 유형을 고르는 단계가 있는 경우
+     */
+    private static void checkSequenceSubscriptions(Long ruleNo, List<CompiledCondition> conditions,
+                                                   Set<EventType> eventTypes) {
+        for (CompiledCondition condition : conditions) {
+            if (!(condition.getFactPredicate() instanceof SequencePredicate sequence)) {
+                continue;
+            }
+            Set<EventType> missing = sequence.getNfa().getEventTypes();
+            missing.removeAll(eventTypes);
+            if (!missing.isEmpty()) {
+                throw new RuleCompileException("규칙(" + ruleNo + ") 조건(" + condition.getConditionNo()
+                        + ") 의 순서 단계가 구독하지 않는 이벤트 유형을 사용합니다: " + missing
+                        + " (트리거 이벤트에 추가하세요)");
+            }
+        }
+    }
+
+    /**
+     * 규칙과 소속 그룹이 모두 활성 상태인지 확인합니다.
+     *
+     * @param rule 확인할 규칙
+     * @return 평가 대상이면 true
+     */
+    public boolean isEvaluable(Rule rule) {
+        RuleGroup group = rule.getRuleGroup();
+        return rule.isActive() && (group == null || group.isActive());
+    }
+
+    private static int priorityOf(Integer priority) {
+        return priority != null ? priority : Integer.MAX_VALUE;
+    }
+}
@@ -0,0 +1,203 @@
+package com.nhnacademy.ruleengineservice.engine.compile.parameter;
+
+import com.nhnacademy.ruleengineservice.engine.compile.predicate.FieldPredicate;
+import com.nhnacademy.ruleengineservice.engine.compile.template.ParamTemplate;
+import com.nhnacademy.ruleengineservice.engine.exception.RuleCompileException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * RuleParameters 는 한 규칙의 파라미터 값과, 그 값을 참조하는 조건 검사를 하나의 바인딩으로 묶어 보관합니다.
+ * <p>
+ * conValue 에 {@code ${paramName}} 을 쓴 조건은 값을 직접 들고 있지 않고 이 객체의 슬롯(바인딩 내 순번)을 가리킵니다.
+ * {@link #update} 는 바뀐 파라미터를 참조하는 검사만 다시 컴파일한 뒤 바인딩 전체를 volatile 쓰기 한 번으로 교체하므로,
+ * 규칙 재컴파일이나 스냅샷 교체 없이 값이 반영되고, 평가 스레드는 항상 한 시점의 값 묶음만 봅니다.
+ * <p>
+ * {@link #bind} 는 규칙을 컴파일하는 동안(게시 전)에만 호출합니다.
+ */
+public final class RuleParameters {
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    /**
+     * 노드 중복 제거 키에 쓰는 식별자. 같은 conValue 라도 규칙마다 값이 다를 수 있기 때문입니다.
+     */
+    private final long id = SEQUENCE.incrementAndGet();
+
+    /**
+     * paramName → paramNo. 이름이 바뀐 파라미터를 구분하는 데 사용합니다.
+     */
+    private final Map<String, Long> paramNos;
+
+    /**
+     * 파라미터를 참조하는 검사 목록. 순번이 슬롯 번호입니다.
+     */
+    private final List<Binder> binders = new ArrayList<>();
+
+    private volatile Binding binding;
+
+    /**
+     * 파라미터 값으로 생성합니다.
+     *
+     * @param values paramName → paramValue
+     */
+    public RuleParameters(Map<String, String> values) {
+        this(values, Map.of());
+    }
+
+    /**
+     * 파라미터 값과 파라미터 번호로 생성합니다.
+     *
+     * @param values   paramName → paramValue
+     * @param paramNos paramName → paramNo
+     */
+    public RuleParameters(Map<String, String> values, Map<String, Long> paramNos) {
+        this.paramNos = new HashMap<>(paramNos);
+        this.binding = new Binding(Collections.unmodifiableMap(new LinkedHashMap<>(values)), new FieldPredicate[0]);
+    }
+
+    /**
+     * 파라미터를 참조하는 conValue 템플릿을 슬롯으로 등록하고 현재 값으로 컴파일합니다.
+     *
+     * @param template  conValue 템플릿
+     * @param compiler  렌더링된 conValue → 검사
+     * @return 슬롯 번호
+     * @throws RuleCompileException 참조한 파라미터가 없거나 현재 값으로 컴파일할 수 없는 경우
+     */
+    public synchronized int bind(ParamTemplate template, Function<String, FieldPredicate> compiler) {
+        Binding current = binding;
+        for (String name : template.getVariableNames()) {
+            if (!current.values.containsKey(name)) {
+                throw new RuleCompileException("참조한 규칙 파라미터가 없습니다: " + name);
+            }
+        }
+        Binder binder = new Binder(template, compiler);
+        FieldPredicate[] predicates = Arrays.copyOf(current.predicates, current.predicates.length + 1);
+        predicates[binders.size()] = binder.compile(current.values);
+        binders.add(binder);
+        binding = new Binding(current.values, predicates);
+        return binders.size() - 1;
+    }
+
+    /**
+     * 파라미터 값을 바꿉니다. 바뀐 파라미터를 참조하는 검사만 다시 컴파일합니다.
+     * 이 규칙에 없는 파라미터이거나 이름이 바뀐 파라미터라면 아무것도 바꾸지 않고 false 를 반환하며,
+     * 이때는 규칙을 다시 컴파일해야 합니다.
+     *
+     * @param paramNo    파라미터 번호, 모르면 null
+     * @param paramName  파라미터 이름
+     * @param paramValue 새 값
+     * @return 반영했으면 true
+     * @throws RuleCompileException 새 값으로 참조 검사를 컴파일할 수 없는 경우 (값은 바뀌지 않음)
+     */
+    public synchronized boolean update(Long paramNo, String paramName, String paramValue) {
+        Binding current = binding;
+        if (!current.values.containsKey(paramName) || !sameParameter(paramNo, paramName)) {
+            return false;
+        }
+        if (Objects.equals(current.values.get(paramName), paramValue)) {
+            return true;
+        }
+        Map<String, String> values = new LinkedHashMap<>(current.values);
+        values.put(paramName, paramValue);
+        values = Collections.unmodifiableMap(values);
+
+        FieldPredicate[] predicates = current.predicates.clone();
+        for (int slot = 0; slot < binders.size(); slot++) {
+            Binder binder = binders.get(slot);
+            if (binder.references(paramName)) {
+                predicates[slot] = binder.compile(values);
+            }
+        }
+        binding = new Binding(values, predicates);
+        return true;
+    }
+
+    private boolean sameParameter(Long paramNo, String paramName) {
+        if (paramNo == null) {
+            return true;
+        }
+        Long known = paramNos.get(paramName);
+        return known == null ? !paramNos.containsValue(paramNo) : known.equals(paramNo);
+    }
+
+    /**
+     * 슬롯의 현재 검사를 반환합니다.
+     *
+     * @param slot 슬롯 번호
+     * @return 현재 값으로 컴파일된 검사
+     */
+    public FieldPredicate predicate(int slot) {
+        return binding.predicates[slot];
+    }
+
+    /**
+     * 현재 파라미터 값을 반환합니다.
+     *
+     * @return paramName → paramValue (불변)
+     */
+    public Map<String, String> values() {
+        return binding.values;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return binding.values.toString();
+    }
+
+    /**
+     * 한 시점의 파라미터 값과 그 값으로 컴파일된 슬롯별 검사입니다.
+     */
+    private static final class Binding {
+
+        private final Map<String, String> values;
+
+        private final FieldPredicate[] predicates;
+
+        private Binding(Map<String, String> values, FieldPredicate[] predicates) {
+            this.values = values;
+            this.predicates = predicates;
+        }
+    }
+
+    /**
+     * 파라미터를 참조하는 conValue 와 그 컴파일 방법입니다.
+     */
+    private static final class Binder {
+
+        private final ParamTemplate template;
+
+        private final Function<String, FieldPredicate> compiler;
+
+        private Binder(ParamTemplate template, Function<String, FieldPredicate> compiler) {
+            this.template = template;
+            this.compiler = compiler;
+        }
+
+        private boolean references(String paramName) {
+            for (String name : template.getVariableNames()) {
+                if (name.equals(paramName)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private FieldPredicate compile(Map<String, String> values) {
+            return compiler.apply(template.render(Map.of(), values));
+        }
+    }
+}
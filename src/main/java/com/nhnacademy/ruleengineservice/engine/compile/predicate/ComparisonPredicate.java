@@ -0,0 +1,68 @@
+package com.nhnacademy.ruleengineservice.engine.compile.predicate;
+
+import com.nhnacademy.ruleengineservice.engine.compile.ConditionOperator;
+
+/**
+ * GT, GTE, LT, LTE 임계값 비교 조건입니다.
+ * 피연산자가 정수이고 팩트 값도 정수이면 long 비교로 정밀도 손실 없이 검사합니다.
+ */
+public final class ComparisonPredicate extends NumericPredicate {
+
+    private final ConditionOperator operator;
+
+    private final double threshold;
+
+    private final long longThreshold;
+
+    private final boolean integral;
+
+    /**
+     * ComparisonPredicate 생성자.
+     *
+     * @param operator  GT, GTE, LT, LTE 중 하나
+     * @param threshold 임계값
+     * @param integral  임계값이 정수로 표현 가능한지 여부
+     */
+    public ComparisonPredicate(ConditionOperator operator, double threshold, boolean integral) {
+        if (!operator.isThreshold()) {
+            throw new IllegalArgumentException("임계값 비교 연산자가 아닙니다: " + operator);
+        }
+        this.operator = operator;
+        this.threshold = threshold;
+        this.longThreshold = (long) threshold;
+        this.integral = integral;
+    }
+
+    @Override
+    public boolean testDouble(double value) {
+        return switch (operator) {
+            case GT -> value > threshold;
+            case GTE -> value >= threshold;
+            case LT -> value < threshold;
+            case LTE -> value <= threshold;
+            default -> false;
+        };
+    }
+
+    @Override
+    public boolean testLong(long value) {
+        if (!integral) {
+            return testDouble(value);
+        }
+        return switch (operator) {
+            case GT -> value > longThreshold;
+            case GTE -> value >= longThreshold;
+            case LT -> value < longThreshold;
+            case LTE -> value <= longThreshold;
+            default -> false;
+        };
+    }
+
+    public ConditionOperator getOperator() {
+        return operator;
+    }
+
+    public double getThreshold() {
+        return threshold;
+    }
+}
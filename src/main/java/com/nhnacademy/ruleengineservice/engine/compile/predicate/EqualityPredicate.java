@@ -0,0 +1,71 @@
+package com.nhnacademy.ruleengineservice.engine.compile.predicate;
+
+/**
+ * EQ / NE 조건입니다.
+ * <p>
+ * 피연산자 문자열은 intern 되어 보관되므로 같은 상수와의 비교는 참조 비교로 끝나며,
+ * 피연산자가 숫자로 해석되면 숫자 팩트 값과는 기본형 비교를 수행합니다.
+ * (예: conValue "30" 은 팩트 값 30, 30.0, "30" 과 모두 같습니다.)
+ */
+public final class EqualityPredicate implements FieldPredicate {
+
+    private final String operand;
+
+    private final boolean numeric;
+
+    private final double numericOperand;
+
+    private final boolean negate;
+
+    /**
+     * EqualityPredicate 생성자.
+     *
+     * @param operand 비교할 값
+     * @param negate  NE 이면 true
+     */
+    public EqualityPredicate(String operand, boolean negate) {
+        this.operand = operand.intern();
+        this.negate = negate;
+
+        double parsed = Double.NaN;
+        try {
+            parsed = Double.parseDouble(operand);
+        } catch (NumberFormatException ignored) {
+            // 숫자가 아닌 피연산자는 문자열 비교만 수행합니다.
+        }
+        this.numeric = !Double.isNaN(parsed);
+        this.numericOperand = parsed;
+    }
+
+    @Override
+    public boolean test(Object value) {
+        if (value == null) {
+            return false;
+        }
+        return matches(value) != negate;
+    }
+
+    private boolean matches(Object value) {
+        if (value instanceof Number number) {
+            return numeric && number.doubleValue() == numericOperand;
+        }
+        String text = value instanceof String s ? s : value.toString();
+        return operand == text || operand.equals(text);
+    }
+
+    public String getOperand() {
+        return operand;
+    }
+
+    public boolean isNumeric() {
+        return numeric;
+    }
+
+    public double getNumericOperand() {
+        return numericOperand;
+    }
+
+    public boolean isNegate() {
+        return negate;
+    }
+}
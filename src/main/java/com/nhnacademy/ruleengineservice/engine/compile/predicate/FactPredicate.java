@@ -0,0 +1,67 @@
+package com.nhnacademy.ruleengineservice.engine.compile.predicate;
+
+import com.nhnacademy.ruleengineservice.domain.rule.EventType;
+import com.nhnacademy.ruleengineservice.engine.compile.state.ConditionState;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * FactPredicate 는 필드 하나가 아니라 팩트 전체를 보고 판단하는 조건입니다.
+ * <p>
+ * 윈도 집계처럼 키 필드(deviceId, mbNo 등)별 상태를 갱신하는 조건이 구현하며,
+ * 평가 시 {@link FieldPredicate#test(Object)} 대신 {@link #testFact(Map)} 가 호출됩니다.
+ * 상태를 갱신하므로 팩트마다 한 번만 호출해야 하며, 여러 스레드에서 동시에 호출해도 안전해야 합니다.
+ */
+public interface FactPredicate extends FieldPredicate {
+
+    /**
+     * 팩트로 상태를 갱신하고 조건을 만족하는지 검사합니다.
+     *
+     * @param fact 필드명 → 값 형태의 팩트
+     * @return 조건을 만족하면 true
+     */
+    boolean testFact(Map<String, Object> fact);
+
+    /**
+     * 이벤트 유형과 함께 팩트로 상태를 갱신하고 조건을 만족하는지 검사합니다.
+     * 순서 패턴처럼 이벤트 유형으로 이벤트를 구분하는 조건이 재정의하며, 기본 구현은 유형을 무시합니다.
+     *
+     * @param eventType 이벤트 유형, 없으면 null
+     * @param fact      필드명 → 값 형태의 팩트
+     * @return 조건을 만족하면 true
+     */
+    default boolean testEvent(EventType eventType, Map<String, Object> fact) {
+        return testFact(fact);
+    }
+
+    /**
+     * 상태를 갱신하지 않고 현재 상태로 조건을 만족하는지 검사합니다.
+     * 타이머가 상태를 바꾼 뒤 규칙을 다시 확인할 때 사용합니다.
+     *
+     * @param fact 필드명 → 값 형태의 팩트
+     * @return 조건을 만족하면 true
+     */
+    boolean peekFact(Map<String, Object> fact);
+
+    /**
+     * 조건이 읽는 팩트 필드를 반환합니다. 값이 바뀐 필드만 평가할 때 의존 규칙을 고르는 데 사용합니다.
+     *
+     * @return 필드명 집합
+     */
+    Set<String> getReadFields();
+
+    /**
+     * 상태를 나누는 키 필드를 반환합니다. 키 필드 값이 다른 팩트는 서로의 상태를 바꾸지 않습니다.
+     *
+     * @return 키 필드명, 모든 팩트가 하나의 상태를 공유하면 null
+     */
+    String getKeyField();
+
+    /**
+     * 조건이 사용하는 상태를 반환합니다. 같은 검사를 다시 컴파일한 조건은 같은 상태를 공유합니다.
+     *
+     * @return 조건 상태
+     */
+    ConditionState getState();
+}
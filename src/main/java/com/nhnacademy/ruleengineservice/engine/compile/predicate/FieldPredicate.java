@@ -0,0 +1,19 @@
+package com.nhnacademy.ruleengineservice.engine.compile.predicate;
+
+/**
+ * FieldPredicate 는 팩트의 단일 필드 값에 대해 컴파일된 조건 검사를 수행합니다.
+ * <p>
+ * 구현체는 불변이며 여러 스레드에서 동시에 호출해도 안전해야 합니다.
+ * 필드가 없는(null) 경우 IS_NULL 을 제외한 모든 조건은 만족하지 않는 것으로 봅니다.
+ */
+@FunctionalInterface
+public interface FieldPredicate {
+
+    /**
+     * 필드 값이 조건을 만족하는지 검사합니다.
+     *
+     * @param value 팩트의 필드 값, 필드가 없으면 null
+     * @return 조건을 만족하면 true
+     */
+    boolean test(Object value);
+}
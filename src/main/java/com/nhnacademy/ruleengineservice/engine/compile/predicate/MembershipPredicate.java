@@ -0,0 +1,65 @@
+package com.nhnacademy.ruleengineservice.engine.compile.predicate;
+
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * IN / NOT_IN 조건입니다.
+ * <p>
+ * 문자열 후보는 intern 된 불변 Set 으로, 숫자 후보는 정렬된 double 배열로 보관하여
+ * 숫자 팩트 값은 박싱 없이 이진 탐색으로 검사합니다.
+ */
+public final class MembershipPredicate implements FieldPredicate {
+
+    private final Set<String> values;
+
+    private final double[] numbers;
+
+    private final boolean negate;
+
+    /**
+     * MembershipPredicate 생성자.
+     *
+     * @param values 후보 문자열 목록
+     * @param negate NOT_IN 이면 true
+     */
+    public MembershipPredicate(Set<String> values, boolean negate) {
+        this.values = Set.copyOf(values);
+        this.negate = negate;
+        double[] parsed = new double[values.size()];
+        int count = 0;
+        for (String candidate : values) {
+            try {
+                parsed[count] = Double.parseDouble(candidate);
+                count++;
+            } catch (NumberFormatException ignored) {
+                // 숫자가 아닌 후보는 문자열 비교에만 사용합니다.
+            }
+        }
+        this.numbers = Arrays.copyOf(parsed, count);
+        Arrays.sort(this.numbers);
+    }
+
+    @Override
+    public boolean test(Object value) {
+        if (value == null) {
+            return false;
+        }
+        return contains(value) != negate;
+    }
+
+    private boolean contains(Object value) {
+        if (value instanceof Number number) {
+            return Arrays.binarySearch(numbers, number.doubleValue()) >= 0;
+        }
+        return values.contains(value instanceof String s ? s : value.toString());
+    }
+
+    public Set<String> getValues() {
+        return values;
+    }
+
+    public boolean isNegate() {
+        return negate;
+    }
+}
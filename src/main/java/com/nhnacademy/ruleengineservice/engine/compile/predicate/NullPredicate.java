@@ -0,0 +1,28 @@
+package com.nhnacademy.ruleengineservice.engine.compile.predicate;
+
+/**
+ * IS_NULL / IS_NOT_NULL 조건입니다.
+ */
+public final class NullPredicate implements FieldPredicate {
+
+    /**
+     * IS_NULL 조건 인스턴스.
+     */
+    public static final NullPredicate IS_NULL = new NullPredicate(true);
+
+    /**
+     * IS_NOT_NULL 조건 인스턴스.
+     */
+    public static final NullPredicate IS_NOT_NULL = new NullPredicate(false);
+
+    private final boolean expectNull;
+
+    private NullPredicate(boolean expectNull) {
+        this.expectNull = expectNull;
+    }
+
+    @Override
+    public boolean test(Object value) {
+        return (value == null) == expectNull;
+    }
+}
@@ -0,0 +1,66 @@
+package com.nhnacademy.ruleengineservice.engine.compile.predicate;
+
+/**
+ * NumericPredicate 는 숫자 비교 조건의 공통 기반 클래스입니다.
+ * <p>
+ * 정수형 팩트 값은 {@link #testLong(long)}, 실수형 값은 {@link #testDouble(double)} 로
+ * 기본형(primitive) 비교를 수행하며, 피연산자는 컴파일 시점에 한 번만 파싱됩니다.
+ */
+public abstract class NumericPredicate implements FieldPredicate {
+
+    @Override
+    public final boolean test(Object value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return testLong(((Number) value).longValue());
+        }
+        if (value instanceof Number number) {
+            return testDouble(number.doubleValue());
+        }
+        if (value instanceof CharSequence text) {
+            try {
+                return testDouble(Double.parseDouble(text.toString()));
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 팩트 값을 double 로 변환합니다.
+     *
+     * @param value 팩트 값
+     * @return 변환된 값, 숫자로 해석할 수 없으면 {@link Double#NaN}
+     */
+    public static double toDouble(Object value) {
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+        if (value instanceof CharSequence text) {
+            try {
+                return Double.parseDouble(text.toString());
+            } catch (NumberFormatException e) {
+                return Double.NaN;
+            }
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * 실수 값을 검사합니다.
+     *
+     * @param value 팩트 값
+     * @return 조건을 만족하면 true
+     */
+    public abstract boolean testDouble(double value);
+
+    /**
+     * 정수 값을 검사합니다. 기본 구현은 실수 비교로 위임합니다.
+     *
+     * @param value 팩트 값
+     * @return 조건을 만족하면 true
+     */
+    public boolean testLong(long value) {
+        return testDouble(value);
+    }
+}
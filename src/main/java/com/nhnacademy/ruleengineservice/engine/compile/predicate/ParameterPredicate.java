@@ -0,0 +1,36 @@
+package com.nhnacademy.ruleengineservice.engine.compile.predicate;
+
+import com.nhnacademy.ruleengineservice.engine.compile.parameter.RuleParameters;
+
+/**
+ * 규칙 파라미터를 참조하는 조건입니다.
+ * <p>
+ * 검사를 직접 들고 있지 않고 {@link RuleParameters} 의 슬롯을 가리키므로,
+ * 파라미터 값이 바뀌면 규칙을 다시 컴파일하지 않아도 다음 평가부터 새 값으로 검사합니다.
+ * 값이 바뀔 수 있어 알파 네트워크의 임계값·동등 색인에는 올리지 않습니다.
+ */
+public final class ParameterPredicate implements FieldPredicate {
+
+    private final RuleParameters parameters;
+
+    private final int slot;
+
+    public ParameterPredicate(RuleParameters parameters, int slot) {
+        this.parameters = parameters;
+        this.slot = slot;
+    }
+
+    @Override
+    public boolean test(Object value) {
+        return parameters.predicate(slot).test(value);
+    }
+
+    /**
+     * 노드 중복 제거에 쓰는 슬롯 식별 키를 반환합니다.
+     *
+     * @return 파라미터 묶음과 슬롯 번호로 구성된 키
+     */
+    public String getSlotKey() {
+        return parameters.getId() + "#" + slot;
+    }
+}
@@ -0,0 +1,65 @@
+package com.nhnacademy.ruleengineservice.engine.compile.predicate;
+
+import java.util.regex.Pattern;
+
+/**
+ * LIKE / NOT_LIKE 조건입니다.
+ * SQL LIKE 패턴(%: 임의 문자열, _: 임의 한 글자)을 컴파일 시점에 정규식으로 변환해 둡니다.
+ */
+public final class PatternPredicate implements FieldPredicate {
+
+    private final Pattern pattern;
+
+    private final boolean negate;
+
+    /**
+     * PatternPredicate 생성자.
+     *
+     * @param pattern 미리 컴파일된 정규식
+     * @param negate  NOT_LIKE 이면 true
+     */
+    public PatternPredicate(Pattern pattern, boolean negate) {
+        this.pattern = pattern;
+        this.negate = negate;
+    }
+
+    /**
+     * SQL LIKE 패턴을 정규식으로 컴파일합니다.
+     *
+     * @param like LIKE 패턴
+     * @return 컴파일된 정규식
+     */
+    public static Pattern compileLike(String like) {
+        StringBuilder regex = new StringBuilder(like.length() + 8);
+        StringBuilder literal = new StringBuilder();
+        for (int i = 0; i < like.length(); i++) {
+            char c = like.charAt(i);
+            if (c == '%' || c == '_') {
+                if (!literal.isEmpty()) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(c == '%' ? ".*" : ".");
+            } else {
+                literal.append(c);
+            }
+        }
+        if (!literal.isEmpty()) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+
+    @Override
+    public boolean test(Object value) {
+        if (value == null) {
+            return false;
+        }
+        CharSequence text = value instanceof CharSequence s ? s : value.toString();
+        return pattern.matcher(text).matches() != negate;
+    }
+
+    public Pattern getPattern() {
+        return pattern;
+    }
+}
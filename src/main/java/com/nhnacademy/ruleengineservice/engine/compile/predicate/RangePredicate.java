@@ -0,0 +1,35 @@
+package com.nhnacademy.ruleengineservice.engine.compile.predicate;
+
+/**
+ * BETWEEN 구간 조건입니다. 하한과 상한을 모두 포함합니다.
+ */
+public final class RangePredicate extends NumericPredicate {
+
+    private final double lower;
+
+    private final double upper;
+
+    /**
+     * RangePredicate 생성자.
+     *
+     * @param lower 하한 (포함)
+     * @param upper 상한 (포함)
+     */
+    public RangePredicate(double lower, double upper) {
+        this.lower = lower;
+        this.upper = upper;
+    }
+
+    @Override
+    public boolean testDouble(double value) {
+        return value >= lower && value <= upper;
+    }
+
+    public double getLower() {
+        return lower;
+    }
+
+    public double getUpper() {
+        return upper;
+    }
+}
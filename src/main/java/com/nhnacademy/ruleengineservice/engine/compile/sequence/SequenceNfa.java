@@ -0,0 +1,184 @@
+package com.nhnacademy.ruleengineservice.engine.compile.sequence;
+
+import com.nhnacademy.ruleengineservice.domain.rule.EventType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * SequenceNfa 는 "A 다음 B (기간 안에)" 형태의 순서 패턴을 컴파일한 비결정 유한 오토마톤입니다.
+ * <p>
+ * 상태 i 는 긍정 단계 0..i 까지 일치한 부분 일치이며, 이벤트가 단계 i+1 에 해당하면 상태 i+1 로 진행합니다.
+ * 중간 이벤트는 건너뛰므로(skip-till-next-match) 부분 일치 하나가 여러 상태에 동시에 있을 수 있습니다.
+ * 부정 단계는 바로 앞 긍정 단계의 상태에 붙어, 해당 이벤트가 오면 그 상태의 부분 일치를 없앱니다.
+ * <p>
+ * 패턴이 부정 단계로 끝나면(예: OFFLINE 다음 기간 안에 ONLINE 없음) 마지막 상태는 이벤트가 아니라
+ * 기간이 끝나는 시각에 완성됩니다({@link #isAbsence()}).
+ * <p>
+ * 오토마톤은 불변이며 키별 부분 일치는 {@link SequenceState} 가 보관합니다.
+ */
+public final class SequenceNfa {
+
+    /**
+     * 긍정 단계. 상태 수와 같습니다.
+     */
+    private final SequenceStep[] steps;
+
+    /**
+     * 상태별 부정 단계. guards[i] 에 해당하는 이벤트는 상태 i 의 부분 일치를 없앱니다.
+     */
+    private final SequenceStep[][] guards;
+
+    private final long withinMillis;
+
+    private final boolean absence;
+
+    private SequenceNfa(SequenceStep[] steps, SequenceStep[][] guards, long withinMillis, boolean absence) {
+        this.steps = steps;
+        this.guards = guards;
+        this.withinMillis = withinMillis;
+        this.absence = absence;
+    }
+
+    /**
+     * 단계 목록으로 오토마톤을 만듭니다.
+     *
+     * @param steps        단계 목록 (순서대로)
+     * @param withinMillis 첫 단계부터 패턴이 완성되어야 하는 기간 (밀리초)
+     * @return 오토마톤
+     * @throws IllegalArgumentException 첫 단계가 부정 단계이거나, 부정 단계로 끝나지 않는데 긍정 단계가 둘 미만인 경우
+     */
+    public static SequenceNfa of(List<SequenceStep> steps, long withinMillis) {
+        if (steps.isEmpty() || steps.get(0).isNegated()) {
+            throw new IllegalArgumentException("첫 단계는 긍정 단계여야 합니다.");
+        }
+        List<SequenceStep> positives = new ArrayList<>();
+        List<List<SequenceStep>> guards = new ArrayList<>();
+        for (SequenceStep step : steps) {
+            if (step.isNegated()) {
+                guards.get(guards.size() - 1).add(step);
+            } else {
+                positives.add(step);
+                guards.add(new ArrayList<>());
+            }
+        }
+        boolean absence = steps.get(steps.size() - 1).isNegated();
+        if (!absence && positives.size() < 2) {
+            throw new IllegalArgumentException("부정 단계로 끝나지 않는 패턴은 긍정 단계가 둘 이상이어야 합니다.");
+        }
+        SequenceStep[][] guardArray = new SequenceStep[guards.size()][];
+        for (int i = 0; i < guardArray.length; i++) {
+            guardArray[i] = guards.get(i).toArray(SequenceStep[]::new);
+        }
+        return new SequenceNfa(positives.toArray(SequenceStep[]::new), guardArray, withinMillis, absence);
+    }
+
+    /**
+     * 이벤트가 상태의 다음 긍정 단계에 해당하는지 확인합니다.
+     *
+     * @param state     상태 번호, -1 이면 첫 단계
+     * @param eventType 이벤트 유형
+     * @param fact      팩트
+     * @return 진행하면 true
+     */
+    boolean advances(int state, EventType eventType, Map<String, Object> fact) {
+        return steps[state + 1].matches(eventType, fact);
+    }
+
+    /**
+     * 이벤트가 상태의 부정 단계에 해당하는지 확인합니다.
+     *
+     * @param state     상태 번호
+     * @param eventType 이벤트 유형
+     * @param fact      팩트
+     * @return 부분 일치를 없애야 하면 true
+     */
+    boolean breaks(int state, EventType eventType, Map<String, Object> fact) {
+        for (SequenceStep guard : guards[state]) {
+            if (guard.matches(eventType, fact)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 단계가 값을 비교하는 필드를 반환합니다.
+     *
+     * @return 필드명 집합
+     */
+    public Set<String> getFields() {
+        Set<String> fields = new LinkedHashSet<>();
+        for (SequenceStep step : steps) {
+            if (step.getField() != null) {
+                fields.add(step.getField());
+            }
+        }
+        for (SequenceStep[] stateGuards : guards) {
+            for (SequenceStep guard : stateGuards) {
+                if (guard.getField() != null) {
+                    fields.add(guard.getField());
+                }
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * 단계가 고르는 이벤트 유형을 반환합니다. 모든 유형({@code *})을 고르는 단계는 포함하지 않습니다.
+     *
+     * @return 이벤트 유형 집합
+     */
+    public Set<EventType> getEventTypes() {
+        Set<EventType> eventTypes = EnumSet.noneOf(EventType.class);
+        for (SequenceStep step : steps) {
+            if (step.getEventType() != null) {
+                eventTypes.add(step.getEventType());
+            }
+        }
+        for (SequenceStep[] stateGuards : guards) {
+            for (SequenceStep guard : stateGuards) {
+                if (guard.getEventType() != null) {
+                    eventTypes.add(guard.getEventType());
+                }
+            }
+        }
+        return eventTypes;
+    }
+
+    /**
+     * 상태 수(긍정 단계 수)를 반환합니다.
+     *
+     * @return 상태 수
+     */
+    public int getStateCount() {
+        return steps.length;
+    }
+
+    public long getWithinMillis() {
+        return withinMillis;
+    }
+
+    /**
+     * 마지막 상태가 기간 동안 부정 단계가 없어야 완성되는 패턴인지 확인합니다.
+     *
+     * @return 부정 단계로 끝나면 true
+     */
+    public boolean isAbsence() {
+        return absence;
+    }
+
+    @Override
+    public String toString() {
+        return "SequenceNfa{" +
+                "steps=" + Arrays.toString(steps) +
+                ", guards=" + Arrays.deepToString(guards) +
+                ", withinMillis=" + withinMillis +
+                '}';
+    }
+}
@@ -0,0 +1,86 @@
+package com.nhnacademy.ruleengineservice.engine.compile.sequence;
+
+import com.nhnacademy.ruleengineservice.domain.rule.EventType;
+import com.nhnacademy.ruleengineservice.engine.compile.predicate.FactPredicate;
+import com.nhnacademy.ruleengineservice.engine.compile.state.ConditionState;
+import com.nhnacademy.ruleengineservice.engine.compile.state.StateKeys;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * SequencePredicate 는 "USER_LOGIN 다음 30초 안에 같은 회원의 DB_DELETE" 처럼
+ * 같은 키의 이벤트가 순서대로 기간 안에 일어났는지 검사하는 조건입니다.
+ * <p>
+ * conField 는 부분 일치를 나누는 키 필드(mbNo, deviceId 등)이며, 키 필드가 있는 팩트마다
+ * {@link SequenceState} 의 부분 일치를 진행시킵니다. 패턴을 완성한 이벤트에서 만족하며,
+ * 부정 단계로 끝나는 패턴은 마감 시각에 공유 타이머가 완성하고 규칙을 다시 확인하게 합니다.
+ * 단계가 이벤트 유형으로 이벤트를 고르므로 이벤트 유형과 함께 평가해야 합니다.
+ */
+public final class SequencePredicate implements FactPredicate {
+
+    private final String keyField;
+
+    private final SequenceState state;
+
+    /**
+     * SequencePredicate 생성자.
+     *
+     * @param keyField 부분 일치를 나누는 키 필드명
+     * @param state    키별 부분 일치
+     */
+    public SequencePredicate(String keyField, SequenceState state) {
+        this.keyField = keyField;
+        this.state = state;
+    }
+
+    @Override
+    public boolean testFact(Map<String, Object> fact) {
+        return testEvent(null, fact);
+    }
+
+    @Override
+    public boolean testEvent(EventType eventType, Map<String, Object> fact) {
+        Object key = StateKeys.of(fact.get(keyField));
+        return key != null && state.advance(key, eventType, fact);
+    }
+
+    @Override
+    public boolean peekFact(Map<String, Object> fact) {
+        Object key = StateKeys.of(fact.get(keyField));
+        return key != null && state.isCompleted(key);
+    }
+
+    /**
+     * 키 값 하나만으로는 순서를 판단할 수 없으므로 만족하지 않습니다.
+     *
+     * @param value 팩트의 키 필드 값
+     * @return 항상 false
+     */
+    @Override
+    public boolean test(Object value) {
+        return false;
+    }
+
+    @Override
+    public Set<String> getReadFields() {
+        Set<String> fields = new HashSet<>(state.getNfa().getFields());
+        fields.add(keyField);
+        return Set.copyOf(fields);
+    }
+
+    @Override
+    public String getKeyField() {
+        return keyField;
+    }
+
+    public SequenceNfa getNfa() {
+        return state.getNfa();
+    }
+
+    @Override
+    public ConditionState getState() {
+        return state;
+    }
+}
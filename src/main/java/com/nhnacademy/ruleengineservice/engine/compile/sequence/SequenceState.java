@@ -0,0 +1,357 @@
+package com.nhnacademy.ruleengineservice.engine.compile.sequence;
+
+import com.nhnacademy.ruleengineservice.domain.rule.EventType;
+import com.nhnacademy.ruleengineservice.engine.compile.state.ConditionState;
+import com.nhnacademy.ruleengineservice.engine.compile.state.ConditionStateStore;
+import com.nhnacademy.ruleengineservice.engine.timer.TimingWheel;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SequenceState 는 순서 패턴 하나의 키별 부분 일치입니다.
+ * <p>
+ * 키마다 상태별로 부분 일치가 시작된 시각 하나({@code long[]})만 보관합니다.
+ * 같은 상태에 있는 부분 일치 중에서는 가장 늦게 시작한 것이 가장 오래 살아남아 다른 것을 포함하므로
+ * 키당 메모리는 상태 수에 비례하여 고정됩니다.
+ * 단, 부정 단계로 끝나는 패턴의 마지막 상태는 가장 먼저 시작한 것을 보관하여 가장 이른 마감 시각에 완성합니다.
+ * <p>
+ * 만료는 두 가지로 처리합니다. 키에 이벤트가 오면 기간이 지난 부분 일치를 바로 버리며,
+ * 키가 있는 동안에는 기간마다 한 번 공유 타이머가 이벤트가 끊긴 키를 비웁니다.
+ * 부정 단계로 끝나는 패턴은 마지막 상태에 들어갈 때 마감 시각을 타이머에 등록하고,
+ * 마감까지 부정 단계가 오지 않으면 {@link ConditionStateStore#resolved} 로 알립니다.
+ * <p>
+ * 키는 {@link #MAX_KEYS} 개까지 보관하며, 가득 차면 만료된 키를 비우고,
+ * 그래도 자리가 없으면 새 키는 추적하지 않습니다({@link #getRejectedCount()}).
+ */
+public final class SequenceState implements ConditionState {
+
+    /**
+     * 패턴 하나가 추적하는 최대 키 수.
+     */
+    public static final int MAX_KEYS = 100_000;
+
+    /**
+     * 가득 찼을 때 만료된 키를 비우는 최소 간격 (밀리초).
+     */
+    private static final long MIN_SWEEP_INTERVAL_MILLIS = 1_000L;
+
+    /**
+     * 객체 헤더, 필드, 맵 엔트리를 포함한 키당 고정 비용(근사값). 팩트는 포함하지 않습니다.
+     */
+    private static final long KEY_OVERHEAD_BYTES = 128;
+
+    /**
+     * 부분 일치가 없음을 뜻하는 시작 시각.
+     */
+    private static final long NONE = Long.MIN_VALUE;
+
+    private final SequenceNfa nfa;
+
+    private final int maxKeys;
+
+    private final ConditionStateStore store;
+
+    private final Map<Object, Partial> partials = new ConcurrentHashMap<>();
+
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * 주기적인 만료 작업이 타이머에 등록되어 있는지 여부.
+     */
+    private final AtomicBoolean sweepScheduled = new AtomicBoolean();
+
+    private volatile long lastSweepMillis = NONE;
+
+    public SequenceState(SequenceNfa nfa, ConditionStateStore store) {
+        this(nfa, MAX_KEYS, store);
+    }
+
+    /**
+     * SequenceState 생성자.
+     *
+     * @param nfa     순서 패턴
+     * @param maxKeys 최대 키 수
+     * @param store   시계와 타이머를 제공하는 상태 저장소
+     */
+    public SequenceState(SequenceNfa nfa, int maxKeys, ConditionStateStore store) {
+        this.nfa = nfa;
+        this.maxKeys = maxKeys;
+        this.store = store;
+    }
+
+    /**
+     * 키의 부분 일치를 이벤트로 진행시킵니다.
+     *
+     * @param key       정규화된 키
+     * @param eventType 이벤트 유형, 없으면 null
+     * @param fact      팩트
+     * @return 이 이벤트로 패턴이 완성되면 true
+     */
+    public boolean advance(Object key, EventType eventType, Map<String, Object> fact) {
+        long now = store.currentTimeMillis();
+        while (true) {
+            Partial partial = partials.get(key);
+            if (partial == null) {
+                if (!nfa.advances(-1, eventType, fact)) {
+                    return false;
+                }
+                if (!admit(now)) {
+                    rejected.increment();
+                    return false;
+                }
+                Partial created = new Partial(nfa.getStateCount());
+                if (partials.putIfAbsent(key, created) != null) {
+                    continue;
+                }
+                scheduleSweep();
+                partial = created;
+            }
+            synchronized (partial) {
+                if (partial.removed) {
+                    continue;
+                }
+                boolean matched = step(key, partial, eventType, fact, now);
+                if (partial.isEmpty() && partial.completedAt == NONE) {
+                    remove(key, partial);
+                }
+                return matched;
+            }
+        }
+    }
+
+    /**
+     * 상태를 바꾸지 않고 키의 패턴이 타이머로 완성된 뒤 아직 새 이벤트가 없는지 확인합니다.
+     *
+     * @param key 정규화된 키
+     * @return 완성 상태이면 true
+     */
+    public boolean isCompleted(Object key) {
+        Partial partial = partials.get(key);
+        if (partial == null) {
+            return false;
+        }
+        synchronized (partial) {
+            return !partial.removed && partial.completedAt != NONE;
+        }
+    }
+
+    /**
+     * 호출자가 partial 의 모니터를 잡고 있어야 합니다.
+     */
+    private boolean step(Object key, Partial partial, EventType eventType, Map<String, Object> fact, long now) {
+        long[] startAt = partial.startAt;
+        int last = startAt.length - 1;
+        long within = nfa.getWithinMillis();
+        partial.completedAt = NONE;
+
+        for (int state = 0; state <= last; state++) {
+            if (startAt[state] == NONE) {
+                continue;
+            }
+            if (state == last && nfa.isAbsence()) {
+                if (nfa.breaks(state, eventType, fact)) {
+                    clearFinal(partial);
+                }
+            } else if (now - startAt[state] > within || nfa.breaks(state, eventType, fact)) {
+                startAt[state] = NONE;
+            }
+        }
+
+        // 높은 상태부터 진행해야 이벤트 하나가 두 단계를 연달아 통과하지 않습니다.
+        boolean matched = false;
+        for (int state = last - 1; state >= 0; state--) {
+            if (startAt[state] == NONE || !nfa.advances(state, eventType, fact)) {
+                continue;
+            }
+            if (state + 1 < last) {
+                startAt[state + 1] = Math.max(startAt[state + 1], startAt[state]);
+            } else if (nfa.isAbsence()) {
+                enterFinal(key, partial, startAt[state], fact);
+            } else {
+                matched = true;
+            }
+        }
+        if (nfa.advances(-1, eventType, fact)) {
+            if (last == 0) {
+                enterFinal(key, partial, now, fact);
+            } else {
+                startAt[0] = now;
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * 부정 단계로 끝나는 패턴의 마지막 상태에 들어가며 마감 시각을 등록합니다. 이미 있으면 먼저 시작한 것을 유지합니다.
+     */
+    private void enterFinal(Object key, Partial partial, long start, Map<String, Object> fact) {
+        int last = partial.startAt.length - 1;
+        if (partial.startAt[last] != NONE) {
+            return;
+        }
+        partial.startAt[last] = start;
+        partial.fact = fact;
+        partial.timeout = store.getTimer().schedule(Instant.ofEpochMilli(start + nfa.getWithinMillis()),
+                () -> resolve(key, partial, start));
+    }
+
+    private void clearFinal(Partial partial) {
+        partial.startAt[partial.startAt.length - 1] = NONE;
+        partial.fact = null;
+        if (partial.timeout != null) {
+            partial.timeout.cancel();
+            partial.timeout = null;
+        }
+    }
+
+    /**
+     * 타이머에서 호출됩니다. 마감 시각까지 부정 단계가 오지 않은 부분 일치를 완성합니다.
+     */
+    private void resolve(Object key, Partial partial, long start) {
+        Map<String, Object> fact;
+        synchronized (partial) {
+            int last = partial.startAt.length - 1;
+            if (partial.removed || partial.startAt[last] != start) {
+                return;
+            }
+            fact = partial.fact;
+            partial.timeout = null;
+            clearFinal(partial);
+            partial.completedAt = store.currentTimeMillis();
+        }
+        store.resolved(this, fact);
+    }
+
+    /**
+     * 호출자가 partial 의 모니터를 잡고 있어야 합니다.
+     */
+    private void remove(Object key, Partial partial) {
+        partial.removed = true;
+        clearFinal(partial);
+        partials.remove(key, partial);
+    }
+
+    private boolean admit(long now) {
+        if (partials.size() < maxKeys) {
+            return true;
+        }
+        if (now - lastSweepMillis >= MIN_SWEEP_INTERVAL_MILLIS) {
+            sweep(now);
+        }
+        return partials.size() < maxKeys;
+    }
+
+    /**
+     * 기간이 지난 부분 일치를 버리고, 남은 것이 없는 키를 비웁니다.
+     */
+    private void sweep(long now) {
+        lastSweepMillis = now;
+        long within = nfa.getWithinMillis();
+        Iterator<Map.Entry<Object, Partial>> iterator = partials.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Object, Partial> entry = iterator.next();
+            Partial partial = entry.getValue();
+            synchronized (partial) {
+                long[] startAt = partial.startAt;
+                int expirable = nfa.isAbsence() ? startAt.length - 1 : startAt.length;
+                for (int state = 0; state < expirable; state++) {
+                    if (startAt[state] != NONE && now - startAt[state] > within) {
+                        startAt[state] = NONE;
+                    }
+                }
+                if (partial.isEmpty() && (partial.completedAt == NONE || now - partial.completedAt > within)) {
+                    remove(entry.getKey(), partial);
+                }
+            }
+        }
+    }
+
+    private void scheduleSweep() {
+        if (sweepScheduled.compareAndSet(false, true)) {
+            store.getTimer().schedule(Duration.ofMillis(nfa.getWithinMillis()), this::sweepAndReschedule);
+        }
+    }
+
+    /**
+     * 타이머에서 기간마다 호출됩니다. 키가 남아 있는 동안만 다시 등록합니다.
+     */
+    private void sweepAndReschedule() {
+        sweep(store.currentTimeMillis());
+        sweepScheduled.set(false);
+        if (!partials.isEmpty()) {
+            scheduleSweep();
+        }
+    }
+
+    @Override
+    public int getKeyCount() {
+        return partials.size();
+    }
+
+    @Override
+    public long getBytesPerKey() {
+        return KEY_OVERHEAD_BYTES + 16 + (long) Long.BYTES * nfa.getStateCount();
+    }
+
+    public SequenceNfa getNfa() {
+        return nfa;
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "SequenceState{" +
+                "nfa=" + nfa +
+                ", keys=" + partials.size() +
+                '}';
+    }
+
+    /**
+     * 키 하나의 부분 일치. 모든 접근은 객체의 모니터를 잡고 수행합니다.
+     */
+    private static final class Partial {
+
+        /**
+         * 상태별 부분 일치 시작 시각, 없으면 {@link #NONE}.
+         */
+        private final long[] startAt;
+
+        /**
+         * 타이머로 완성된 시각. 다음 이벤트가 오면 지웁니다.
+         */
+        private long completedAt = NONE;
+
+        private boolean removed;
+
+        /**
+         * 마지막 상태에 들어간 팩트 (부정 단계로 끝나는 패턴만).
+         */
+        private Map<String, Object> fact;
+
+        private TimingWheel.Timeout timeout;
+
+        Partial(int stateCount) {
+            this.startAt = new long[stateCount];
+            Arrays.fill(startAt, NONE);
+        }
+
+        boolean isEmpty() {
+            for (long start : startAt) {
+                if (start != NONE) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.nhnacademy.ruleengineservice.engine.compile.sequence;
+
+import com.nhnacademy.ruleengineservice.domain.rule.EventType;
+import com.nhnacademy.ruleengineservice.engine.compile.predicate.EqualityPredicate;
+
+import java.util.Map;
+
+/**
+ * SequenceStep 은 순서 패턴의 한 단계로, 이벤트 유형과 필드 값 하나로 이벤트를 고릅니다.
+ * <p>
+ * 문자열 형식은 {@code [!]이벤트유형[:필드=값]} 이며, 이벤트 유형 {@code *} 는 모든 유형을 뜻합니다.
+ * {@code !} 로 시작하는 단계는 부정 단계로, 앞 단계까지 진행한 부분 일치를 없앱니다.
+ * (예: "DEVICE_STATUS_CHANGE:status=OFFLINE", "!DEVICE_STATUS_CHANGE:status=ONLINE", "USER_LOGIN")
+ */
+public final class SequenceStep {
+
+    private static final String ANY = "*";
+
+    /**
+     * 고를 이벤트 유형, null 이면 모든 유형.
+     */
+    private final EventType eventType;
+
+    /**
+     * 값을 비교할 필드, null 이면 이벤트 유형만 봅니다.
+     */
+    private final String field;
+
+    private final EqualityPredicate value;
+
+    private final boolean negated;
+
+    private SequenceStep(EventType eventType, String field, EqualityPredicate value, boolean negated) {
+        this.eventType = eventType;
+        this.field = field;
+        this.value = value;
+        this.negated = negated;
+    }
+
+    /**
+     * 단계 문자열을 해석합니다.
+     *
+     * @param text {@code [!]이벤트유형[:필드=값]}
+     * @return 단계
+     * @throws IllegalArgumentException 형식이 잘못되었거나 알 수 없는 이벤트 유형인 경우
+     */
+    public static SequenceStep parse(String text) {
+        String step = text.trim();
+        boolean negated = step.startsWith("!");
+        if (negated) {
+            step = step.substring(1).trim();
+        }
+        String typeText = step;
+        String field = null;
+        EqualityPredicate value = null;
+        int colon = step.indexOf(':');
+        if (colon >= 0) {
+            typeText = step.substring(0, colon).trim();
+            String match = step.substring(colon + 1);
+            int equals = match.indexOf('=');
+            if (equals <= 0 || match.substring(equals + 1).isBlank()) {
+                throw new IllegalArgumentException("단계의 값 조건은 \"필드=값\" 형식이어야 합니다: " + text.trim());
+            }
+            field = match.substring(0, equals).trim().intern();
+            value = new EqualityPredicate(match.substring(equals + 1).trim(), false);
+        }
+        if (typeText.isEmpty()) {
+            throw new IllegalArgumentException("단계의 이벤트 유형이 비어 있습니다: " + text.trim());
+        }
+        EventType eventType = null;
+        if (!ANY.equals(typeText)) {
+            try {
+                eventType = EventType.valueOf(typeText.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("알 수 없는 이벤트 유형입니다: " + typeText, e);
+            }
+        }
+        return new SequenceStep(eventType, field, value, negated);
+    }
+
+    /**
+     * 이벤트가 이 단계에 해당하는지 확인합니다. 유형이 정해진 단계는 유형 없이 평가된 팩트와 맞지 않습니다.
+     *
+     * @param eventType 평가 중인 이벤트 유형, 없으면 null
+     * @param fact      필드명 → 값 형태의 팩트
+     * @return 해당하면 true
+     */
+    public boolean matches(EventType eventType, Map<String, Object> fact) {
+        if (this.eventType != null && this.eventType != eventType) {
+            return false;
+        }
+        return field == null || value.test(fact.get(field));
+    }
+
+    public EventType getEventType() {
+        return eventType;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public boolean isNegated() {
+        return negated;
+    }
+
+    @Override
+    public String toString() {
+        return (negated ? "!" : "") + (eventType != null ? eventType.name() : ANY)
+                + (field != null ? ":" + field + "=" + value.getOperand() : "");
+    }
+}
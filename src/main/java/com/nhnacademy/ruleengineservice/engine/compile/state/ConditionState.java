@@ -0,0 +1,31 @@
+package com.nhnacademy.ruleengineservice.engine.compile.state;
+
+/**
+ * ConditionState 는 상태를 가지는 조건 하나의 키별 상태 저장소입니다.
+ * {@link ConditionStateStore} 가 메모리 사용량을 모아 보고할 수 있도록 크기를 노출합니다.
+ */
+public interface ConditionState {
+
+    /**
+     * 상태를 보관 중인 키 수를 반환합니다.
+     *
+     * @return 키 수
+     */
+    int getKeyCount();
+
+    /**
+     * 키 하나가 차지하는 고정 메모리(바이트, 근사값)를 반환합니다.
+     *
+     * @return 키당 바이트
+     */
+    long getBytesPerKey();
+
+    /**
+     * 보관 중인 상태의 메모리 사용량(바이트, 근사값)을 반환합니다.
+     *
+     * @return 바이트
+     */
+    default long getMemoryBytes() {
+        return getKeyCount() * getBytesPerKey();
+    }
+}
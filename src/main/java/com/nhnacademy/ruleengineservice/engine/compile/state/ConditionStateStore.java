@@ -0,0 +1,258 @@
+package com.nhnacademy.ruleengineservice.engine.compile.state;
+
+import com.nhnacademy.ruleengineservice.engine.timer.TimingWheel;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.WeakReference;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * ConditionStateStore 는 상태를 가지는 조건(윈도 집계 등)의 상태를 규칙 재컴파일 사이에 이어 줍니다.
+ * <p>
+ * 상태는 조건의 검사 키(conType, conField, conValue)로 찾으며, 같은 검사를 다시 컴파일하면 같은 상태를 받습니다.
+ * 따라서 규칙을 수정하거나 스냅샷을 교체해도 누적된 윈도는 유지됩니다.
+ * 상태는 약한 참조로 보관하므로 어떤 스냅샷에서도 쓰이지 않게 된 조건의 상태는 GC 가 회수합니다.
+ * <p>
+ * 모든 상태는 같은 시계({@link #currentTimeMillis()})와 공유 타이머({@link #getTimer()})를 사용합니다.
+ * 타이머가 팩트 없이 상태를 바꾸면 {@link ResolutionListener} 에 알립니다.
+ */
+public final class ConditionStateStore {
+
+    private static final Logger log = LoggerFactory.getLogger(ConditionStateStore.class);
+
+    private static final Duration TIMER_TICK = Duration.ofMillis(100);
+
+    private static final int TIMER_WHEEL_SIZE = 1024;
+
+    private final LongSupplier clock;
+
+    /**
+     * 타이머 스레드를 띄울지 여부. 시계를 지정한 저장소는 타이머를 직접 구동합니다.
+     */
+    private final boolean startTimer;
+
+    private final Map<String, WeakReference<ConditionState>> states = new HashMap<>();
+
+    private TimingWheel timer;
+
+    private volatile ResolutionListener resolutionListener;
+
+    /**
+     * 시스템 시계를 사용하며, 타이머가 처음 필요할 때 타이머 스레드를 시작하는 저장소를 만듭니다.
+     */
+    public ConditionStateStore() {
+        this(System::currentTimeMillis, true);
+    }
+
+    /**
+     * 시계를 지정하여 저장소를 만듭니다. (테스트용)
+     * 타이머 스레드는 띄우지 않으므로 {@code getTimer().advanceTo(...)} 로 직접 구동합니다.
+     *
+     * @param clock 현재 시각(epoch 밀리초)
+     */
+    public ConditionStateStore(LongSupplier clock) {
+        this(clock, false);
+    }
+
+    private ConditionStateStore(LongSupplier clock, boolean startTimer) {
+        this.clock = clock;
+        this.startTimer = startTimer;
+    }
+
+    /**
+     * 검사 키의 상태를 반환합니다. 없거나 다른 타입이면 새로 만듭니다.
+     *
+     * @param key     조건의 검사 키
+     * @param type    상태 타입
+     * @param factory 상태 생성자
+     * @param <T>     상태 타입
+     * @return 상태
+     */
+    public synchronized <T extends ConditionState> T acquire(String key, Class<T> type, Supplier<T> factory) {
+        WeakReference<ConditionState> reference = states.get(key);
+        ConditionState state = reference != null ? reference.get() : null;
+        if (type.isInstance(state)) {
+            return type.cast(state);
+        }
+        T created = factory.get();
+        states.put(key, new WeakReference<>(created));
+        expunge();
+        return created;
+    }
+
+    /**
+     * 현재 시각을 반환합니다.
+     *
+     * @return epoch 밀리초
+     */
+    public long currentTimeMillis() {
+        return clock.getAsLong();
+    }
+
+    public LongSupplier getClock() {
+        return clock;
+    }
+
+    /**
+     * 상태들이 공유하는 타이머를 반환합니다. 처음 호출될 때 만들어집니다.
+     *
+     * @return 공유 타이머
+     */
+    public synchronized TimingWheel getTimer() {
+        if (timer == null) {
+            timer = new TimingWheel("condition-timer", new SupplierClock(clock), TIMER_TICK, TIMER_WHEEL_SIZE);
+            if (startTimer) {
+                timer.start();
+            }
+        }
+        return timer;
+    }
+
+    public void setResolutionListener(ResolutionListener resolutionListener) {
+        this.resolutionListener = resolutionListener;
+    }
+
+    /**
+     * 타이머가 상태를 바꿨음을 리스너에 알립니다.
+     *
+     * @param state 바뀐 상태
+     * @param fact  상태를 바꾼 키의 마지막 팩트
+     */
+    public void resolved(ConditionState state, Map<String, Object> fact) {
+        ResolutionListener listener = resolutionListener;
+        if (listener == null || fact == null) {
+            return;
+        }
+        try {
+            listener.onResolved(state, fact);
+        } catch (RuntimeException e) {
+            log.error("조건 상태 변경 처리 실패: {}", state, e);
+        }
+    }
+
+    /**
+     * 타이머 스레드를 멈춥니다.
+     */
+    public synchronized void shutdown() {
+        if (timer != null) {
+            timer.stop();
+        }
+    }
+
+    /**
+     * 살아 있는 상태 수를 반환합니다.
+     *
+     * @return 상태 수
+     */
+    public int getStateCount() {
+        return live().size();
+    }
+
+    /**
+     * 모든 상태가 보관 중인 키 수를 반환합니다.
+     *
+     * @return 키 수
+     */
+    public long getKeyCount() {
+        long keys = 0;
+        for (ConditionState state : live()) {
+            keys += state.getKeyCount();
+        }
+        return keys;
+    }
+
+    /**
+     * 모든 상태의 메모리 사용량(바이트, 근사값)을 반환합니다.
+     *
+     * @return 바이트
+     */
+    public long getMemoryBytes() {
+        long bytes = 0;
+        for (ConditionState state : live()) {
+            bytes += state.getMemoryBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * 상태 수와 메모리 사용량을 지표로 등록합니다.
+     *
+     * @param registry 지표 레지스트리
+     */
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("rule.condition.state.keys", this, ConditionStateStore::getKeyCount)
+                .description("상태를 가지는 조건이 보관 중인 키 수")
+                .register(registry);
+        Gauge.builder("rule.condition.state.memory", this, ConditionStateStore::getMemoryBytes)
+                .description("상태를 가지는 조건의 메모리 사용량 (근사값)")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+
+    private synchronized List<ConditionState> live() {
+        expunge();
+        List<ConditionState> live = new ArrayList<>(states.size());
+        for (WeakReference<ConditionState> reference : states.values()) {
+            ConditionState state = reference.get();
+            if (state != null) {
+                live.add(state);
+            }
+        }
+        return live;
+    }
+
+    private void expunge() {
+        Iterator<WeakReference<ConditionState>> iterator = states.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().get() == null) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * LongSupplier 시계를 {@link Clock} 으로 감쌉니다.
+     */
+    private static final class SupplierClock extends Clock {
+
+        private final LongSupplier millis;
+
+        SupplierClock(LongSupplier millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public long millis() {
+            return millis.getAsLong();
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis());
+        }
+    }
+}
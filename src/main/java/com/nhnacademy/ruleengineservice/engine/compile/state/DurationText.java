@@ -0,0 +1,41 @@
+package com.nhnacademy.ruleengineservice.engine.compile.state;
+
+/**
+ * DurationText 는 조건 conValue 에 쓰는 짧은 기간 표기(500ms, 30s, 5m, 1h, 1d)를 해석합니다.
+ */
+public final class DurationText {
+
+    private DurationText() {
+    }
+
+    /**
+     * 기간 표기를 밀리초로 변환합니다.
+     *
+     * @param text 기간 표기 (숫자 + ms, s, m, h, d)
+     * @return 밀리초
+     * @throws IllegalArgumentException 형식이 잘못되었거나 0 이하인 경우
+     */
+    public static long parseMillis(String text) {
+        String value = text.trim().toLowerCase();
+        int unitStart = 0;
+        while (unitStart < value.length() && Character.isDigit(value.charAt(unitStart))) {
+            unitStart++;
+        }
+        if (unitStart == 0 || unitStart > 12) {
+            throw new IllegalArgumentException("기간 형식이 아닙니다: " + text);
+        }
+        long amount = Long.parseLong(value.substring(0, unitStart));
+        long unitMillis = switch (value.substring(unitStart)) {
+            case "ms" -> 1L;
+            case "s" -> 1_000L;
+            case "m" -> 60_000L;
+            case "h" -> 3_600_000L;
+            case "d" -> 86_400_000L;
+            default -> throw new IllegalArgumentException("기간 단위는 ms, s, m, h, d 중 하나여야 합니다: " + text);
+        };
+        if (amount <= 0) {
+            throw new IllegalArgumentException("기간은 0 보다 커야 합니다: " + text);
+        }
+        return Math.multiplyExact(amount, unitMillis);
+    }
+}
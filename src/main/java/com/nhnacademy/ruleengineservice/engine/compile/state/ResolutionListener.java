@@ -0,0 +1,18 @@
+package com.nhnacademy.ruleengineservice.engine.compile.state;
+
+import java.util.Map;
+
+/**
+ * ResolutionListener 는 팩트 없이 타이머가 조건 상태를 바꿨을 때(지속 조건 충족 등) 알림을 받습니다.
+ */
+@FunctionalInterface
+public interface ResolutionListener {
+
+    /**
+     * 조건 상태가 타이머로 바뀌었습니다. 타이머 스레드에서 호출되므로 오래 막으면 안 됩니다.
+     *
+     * @param state 바뀐 조건 상태
+     * @param fact  상태를 바꾼 키의 마지막 팩트
+     */
+    void onResolved(ConditionState state, Map<String, Object> fact);
+}
@@ -0,0 +1,51 @@
+package com.nhnacademy.ruleengineservice.engine.compile.state;
+
+/**
+ * StateKeys 는 키 필드 값을 상태 맵의 키로 정규화합니다.
+ * <p>
+ * 같은 장치나 회원이 Integer, Long, 문자열 등 다른 타입으로 들어와도 같은 상태를 쓰도록
+ * 정수는 Long 으로, 정수 형태의 문자열도 Long 으로 맞춥니다.
+ */
+public final class StateKeys {
+
+    /**
+     * 키 필드가 없는 조건이 사용하는 단일 키.
+     */
+    public static final Object GLOBAL = "\u0000global";
+
+    private StateKeys() {
+    }
+
+    /**
+     * 키 필드 값을 정규화합니다.
+     *
+     * @param value 팩트의 키 필드 값
+     * @return 정규화된 키, 값이 없으면 null
+     */
+    public static Object of(Object value) {
+        if (value instanceof Long || value instanceof String text && !isIntegral(text)) {
+            return value;
+        }
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof String text) {
+            return Long.parseLong(text);
+        }
+        return value == null ? null : value.toString();
+    }
+
+    private static boolean isIntegral(String text) {
+        int length = text.length();
+        if (length == 0 || length > 18) {
+            return false;
+        }
+        for (int i = text.charAt(0) == '-' && length > 1 ? 1 : 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,118 @@
+package com.nhnacademy.ruleengineservice.engine.compile.sustained;
+
+import com.nhnacademy.ruleengineservice.engine.compile.predicate.ComparisonPredicate;
+import com.nhnacademy.ruleengineservice.engine.compile.predicate.FactPredicate;
+import com.nhnacademy.ruleengineservice.engine.compile.predicate.NumericPredicate;
+import com.nhnacademy.ruleengineservice.engine.compile.state.ConditionState;
+import com.nhnacademy.ruleengineservice.engine.compile.state.StateKeys;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * SustainedPredicate 는 "temperature > 30 이 10분 동안 계속" 처럼 임계값 비교가 기간 동안 유지되어야 만족하는 조건입니다.
+ * <p>
+ * conField 가 숫자인 팩트마다 keyField 값(없으면 전체)의 {@link SustainedState} 를 갱신합니다.
+ * 충족된 뒤에는 해제 임계값(hold)을 벗어날 때까지 팩트마다 만족하며,
+ * 기간이 끝나는 시각에 팩트가 없으면 공유 타이머가 상태를 바꾸고 규칙을 다시 확인하게 합니다.
+ * conField 나 keyField 가 없는 팩트는 상태를 바꾸지 않고 만족하지 않는 것으로 봅니다.
+ */
+public final class SustainedPredicate implements FactPredicate {
+
+    private final String conField;
+
+    /**
+     * 상태를 나누는 키 필드, null 이면 모든 팩트가 하나의 상태를 공유합니다.
+     */
+    private final String keyField;
+
+    private final SustainedState state;
+
+    /**
+     * 추적을 시작하는 임계값 조건.
+     */
+    private final ComparisonPredicate trigger;
+
+    /**
+     * 충족 상태를 유지하는 해제 임계값 조건.
+     */
+    private final ComparisonPredicate hold;
+
+    /**
+     * 조건이 읽는 필드. 대기 중인 키의 팩트 사본에 항상 복사됩니다.
+     */
+    private final Set<String> readFields;
+
+    /**
+     * SustainedPredicate 생성자.
+     *
+     * @param conField 검사할 필드명
+     * @param keyField 키 필드명, 없으면 null
+     * @param state    키별 지속 상태
+     * @param trigger  임계값 조건
+     * @param hold     해제 임계값 조건
+     */
+    public SustainedPredicate(String conField, String keyField, SustainedState state,
+                              ComparisonPredicate trigger, ComparisonPredicate hold) {
+        this.conField = conField;
+        this.keyField = keyField;
+        this.state = state;
+        this.trigger = trigger;
+        this.hold = hold;
+        this.readFields = keyField == null || keyField.equals(conField) ? Set.of(conField) : Set.of(conField, keyField);
+    }
+
+    @Override
+    public boolean testFact(Map<String, Object> fact) {
+        Object key = keyField == null ? StateKeys.GLOBAL : StateKeys.of(fact.get(keyField));
+        return key != null && observe(key, fact.get(conField), fact);
+    }
+
+    @Override
+    public boolean peekFact(Map<String, Object> fact) {
+        Object key = keyField == null ? StateKeys.GLOBAL : StateKeys.of(fact.get(keyField));
+        return key != null && fact.get(conField) != null && state.isActive(key);
+    }
+
+    /**
+     * 키 필드 없이 값 하나로 검사합니다. 타이머로 충족된 경우에는 알릴 팩트가 없으므로 다음 값에서 만족합니다.
+     *
+     * @param value 팩트의 필드 값
+     * @return 조건을 만족하면 true
+     */
+    @Override
+    public boolean test(Object value) {
+        return observe(StateKeys.GLOBAL, value, null);
+    }
+
+    private boolean observe(Object key, Object value, Map<String, Object> fact) {
+        double number = NumericPredicate.toDouble(value);
+        if (Double.isNaN(number)) {
+            return false;
+        }
+        return state.observe(key, trigger.testDouble(number), hold.testDouble(number), fact, readFields);
+    }
+
+    @Override
+    public Set<String> getReadFields() {
+        return readFields;
+    }
+
+    @Override
+    public String getKeyField() {
+        return keyField;
+    }
+
+    @Override
+    public ConditionState getState() {
+        return state;
+    }
+
+    public ComparisonPredicate getTrigger() {
+        return trigger;
+    }
+
+    public ComparisonPredicate getHold() {
+        return hold;
+    }
+}
@@ -0,0 +1,396 @@
+package com.nhnacademy.ruleengineservice.engine.compile.sustained;
+
+import com.nhnacademy.ruleengineservice.engine.compile.state.ConditionState;
+import com.nhnacademy.ruleengineservice.engine.compile.state.ConditionStateStore;
+import com.nhnacademy.ruleengineservice.engine.timer.TimingWheel;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SustainedState 는 지속 조건 하나의 키별 상태(대기 → 충족 → 해제)입니다.
+ * <p>
+ * 임계값을 넘은 키만 추적합니다. 처음 넘은 키는 대기 상태가 되어 마감 시각(처음 넘은 시각 + 기간)에
+ * 공유 타이머({@link ConditionStateStore#getTimer()})에 작업 하나를 등록하며,
+ * 그 전에 임계값 아래로 내려가면 작업을 취소하고 추적을 멈춥니다.
+ * 마감 시각까지 유지되면 새 팩트를 기다리지 않고 타이머가 충족 상태로 바꾼 뒤
+ * {@link ConditionStateStore#resolved} 로 알립니다. 과거 값을 보관하거나 다시 훑지 않습니다.
+ * <p>
+ * 충족된 키는 해제 임계값을 벗어날 때까지 충족 상태를 유지하므로(히스테리시스),
+ * 임계값 근처에서 흔들리는 값이 충족과 해제를 반복하지 않습니다.
+ * <p>
+ * 타이머 알림에 넘길 팩트는 대기 상태 동안만 보관하며, 원본 대신 스칼라 값 필드를
+ * {@link #MAX_FACT_FIELDS} 개까지 복사한 사본을 보관합니다. 조건이 읽는 필드는 항상 먼저 복사합니다. 길이가 {@link #MAX_VALUE_LENGTH} 를 넘는 문자열과
+ * 중첩 객체는 복사하지 않으므로, 그런 필드를 읽는 규칙은 타이머 알림으로 발동되지 않습니다.
+ * 충족되면 사본을 버립니다.
+ * <p>
+ * 충족된 키는 같은 타이머로 유휴 여부를 확인하여, 기간 동안 팩트가 없으면 추적을 멈춥니다.
+ * 키는 {@link #MAX_KEYS} 개까지 보관하며, 가득 차면 기간 동안 팩트가 없던 키를 비우고,
+ * 그래도 자리가 없으면 새 키는 추적하지 않습니다({@link #getRejectedCount()}).
+ */
+public final class SustainedState implements ConditionState {
+
+    /**
+     * 조건 하나가 추적하는 최대 키 수.
+     */
+    public static final int MAX_KEYS = 500_000;
+
+    /**
+     * 대기 중인 키가 보관하는 팩트 사본의 최대 필드 수.
+     */
+    public static final int MAX_FACT_FIELDS = 32;
+
+    /**
+     * 팩트 사본에 복사하는 문자열 값의 최대 길이.
+     */
+    public static final int MAX_VALUE_LENGTH = 256;
+
+    /**
+     * 추적 객체, 맵 엔트리, 타이머 작업을 포함한 키당 고정 비용(근사값). 팩트 사본은 포함하지 않습니다.
+     */
+    private static final long KEY_BYTES = 160;
+
+    /**
+     * 팩트 사본의 맵 객체 비용(근사값).
+     */
+    private static final long FACT_BYTES = 32;
+
+    /**
+     * 팩트 사본의 필드 하나(배열 슬롯 두 개와 박싱된 값)의 비용(근사값). 문자열 본문은 따로 셉니다.
+     */
+    private static final long FIELD_BYTES = 32;
+
+    /**
+     * 문자열 객체 헤더와 배열 헤더 비용(근사값).
+     */
+    private static final long STRING_BYTES = 40;
+
+    private final long durationMillis;
+
+    private final int maxKeys;
+
+    private final ConditionStateStore store;
+
+    private final Map<Object, Tracker> trackers = new ConcurrentHashMap<>();
+
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * 보관 중인 팩트 사본의 메모리 합계(근사값).
+     */
+    private final LongAdder factBytes = new LongAdder();
+
+    public SustainedState(long durationMillis, ConditionStateStore store) {
+        this(durationMillis, MAX_KEYS, store);
+    }
+
+    /**
+     * SustainedState 생성자.
+     *
+     * @param durationMillis 임계값이 유지되어야 하는 기간 (밀리초)
+     * @param maxKeys        최대 키 수
+     * @param store          시계와 타이머를 제공하는 상태 저장소
+     */
+    public SustainedState(long durationMillis, int maxKeys, ConditionStateStore store) {
+        this.durationMillis = durationMillis;
+        this.maxKeys = maxKeys;
+        this.store = store;
+    }
+
+    /**
+     * 키의 새 값을 반영하고 충족 여부를 반환합니다.
+     *
+     * @param key       정규화된 키
+     * @param breaching 값이 임계값을 넘었는지
+     * @param holding   값이 해제 임계값 안에 있는지 (충족 상태 유지 조건)
+     * @param fact      값을 담은 팩트, 대기 중이면 사본을 보관하여 타이머가 충족시킬 때 알림에 사용합니다
+     * @param required  사본에 항상 복사할 필드 (조건이 읽는 필드)
+     * @return 충족 상태이면 true
+     */
+    public boolean observe(Object key, boolean breaching, boolean holding, Map<String, Object> fact,
+                           Set<String> required) {
+        long now = store.currentTimeMillis();
+        while (true) {
+            Tracker tracker = trackers.get(key);
+            if (tracker == null) {
+                if (!breaching) {
+                    return false;
+                }
+                if (!admit(now)) {
+                    rejected.increment();
+                    return false;
+                }
+                Tracker created = new Tracker(now + durationMillis, now);
+                retain(created, fact, required);
+                if (trackers.putIfAbsent(key, created) != null) {
+                    continue;
+                }
+                factBytes.add(created.factBytes);
+                arm(key, created);
+                return false;
+            }
+            synchronized (tracker) {
+                if (tracker.removed) {
+                    continue;
+                }
+                tracker.lastSeen = now;
+                if (tracker.active ? !holding : !breaching) {
+                    remove(key, tracker);
+                    return false;
+                }
+                if (!tracker.active && now >= tracker.deadline) {
+                    activate(key, tracker);
+                } else if (!tracker.active) {
+                    factBytes.add(-tracker.factBytes);
+                    retain(tracker, fact, required);
+                    factBytes.add(tracker.factBytes);
+                }
+                return tracker.active;
+            }
+        }
+    }
+
+    /**
+     * 상태를 바꾸지 않고 키가 충족 상태인지 확인합니다.
+     *
+     * @param key 정규화된 키
+     * @return 충족 상태이면 true
+     */
+    public boolean isActive(Object key) {
+        Tracker tracker = trackers.get(key);
+        if (tracker == null) {
+            return false;
+        }
+        synchronized (tracker) {
+            return tracker.active && !tracker.removed;
+        }
+    }
+
+    private void arm(Object key, Tracker tracker) {
+        TimingWheel.Timeout timeout = store.getTimer()
+                .schedule(Instant.ofEpochMilli(tracker.deadline), () -> resolve(key, tracker));
+        synchronized (tracker) {
+            if (tracker.removed || tracker.active) {
+                timeout.cancel();
+            } else {
+                tracker.timeout = timeout;
+            }
+        }
+    }
+
+    /**
+     * 타이머에서 호출됩니다. 마감 시각까지 해제되지 않은 키를 충족 상태로 바꿉니다.
+     * 충족된 시각을 마지막 활동으로 보고 유휴 확인을 예약합니다.
+     */
+    private void resolve(Object key, Tracker tracker) {
+        Map<String, Object> fact;
+        synchronized (tracker) {
+            if (tracker.removed || tracker.active) {
+                return;
+            }
+            fact = tracker.fact;
+            tracker.lastSeen = store.currentTimeMillis();
+            activate(key, tracker);
+        }
+        store.resolved(this, fact);
+    }
+
+    /**
+     * 충족 상태로 바꾸고, 더는 필요 없는 팩트 사본을 버린 뒤 유휴 확인을 예약합니다.
+     * 호출자가 tracker 의 모니터를 잡고 있어야 합니다.
+     */
+    private void activate(Object key, Tracker tracker) {
+        tracker.active = true;
+        release(tracker);
+        if (tracker.timeout != null) {
+            tracker.timeout.cancel();
+        }
+        armExpiry(key, tracker);
+    }
+
+    /**
+     * 마지막 팩트로부터 기간이 지나는 시각에 유휴 확인을 예약합니다.
+     * 호출자가 tracker 의 모니터를 잡고 있어야 합니다.
+     */
+    private void armExpiry(Object key, Tracker tracker) {
+        tracker.timeout = store.getTimer()
+                .schedule(Instant.ofEpochMilli(tracker.lastSeen + durationMillis), () -> expire(key, tracker));
+    }
+
+    /**
+     * 타이머에서 호출됩니다. 기간 동안 팩트가 없던 충족 키의 추적을 멈추고, 그사이 팩트가 있었으면 다시 예약합니다.
+     */
+    private void expire(Object key, Tracker tracker) {
+        synchronized (tracker) {
+            if (tracker.removed) {
+                return;
+            }
+            if (store.currentTimeMillis() - tracker.lastSeen >= durationMillis) {
+                remove(key, tracker);
+            } else {
+                armExpiry(key, tracker);
+            }
+        }
+    }
+
+    /**
+     * 팩트에서 required 필드를 먼저, 나머지 스칼라 값 필드를 {@link #MAX_FACT_FIELDS} 개까지 복사하여 보관합니다.
+     * 호출자가 tracker 의 모니터를 잡고 있거나 tracker 가 아직 공개되지 않아야 합니다.
+     */
+    private static void retain(Tracker tracker, Map<String, Object> fact, Set<String> required) {
+        if (fact == null) {
+            tracker.fact = null;
+            tracker.factBytes = 0;
+            return;
+        }
+        Map<String, Object> copy = new HashMap<>();
+        long bytes = FACT_BYTES;
+        for (String name : required) {
+            bytes += copyField(copy, name, fact.get(name));
+        }
+        for (Map.Entry<String, Object> entry : fact.entrySet()) {
+            if (copy.size() >= MAX_FACT_FIELDS) {
+                break;
+            }
+            if (!copy.containsKey(entry.getKey())) {
+                bytes += copyField(copy, entry.getKey(), entry.getValue());
+            }
+        }
+        tracker.fact = Map.copyOf(copy);
+        tracker.factBytes = bytes;
+    }
+
+    /**
+     * 스칼라 값이면 사본에 넣고 늘어난 크기(근사값)를 반환합니다.
+     */
+    private static long copyField(Map<String, Object> copy, String name, Object value) {
+        if (name == null || !isScalar(value)) {
+            return 0;
+        }
+        copy.put(name, value);
+        long bytes = FIELD_BYTES + STRING_BYTES + name.length();
+        if (value instanceof String text) {
+            bytes += STRING_BYTES + text.length();
+        }
+        return bytes;
+    }
+
+    private static boolean isScalar(Object value) {
+        return value instanceof Number || value instanceof Boolean || value instanceof Character
+                || value instanceof String text && text.length() <= MAX_VALUE_LENGTH;
+    }
+
+    /**
+     * 팩트 사본을 버립니다. 호출자가 tracker 의 모니터를 잡고 있어야 합니다.
+     */
+    private void release(Tracker tracker) {
+        factBytes.add(-tracker.factBytes);
+        tracker.fact = null;
+        tracker.factBytes = 0;
+    }
+
+    /**
+     * 호출자가 tracker 의 모니터를 잡고 있어야 합니다.
+     */
+    private void remove(Object key, Tracker tracker) {
+        tracker.removed = true;
+        release(tracker);
+        if (tracker.timeout != null) {
+            tracker.timeout.cancel();
+            tracker.timeout = null;
+        }
+        trackers.remove(key, tracker);
+    }
+
+    private boolean admit(long now) {
+        if (trackers.size() < maxKeys) {
+            return true;
+        }
+        Iterator<Map.Entry<Object, Tracker>> iterator = trackers.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Object, Tracker> entry = iterator.next();
+            Tracker tracker = entry.getValue();
+            synchronized (tracker) {
+                if (now - tracker.lastSeen >= durationMillis) {
+                    remove(entry.getKey(), tracker);
+                }
+            }
+        }
+        return trackers.size() < maxKeys;
+    }
+
+    @Override
+    public int getKeyCount() {
+        return trackers.size();
+    }
+
+    @Override
+    public long getBytesPerKey() {
+        return KEY_BYTES;
+    }
+
+    /**
+     * 키당 고정 비용에 대기 중인 키가 보관한 팩트 사본의 크기를 더한 메모리 사용량(근사값)을 반환합니다.
+     *
+     * @return 바이트
+     */
+    @Override
+    public long getMemoryBytes() {
+        return trackers.size() * KEY_BYTES + factBytes.sum();
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "SustainedState{" +
+                "durationMillis=" + durationMillis +
+                ", keys=" + trackers.size() +
+                '}';
+    }
+
+    /**
+     * 키 하나의 추적 상태. 모든 접근은 추적 객체의 모니터를 잡고 수행합니다.
+     */
+    private static final class Tracker {
+
+        private final long deadline;
+
+        private long lastSeen;
+
+        private boolean active;
+
+        private boolean removed;
+
+        /**
+         * 대기 중에 받은 마지막 팩트의 사본. 충족되거나 추적을 멈추면 비웁니다.
+         */
+        private Map<String, Object> fact;
+
+        /**
+         * 팩트 사본의 크기(근사값).
+         */
+        private long factBytes;
+
+        /**
+         * 대기 중에는 마감 작업, 충족된 뒤에는 유휴 확인 작업.
+         */
+        private TimingWheel.Timeout timeout;
+
+        Tracker(long deadline, long lastSeen) {
+            this.deadline = deadline;
+            this.lastSeen = lastSeen;
+        }
+    }
+}
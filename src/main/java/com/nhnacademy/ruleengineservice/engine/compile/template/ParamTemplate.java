@@ -0,0 +1,174 @@
+package com.nhnacademy.ruleengineservice.engine.compile.template;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ParamTemplate 은 {@code ${name}} 자리표시자를 포함한 actParams 를 미리 분해해 둔 템플릿입니다.
+ * <p>
+ * 컴파일 시점에 원문을 리터럴 조각과 변수 이름 배열로 나누어 두고, 렌더링 시에는
+ * 리터럴 길이로 미리 크기를 잡은 버퍼 하나에 조각과 값을 차례로 이어 붙입니다.
+ * 문자열 치환이나 JSON 파싱·재직렬화를 반복하지 않으며, 자리표시자가 없는 템플릿은 원문을 그대로 반환합니다.
+ * <p>
+ * 값은 팩트에서 먼저 찾고, 없으면 규칙 파라미터(paramName → paramValue)에서 찾습니다.
+ * 어느 쪽에도 없으면 자리표시자를 그대로 남깁니다.
+ * 원문이 JSON 객체({@code {...}})이면 값의 따옴표, 역슬래시, 제어 문자를 JSON 문자열 규칙으로 이스케이프하므로,
+ * {@code "${deviceId}"} 처럼 따옴표 안에 둔 자리표시자는 항상 올바른 JSON 이 됩니다.
+ */
+public final class ParamTemplate {
+
+    /**
+     * 값 하나의 예상 길이. 버퍼 초기 크기 계산에 사용합니다.
+     */
+    private static final int ESTIMATED_VALUE_LENGTH = 16;
+
+    private final String source;
+
+    /**
+     * 리터럴 조각. 길이는 변수 수 + 1 이며 변수 앞뒤의 조각이 번갈아 놓입니다.
+     */
+    private final String[] literals;
+
+    /**
+     * 변수 이름.
+     */
+    private final String[] names;
+
+    /**
+     * 값을 JSON 문자열로 이스케이프할지 여부.
+     */
+    private final boolean json;
+
+    /**
+     * 렌더링 버퍼의 초기 크기.
+     */
+    private final int initialCapacity;
+
+    private ParamTemplate(String source, String[] literals, String[] names, boolean json) {
+        this.source = source;
+        this.literals = literals;
+        this.names = names;
+        this.json = json;
+        int literalLength = 0;
+        for (String literal : literals) {
+            literalLength += literal.length();
+        }
+        this.initialCapacity = literalLength + names.length * ESTIMATED_VALUE_LENGTH;
+    }
+
+    /**
+     * actParams 원문을 템플릿으로 컴파일합니다. 닫히지 않은 {@code ${} 와 빈 이름은 리터럴로 취급합니다.
+     *
+     * @param source actParams 원문
+     * @return 컴파일된 템플릿
+     */
+    public static ParamTemplate compile(String source) {
+        String text = source == null ? "" : source;
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int position = 0;
+        while (position < text.length()) {
+            int open = text.indexOf("${", position);
+            int close = open < 0 ? -1 : text.indexOf('}', open + 2);
+            if (close < 0) {
+                break;
+            }
+            String name = text.substring(open + 2, close).trim();
+            literal.append(text, position, open);
+            if (name.isEmpty()) {
+                literal.append(text, open, close + 1);
+            } else {
+                literals.add(literal.toString());
+                names.add(name.intern());
+                literal.setLength(0);
+            }
+            position = close + 1;
+        }
+        literal.append(text, position, text.length());
+        literals.add(literal.toString());
+        return new ParamTemplate(source, literals.toArray(new String[0]), names.toArray(new String[0]),
+                text.stripLeading().startsWith("{"));
+    }
+
+    /**
+     * 팩트와 규칙 파라미터로 자리표시자를 채운 문자열을 만듭니다.
+     *
+     * @param fact       규칙을 발동시킨 팩트
+     * @param parameters 규칙 파라미터 (paramName → paramValue)
+     * @return 렌더링된 actParams
+     */
+    public String render(Map<String, Object> fact, Map<String, String> parameters) {
+        if (names.length == 0) {
+            return source;
+        }
+        StringBuilder buffer = new StringBuilder(initialCapacity);
+        buffer.append(literals[0]);
+        for (int i = 0; i < names.length; i++) {
+            Object value = fact != null ? fact.get(names[i]) : null;
+            if (value == null && parameters != null) {
+                value = parameters.get(names[i]);
+            }
+            if (value == null) {
+                buffer.append("${").append(names[i]).append('}');
+            } else if (json) {
+                appendJsonEscaped(buffer, value.toString());
+            } else {
+                buffer.append(value);
+            }
+            buffer.append(literals[i + 1]);
+        }
+        return buffer.toString();
+    }
+
+    private static void appendJsonEscaped(StringBuilder buffer, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> buffer.append("\\\"");
+                case '\\' -> buffer.append("\\\\");
+                case '\n' -> buffer.append("\\n");
+                case '\r' -> buffer.append("\\r");
+                case '\t' -> buffer.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        buffer.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        buffer.append(c);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 자리표시자가 없어 항상 원문을 반환하는지 확인합니다.
+     *
+     * @return 자리표시자가 없으면 true
+     */
+    public boolean isConstant() {
+        return names.length == 0;
+    }
+
+    /**
+     * 템플릿이 참조하는 변수 이름을 등장 순서대로 반환합니다.
+     *
+     * @return 변수 이름 배열 (복사본)
+     */
+    public String[] getVariableNames() {
+        return names.clone();
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    @Override
+    public String toString() {
+        return "ParamTemplate{" +
+                "source='" + source + '\'' +
+                ", variables=" + names.length +
+                '}';
+    }
+}
@@ -0,0 +1,298 @@
+package com.nhnacademy.ruleengineservice.engine.compile.window;
+
+import com.nhnacademy.ruleengineservice.engine.compile.state.ConditionState;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * SlidingWindow 는 윈도 조건 하나의 키별 슬라이딩 윈도 집계입니다.
+ * <p>
+ * 키마다 윈도를 {@link #BUCKETS} 개의 버킷으로 나눈 기본형 링 버퍼({@code int[]} 개수, {@code double[]} 값)를
+ * 하나씩 가지며, 팩트 객체나 박싱된 값은 보관하지 않으므로 키당 메모리가 고정됩니다.
+ * 값을 더할 때는 합계/최솟값/최댓값/개수를 바로 갱신하고(O(1)),
+ * 새 버킷으로 넘어갈 때만 만료된 버킷을 비우고 남은 버킷으로 합계를 다시 계산합니다(버킷당 한 번 O(버킷 수)).
+ * 다시 계산하므로 합계에 부동소수점 오차가 쌓이지 않습니다.
+ * <p>
+ * 윈도 경계의 정밀도는 버킷 폭(윈도 / {@link #BUCKETS})입니다.
+ * 키는 {@link #MAX_KEYS} 개까지 보관하며, 가득 차면 윈도 동안 값이 없던 키를 비우고,
+ * 그래도 자리가 없으면 새 키는 집계하지 않습니다({@link #getRejectedCount()}).
+ */
+public final class SlidingWindow implements ConditionState {
+
+    /**
+     * 윈도당 버킷 수.
+     */
+    public static final int BUCKETS = 60;
+
+    /**
+     * 윈도 하나가 보관하는 최대 키 수.
+     */
+    public static final int MAX_KEYS = 100_000;
+
+    /**
+     * 객체 헤더, 필드, 맵 엔트리를 포함한 키당 고정 비용(근사값).
+     */
+    private static final long KEY_OVERHEAD_BYTES = 128;
+
+    private final WindowAggregate aggregate;
+
+    private final long windowMillis;
+
+    private final long bucketMillis;
+
+    private final int maxKeys;
+
+    private final LongSupplier clock;
+
+    private final Map<Object, Buffer> buffers = new ConcurrentHashMap<>();
+
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * 마지막으로 유휴 키를 비운 버킷 번호. 버킷마다 최대 한 번만 비웁니다.
+     */
+    private volatile long lastSweepEpoch = Long.MIN_VALUE;
+
+    public SlidingWindow(WindowAggregate aggregate, long windowMillis, LongSupplier clock) {
+        this(aggregate, windowMillis, MAX_KEYS, clock);
+    }
+
+    /**
+     * SlidingWindow 생성자.
+     *
+     * @param aggregate    집계 함수
+     * @param windowMillis 윈도 길이 (밀리초)
+     * @param maxKeys      최대 키 수
+     * @param clock        현재 시각(epoch 밀리초)
+     */
+    public SlidingWindow(WindowAggregate aggregate, long windowMillis, int maxKeys, LongSupplier clock) {
+        this.aggregate = aggregate;
+        this.windowMillis = windowMillis;
+        this.bucketMillis = Math.max(1L, windowMillis / BUCKETS);
+        this.maxKeys = maxKeys;
+        this.clock = clock;
+    }
+
+    /**
+     * 키의 윈도에 값을 더하고 집계 결과를 반환합니다.
+     *
+     * @param key   정규화된 키
+     * @param value 값 (COUNT 는 무시)
+     * @return 집계 결과, 집계할 값이 없거나 키를 보관할 자리가 없으면 {@link Double#NaN}
+     */
+    public double record(Object key, double value) {
+        long epoch = Math.floorDiv(clock.getAsLong(), bucketMillis);
+        while (true) {
+            Buffer buffer = buffers.get(key);
+            if (buffer == null) {
+                buffer = admit(key, epoch);
+                if (buffer == null) {
+                    rejected.increment();
+                    return Double.NaN;
+                }
+            }
+            synchronized (buffer) {
+                if (!buffer.evicted) {
+                    return buffer.add(epoch, value);
+                }
+            }
+        }
+    }
+
+    /**
+     * 값을 더하지 않고 키의 현재 집계 결과를 반환합니다.
+     *
+     * @param key 정규화된 키
+     * @return 집계 결과, 값이 없으면 COUNT/SUM 은 0, 나머지는 {@link Double#NaN}
+     */
+    public double current(Object key) {
+        Buffer buffer = buffers.get(key);
+        if (buffer == null) {
+            return aggregate == WindowAggregate.COUNT || aggregate == WindowAggregate.SUM ? 0 : Double.NaN;
+        }
+        long epoch = Math.floorDiv(clock.getAsLong(), bucketMillis);
+        synchronized (buffer) {
+            if (epoch > buffer.latest) {
+                buffer.advance(epoch);
+            }
+            return buffer.result();
+        }
+    }
+
+    private Buffer admit(Object key, long epoch) {
+        if (buffers.size() >= maxKeys) {
+            sweep(epoch);
+            if (buffers.size() >= maxKeys) {
+                return null;
+            }
+        }
+        return buffers.computeIfAbsent(key, k -> new Buffer(aggregate, epoch));
+    }
+
+    /**
+     * 윈도 동안 값이 없던 키를 비웁니다.
+     */
+    private void sweep(long epoch) {
+        if (lastSweepEpoch == epoch) {
+            return;
+        }
+        lastSweepEpoch = epoch;
+        Iterator<Buffer> iterator = buffers.values().iterator();
+        while (iterator.hasNext()) {
+            Buffer buffer = iterator.next();
+            synchronized (buffer) {
+                if (epoch - buffer.latest >= BUCKETS) {
+                    buffer.evicted = true;
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    @Override
+    public int getKeyCount() {
+        return buffers.size();
+    }
+
+    @Override
+    public long getBytesPerKey() {
+        long bytes = KEY_OVERHEAD_BYTES + 16 + (long) Integer.BYTES * BUCKETS;
+        if (aggregate.needsValues()) {
+            bytes += 16 + (long) Double.BYTES * BUCKETS;
+        }
+        return bytes;
+    }
+
+    public WindowAggregate getAggregate() {
+        return aggregate;
+    }
+
+    public long getWindowMillis() {
+        return windowMillis;
+    }
+
+    public long getBucketMillis() {
+        return bucketMillis;
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "SlidingWindow{" +
+                "aggregate=" + aggregate +
+                ", windowMillis=" + windowMillis +
+                ", keys=" + buffers.size() +
+                '}';
+    }
+
+    /**
+     * 키 하나의 링 버퍼. 인덱스는 버킷 번호를 {@link #BUCKETS} 로 나눈 나머지이며,
+     * (latest - BUCKETS, latest] 의 버킷만 살아 있고 나머지는 항상 비어 있습니다.
+     * 모든 접근은 버퍼의 모니터를 잡고 수행합니다.
+     */
+    private static final class Buffer {
+
+        private final WindowAggregate aggregate;
+
+        private final int[] counts = new int[BUCKETS];
+
+        /**
+         * 버킷별 합계(SUM, AVG), 최솟값(MIN) 또는 최댓값(MAX). COUNT 는 null.
+         */
+        private final double[] values;
+
+        private long latest;
+
+        private long totalCount;
+
+        /**
+         * 살아 있는 버킷 전체의 합계, 최솟값 또는 최댓값.
+         */
+        private double total;
+
+        private boolean evicted;
+
+        Buffer(WindowAggregate aggregate, long epoch) {
+            this.aggregate = aggregate;
+            this.values = aggregate.needsValues() ? new double[BUCKETS] : null;
+            this.latest = epoch;
+        }
+
+        double add(long epoch, double value) {
+            if (epoch > latest) {
+                advance(epoch);
+            } else if (latest - epoch >= BUCKETS) {
+                return result();
+            }
+            int index = (int) Math.floorMod(epoch, (long) BUCKETS);
+            int count = ++counts[index];
+            totalCount++;
+            switch (aggregate) {
+                case SUM, AVG -> {
+                    values[index] += value;
+                    total += value;
+                }
+                case MIN -> {
+                    values[index] = count == 1 ? value : Math.min(values[index], value);
+                    total = totalCount == 1 ? value : Math.min(total, value);
+                }
+                case MAX -> {
+                    values[index] = count == 1 ? value : Math.max(values[index], value);
+                    total = totalCount == 1 ? value : Math.max(total, value);
+                }
+                case COUNT -> {
+                }
+            }
+            return result();
+        }
+
+        /**
+         * 새 버킷으로 넘어가며 만료된 버킷을 비우고 합계를 다시 계산합니다.
+         */
+        void advance(long epoch) {
+            long first = Math.max(latest + 1, epoch - BUCKETS + 1);
+            for (long expired = first; expired <= epoch; expired++) {
+                int index = (int) Math.floorMod(expired, (long) BUCKETS);
+                counts[index] = 0;
+                if (values != null) {
+                    values[index] = 0;
+                }
+            }
+            latest = epoch;
+
+            totalCount = 0;
+            total = 0;
+            for (int index = 0; index < BUCKETS; index++) {
+                int count = counts[index];
+                if (count == 0) {
+                    continue;
+                }
+                boolean empty = totalCount == 0;
+                totalCount += count;
+                switch (aggregate) {
+                    case SUM, AVG -> total += values[index];
+                    case MIN -> total = empty ? values[index] : Math.min(total, values[index]);
+                    case MAX -> total = empty ? values[index] : Math.max(total, values[index]);
+                    case COUNT -> {
+                    }
+                }
+            }
+        }
+
+        double result() {
+            return switch (aggregate) {
+                case COUNT -> totalCount;
+                case SUM -> total;
+                case AVG, MIN, MAX -> totalCount == 0 ? Double.NaN
+                        : aggregate == WindowAggregate.AVG ? total / totalCount : total;
+            };
+        }
+    }
+}
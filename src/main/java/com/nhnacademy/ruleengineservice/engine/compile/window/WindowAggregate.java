@@ -0,0 +1,49 @@
+package com.nhnacademy.ruleengineservice.engine.compile.window;
+
+import com.nhnacademy.ruleengineservice.engine.compile.ConditionOperator;
+
+/**
+ * 윈도 조건이 계산하는 집계 함수입니다.
+ *
+ * <ul>
+ *   <li>{@link #SUM} : 값의 합</li>
+ *   <li>{@link #AVG} : 값의 평균</li>
+ *   <li>{@link #MIN} : 최솟값</li>
+ *   <li>{@link #MAX} : 최댓값</li>
+ *   <li>{@link #COUNT} : 필드가 있는 팩트 수</li>
+ * </ul>
+ */
+public enum WindowAggregate {
+    SUM,
+    AVG,
+    MIN,
+    MAX,
+    COUNT;
+
+    /**
+     * 윈도 연산자에 대응하는 집계 함수를 반환합니다.
+     *
+     * @param operator WINDOW_* 연산자
+     * @return 집계 함수
+     * @throws IllegalArgumentException 윈도 연산자가 아닌 경우
+     */
+    public static WindowAggregate of(ConditionOperator operator) {
+        return switch (operator) {
+            case WINDOW_SUM -> SUM;
+            case WINDOW_AVG -> AVG;
+            case WINDOW_MIN -> MIN;
+            case WINDOW_MAX -> MAX;
+            case WINDOW_COUNT -> COUNT;
+            default -> throw new IllegalArgumentException("윈도 연산자가 아닙니다: " + operator);
+        };
+    }
+
+    /**
+     * 버킷마다 값을 보관해야 하는지 확인합니다. COUNT 는 개수만 보관합니다.
+     *
+     * @return 값 배열이 필요하면 true
+     */
+    boolean needsValues() {
+        return this != COUNT;
+    }
+}
@@ -0,0 +1,111 @@
+package com.nhnacademy.ruleengineservice.engine.compile.window;
+
+import com.nhnacademy.ruleengineservice.engine.compile.predicate.ComparisonPredicate;
+import com.nhnacademy.ruleengineservice.engine.compile.predicate.FactPredicate;
+import com.nhnacademy.ruleengineservice.engine.compile.predicate.NumericPredicate;
+import com.nhnacademy.ruleengineservice.engine.compile.state.ConditionState;
+import com.nhnacademy.ruleengineservice.engine.compile.state.StateKeys;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * WindowPredicate 는 "최근 5분간 temperature 평균 > 30" 처럼 키별 슬라이딩 윈도 집계를 임계값과 비교하는 조건입니다.
+ * <p>
+ * conField 가 있는 팩트마다 keyField 값(없으면 전체)의 {@link SlidingWindow} 에 값을 더한 뒤
+ * 집계 결과를 비교합니다. COUNT 는 conField 가 있는 팩트 수를 세며, 나머지는 숫자로 해석되는 값만 더합니다.
+ * conField 나 keyField 가 없는 팩트는 윈도를 바꾸지 않고 만족하지 않는 것으로 봅니다.
+ */
+public final class WindowPredicate implements FactPredicate {
+
+    private final String conField;
+
+    /**
+     * 윈도를 나누는 키 필드, null 이면 모든 팩트가 하나의 윈도를 공유합니다.
+     */
+    private final String keyField;
+
+    private final SlidingWindow window;
+
+    private final ComparisonPredicate comparison;
+
+    /**
+     * WindowPredicate 생성자.
+     *
+     * @param conField   집계할 필드명
+     * @param keyField   키 필드명, 없으면 null
+     * @param window     슬라이딩 윈도
+     * @param comparison 집계 결과와 비교할 임계값 조건
+     */
+    public WindowPredicate(String conField, String keyField, SlidingWindow window, ComparisonPredicate comparison) {
+        this.conField = conField;
+        this.keyField = keyField;
+        this.window = window;
+        this.comparison = comparison;
+    }
+
+    @Override
+    public boolean testFact(Map<String, Object> fact) {
+        Object key = keyField == null ? StateKeys.GLOBAL : StateKeys.of(fact.get(keyField));
+        return key != null && record(key, fact.get(conField));
+    }
+
+    @Override
+    public boolean peekFact(Map<String, Object> fact) {
+        Object key = keyField == null ? StateKeys.GLOBAL : StateKeys.of(fact.get(keyField));
+        if (key == null || fact.get(conField) == null) {
+            return false;
+        }
+        double result = window.current(key);
+        return !Double.isNaN(result) && comparison.testDouble(result);
+    }
+
+    /**
+     * 키 필드 없이 값 하나로 검사합니다. 모든 값이 전체 윈도 하나에 더해집니다.
+     *
+     * @param value 팩트의 필드 값
+     * @return 조건을 만족하면 true
+     */
+    @Override
+    public boolean test(Object value) {
+        return record(StateKeys.GLOBAL, value);
+    }
+
+    private boolean record(Object key, Object value) {
+        if (value == null) {
+            return false;
+        }
+        double number = 0;
+        if (window.getAggregate() != WindowAggregate.COUNT) {
+            number = NumericPredicate.toDouble(value);
+            if (Double.isNaN(number)) {
+                return false;
+            }
+        }
+        double result = window.record(key, number);
+        return !Double.isNaN(result) && comparison.testDouble(result);
+    }
+
+    @Override
+    public Set<String> getReadFields() {
+        return keyField == null || keyField.equals(conField) ? Set.of(conField) : Set.of(conField, keyField);
+    }
+
+    @Override
+    public String getKeyField() {
+        return keyField;
+    }
+
+    public SlidingWindow getWindow() {
+        return window;
+    }
+
+    @Override
+    public ConditionState getState() {
+        return window;
+    }
+
+    public ComparisonPredicate getComparison() {
+        return comparison;
+    }
+}
@@ -0,0 +1,381 @@
+package com.nhnacademy.ruleengineservice.engine.device;
+
+import com.nhnacademy.ruleengineservice.engine.compile.state.StateKeys;
+import com.nhnacademy.ruleengineservice.engine.fact.FieldSymbolTable;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DeviceStateStore 는 장치별로 필드의 최신 값을 보관하고, 새 팩트에서 실제로 바뀐 필드를 찾아냅니다.
+ * <p>
+ * 게이트웨이는 몇 초마다 장치의 전체 상태를 다시 보내므로 대부분의 {@code DEVICE_STATUS_CHANGE} 팩트는
+ * 이전 값과 같습니다. 엔진은 바뀐 필드가 없으면 평가를 건너뛰고, 바뀐 필드를 읽는 규칙만 평가합니다.
+ * <p>
+ * 필드명과 문자열 값은 이 저장소 안에서만 쓰는 0 부터의 촘촘한 정수 id 로 intern 하며, 장치마다 필드 id 를
+ * 인덱스로 하는 기본형 배열({@code long[]} 값, {@code byte[]} 종류) 한 쌍만 보관하므로 박싱된 값이나 팩트를 붙잡지 않습니다.
+ * 규칙 네트워크의 {@link FieldSymbolTable} id 는 재적재마다 바뀌므로 행의 인덱스로 쓰지 않습니다.
+ * 숫자는 비트 패턴으로, 문자열은 intern id 로, 불리언은 0/1 로 비교하며,
+ * 값 id 를 더 만들 수 없는 문자열이나 맵/목록 같은 값은 항상 바뀐 것으로 봅니다.
+ * 팩트에 없는 필드는 바뀌지 않은 것으로 봅니다(부분 갱신).
+ * <p>
+ * 장치는 {@code maxDevices} 개까지 보관하며, 가득 차면 새 장치의 팩트는 모든 필드가 바뀐 것으로 봅니다.
+ */
+@Component
+public class DeviceStateStore {
+
+    /**
+     * intern 할 수 있는 최대 필드 수. 넘으면 새 필드는 항상 바뀐 것으로 봅니다.
+     */
+    public static final int MAX_FIELDS = 4_096;
+
+    /**
+     * intern 할 수 있는 최대 문자열 값 수. 넘으면 새 문자열 값은 항상 바뀐 것으로 봅니다.
+     */
+    public static final int MAX_VALUE_SYMBOLS = 65_536;
+
+    /**
+     * 장치 행의 객체 헤더, 배열 헤더, 맵 엔트리를 포함한 고정 비용(근사값).
+     */
+    private static final long ROW_OVERHEAD_BYTES = 112;
+
+    /**
+     * 아직 받은 적 없는 필드. 새 배열 칸의 기본값입니다.
+     */
+    private static final byte ABSENT = 0;
+
+    private static final byte NULL = 1;
+
+    private static final byte LONG = 2;
+
+    private static final byte DOUBLE = 3;
+
+    private static final byte BOOLEAN = 4;
+
+    private static final byte SYMBOL = 5;
+
+    /**
+     * 비교할 수 없는 값. 항상 바뀐 것으로 봅니다.
+     */
+    private static final byte OPAQUE = 6;
+
+    private final boolean enabled;
+
+    private final String keyField;
+
+    private final int maxDevices;
+
+    private final Map<String, Integer> fieldIds = new ConcurrentHashMap<>();
+
+    private final AtomicInteger nextFieldId = new AtomicInteger();
+
+    private final Map<String, Integer> valueSymbols = new ConcurrentHashMap<>();
+
+    private final AtomicInteger nextValueSymbol = new AtomicInteger();
+
+    private final Map<Object, Row> rows = new ConcurrentHashMap<>();
+
+    private final LongAdder unchanged = new LongAdder();
+
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * DeviceStateStore 생성자.
+     *
+     * @param enabled       바뀐 필드만 평가할지 여부
+     * @param keyField      장치를 식별하는 팩트 필드
+     * @param maxDevices    최대 장치 수
+     * @param meterRegistry 지표 저장소, 있으면 지표를 등록합니다
+     */
+    public DeviceStateStore(@Value("${rule.engine.device.change-only:true}") boolean enabled,
+                            @Value("${rule.engine.device.key-field:deviceId}") String keyField,
+                            @Value("${rule.engine.device.max-devices:1000000}") int maxDevices,
+                            ObjectProvider<MeterRegistry> meterRegistry) {
+        this.enabled = enabled;
+        this.keyField = keyField;
+        this.maxDevices = maxDevices;
+        meterRegistry.ifAvailable(this::bindTo);
+    }
+
+    /**
+     * 팩트로 장치의 최신 값을 갱신하고, 값이 바뀐 필드명을 반환합니다.
+     *
+     * @param fact 필드명 → 값 형태의 팩트
+     * @return 바뀐 필드명 목록 (팩트 필드 순서), 장치를 식별할 수 없거나 추적할 수 없으면 null
+     */
+    public List<String> update(Map<String, Object> fact) {
+        Object key = StateKeys.of(fact.get(keyField));
+        if (key == null) {
+            return null;
+        }
+        Row row = rows.get(key);
+        if (row == null) {
+            if (rows.size() >= maxDevices) {
+                rejected.increment();
+                return null;
+            }
+            row = rows.computeIfAbsent(key, k -> new Row());
+        }
+
+        List<String> changed = new ArrayList<>(2);
+        synchronized (row) {
+            for (Map.Entry<String, Object> entry : fact.entrySet()) {
+                String field = entry.getKey();
+                int id = fieldId(field);
+                if (id < 0) {
+                    changed.add(field);
+                    continue;
+                }
+                Object value = entry.getValue();
+                byte kind = kindOf(value);
+                long bits = bitsOf(kind, value);
+                if (kind == SYMBOL) {
+                    bits = symbolOf(value.toString());
+                    if (bits < 0) {
+                        kind = OPAQUE;
+                    }
+                }
+                if (row.set(id, kind, bits)) {
+                    changed.add(field);
+                }
+            }
+        }
+        if (changed.isEmpty()) {
+            unchanged.increment();
+        }
+        return changed;
+    }
+
+    /**
+     * 팩트 목록을 입력 순서대로 {@link #update(Map)} 했을 때 바뀔 필드명을 계산하되, 저장소에는 기록하지 않습니다.
+     * 같은 장치의 팩트가 여러 번 있으면 앞선 팩트의 값과 비교하며, 이 비교는 배치 안에서만 유지됩니다.
+     * 드라이런 평가에 사용하며, 필드/값 id 나 지표도 바꾸지 않습니다.
+     *
+     * @param facts 필드명 → 값 형태의 팩트 목록
+     * @return 팩트별 바뀐 필드명 목록, 장치를 식별할 수 없거나 추적할 수 없는 팩트는 null
+     */
+    public List<List<String>> peekChanges(List<Map<String, Object>> facts) {
+        Map<Object, Row> copies = new HashMap<>();
+        Map<String, Integer> newSymbols = new HashMap<>();
+        List<List<String>> changes = new ArrayList<>(facts.size());
+        for (Map<String, Object> fact : facts) {
+            Object key = StateKeys.of(fact.get(keyField));
+            Row row = key == null ? null : copies.get(key);
+            if (key != null && row == null) {
+                Row stored = rows.get(key);
+                if (stored != null) {
+                    synchronized (stored) {
+                        row = stored.copy();
+                    }
+                } else if (rows.size() < maxDevices) {
+                    row = new Row();
+                }
+                if (row != null) {
+                    copies.put(key, row);
+                }
+            }
+            if (row == null) {
+                changes.add(null);
+                continue;
+            }
+
+            List<String> changed = new ArrayList<>(2);
+            for (Map.Entry<String, Object> entry : fact.entrySet()) {
+                String field = entry.getKey();
+                Integer id = field != null ? fieldIds.get(field) : null;
+                if (id == null) {
+                    changed.add(field);
+                    continue;
+                }
+                Object value = entry.getValue();
+                byte kind = kindOf(value);
+                long bits = bitsOf(kind, value);
+                if (kind == SYMBOL) {
+                    // 저장소에 없는 문자열은 배치 안에서만 음수 id 를 부여해 저장된 id 와 겹치지 않게 합니다.
+                    Integer symbol = valueSymbols.get(value.toString());
+                    bits = symbol != null ? symbol
+                            : newSymbols.computeIfAbsent(value.toString(), t -> -(newSymbols.size() + 1));
+                }
+                if (row.set(id, kind, bits)) {
+                    changed.add(field);
+                }
+            }
+            changes.add(changed);
+        }
+        return changes;
+    }
+
+    /**
+     * 장치의 최신 값을 잊습니다. 다음 팩트는 모든 필드가 바뀐 것으로 봅니다.
+     *
+     * @param deviceKey 장치 식별 값
+     */
+    public void forget(Object deviceKey) {
+        Object key = StateKeys.of(deviceKey);
+        if (key != null) {
+            rows.remove(key);
+        }
+    }
+
+    private int fieldId(String field) {
+        if (field == null) {
+            return -1;
+        }
+        Integer id = fieldIds.get(field);
+        if (id != null) {
+            return id;
+        }
+        if (fieldIds.size() >= MAX_FIELDS) {
+            return -1;
+        }
+        return fieldIds.computeIfAbsent(field, f -> nextFieldId.getAndIncrement());
+    }
+
+    private static long bitsOf(byte kind, Object value) {
+        return switch (kind) {
+            case LONG -> ((Number) value).longValue();
+            case DOUBLE -> Double.doubleToLongBits(((Number) value).doubleValue());
+            case BOOLEAN -> (Boolean) value ? 1L : 0L;
+            default -> 0L;
+        };
+    }
+
+    private int symbolOf(String text) {
+        Integer id = valueSymbols.get(text);
+        if (id != null) {
+            return id;
+        }
+        if (valueSymbols.size() >= MAX_VALUE_SYMBOLS) {
+            return -1;
+        }
+        return valueSymbols.computeIfAbsent(text, t -> nextValueSymbol.getAndIncrement());
+    }
+
+    /**
+     * 값의 종류를 정합니다. 문자열은 intern id 를 얻지 못하면 호출자가 {@link #OPAQUE} 로 바꿉니다.
+     */
+    private static byte kindOf(Object value) {
+        if (value == null) {
+            return NULL;
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return LONG;
+        }
+        if (value instanceof Number) {
+            return DOUBLE;
+        }
+        if (value instanceof Boolean) {
+            return BOOLEAN;
+        }
+        return value instanceof CharSequence ? SYMBOL : OPAQUE;
+    }
+
+    /**
+     * 모니터링 지표를 등록합니다. (rule.device.state.devices, rule.device.state.memory, rule.device.state.unchanged)
+     *
+     * @param registry 지표 저장소
+     */
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("rule.device.state.devices", this, DeviceStateStore::getDeviceCount)
+                .description("최신 값을 보관 중인 장치 수")
+                .register(registry);
+        Gauge.builder("rule.device.state.memory", this, DeviceStateStore::getMemoryBytes)
+                .description("장치 최신 값이 차지하는 메모리 (근사값)")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("rule.device.state.unchanged", this, DeviceStateStore::getUnchangedCount)
+                .description("바뀐 필드가 없어 평가를 건너뛴 팩트 수")
+                .register(registry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getKeyField() {
+        return keyField;
+    }
+
+    public int getDeviceCount() {
+        return rows.size();
+    }
+
+    /**
+     * intern 한 필드 수를 반환합니다. 장치 행의 길이는 이 값을 넘지 않습니다.
+     *
+     * @return 필드 수
+     */
+    public int getFieldCount() {
+        return fieldIds.size();
+    }
+
+    /**
+     * 장치 최신 값이 차지하는 메모리(바이트, 근사값)를 반환합니다.
+     *
+     * @return 바이트
+     */
+    public long getMemoryBytes() {
+        long bytes = 0;
+        for (Row row : rows.values()) {
+            bytes += ROW_OVERHEAD_BYTES + row.capacity() * (long) (Long.BYTES + 1);
+        }
+        return bytes;
+    }
+
+    public long getUnchangedCount() {
+        return unchanged.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * 장치 하나의 최신 값. 인덱스는 필드 id 이며, 모든 접근은 행의 모니터를 잡고 수행합니다.
+     */
+    private static final class Row {
+
+        private long[] values = new long[8];
+
+        private byte[] kinds = new byte[8];
+
+        /**
+         * 필드 값을 기록합니다.
+         *
+         * @return 값이 바뀌었으면 true
+         */
+        boolean set(int id, byte kind, long bits) {
+            if (id >= kinds.length) {
+                int capacity = Math.max(kinds.length * 2, id + 1);
+                values = Arrays.copyOf(values, capacity);
+                kinds = Arrays.copyOf(kinds, capacity);
+            }
+            boolean changed = kind == OPAQUE || kinds[id] != kind || values[id] != bits;
+            kinds[id] = kind;
+            values[id] = bits;
+            return changed;
+        }
+
+        Row copy() {
+            Row copy = new Row();
+            copy.values = values.clone();
+            copy.kinds = kinds.clone();
+            return copy;
+        }
+
+        int capacity() {
+            return kinds.length;
+        }
+    }
+}
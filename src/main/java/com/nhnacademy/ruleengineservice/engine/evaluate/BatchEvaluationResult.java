@@ -0,0 +1,63 @@
+package com.nhnacademy.ruleengineservice.engine.evaluate;
+
+import java.util.List;
+
+/**
+ * BatchEvaluationResult 는 여러 팩트를 한 번에 평가한 결과입니다.
+ * 모든 팩트는 같은 규칙 스냅샷으로 평가되며, 결과는 입력 팩트와 같은 순서입니다.
+ */
+public final class BatchEvaluationResult {
+
+    /**
+     * 평가에 사용된 규칙 스냅샷 버전.
+     */
+    private final long version;
+
+    /**
+     * 팩트별 평가 결과 (입력 순서).
+     */
+    private final List<EvaluationResult> results;
+
+    /**
+     * BatchEvaluationResult 생성자.
+     *
+     * @param version 평가에 사용된 규칙 스냅샷 버전
+     * @param results 팩트별 평가 결과
+     */
+    public BatchEvaluationResult(long version, List<EvaluationResult> results) {
+        this.version = version;
+        this.results = List.copyOf(results);
+    }
+
+    /**
+     * 규칙이 하나라도 발동된 팩트 수를 반환합니다.
+     *
+     * @return 발동된 팩트 수
+     */
+    public int countMatchedFacts() {
+        int count = 0;
+        for (EvaluationResult result : results) {
+            if (result.hasMatches()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<EvaluationResult> getResults() {
+        return results;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchEvaluationResult{" +
+                "version=" + version +
+                ", facts=" + results.size() +
+                ", matchedFacts=" + countMatchedFacts() +
+                '}';
+    }
+}
@@ -0,0 +1,65 @@
+package com.nhnacademy.ruleengineservice.engine.evaluate;
+
+import java.util.List;
+
+/**
+ * EvaluationResult 는 하나의 팩트를 평가한 결과로, 발동된 규칙을 평가 순서대로 담고 있습니다.
+ * 평가에 사용된 규칙 스냅샷의 버전을 함께 보고합니다.
+ */
+public final class EvaluationResult {
+
+    /**
+     * 평가에 사용된 규칙 스냅샷 버전. 스냅샷 없이 평가한 경우 0 입니다.
+     */
+    private final long version;
+
+    /**
+     * 발동된 규칙 목록 (그룹 우선순위 → 규칙 우선순위 순).
+     */
+    private final List<RuleMatch> matches;
+
+    /**
+     * 스냅샷 버전 없이 EvaluationResult 를 생성합니다.
+     *
+     * @param matches 발동된 규칙 목록
+     */
+    public EvaluationResult(List<RuleMatch> matches) {
+        this(0L, matches);
+    }
+
+    /**
+     * EvaluationResult 생성자.
+     *
+     * @param version 평가에 사용된 규칙 스냅샷 버전
+     * @param matches 발동된 규칙 목록
+     */
+    public EvaluationResult(long version, List<RuleMatch> matches) {
+        this.version = version;
+        this.matches = List.copyOf(matches);
+    }
+
+    /**
+     * 발동된 규칙이 하나라도 있는지 확인합니다.
+     *
+     * @return 발동된 규칙이 있으면 true
+     */
+    public boolean hasMatches() {
+        return !matches.isEmpty();
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<RuleMatch> getMatches() {
+        return matches;
+    }
+
+    @Override
+    public String toString() {
+        return "EvaluationResult{" +
+                "version=" + version +
+                ", matches=" + matches +
+                '}';
+    }
+}
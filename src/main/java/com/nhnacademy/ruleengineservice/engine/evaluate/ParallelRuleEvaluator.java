@@ -0,0 +1,320 @@
+package com.nhnacademy.ruleengineservice.engine.evaluate;
+
+import com.nhnacademy.ruleengineservice.domain.rule.EventType;
+import com.nhnacademy.ruleengineservice.engine.compile.state.StateKeys;
+import com.nhnacademy.ruleengineservice.engine.snapshot.RuleSetSnapshot;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * ParallelRuleEvaluator 는 팩트 묶음을 전용 ForkJoinPool 에서 나눠 평가합니다.
+ * <p>
+ * 규칙 그룹은 알파 노드와 필드 색인을 공유하므로, 팩트 하나를 그룹별로 나눠 평가하면 같은 색인 조회를
+ * 그룹 수만큼 반복하게 됩니다. 대신 팩트 구간을 작업 단위로 나누어 각 작업이 모든 그룹을 한 번에 평가하며,
+ * 결과는 입력 위치에 기록되므로 팩트 순서와 팩트 내 규칙(그룹 우선순위 → 규칙 우선순위) 순서는
+ * 순차 평가와 항상 같습니다.
+ * <p>
+ * 풀은 공용 풀과 분리되어 있고 병렬도가 제한되며, 작업 단위 이하의 작은 묶음은 호출 스레드에서 바로 평가합니다.
+ * <p>
+ * 이벤트 유형을 구독하는 규칙에 윈도, 지속, 순서 패턴처럼 상태를 가지는 조건이 있으면, 같은 키의 팩트가
+ * 다른 작업에서 순서가 뒤바뀌어 평가되지 않도록 팩트 구간 대신 상태 키(deviceId, mbNo 등 조건의 키 필드 값)로 나눕니다.
+ * 키 필드 값을 하나라도 공유하는 팩트는 같은 작업에서 입력 순서대로 평가되고, 키가 다른 팩트와 키 필드가 없는 팩트는
+ * 다른 작업으로 흩어지므로 상태가 없는 규칙도 계속 나눠 평가됩니다.
+ * 키 필드 없이 하나의 상태를 공유하는 조건이 있을 때만 묶음 전체를 호출 스레드에서 입력 순서대로 평가합니다.
+ */
+@Component
+public class ParallelRuleEvaluator {
+
+    private final RuleEvaluator ruleEvaluator = new RuleEvaluator();
+
+    private final ForkJoinPool pool;
+
+    /**
+     * 한 작업이 순차로 평가하는 최대 팩트 수.
+     */
+    private final int threshold;
+
+    /**
+     * ParallelRuleEvaluator 생성자.
+     *
+     * @param parallelism 풀의 최대 병렬도, 0 이하이면 CPU 코어 수
+     * @param threshold   한 작업이 순차로 평가하는 최대 팩트 수
+     */
+    public ParallelRuleEvaluator(@Value("${rule.engine.parallel.parallelism:0}") int parallelism,
+                                 @Value("${rule.engine.parallel.threshold:64}") int threshold) {
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.threshold = Math.max(1, threshold);
+    }
+
+    /**
+     * 팩트 묶음을 하나의 규칙 스냅샷으로 병렬 평가합니다.
+     *
+     * @param snapshot  평가에 사용할 규칙 스냅샷
+     * @param eventType 이벤트 유형, null 이면 모든 규칙
+     * @param facts     필드명 → 값 형태의 팩트 목록
+     * @return 입력 순서의 팩트별 평가 결과
+     */
+    public BatchEvaluationResult evaluateAll(RuleSetSnapshot snapshot, EventType eventType,
+                                             List<Map<String, Object>> facts) {
+        return evaluateAll(snapshot, eventType, facts, null);
+    }
+
+    /**
+     * 팩트 묶음을 병렬 평가하며, 팩트마다 값이 바뀐 필드를 읽는 규칙만 대상으로 합니다.
+     *
+     * @param snapshot  평가에 사용할 규칙 스냅샷
+     * @param eventType 이벤트 유형, null 이면 모든 규칙
+     * @param facts     필드명 → 값 형태의 팩트 목록
+     * @param changes   팩트별 바뀐 필드 (facts 와 같은 순서), null 이면 모든 팩트가 모든 규칙
+     * @return 입력 순서의 팩트별 평가 결과
+     */
+    public BatchEvaluationResult evaluateAll(RuleSetSnapshot snapshot, EventType eventType,
+                                             List<Map<String, Object>> facts,
+                                             List<? extends Collection<String>> changes) {
+        if (facts.size() <= threshold) {
+            return ruleEvaluator.evaluateAll(snapshot, eventType, facts, changes);
+        }
+        Set<String> keyFields = snapshot.getNetwork().getStatefulKeyFields(eventType);
+        if (keyFields == null) {
+            return ruleEvaluator.evaluateAll(snapshot, eventType, facts, changes);
+        }
+        EvaluationResult[] results = new EvaluationResult[facts.size()];
+        if (keyFields.isEmpty()) {
+            pool.invoke(new EvaluateTask(snapshot, eventType, facts, changes, false, results, 0, facts.size()));
+        } else {
+            int[][] groups = partitionByKey(facts, keyFields);
+            if (groups.length == 1) {
+                return ruleEvaluator.evaluateAll(snapshot, eventType, facts, changes);
+            }
+            pool.invoke(new KeyGroupTask(snapshot, eventType, facts, changes, groups, results, 0, groups.length));
+        }
+        return new BatchEvaluationResult(snapshot.getVersion(), Arrays.asList(results));
+    }
+
+    /**
+     * 키 필드 값을 하나라도 공유하는 팩트를 같은 묶음으로 모으고, 작은 묶음은 작업 단위 크기까지 합칩니다.
+     * 묶음마다 팩트 위치는 입력 순서로 정렬되어 있습니다.
+     *
+     * @param facts     팩트 목록
+     * @param keyFields 상태를 나누는 키 필드
+     * @return 작업별 팩트 위치 목록
+     */
+    private int[][] partitionByKey(List<Map<String, Object>> facts, Set<String> keyFields) {
+        int size = facts.size();
+        int[] parent = new int[size];
+        for (int i = 0; i < size; i++) {
+            parent[i] = i;
+        }
+        for (String keyField : keyFields) {
+            Map<Object, Integer> firstByKey = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                Object key = StateKeys.of(facts.get(i).get(keyField));
+                if (key == null) {
+                    continue;
+                }
+                Integer first = firstByKey.putIfAbsent(key, i);
+                if (first != null) {
+                    parent[find(parent, i)] = find(parent, first);
+                }
+            }
+        }
+        int[] groupSizes = new int[size];
+        for (int i = 0; i < size; i++) {
+            groupSizes[find(parent, i)]++;
+        }
+        int[] binOfRoot = new int[size];
+        Arrays.fill(binOfRoot, -1);
+        int[] binOf = new int[size];
+        List<Integer> binSizes = new ArrayList<>();
+        int filled = 0;
+        for (int i = 0; i < size; i++) {
+            int root = find(parent, i);
+            if (binOfRoot[root] < 0) {
+                if (binSizes.isEmpty() || filled > 0 && filled + groupSizes[root] > threshold) {
+                    binSizes.add(0);
+                    filled = 0;
+                }
+                binOfRoot[root] = binSizes.size() - 1;
+                filled += groupSizes[root];
+            }
+            binOf[i] = binOfRoot[root];
+            binSizes.set(binOf[i], binSizes.get(binOf[i]) + 1);
+        }
+        int[][] bins = new int[binSizes.size()][];
+        int[] cursors = new int[bins.length];
+        for (int bin = 0; bin < bins.length; bin++) {
+            bins[bin] = new int[binSizes.get(bin)];
+        }
+        for (int i = 0; i < size; i++) {
+            bins[binOf[i]][cursors[binOf[i]]++] = i;
+        }
+        return bins;
+    }
+
+    private static int find(int[] parent, int index) {
+        while (parent[index] != index) {
+            parent[index] = parent[parent[index]];
+            index = parent[index];
+        }
+        return index;
+    }
+
+    /**
+     * 팩트 묶음을 드라이런으로 병렬 평가합니다. 상태를 가지는 조건도 상태를 갱신하지 않으므로
+     * 평가 순서가 결과에 영향을 주지 않아, 그런 규칙이 있어도 묶음을 나눠 평가합니다.
+     *
+     * @param snapshot  평가에 사용할 규칙 스냅샷
+     * @param eventType 이벤트 유형, null 이면 모든 규칙
+     * @param facts     필드명 → 값 형태의 팩트 목록
+     * @param changes   팩트별 바뀐 필드 (facts 와 같은 순서), null 이면 모든 팩트가 모든 규칙
+     * @return 입력 순서의 팩트별 평가 결과
+     */
+    public BatchEvaluationResult peekAll(RuleSetSnapshot snapshot, EventType eventType,
+                                         List<Map<String, Object>> facts,
+                                         List<? extends Collection<String>> changes) {
+        if (facts.size() <= threshold) {
+            return ruleEvaluator.peekAll(snapshot, eventType, facts, changes);
+        }
+        EvaluationResult[] results = new EvaluationResult[facts.size()];
+        pool.invoke(new EvaluateTask(snapshot, eventType, facts, changes, true, results, 0, facts.size()));
+        return new BatchEvaluationResult(snapshot.getVersion(), Arrays.asList(results));
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * 팩트 구간 [from, to) 를 평가하는 작업입니다. 구간이 작업 단위보다 크면 반으로 나눕니다.
+     */
+    private final class EvaluateTask extends RecursiveAction {
+
+        private final RuleSetSnapshot snapshot;
+
+        private final EventType eventType;
+
+        private final List<Map<String, Object>> facts;
+
+        private final List<? extends Collection<String>> changes;
+
+        /**
+         * 상태를 갱신하지 않는 드라이런 평가인지 여부.
+         */
+        private final boolean peek;
+
+        private final EvaluationResult[] results;
+
+        private final int from;
+
+        private final int to;
+
+        private EvaluateTask(RuleSetSnapshot snapshot, EventType eventType, List<Map<String, Object>> facts,
+                             List<? extends Collection<String>> changes, boolean peek,
+                             EvaluationResult[] results, int from, int to) {
+            this.snapshot = snapshot;
+            this.eventType = eventType;
+            this.facts = facts;
+            this.changes = changes;
+            this.peek = peek;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                List<Map<String, Object>> slice = facts.subList(from, to);
+                List<? extends Collection<String>> sliceChanges = changes != null ? changes.subList(from, to) : null;
+                List<EvaluationResult> part = peek
+                        ? ruleEvaluator.peekAll(snapshot, eventType, slice, sliceChanges).getResults()
+                        : ruleEvaluator.evaluateAll(snapshot, eventType, slice, sliceChanges).getResults();
+                for (int i = 0; i < part.size(); i++) {
+                    results[from + i] = part.get(i);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new EvaluateTask(snapshot, eventType, facts, changes, peek, results, from, middle),
+                    new EvaluateTask(snapshot, eventType, facts, changes, peek, results, middle, to));
+        }
+    }
+
+    /**
+     * 키 묶음 [from, to) 를 평가하는 작업입니다. 묶음 하나는 한 스레드에서 입력 순서대로 평가합니다.
+     */
+    private final class KeyGroupTask extends RecursiveAction {
+
+        private final RuleSetSnapshot snapshot;
+
+        private final EventType eventType;
+
+        private final List<Map<String, Object>> facts;
+
+        private final List<? extends Collection<String>> changes;
+
+        /**
+         * 묶음별 팩트 위치 (입력 순서).
+         */
+        private final int[][] groups;
+
+        private final EvaluationResult[] results;
+
+        private final int from;
+
+        private final int to;
+
+        private KeyGroupTask(RuleSetSnapshot snapshot, EventType eventType, List<Map<String, Object>> facts,
+                             List<? extends Collection<String>> changes, int[][] groups,
+                             EvaluationResult[] results, int from, int to) {
+            this.snapshot = snapshot;
+            this.eventType = eventType;
+            this.facts = facts;
+            this.changes = changes;
+            this.groups = groups;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                int[] indexes = groups[from];
+                List<Map<String, Object>> slice = new ArrayList<>(indexes.length);
+                List<Collection<String>> sliceChanges = changes != null ? new ArrayList<>(indexes.length) : null;
+                for (int index : indexes) {
+                    slice.add(facts.get(index));
+                    if (sliceChanges != null) {
+                        sliceChanges.add(changes.get(index));
+                    }
+                }
+                List<EvaluationResult> part = ruleEvaluator.evaluateAll(snapshot, eventType, slice, sliceChanges)
+                        .getResults();
+                for (int i = 0; i < indexes.length; i++) {
+                    results[indexes[i]] = part.get(i);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new KeyGroupTask(snapshot, eventType, facts, changes, groups, results, from, middle),
+                    new KeyGroupTask(snapshot, eventType, facts, changes, groups, results, middle, to));
+        }
+    }
+}
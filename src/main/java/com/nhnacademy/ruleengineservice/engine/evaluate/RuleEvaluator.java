@@ -0,0 +1,184 @@
+package com.nhnacademy.ruleengineservice.engine.evaluate;
+
+import com.nhnacademy.ruleengineservice.domain.rule.EventType;
+import com.nhnacademy.ruleengineservice.engine.network.AlphaNetwork;
+import com.nhnacademy.ruleengineservice.engine.network.MatchContext;
+import com.nhnacademy.ruleengineservice.engine.snapshot.RuleSetSnapshot;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RuleEvaluator 는 알파 네트워크에 대해 팩트를 평가합니다.
+ * <p>
+ * 매칭 작업 공간({@link MatchContext})은 스레드마다 하나씩 재사용되며, 발동 규칙의 평가 순서 정렬도
+ * 컨텍스트의 기본형 배열에서 이루어지므로, 결과 객체(결과 목록, {@link EvaluationResult}, {@link RuleMatch})를
+ * 만드는 것 외에는 평가 경로에서 할당이 발생하지 않습니다.
+ * 여러 스레드에서 동시에 호출해도 안전합니다.
+ */
+public class RuleEvaluator {
+
+    private final ThreadLocal<MatchContext> contexts = ThreadLocal.withInitial(MatchContext::new);
+
+    /**
+     * 모든 규칙을 대상으로 팩트를 평가합니다.
+     *
+     * @param network 컴파일된 규칙으로 구성된 알파 네트워크
+     * @param fact    필드명 → 값 형태의 팩트
+     * @return 평가 결과
+     */
+    public EvaluationResult evaluate(AlphaNetwork network, Map<String, Object> fact) {
+        return evaluate(network, null, fact);
+    }
+
+    /**
+     * 이벤트 유형을 구독하는 규칙만 대상으로 팩트를 평가합니다.
+     *
+     * @param network   컴파일된 규칙으로 구성된 알파 네트워크
+     * @param eventType 이벤트 유형, null 이면 모든 규칙
+     * @param fact      필드명 → 값 형태의 팩트
+     * @return 평가 결과 (그룹 우선순위 → 규칙 우선순위 순)
+     */
+    public EvaluationResult evaluate(AlphaNetwork network, EventType eventType, Map<String, Object> fact) {
+        return new EvaluationResult(0L, match(network, eventType, fact));
+    }
+
+    /**
+     * 규칙 스냅샷 하나로 팩트를 평가하고, 결과에 스냅샷 버전을 기록합니다.
+     * 평가 도중 새 스냅샷이 게시되어도 전달된 스냅샷의 규칙만 사용합니다.
+     *
+     * @param snapshot  평가에 사용할 규칙 스냅샷
+     * @param eventType 이벤트 유형, null 이면 모든 규칙
+     * @param fact      필드명 → 값 형태의 팩트
+     * @return 평가 결과
+     */
+    public EvaluationResult evaluate(RuleSetSnapshot snapshot, EventType eventType, Map<String, Object> fact) {
+        return new EvaluationResult(snapshot.getVersion(), match(snapshot.getNetwork(), eventType, fact));
+    }
+
+    /**
+     * 값이 바뀐 필드를 읽는 규칙만 대상으로 팩트를 평가합니다.
+     *
+     * @param snapshot      평가에 사용할 규칙 스냅샷
+     * @param eventType     이벤트 유형, null 이면 모든 규칙
+     * @param fact          필드명 → 값 형태의 팩트
+     * @param changedFields 값이 바뀐 필드, null 이면 모든 규칙
+     * @return 평가 결과
+     */
+    public EvaluationResult evaluate(RuleSetSnapshot snapshot, EventType eventType, Map<String, Object> fact,
+                                     Collection<String> changedFields) {
+        return new EvaluationResult(snapshot.getVersion(),
+                match(snapshot.getNetwork(), eventType, fact, changedFields, null));
+    }
+
+    /**
+     * 여러 팩트를 하나의 규칙 스냅샷으로 평가합니다.
+     * <p>
+     * 스냅샷과 매칭 컨텍스트는 배치 전체에서 한 번만 조회하며,
+     * 같은 규칙이 여러 팩트에서 발동되면 하나의 {@link RuleMatch} 를 공유합니다.
+     *
+     * @param snapshot  평가에 사용할 규칙 스냅샷
+     * @param eventType 이벤트 유형, null 이면 모든 규칙
+     * @param facts     필드명 → 값 형태의 팩트 목록
+     * @return 입력 순서의 팩트별 평가 결과
+     */
+    public BatchEvaluationResult evaluateAll(RuleSetSnapshot snapshot, EventType eventType,
+                                             List<Map<String, Object>> facts) {
+        return evaluateAll(snapshot, eventType, facts, null);
+    }
+
+    /**
+     * 여러 팩트를 하나의 규칙 스냅샷으로 평가하며, 팩트마다 값이 바뀐 필드를 읽는 규칙만 대상으로 합니다.
+     *
+     * @param snapshot  평가에 사용할 규칙 스냅샷
+     * @param eventType 이벤트 유형, null 이면 모든 규칙
+     * @param facts     필드명 → 값 형태의 팩트 목록
+     * @param changes   팩트별 바뀐 필드 (facts 와 같은 순서, 원소가 null 이면 모든 규칙), null 이면 모든 팩트가 모든 규칙
+     * @return 입력 순서의 팩트별 평가 결과
+     */
+    public BatchEvaluationResult evaluateAll(RuleSetSnapshot snapshot, EventType eventType,
+                                             List<Map<String, Object>> facts,
+                                             List<? extends Collection<String>> changes) {
+        return evaluateAll(snapshot, eventType, facts, changes, false);
+    }
+
+    /**
+     * 여러 팩트를 드라이런으로 평가합니다. {@link #evaluateAll(RuleSetSnapshot, EventType, List, List)} 와 같지만
+     * 윈도, 지속, 순서 패턴 조건은 상태를 갱신하지 않고 현재 상태로만 검사하므로, 같은 키의 팩트끼리도 서로 영향을 주지 않습니다.
+     *
+     * @param snapshot  평가에 사용할 규칙 스냅샷
+     * @param eventType 이벤트 유형, null 이면 모든 규칙
+     * @param facts     필드명 → 값 형태의 팩트 목록
+     * @param changes   팩트별 바뀐 필드 (facts 와 같은 순서, 원소가 null 이면 모든 규칙), null 이면 모든 팩트가 모든 규칙
+     * @return 입력 순서의 팩트별 평가 결과
+     */
+    public BatchEvaluationResult peekAll(RuleSetSnapshot snapshot, EventType eventType,
+                                         List<Map<String, Object>> facts,
+                                         List<? extends Collection<String>> changes) {
+        return evaluateAll(snapshot, eventType, facts, changes, true);
+    }
+
+    private BatchEvaluationResult evaluateAll(RuleSetSnapshot snapshot, EventType eventType,
+                                              List<Map<String, Object>> facts,
+                                              List<? extends Collection<String>> changes, boolean peek) {
+        MatchContext context = contexts.get();
+        context.setPeek(peek);
+        try {
+            return collect(snapshot, eventType, facts, changes);
+        } finally {
+            context.setPeek(false);
+        }
+    }
+
+    private BatchEvaluationResult collect(RuleSetSnapshot snapshot, EventType eventType,
+                                          List<Map<String, Object>> facts,
+                                          List<? extends Collection<String>> changes) {
+        AlphaNetwork network = snapshot.getNetwork();
+        RuleMatch[] matchesByRule = new RuleMatch[network.getSlotCount()];
+
+        List<EvaluationResult> results = new ArrayList<>(facts.size());
+        for (int i = 0; i < facts.size(); i++) {
+            Collection<String> changedFields = changes != null ? changes.get(i) : null;
+            results.add(new EvaluationResult(snapshot.getVersion(),
+                    match(network, eventType, facts.get(i), changedFields, matchesByRule)));
+        }
+        return new BatchEvaluationResult(snapshot.getVersion(), results);
+    }
+
+    private List<RuleMatch> match(AlphaNetwork network, EventType eventType, Map<String, Object> fact) {
+        return match(network, eventType, fact, null, null);
+    }
+
+    /**
+     * 팩트를 평가해 발동된 규칙을 평가 순서대로 반환합니다.
+     *
+     * @param changedFields 값이 바뀐 필드, null 이면 모든 규칙
+     * @param matchesByRule 규칙 인덱스별 RuleMatch 캐시, null 이면 매번 생성
+     */
+    private List<RuleMatch> match(AlphaNetwork network, EventType eventType, Map<String, Object> fact,
+                                  Collection<String> changedFields, RuleMatch[] matchesByRule) {
+        MatchContext context = contexts.get();
+        network.match(eventType, fact, changedFields, context);
+
+        int count = context.getFiredCount();
+        if (count == 0) {
+            return List.of();
+        }
+        int[] fired = context.firedInEvaluationOrder();
+        List<RuleMatch> matches = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int ruleIndex = fired[i];
+            RuleMatch match = matchesByRule != null ? matchesByRule[ruleIndex] : null;
+            if (match == null) {
+                match = RuleMatch.of(network.getRule(ruleIndex));
+                if (matchesByRule != null) {
+                    matchesByRule[ruleIndex] = match;
+                }
+            }
+            matches.add(match);
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,94 @@
+package com.nhnacademy.ruleengineservice.engine.evaluate;
+
+import com.nhnacademy.ruleengineservice.engine.compile.CompiledAction;
+import com.nhnacademy.ruleengineservice.engine.compile.CompiledRule;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RuleMatch 는 팩트 평가 결과 발동된 하나의 규칙과 실행 대기 중인 액션을 나타냅니다.
+ */
+public final class RuleMatch {
+
+    /**
+     * 발동된 규칙의 식별자.
+     */
+    private final Long ruleNo;
+
+    /**
+     * 발동된 규칙의 이름.
+     */
+    private final String ruleName;
+
+    /**
+     * 실행 대기 중인 액션 목록 (actPriority 순).
+     */
+    private final List<CompiledAction> actions;
+
+    /**
+     * 액션 파라미터 템플릿을 채울 규칙 파라미터 (paramName → paramValue).
+     */
+    private final Map<String, String> parameters;
+
+    /**
+     * 규칙 파라미터 없이 RuleMatch 를 생성합니다.
+     *
+     * @param ruleNo   규칙 식별자
+     * @param ruleName 규칙 이름
+     * @param actions  실행할 액션 목록
+     */
+    public RuleMatch(Long ruleNo, String ruleName, List<CompiledAction> actions) {
+        this(ruleNo, ruleName, actions, Map.of());
+    }
+
+    /**
+     * RuleMatch 생성자.
+     *
+     * @param ruleNo     규칙 식별자
+     * @param ruleName   규칙 이름
+     * @param actions    실행할 액션 목록
+     * @param parameters 규칙 파라미터
+     */
+    public RuleMatch(Long ruleNo, String ruleName, List<CompiledAction> actions, Map<String, String> parameters) {
+        this.ruleNo = ruleNo;
+        this.ruleName = ruleName;
+        this.actions = actions;
+        this.parameters = parameters;
+    }
+
+    /**
+     * 컴파일된 규칙으로부터 RuleMatch 를 생성합니다.
+     *
+     * @param rule 발동된 규칙
+     * @return 새 RuleMatch 인스턴스
+     */
+    public static RuleMatch of(CompiledRule rule) {
+        return new RuleMatch(rule.getRuleNo(), rule.getRuleName(), rule.getActions(), rule.getParameters());
+    }
+
+    public Long getRuleNo() {
+        return ruleNo;
+    }
+
+    public String getRuleName() {
+        return ruleName;
+    }
+
+    public List<CompiledAction> getActions() {
+        return actions;
+    }
+
+    public Map<String, String> getParameters() {
+        return parameters;
+    }
+
+    @Override
+    public String toString() {
+        return "RuleMatch{" +
+                "ruleNo=" + ruleNo +
+                ", ruleName='" + ruleName + '\'' +
+                ", actions=" + actions +
+                '}';
+    }
+}
@@ -0,0 +1,18 @@
+package com.nhnacademy.ruleengineservice.engine.exception;
+
+/**
+ * 규칙이나 조건을 런타임 형태로 컴파일할 수 없을 때 발생하는 예외입니다.
+ * <p>
+ * 잘못된 conType, 숫자로 해석할 수 없는 conValue 등은 평가 시점이 아니라
+ * 컴파일 시점에 이 예외로 거부됩니다.
+ */
+public class RuleCompileException extends RuntimeException {
+
+    public RuleCompileException(String message) {
+        super(message);
+    }
+
+    public RuleCompileException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
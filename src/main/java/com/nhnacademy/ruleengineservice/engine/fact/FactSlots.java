@@ -0,0 +1,214 @@
+package com.nhnacademy.ruleengineservice.engine.fact;
+
+import com.nhnacademy.ruleengineservice.engine.compile.predicate.NumericPredicate;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * FactSlots 는 {@code Map<String, Object>} 팩트를 필드 id 를 인덱스로 하는 평평한 슬롯 배열로 풀어 둔 작업 공간입니다.
+ * <p>
+ * 팩트를 한 번 파싱하면서 {@link FieldSymbolTable} 에 등록된 필드만 슬롯에 옮기며,
+ * 숫자로 해석되는 값은 {@code double[]} 열에, 정수 값은 {@code long[]} 열에도 기본형으로 담아 두고,
+ * 값이 있는 필드는 presence 비트마스크에 표시합니다. 이후 조건은 필드 id 로 배열을 읽기만 하므로
+ * 조건마다 문자열 해시 조회와 숫자 변환을 반복하지 않습니다. 등록되지 않은 필드는 어떤 조건도 읽지 않으므로 건너뜁니다.
+ * <p>
+ * 값이 null 인 필드는 없는 것으로 봅니다. 다음 파싱 시작 시 이전 팩트가 채운 슬롯만 지우므로
+ * 재사용해도 할당이 발생하지 않습니다. 값 참조는 다음 파싱이나 {@link #clear()} 때까지 남습니다.
+ * 하나의 인스턴스는 한 스레드에서만 사용해야 합니다.
+ */
+public final class FactSlots {
+
+    private final FieldSymbolTable symbols;
+
+    /**
+     * 값이 있는 필드 id 비트셋.
+     */
+    private long[] presence = new long[0];
+
+    /**
+     * {@link #longs} 열이 유효한(정수 값인) 필드 id 비트셋.
+     */
+    private long[] integral = new long[0];
+
+    private Object[] values = new Object[0];
+
+    /**
+     * 숫자로 해석한 값, 해석할 수 없으면 {@link Double#NaN}.
+     */
+    private double[] numbers = new double[0];
+
+    private long[] longs = new long[0];
+
+    /**
+     * 이번 팩트에서 채운 필드 id 목록 (팩트 순서).
+     */
+    private int[] present = new int[0];
+
+    private int presentCount;
+
+    /**
+     * 주어진 심볼 표를 사용하는 FactSlots 를 만듭니다.
+     *
+     * @param symbols 필드 심볼 표
+     */
+    public FactSlots(FieldSymbolTable symbols) {
+        this.symbols = symbols;
+    }
+
+    /**
+     * 필드 id 를 해석하는 심볼 표를 반환합니다.
+     *
+     * @return 필드 심볼 표
+     */
+    public FieldSymbolTable getSymbols() {
+        return symbols;
+    }
+
+    /**
+     * 팩트를 슬롯으로 풉니다. 이전 팩트의 슬롯은 지워집니다.
+     *
+     * @param fact 필드명 → 값 형태의 팩트
+     * @return 이 FactSlots
+     */
+    public FactSlots parse(Map<String, Object> fact) {
+        clear();
+        ensureFields(symbols.size());
+        if (present.length < fact.size()) {
+            present = new int[Math.max(fact.size(), 8)];
+        }
+        for (Map.Entry<String, Object> entry : fact.entrySet()) {
+            Object value = entry.getValue();
+            if (value == null) {
+                continue;
+            }
+            int id = symbols.idOf(entry.getKey());
+            if (id < 0) {
+                continue;
+            }
+            if (id >= values.length) {
+                ensureFields(id + 1);
+            }
+            long bit = 1L << id;
+            if ((presence[id >>> 6] & bit) != 0) {
+                continue;
+            }
+            presence[id >>> 6] |= bit;
+            present[presentCount++] = id;
+            values[id] = value;
+            if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                long number = ((Number) value).longValue();
+                longs[id] = number;
+                numbers[id] = number;
+                integral[id >>> 6] |= bit;
+            } else {
+                numbers[id] = NumericPredicate.toDouble(value);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * 슬롯을 모두 비웁니다.
+     */
+    public void clear() {
+        for (int i = 0; i < presentCount; i++) {
+            int id = present[i];
+            values[id] = null;
+            presence[id >>> 6] = 0L;
+            integral[id >>> 6] = 0L;
+        }
+        presentCount = 0;
+    }
+
+    private void ensureFields(int fieldCount) {
+        if (values.length >= fieldCount) {
+            return;
+        }
+        int capacity = Math.max(fieldCount, values.length * 2);
+        int words = (capacity + 63) >>> 6;
+        presence = Arrays.copyOf(presence, words);
+        integral = Arrays.copyOf(integral, words);
+        values = Arrays.copyOf(values, capacity);
+        numbers = Arrays.copyOf(numbers, capacity);
+        longs = Arrays.copyOf(longs, capacity);
+    }
+
+    /**
+     * 필드 값이 있는지 확인합니다.
+     *
+     * @param id 필드 id
+     * @return 값이 있으면 true
+     */
+    public boolean isPresent(int id) {
+        return id >= 0 && id < values.length && (presence[id >>> 6] & (1L << id)) != 0;
+    }
+
+    /**
+     * 필드 값을 반환합니다.
+     *
+     * @param id 필드 id
+     * @return 필드 값, 없으면 null
+     */
+    public Object value(int id) {
+        return isPresent(id) ? values[id] : null;
+    }
+
+    /**
+     * 필드 값을 숫자로 반환합니다.
+     *
+     * @param id 필드 id
+     * @return 숫자 값, 없거나 숫자로 해석할 수 없으면 {@link Double#NaN}
+     */
+    public double number(int id) {
+        return isPresent(id) ? numbers[id] : Double.NaN;
+    }
+
+    /**
+     * 필드 값이 정수형인지 확인합니다.
+     *
+     * @param id 필드 id
+     * @return 정수 값이면 true
+     */
+    public boolean isIntegral(int id) {
+        return isPresent(id) && (integral[id >>> 6] & (1L << id)) != 0;
+    }
+
+    /**
+     * 정수형 필드 값을 반환합니다. {@link #isIntegral(int)} 가 true 일 때만 의미가 있습니다.
+     *
+     * @param id 필드 id
+     * @return 정수 값
+     */
+    public long longValue(int id) {
+        return longs[id];
+    }
+
+    /**
+     * 값이 있는 필드 수를 반환합니다.
+     *
+     * @return 필드 수
+     */
+    public int getPresentCount() {
+        return presentCount;
+    }
+
+    /**
+     * i 번째로 채운 필드 id 를 반환합니다.
+     *
+     * @param i 0 이상 {@link #getPresentCount()} 미만
+     * @return 필드 id
+     */
+    public int getPresentId(int i) {
+        return present[i];
+    }
+
+    /**
+     * 값이 있는 필드 id 비트마스크를 반환합니다. 복사하지 않으므로 읽기만 해야 합니다.
+     *
+     * @return presence 비트마스크 (길이는 부여된 id 수 이상)
+     */
+    public long[] getPresenceBits() {
+        return presence;
+    }
+}
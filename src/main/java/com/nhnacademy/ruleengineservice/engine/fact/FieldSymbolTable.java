@@ -0,0 +1,122 @@
+package com.nhnacademy.ruleengineservice.engine.fact;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * FieldSymbolTable 은 필드명을 0 부터 시작하는 정수 id 로 intern 하는 심볼 표입니다.
+ * <p>
+ * 알파 네트워크마다 하나씩 가지며, 네트워크를 만들 때 규칙이 읽는 필드가 {@link #intern(String)} 으로 id 를 받습니다.
+ * 팩트는 {@link FactSlots} 로 한 번만 파싱되어 이후 조건 검사는 문자열 해시 대신 배열 인덱스로 값을 읽습니다.
+ * 노드, 필드별 색인, 규칙 의존 색인 등 한 네트워크의 평가 구조가 같은 id 를 공유합니다.
+ * 증분 패치로 만든 네트워크는 이전 네트워크의 표를 이어 쓰고, 전체 재적재로 새로 만든 네트워크는 빈 표에서 시작하므로
+ * 삭제된 규칙의 필드는 다음 전체 재적재 때 정리됩니다.
+ * <p>
+ * id 는 한 번 부여되면 바뀌거나 재사용되지 않으며, 최대 {@link #MAX_FIELDS} 개까지 부여합니다.
+ * id 를 받지 못한 필드는 평가 구조가 팩트 맵에서 직접 읽는 느린 경로로 처리합니다.
+ * 조회는 잠금 없이 수행되고 등록만 표의 모니터를 잡습니다.
+ */
+public final class FieldSymbolTable {
+
+    /**
+     * 부여할 수 있는 최대 id 수. 넘으면 {@link #intern(String)} 은 -1 을 반환합니다.
+     */
+    public static final int MAX_FIELDS = 65_536;
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+
+    private volatile String[] names = new String[64];
+
+    private volatile int size;
+
+    /**
+     * 빈 심볼 표를 만듭니다.
+     */
+    public FieldSymbolTable() {
+    }
+
+    /**
+     * 아직 id 가 없는 필드를 모두 등록해도 {@link #MAX_FIELDS} 를 넘지 않는지 확인합니다.
+     *
+     * @param fields 필드명 목록
+     * @return 모두 등록할 수 있으면 true
+     */
+    public boolean canIntern(Collection<String> fields) {
+        int missing = 0;
+        for (String field : fields) {
+            if (field != null && !ids.containsKey(field)) {
+                missing++;
+            }
+        }
+        return size + missing <= MAX_FIELDS;
+    }
+
+    /**
+     * 필드명의 id 를 반환하며, 없으면 새로 부여합니다.
+     *
+     * @param field 필드명
+     * @return 필드 id, 필드명이 null 이거나 표가 가득 차면 -1
+     */
+    public int intern(String field) {
+        if (field == null) {
+            return -1;
+        }
+        Integer id = ids.get(field);
+        if (id != null) {
+            return id;
+        }
+        synchronized (this) {
+            id = ids.get(field);
+            if (id != null) {
+                return id;
+            }
+            if (size >= MAX_FIELDS) {
+                return -1;
+            }
+            String[] current = names;
+            if (size == current.length) {
+                current = Arrays.copyOf(current, current.length * 2);
+            }
+            current[size] = field.intern();
+            names = current;
+            ids.put(current[size], size);
+            return size++;
+        }
+    }
+
+    /**
+     * 이미 부여된 필드 id 를 조회합니다. 새 id 를 부여하지 않습니다.
+     *
+     * @param field 필드명
+     * @return 필드 id, 없으면 -1
+     */
+    public int idOf(String field) {
+        if (field == null) {
+            return -1;
+        }
+        Integer id = ids.get(field);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * id 의 필드명을 반환합니다.
+     *
+     * @param id 필드 id
+     * @return 필드명, 부여되지 않은 id 면 null
+     */
+    public String nameOf(int id) {
+        String[] current = names;
+        return id >= 0 && id < size && id < current.length ? current[id] : null;
+    }
+
+    /**
+     * 부여된 id 수를 반환합니다. 모든 id 는 이 값보다 작습니다.
+     *
+     * @return id 수
+     */
+    public int size() {
+        return size;
+    }
+}
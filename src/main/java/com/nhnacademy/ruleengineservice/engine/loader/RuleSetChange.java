@@ -0,0 +1,45 @@
+package com.nhnacademy.ruleengineservice.engine.loader;
+
+import com.nhnacademy.ruleengineservice.engine.compile.CompiledRule;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * RuleSetChange 는 변경된 규칙만 다시 읽어 컴파일한 결과입니다.
+ * 평가 대상으로 남은 규칙은 {@link #getChangedRules()} 에, 삭제되었거나 비활성화되었거나
+ * 컴파일에 실패한 규칙은 {@link #getRemovedRuleNos()} 에 담깁니다.
+ */
+public final class RuleSetChange {
+
+    /**
+     * 다시 컴파일된 평가 대상 규칙.
+     */
+    private final List<CompiledRule> changedRules;
+
+    /**
+     * 평가 대상에서 빠져야 하는 규칙 번호.
+     */
+    private final Set<Long> removedRuleNos;
+
+    public RuleSetChange(List<CompiledRule> changedRules, Set<Long> removedRuleNos) {
+        this.changedRules = List.copyOf(changedRules);
+        this.removedRuleNos = Set.copyOf(removedRuleNos);
+    }
+
+    public List<CompiledRule> getChangedRules() {
+        return changedRules;
+    }
+
+    public Set<Long> getRemovedRuleNos() {
+        return removedRuleNos;
+    }
+
+    @Override
+    public String toString() {
+        return "RuleSetChange{" +
+                "changedRules=" + changedRules.size() +
+                ", removedRuleNos=" + removedRuleNos +
+                '}';
+    }
+}
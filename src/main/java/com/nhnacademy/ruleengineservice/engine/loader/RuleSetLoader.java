@@ -0,0 +1,96 @@
+package com.nhnacademy.ruleengineservice.engine.loader;
+
+import com.nhnacademy.ruleengineservice.domain.rule.Rule;
+import com.nhnacademy.ruleengineservice.engine.compile.CompiledRule;
+import com.nhnacademy.ruleengineservice.engine.compile.RuleCompiler;
+import com.nhnacademy.ruleengineservice.engine.compile.state.ConditionStateStore;
+import com.nhnacademy.ruleengineservice.repository.rule.RuleRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * RuleSetLoader 는 데이터베이스에서 활성 규칙을 읽어 {@link CompiledRule} 목록으로 컴파일합니다.
+ * <p>
+ * 지연 로딩 컬렉션은 읽기 전용 트랜잭션 안에서 모두 초기화되며,
+ * 컴파일이 끝난 뒤에는 엔티티를 참조하지 않으므로 평가 시 커넥션을 사용하지 않습니다.
+ * <p>
+ * 윈도 조건과 지속 조건의 상태는 로더가 가진 {@link ConditionStateStore} 에 보관되어 재적재와 부분 갱신 사이에 유지됩니다.
+ */
+@Component
+public class RuleSetLoader {
+
+    private final RuleRepository ruleRepository;
+
+    private final ConditionStateStore stateStore = new ConditionStateStore();
+
+    private final RuleCompiler ruleCompiler = new RuleCompiler(stateStore);
+
+    public RuleSetLoader(RuleRepository ruleRepository, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.ruleRepository = ruleRepository;
+        meterRegistry.ifAvailable(stateStore::bindTo);
+    }
+
+    /**
+     * 활성 규칙을 모두 조회하여 컴파일합니다.
+     *
+     * @return 평가 순서로 정렬된 CompiledRule 목록
+     */
+    @Transactional(readOnly = true)
+    public List<CompiledRule> loadActiveRules() {
+        List<Rule> rules = ruleRepository.findByActive(true);
+        return ruleCompiler.compileAll(rules);
+    }
+
+    /**
+     * 변경된 규칙과 변경된 그룹에 속한 규칙만 다시 읽어 컴파일합니다.
+     * <p>
+     * 변경을 커밋한 트랜잭션의 완료 콜백에서 호출되므로, 커밋된 데이터를 읽도록 항상 새 트랜잭션에서 실행합니다.
+     *
+     * @param ruleNos      변경된 규칙 번호
+     * @param ruleGroupNos 변경된 그룹 번호
+     * @return 다시 컴파일된 규칙과 제거할 규칙 번호
+     */
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public RuleSetChange loadChangedRules(Collection<Long> ruleNos, Collection<Long> ruleGroupNos) {
+        Map<Long, Rule> rules = new LinkedHashMap<>();
+        for (Rule rule : ruleRepository.findAllById(ruleNos)) {
+            rules.put(rule.getRuleNo(), rule);
+        }
+        if (!ruleGroupNos.isEmpty()) {
+            for (Rule rule : ruleRepository.findByRuleGroup_RuleGroupNoIn(ruleGroupNos)) {
+                rules.put(rule.getRuleNo(), rule);
+            }
+        }
+
+        List<CompiledRule> compiled = ruleCompiler.compileAll(rules.values());
+        Set<Long> removed = new HashSet<>(ruleNos);
+        removed.addAll(rules.keySet());
+        for (CompiledRule rule : compiled) {
+            removed.remove(rule.getRuleNo());
+        }
+        return new RuleSetChange(compiled, removed);
+    }
+
+    public ConditionStateStore getStateStore() {
+        return stateStore;
+    }
+
+    /**
+     * 조건 상태 타이머를 멈춥니다.
+     */
+    @PreDestroy
+    public void shutdown() {
+        stateStore.shutdown();
+    }
+}
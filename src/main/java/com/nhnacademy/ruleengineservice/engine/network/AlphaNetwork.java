@@ -0,0 +1,931 @@
+package com.nhnacademy.ruleengineservice.engine.network;
+
+import com.nhnacademy.ruleengineservice.domain.rule.EventType;
+import com.nhnacademy.ruleengineservice.engine.compile.CompiledCondition;
+import com.nhnacademy.ruleengineservice.engine.compile.CompiledRule;
+import com.nhnacademy.ruleengineservice.engine.compile.predicate.ComparisonPredicate;
+import com.nhnacademy.ruleengineservice.engine.compile.predicate.EqualityPredicate;
+import com.nhnacademy.ruleengineservice.engine.compile.predicate.FactPredicate;
+import com.nhnacademy.ruleengineservice.engine.compile.predicate.MembershipPredicate;
+import com.nhnacademy.ruleengineservice.engine.compile.RuleCompiler;
+import com.nhnacademy.ruleengineservice.engine.compile.predicate.RangePredicate;
+import com.nhnacademy.ruleengineservice.engine.compile.state.ConditionState;
+import com.nhnacademy.ruleengineservice.engine.fact.FactSlots;
+import com.nhnacademy.ruleengineservice.engine.fact.FieldSymbolTable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * AlphaNetwork 는 모든 규칙의 조건을 고유한 {@link AlphaNode} 로 중복 제거한 Rete 방식의 알파 네트워크입니다.
+ * <p>
+ * 예를 들어 40개의 규칙이 {@code temperature > 30} 을 가지고 있어도 노드는 하나이며,
+ * 팩트마다 고유 검사 수만큼만 predicate 를 호출합니다.
+ * 만족된 노드는 자신에게 의존하는 규칙의 만족 개수만 올리며,
+ * 규칙은 만족 개수가 조건 수에 도달하는 즉시 발동됩니다. (활성화 상태는 {@link MatchContext} 참고)
+ * <p>
+ * 숫자 임계값 조건(GT, GTE, LT, LTE, BETWEEN)은 필드별 {@link NumericThresholdIndex} 로,
+ * 동등 조건(EQ, IN)은 필드별 {@link EqualityIndex} 로 색인되어
+ * 팩트 값 하나로 만족하는 노드만 찾아내며, 나머지 노드(NE, LIKE, IS_NULL 등)만 하나씩 검사합니다.
+ * 윈도 집계처럼 상태를 가지는 노드는 의존 규칙 중 하나라도 이벤트 유형을 구독할 때만 검사하여,
+ * 구독하지 않는 이벤트가 상태를 바꾸지 않게 하며, 순서 패턴이 단계를 고를 수 있도록 이벤트 유형을 함께 전달합니다.
+ * <p>
+ * 팩트는 평가마다 한 번 {@link FactSlots} 로 파싱되며, 필드 색인과 노드는 네트워크가 가진 {@link FieldSymbolTable} 의
+ * 필드 id 로 슬롯의 값을 읽습니다. {@link #build(List)} 는 빈 심볼 표에서 시작하고, 패치는 이전 표를 이어 씁니다.
+ * <p>
+ * 이벤트 유형이 주어지면 {@link DispatchTable} 의 구독 마스크로 해당 유형을 구독하는 규칙만 활성화하며,
+ * {@link FieldDependencyIndex} 로 팩트에 필요한 필드가 모두 있는 규칙만 후보로 삼습니다.
+ * 후보가 하나도 없으면 색인과 노드를 검사하지 않습니다.
+ * <p>
+ * 규칙은 고정된 슬롯(규칙 인덱스)에 배치됩니다. {@link #build(List)} 직후에는 슬롯 순서가 평가 순서와 같으며,
+ * {@link #patch(Collection, Collection)} 로 일부 규칙만 교체하면 바뀐 규칙의 노드와 색인만 새로 만들고
+ * 나머지 노드와 필드 색인은 이전 네트워크와 공유합니다. 이때 슬롯 순서가 평가 순서와 달라질 수 있으며
+ * ({@link #isOrdered()}), 평가기는 발동된 규칙만 {@link #getEvaluationRank(int)} 순위로 정렬합니다.
+ * <p>
+ * 생성 후에는 변경되지 않으므로 여러 스레드에서 동시에 평가해도 안전합니다.
+ */
+public final class AlphaNetwork {
+
+    /**
+     * 슬롯별 규칙 배열. 배열 인덱스가 규칙 인덱스이며, 빈 슬롯은 null 입니다.
+     */
+    private final CompiledRule[] rules;
+
+    /**
+     * 고유 검사 노드 배열. 배열 인덱스가 노드 번호이며, 제거된 노드는 null 입니다.
+     */
+    private final AlphaNode[] nodes;
+
+    /**
+     * 규칙 인덱스별로 의존하는 노드 번호 목록.
+     */
+    private final int[][] ruleNodes;
+
+    /**
+     * 노드와 색인이 공유하는 필드 심볼 표.
+     */
+    private final FieldSymbolTable symbols;
+
+    /**
+     * 규칙 인덱스별 발동에 필요한 만족 조건 수.
+     */
+    private final int[] requiredCounts;
+
+    /**
+     * 조건이 없어 항상 발동되는 규칙의 비트셋.
+     */
+    private final long[] unconditionalBits;
+
+    /**
+     * 상태를 가지는 조건(윈도, 지속, 순서 패턴)이 있어 팩트마다 상태를 갱신해야 하는 규칙의 비트셋.
+     */
+    private final long[] statefulBits;
+
+    /**
+     * 빈 슬롯을 제외한 규칙 수.
+     */
+    private final int ruleCount;
+
+    /**
+     * 제거된 노드를 제외한 노드 수.
+     */
+    private final int nodeCount;
+
+    /**
+     * 슬롯 순서가 평가 순서와 같은지 여부.
+     */
+    private final boolean ordered;
+
+    /**
+     * 이벤트 유형별 구독 규칙 표.
+     */
+    private final DispatchTable dispatchTable;
+
+    /**
+     * 필드 → 읽는 규칙, 규칙 → 필요한 필드 색인.
+     */
+    private final FieldDependencyIndex dependencies;
+
+    /**
+     * conField 별 색인.
+     */
+    private final Map<String, FieldIndex> fieldIndexes;
+
+    /**
+     * 필드 id → 색인. 색인이 없는 필드는 null 입니다.
+     */
+    private final FieldIndex[] fieldIndexesById;
+
+    /**
+     * 색인되지 않아 팩트마다 직접 검사해야 하는 노드 번호 목록.
+     */
+    private final int[] residualNodeIds;
+
+    /**
+     * 패치 시 사용하는 조회 표. 평가 경로에서는 읽지 않습니다.
+     */
+    private final Directory directory;
+
+    /**
+     * ruleNo → 규칙. {@link #findRule(Long)} 를 처음 호출할 때 만들어집니다.
+     */
+    private volatile Map<Long, CompiledRule> rulesByNo;
+
+    /**
+     * 규칙 인덱스 → 평가 순서 순위. 슬롯 순서가 평가 순서와 다를 때 {@link #getEvaluationRank(int)} 를 처음 호출하면 만들어집니다.
+     */
+    private volatile int[] evaluationRanks;
+
+    /**
+     * 조건 상태 → 상태를 가지는 노드. {@link #findStatefulNode(ConditionState)} 를 처음 호출할 때 만들어집니다.
+     */
+    private volatile Map<ConditionState, AlphaNode> statefulNodes;
+
+    private AlphaNetwork(FieldSymbolTable symbols, CompiledRule[] rules, AlphaNode[] nodes, int[][] ruleNodes,
+                         int[] requiredCounts, boolean ordered, DispatchTable dispatchTable,
+                         FieldDependencyIndex dependencies, Map<String, FieldIndex> fieldIndexes, Directory directory) {
+        this.symbols = symbols;
+        this.rules = rules;
+        this.nodes = nodes;
+        this.ruleNodes = ruleNodes;
+        this.requiredCounts = requiredCounts;
+        this.unconditionalBits = new long[wordsFor(rules.length)];
+        this.statefulBits = new long[wordsFor(rules.length)];
+        int live = 0;
+        for (int ruleIndex = 0; ruleIndex < rules.length; ruleIndex++) {
+            if (rules[ruleIndex] == null) {
+                continue;
+            }
+            live++;
+            if (requiredCounts[ruleIndex] == 0) {
+                unconditionalBits[ruleIndex >>> 6] |= 1L << ruleIndex;
+            }
+            for (int nodeId : ruleNodes[ruleIndex]) {
+                if (nodes[nodeId].isStateful()) {
+                    statefulBits[ruleIndex >>> 6] |= 1L << ruleIndex;
+                    break;
+                }
+            }
+        }
+        this.ruleCount = live;
+        this.nodeCount = directory.nodeIdsByKey.size();
+        this.ordered = ordered;
+        this.dispatchTable = dispatchTable;
+        this.dependencies = dependencies;
+        this.fieldIndexes = Map.copyOf(fieldIndexes);
+        this.fieldIndexesById = indexById(fieldIndexes, symbols);
+        this.residualNodeIds = directory.residualNodeIds.stream().mapToInt(Integer::intValue).toArray();
+        this.directory = directory;
+        directory.owner = this;
+    }
+
+    /**
+     * 평가 순서로 정렬된 규칙 목록으로 네트워크를 구성합니다. 필드 id 는 새 심볼 표에서 부여합니다.
+     *
+     * @param compiledRules 평가 순서로 정렬된 규칙 목록
+     * @return 새 AlphaNetwork
+     */
+    public static AlphaNetwork build(List<CompiledRule> compiledRules) {
+        FieldSymbolTable symbols = new FieldSymbolTable();
+        CompiledRule[] rules = compiledRules.toArray(new CompiledRule[0]);
+        Directory directory = new Directory();
+
+        List<CompiledCondition> representatives = new ArrayList<>();
+        List<List<Integer>> dependents = new ArrayList<>();
+        int[][] ruleNodes = new int[rules.length][];
+        int[] requiredCounts = new int[rules.length];
+
+        for (int ruleIndex = 0; ruleIndex < rules.length; ruleIndex++) {
+            directory.slotsByRuleNo.put(rules[ruleIndex].getRuleNo(), ruleIndex);
+            List<CompiledCondition> conditions = rules[ruleIndex].getConditions();
+            int[] ids = new int[conditions.size()];
+            int count = 0;
+            for (CompiledCondition condition : conditions) {
+                Integer id = directory.nodeIdsByKey.get(AlphaNode.keyOf(condition));
+                if (id == null) {
+                    id = representatives.size();
+                    directory.nodeIdsByKey.put(AlphaNode.keyOf(condition), id);
+                    representatives.add(condition);
+                    dependents.add(new ArrayList<>());
+                }
+                List<Integer> ruleIndexes = dependents.get(id);
+                if (ruleIndexes.isEmpty() || ruleIndexes.getLast() != ruleIndex) {
+                    ruleIndexes.add(ruleIndex);
+                    ids[count++] = id;
+                }
+            }
+            ruleNodes[ruleIndex] = count == ids.length ? ids : Arrays.copyOf(ids, count);
+            requiredCounts[ruleIndex] = count;
+        }
+
+        AlphaNode[] nodes = new AlphaNode[representatives.size()];
+        for (int id = 0; id < nodes.length; id++) {
+            int[] ruleIndexes = dependents.get(id).stream().mapToInt(Integer::intValue).toArray();
+            CompiledCondition condition = representatives.get(id);
+            nodes[id] = new AlphaNode(id, condition, symbols.intern(condition.getConField()), ruleIndexes);
+            directory.register(nodes[id]);
+        }
+
+        Map<String, FieldIndex> indexes = new HashMap<>();
+        for (String field : directory.indexedNodeIdsByField.keySet()) {
+            indexes.put(field, indexOf(field, directory.indexedNodeIdsByField.get(field), nodes));
+        }
+        return new AlphaNetwork(symbols, rules, nodes, ruleNodes, requiredCounts, true,
+                DispatchTable.build(rules), FieldDependencyIndex.build(rules, symbols), indexes, directory);
+    }
+
+    /**
+     * 일부 규칙만 교체한 새 네트워크를 만듭니다. 이 네트워크는 변경되지 않습니다.
+     * <p>
+     * 제거되거나 교체되는 규칙의 노드 의존 관계만 떼어 내고, 새 규칙의 조건만 노드로 연결합니다.
+     * 노드가 새로 생기거나 사라진 필드의 색인만 다시 만들고 나머지 필드 색인과 노드는 그대로 공유하므로,
+     * 비용은 전체 규칙 수가 아니라 바뀐 규칙과 그 필드의 노드 수에 비례합니다.
+     * (슬롯 배열의 참조 복사는 예외적으로 전체 크기에 비례하지만 단순 메모리 복사입니다.)
+     * <p>
+     * 같은 네트워크에서 이어지는 패치는 한 스레드에서 차례로 호출해야 합니다.
+     * <p>
+     * 패치된 네트워크는 이 네트워크의 심볼 표를 이어 씁니다. 새 규칙의 필드를 표에 더 등록할 수 없으면
+     * 패치 대신 남은 규칙 전체로 {@link #build(List)} 하여 새 심볼 표에서 다시 시작합니다.
+     *
+     * @param removedRuleNos 제거할 규칙 번호 (없는 번호는 무시)
+     * @param changedRules   추가하거나 교체할 규칙 (같은 ruleNo 가 있으면 교체)
+     * @return 패치된 새 AlphaNetwork
+     */
+    public AlphaNetwork patch(Collection<Long> removedRuleNos, Collection<CompiledRule> changedRules) {
+        if (!symbols.canIntern(fieldsOf(changedRules))) {
+            return rebuild(removedRuleNos, changedRules);
+        }
+        Directory dir;
+        if (directory.owner == this) {
+            dir = directory;
+            directory.owner = null;
+        } else {
+            dir = Directory.of(this);
+        }
+
+        CompiledRule[] newRules = rules.clone();
+        int[][] newRuleNodes = ruleNodes.clone();
+        int[] newRequired = requiredCounts.clone();
+        List<Integer> changedSlots = new ArrayList<>();
+        Map<Integer, Set<Integer>> dependentChanges = new HashMap<>();
+        Map<Integer, CompiledCondition> createdNodes = new HashMap<>();
+
+        for (Long ruleNo : removedRuleNos) {
+            Integer slot = dir.slotsByRuleNo.remove(ruleNo);
+            if (slot != null) {
+                detach(slot, newRuleNodes, dependentChanges);
+                newRules[slot] = null;
+                newRequired[slot] = 0;
+                dir.freeSlots.push(slot);
+                changedSlots.add(slot);
+            }
+        }
+
+        for (CompiledRule rule : changedRules) {
+            Integer slot = dir.slotsByRuleNo.get(rule.getRuleNo());
+            if (slot != null) {
+                detach(slot, newRuleNodes, dependentChanges);
+            } else {
+                slot = dir.freeSlots.isEmpty() ? newRules.length : dir.freeSlots.pop();
+                if (slot >= newRules.length) {
+                    int capacity = Math.max(slot + 1, newRules.length + (newRules.length >> 1));
+                    newRules = Arrays.copyOf(newRules, capacity);
+                    newRuleNodes = Arrays.copyOf(newRuleNodes, capacity);
+                    newRequired = Arrays.copyOf(newRequired, capacity);
+                    for (int free = capacity - 1; free > slot; free--) {
+                        dir.freeSlots.push(free);
+                    }
+                }
+                dir.slotsByRuleNo.put(rule.getRuleNo(), slot);
+            }
+            newRules[slot] = rule;
+
+            int[] ids = new int[rule.getConditions().size()];
+            int count = 0;
+            for (CompiledCondition condition : rule.getConditions()) {
+                String key = AlphaNode.keyOf(condition);
+                Integer id = dir.nodeIdsByKey.get(key);
+                if (id == null) {
+                    id = dir.freeNodeIds.isEmpty() ? dir.nextNodeId++ : dir.freeNodeIds.pop();
+                    dir.nodeIdsByKey.put(key, id);
+                    createdNodes.put(id, condition);
+                }
+                Set<Integer> dependents = dependentsOf(id, dependentChanges);
+                if (dependents.add(slot)) {
+                    ids[count++] = id;
+                }
+            }
+            newRuleNodes[slot] = count == ids.length ? ids : Arrays.copyOf(ids, count);
+            newRequired[slot] = count;
+            changedSlots.add(slot);
+        }
+        for (int slot = rules.length; slot < newRules.length; slot++) {
+            if (newRuleNodes[slot] == null) {
+                newRuleNodes[slot] = new int[0];
+            }
+        }
+
+        AlphaNode[] newNodes = Arrays.copyOf(nodes, Math.max(nodes.length, dir.nextNodeId));
+        Set<String> dirtyFields = new TreeSet<>();
+        for (Map.Entry<Integer, Set<Integer>> change : dependentChanges.entrySet()) {
+            int id = change.getKey();
+            AlphaNode previous = newNodes[id];
+            int[] ruleIndexes = change.getValue().stream().mapToInt(Integer::intValue).toArray();
+            if (ruleIndexes.length == 0) {
+                if (previous != null) {
+                    dir.unregister(previous);
+                    dirtyFields.add(previous.getConField());
+                }
+                newNodes[id] = null;
+            } else if (previous == null || createdNodes.containsKey(id)) {
+                CompiledCondition condition = createdNodes.get(id);
+                newNodes[id] = new AlphaNode(id, condition, symbols.intern(condition.getConField()), ruleIndexes);
+                dir.register(newNodes[id]);
+                dirtyFields.add(newNodes[id].getConField());
+            } else {
+                newNodes[id] = previous.withRuleIndexes(ruleIndexes);
+            }
+        }
+
+        Map<String, FieldIndex> indexes = new HashMap<>(fieldIndexes);
+        for (String field : dirtyFields) {
+            Set<Integer> ids = dir.indexedNodeIdsByField.get(field);
+            if (ids == null) {
+                indexes.remove(field);
+            } else {
+                indexes.put(field, indexOf(field, ids, newNodes));
+            }
+        }
+
+        boolean stillOrdered = ordered;
+        for (int slot : changedSlots) {
+            stillOrdered = stillOrdered && inOrder(newRules, slot);
+        }
+        return new AlphaNetwork(symbols, newRules, newNodes, newRuleNodes, newRequired, stillOrdered,
+                dispatchTable.patch(rules, newRules, changedSlots),
+                dependencies.patch(rules, newRules, changedSlots), indexes, dir);
+    }
+
+    private static Set<String> fieldsOf(Collection<CompiledRule> changedRules) {
+        Set<String> fields = new HashSet<>();
+        for (CompiledRule rule : changedRules) {
+            for (CompiledCondition condition : rule.getConditions()) {
+                fields.add(condition.getConField());
+                fields.addAll(condition.getReadFields());
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * 패치 결과와 같은 규칙으로 새 심볼 표를 쓰는 네트워크를 처음부터 만듭니다.
+     */
+    private AlphaNetwork rebuild(Collection<Long> removedRuleNos, Collection<CompiledRule> changedRules) {
+        Set<Long> replaced = new HashSet<>(removedRuleNos);
+        for (CompiledRule rule : changedRules) {
+            replaced.add(rule.getRuleNo());
+        }
+        List<CompiledRule> live = new ArrayList<>(changedRules);
+        for (CompiledRule rule : rules) {
+            if (rule != null && !replaced.contains(rule.getRuleNo())) {
+                live.add(rule);
+            }
+        }
+        live.sort(RuleCompiler.EVALUATION_ORDER);
+        return build(live);
+    }
+
+    /**
+     * 슬롯의 규칙이 의존하던 노드에서 슬롯을 떼어 냅니다.
+     */
+    private void detach(int slot, int[][] newRuleNodes, Map<Integer, Set<Integer>> dependentChanges) {
+        for (int id : newRuleNodes[slot]) {
+            dependentsOf(id, dependentChanges).remove(slot);
+        }
+        newRuleNodes[slot] = new int[0];
+    }
+
+    private Set<Integer> dependentsOf(int id, Map<Integer, Set<Integer>> dependentChanges) {
+        return dependentChanges.computeIfAbsent(id, key -> {
+            Set<Integer> dependents = new TreeSet<>();
+            if (key < nodes.length && nodes[key] != null) {
+                for (int ruleIndex : nodes[key].getRuleIndexes()) {
+                    dependents.add(ruleIndex);
+                }
+            }
+            return dependents;
+        });
+    }
+
+    /**
+     * 슬롯의 규칙이 앞뒤의 규칙과 평가 순서를 지키는지 확인합니다.
+     */
+    private static boolean inOrder(CompiledRule[] rules, int slot) {
+        CompiledRule rule = rules[slot];
+        if (rule == null) {
+            return true;
+        }
+        for (int before = slot - 1; before >= 0; before--) {
+            if (rules[before] != null) {
+                if (RuleCompiler.EVALUATION_ORDER.compare(rules[before], rule) > 0) {
+                    return false;
+                }
+                break;
+            }
+        }
+        for (int after = slot + 1; after < rules.length; after++) {
+            if (rules[after] != null) {
+                return RuleCompiler.EVALUATION_ORDER.compare(rule, rules[after]) <= 0;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 필드에 속한 색인 대상 노드로 필드 색인을 만듭니다.
+     */
+    private static FieldIndex indexOf(String field, Set<Integer> nodeIds, AlphaNode[] nodes) {
+        NumericThresholdIndex.Builder thresholds = NumericThresholdIndex.builder();
+        EqualityIndex.Builder equalities = EqualityIndex.builder();
+        for (int id : nodeIds) {
+            AlphaNode node = nodes[id];
+            if (node.getPredicate() instanceof ComparisonPredicate comparison) {
+                thresholds.addThreshold(id, comparison.getOperator(), comparison.getThreshold());
+            } else if (node.getPredicate() instanceof RangePredicate range) {
+                thresholds.addRange(id, range.getLower(), range.getUpper());
+            } else if (node.getPredicate() instanceof EqualityPredicate equality) {
+                equalities.add(id, List.of(equality.getOperand()));
+            } else if (node.getPredicate() instanceof MembershipPredicate membership) {
+                equalities.add(id, membership.getValues());
+            }
+        }
+        return new FieldIndex(field, thresholds.build(), equalities.build());
+    }
+
+    /**
+     * 필드 색인을 필드 id 로 찾을 수 있도록 배열로 옮깁니다. 필드 id 는 노드를 만들 때 부여되어 있습니다.
+     */
+    private static FieldIndex[] indexById(Map<String, FieldIndex> fieldIndexes, FieldSymbolTable symbols) {
+        FieldIndex[] byId = new FieldIndex[0];
+        for (Map.Entry<String, FieldIndex> entry : fieldIndexes.entrySet()) {
+            int id = symbols.intern(entry.getKey());
+            if (id < 0) {
+                continue;
+            }
+            if (id >= byId.length) {
+                byId = Arrays.copyOf(byId, id + 1);
+            }
+            byId[id] = entry.getValue();
+        }
+        return byId;
+    }
+
+    /**
+     * 노드가 필드 색인으로 처리되는지 확인합니다. 부정 동등 조건(NE, NOT_IN)은 색인하지 않습니다.
+     */
+    private static boolean isIndexed(AlphaNode node) {
+        return node.getPredicate() instanceof ComparisonPredicate
+                || node.getPredicate() instanceof RangePredicate
+                || node.getPredicate() instanceof EqualityPredicate equality && !equality.isNegate()
+                || node.getPredicate() instanceof MembershipPredicate membership && !membership.isNegate();
+    }
+
+    /**
+     * 모든 규칙을 대상으로 팩트를 평가합니다.
+     *
+     * @param fact    필드명 → 값 형태의 팩트
+     * @param context 현재 스레드의 매칭 컨텍스트
+     * @see #match(EventType, Map, MatchContext)
+     */
+    public void match(Map<String, Object> fact, MatchContext context) {
+        match(null, fact, context);
+    }
+
+    /**
+     * 팩트에 대해 고유 검사를 한 번씩 수행하고, 발동된 규칙을 컨텍스트의 비트셋에 기록합니다.
+     * <p>
+     * 필요한 필드가 팩트에 모두 있는 규칙만 활성화하며, 그런 규칙이 없으면 바로 끝냅니다.
+     * 팩트는 컨텍스트의 슬롯으로 한 번 파싱되며, 색인된 필드는 팩트에 있는 필드만 필드 id 로 조회합니다.
+     * 이 경로에서는 객체를 할당하지 않습니다.
+     * 컨텍스트가 {@link MatchContext#setPeek(boolean)} 로 드라이런이면 상태를 가지는 조건은 상태를 갱신하지 않습니다.
+     * 결과는 {@link MatchContext#nextFired(int)} 로 규칙 인덱스 순서대로 읽습니다.
+     *
+     * @param eventType 이벤트 유형, null 이면 모든 규칙을 대상으로 평가
+     * @param fact      필드명 → 값 형태의 팩트
+     * @param context   현재 스레드의 매칭 컨텍스트
+     */
+    public void match(EventType eventType, Map<String, Object> fact, MatchContext context) {
+        FactSlots slots = context.parse(fact, symbols);
+        context.begin(this, dispatchTable.maskOf(eventType), dependencies.select(slots, rules.length, context));
+        if (context.isEmpty()) {
+            return;
+        }
+        probe(slots, context);
+        matchResidual(eventType, fact, slots, context);
+    }
+
+    private void probe(FactSlots slots, MatchContext context) {
+        for (int i = 0; i < slots.getPresentCount(); i++) {
+            int fieldId = slots.getPresentId(i);
+            FieldIndex index = fieldId < fieldIndexesById.length ? fieldIndexesById[fieldId] : null;
+            if (index != null) {
+                index.probe(slots, fieldId, context);
+            }
+        }
+    }
+
+    private void matchResidual(EventType eventType, Map<String, Object> fact, FactSlots slots, MatchContext context) {
+        for (int id : residualNodeIds) {
+            AlphaNode node = nodes[id];
+            if (node.isStateful() && !context.subscribesAny(node.getRuleIndexes())) {
+                continue;
+            }
+            boolean satisfied = context.isPeek()
+                    ? node.peekSlots(eventType, fact, slots) : node.testSlots(eventType, fact, slots);
+            if (satisfied) {
+                context.activate(id);
+            }
+        }
+    }
+
+    /**
+     * 값이 바뀐 필드를 읽는 규칙만 대상으로 팩트를 평가합니다.
+     * 바뀐 필드를 읽는 규칙이 없으면 색인이나 노드를 검사하지 않습니다.
+     * 상태를 가지는 조건이 있는 규칙은 값이 같은 팩트도 윈도 개수, 지속 시각, 순서 단계에 반영해야 하므로
+     * 바뀐 필드와 관계없이 후보로 둡니다.
+     *
+     * @param eventType     이벤트 유형, null 이면 모든 규칙을 대상으로 평가
+     * @param fact          필드명 → 값 형태의 팩트
+     * @param changedFields 값이 바뀐 필드, null 이면 모든 규칙을 대상으로 평가
+     * @param context       현재 스레드의 매칭 컨텍스트
+     */
+    public void match(EventType eventType, Map<String, Object> fact, Collection<String> changedFields,
+                      MatchContext context) {
+        if (changedFields == null) {
+            match(eventType, fact, context);
+            return;
+        }
+        FactSlots slots = context.parse(fact, symbols);
+        long[] candidates = dependencies.select(slots, rules.length, context);
+        int words = wordsFor(rules.length);
+        long[] readers = context.readerBuffer(words);
+        fillReaders(changedFields, readers, words);
+        for (int word = 0; word < words; word++) {
+            candidates[word] &= readers[word];
+        }
+        context.begin(this, dispatchTable.maskOf(eventType), candidates);
+        if (context.isEmpty()) {
+            return;
+        }
+        probe(slots, context);
+        matchResidual(eventType, fact, slots, context);
+    }
+
+    /**
+     * 이벤트 유형을 구독하는 규칙 중 상태를 가지는 조건(윈도, 지속, 순서 패턴)이 있는지 확인합니다.
+     * 이런 조건은 같은 키의 팩트를 입력 순서대로 평가해야 결과가 정해집니다.
+     *
+     * @param eventType 이벤트 유형, null 이면 모든 규칙
+     * @return 상태를 가지는 노드를 구독 규칙이 사용하면 true
+     */
+    public boolean hasStatefulSubscribers(EventType eventType) {
+        long[] mask = dispatchTable.maskOf(eventType);
+        for (int id : residualNodeIds) {
+            if (nodes[id].isStateful() && subscribed(nodes[id], mask)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 이벤트 유형을 구독하는 규칙의 상태를 가지는 조건이 상태를 나누는 키 필드를 반환합니다.
+     * 반환된 키 필드 값을 하나도 공유하지 않는 팩트끼리는 평가 순서가 결과에 영향을 주지 않습니다.
+     *
+     * @param eventType 이벤트 유형, null 이면 모든 규칙
+     * @return 키 필드명 집합 (상태를 가지는 조건이 없으면 빈 집합), 키 필드 없이 하나의 상태를 공유하는 조건이 있으면 null
+     */
+    public Set<String> getStatefulKeyFields(EventType eventType) {
+        long[] mask = dispatchTable.maskOf(eventType);
+        Set<String> keyFields = new HashSet<>();
+        for (int id : residualNodeIds) {
+            AlphaNode node = nodes[id];
+            if (!node.isStateful() || !subscribed(node, mask)) {
+                continue;
+            }
+            String keyField = ((FactPredicate) node.getPredicate()).getKeyField();
+            if (keyField == null) {
+                return null;
+            }
+            keyFields.add(keyField);
+        }
+        return keyFields;
+    }
+
+    private static boolean subscribed(AlphaNode node, long[] mask) {
+        if (mask == null) {
+            return true;
+        }
+        for (int ruleIndex : node.getRuleIndexes()) {
+            if ((mask[ruleIndex >>> 6] & (1L << ruleIndex)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 필드 중 하나라도 읽는 규칙의 인덱스 비트셋을 반환합니다. 조건이 없는 규칙과
+     * 상태를 가지는 조건이 있는 규칙은 모든 필드를 읽는 것으로 봅니다.
+     *
+     * @param fields 필드명 목록
+     * @return 규칙 인덱스 비트셋 (새 배열)
+     */
+    public long[] readersOf(Collection<String> fields) {
+        long[] readers = new long[unconditionalBits.length];
+        fillReaders(fields, readers, readers.length);
+        return readers;
+    }
+
+    private void fillReaders(Collection<String> fields, long[] into, int words) {
+        for (int word = 0; word < words; word++) {
+            into[word] = unconditionalBits[word] | statefulBits[word];
+        }
+        dependencies.addReaders(fields, into);
+    }
+
+    /**
+     * 팩트를 평가하여 발동된 규칙 인덱스를 반환합니다. 매번 새 컨텍스트를 할당합니다.
+     *
+     * @param fact 필드명 → 값 형태의 팩트
+     * @return 발동된 규칙 인덱스 목록
+     */
+    public int[] match(Map<String, Object> fact) {
+        MatchContext context = new MatchContext();
+        match(fact, context);
+        return context.toFiredArray();
+    }
+
+    /**
+     * 규칙 인덱스로 규칙을 조회합니다.
+     *
+     * @param ruleIndex 규칙 인덱스
+     * @return 컴파일된 규칙, 빈 슬롯이면 null
+     */
+    public CompiledRule getRule(int ruleIndex) {
+        return rules[ruleIndex];
+    }
+
+    /**
+     * 규칙 인덱스의 평가 순서 순위를 반환합니다. 순위가 작을수록 먼저 평가됩니다.
+     * 슬롯 순서가 평가 순서와 같으면 규칙 인덱스를 그대로 반환합니다.
+     *
+     * @param ruleIndex 규칙 인덱스
+     * @return 평가 순서 순위
+     */
+    public int getEvaluationRank(int ruleIndex) {
+        if (ordered) {
+            return ruleIndex;
+        }
+        int[] ranks = evaluationRanks;
+        if (ranks == null) {
+            List<Integer> live = new ArrayList<>(ruleCount);
+            for (int index = 0; index < rules.length; index++) {
+                if (rules[index] != null) {
+                    live.add(index);
+                }
+            }
+            live.sort((left, right) -> RuleCompiler.EVALUATION_ORDER.compare(rules[left], rules[right]));
+            ranks = new int[rules.length];
+            for (int rank = 0; rank < live.size(); rank++) {
+                ranks[live.get(rank)] = rank;
+            }
+            evaluationRanks = ranks;
+        }
+        return ranks[ruleIndex];
+    }
+
+    /**
+     * 규칙 번호로 규칙을 찾습니다. (파라미터 갱신, 스케줄 실행 등)
+     *
+     * @param ruleNo 규칙 번호
+     * @return 컴파일된 규칙, 없으면 null
+     */
+    public CompiledRule findRule(Long ruleNo) {
+        Map<Long, CompiledRule> byNo = rulesByNo;
+        if (byNo == null) {
+            byNo = new HashMap<>(rules.length * 2);
+            for (CompiledRule rule : rules) {
+                if (rule != null) {
+                    byNo.put(rule.getRuleNo(), rule);
+                }
+            }
+            rulesByNo = byNo;
+        }
+        return byNo.get(ruleNo);
+    }
+
+    /**
+     * 조건 상태를 사용하는 노드를 찾습니다. (타이머로 바뀐 지속 조건 등)
+     *
+     * @param state 조건 상태
+     * @return 상태를 가지는 노드, 이 네트워크에서 쓰이지 않는 상태이면 null
+     */
+    public AlphaNode findStatefulNode(ConditionState state) {
+        Map<ConditionState, AlphaNode> byState = statefulNodes;
+        if (byState == null) {
+            byState = new IdentityHashMap<>();
+            for (int id : residualNodeIds) {
+                AlphaNode node = nodes[id];
+                if (node.getPredicate() instanceof FactPredicate factPredicate) {
+                    byState.put(factPredicate.getState(), node);
+                }
+            }
+            statefulNodes = byState;
+        }
+        return byState.get(state);
+    }
+
+    /**
+     * 규칙 인덱스가 의존하는 노드 번호 목록을 반환합니다.
+     *
+     * @param ruleIndex 규칙 인덱스
+     * @return 노드 번호 배열
+     */
+    public int[] getRuleNodes(int ruleIndex) {
+        return ruleNodes[ruleIndex].clone();
+    }
+
+    /**
+     * 노드와 색인이 쓰는 필드 심볼 표를 반환합니다.
+     *
+     * @return 필드 심볼 표
+     */
+    public FieldSymbolTable getSymbols() {
+        return symbols;
+    }
+
+    int[] getRequiredCounts() {
+        return requiredCounts;
+    }
+
+    long[] getUnconditionalBits() {
+        return unconditionalBits;
+    }
+
+    FieldDependencyIndex getDependencies() {
+        return dependencies;
+    }
+
+    /**
+     * 빈 슬롯을 포함한 규칙 슬롯 수를 반환합니다. 규칙 인덱스는 이 값보다 작습니다.
+     *
+     * @return 규칙 슬롯 수
+     */
+    public int getSlotCount() {
+        return rules.length;
+    }
+
+    /**
+     * 규칙 인덱스 순서가 평가 순서와 같은지 확인합니다.
+     *
+     * @return 같으면 true, 패치로 순서가 어긋났으면 false
+     */
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    public DispatchTable getDispatchTable() {
+        return dispatchTable;
+    }
+
+    public int getRuleCount() {
+        return ruleCount;
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * 평가 순서로 정렬된 규칙 목록을 반환합니다.
+     *
+     * @return 규칙 목록
+     */
+    public List<CompiledRule> getRules() {
+        List<CompiledRule> live = new ArrayList<>(ruleCount);
+        for (CompiledRule rule : rules) {
+            if (rule != null) {
+                live.add(rule);
+            }
+        }
+        if (!ordered) {
+            live.sort(RuleCompiler.EVALUATION_ORDER);
+        }
+        return List.copyOf(live);
+    }
+
+    public AlphaNode getNode(int id) {
+        return nodes[id];
+    }
+
+    /**
+     * conField 의 색인을 반환합니다.
+     *
+     * @param conField 필드명
+     * @return 필드 색인, 색인된 조건이 없으면 null
+     */
+    public FieldIndex getFieldIndex(String conField) {
+        return fieldIndexes.get(conField);
+    }
+
+    /**
+     * 색인되지 않아 팩트마다 직접 검사하는 노드 수를 반환합니다.
+     *
+     * @return 직접 검사 노드 수
+     */
+    public int getResidualNodeCount() {
+        return residualNodeIds.length;
+    }
+
+    private static int wordsFor(int slotCount) {
+        return (slotCount + 63) >>> 6;
+    }
+
+    /**
+     * Directory 는 패치 시 필요한 조회 표(ruleNo → 슬롯, 검사 키 → 노드 번호, 필드 → 색인 노드)와
+     * 빈 슬롯 목록입니다.
+     * <p>
+     * 가장 최근에 만들어진 네트워크가 소유하며, 다음 패치는 복사 없이 이를 이어받아 수정합니다.
+     * 소유자가 아닌(이미 패치된) 네트워크를 다시 패치하면 그 네트워크의 배열로 새로 만듭니다.
+     */
+    private static final class Directory {
+
+        private final Map<Long, Integer> slotsByRuleNo = new HashMap<>();
+
+        private final Map<String, Integer> nodeIdsByKey = new HashMap<>();
+
+        private final Map<String, Set<Integer>> indexedNodeIdsByField = new HashMap<>();
+
+        private final Set<Integer> residualNodeIds = new TreeSet<>();
+
+        private final ArrayDeque<Integer> freeSlots = new ArrayDeque<>();
+
+        private final ArrayDeque<Integer> freeNodeIds = new ArrayDeque<>();
+
+        private int nextNodeId;
+
+        private AlphaNetwork owner;
+
+        static Directory of(AlphaNetwork network) {
+            Directory directory = new Directory();
+            for (int slot = network.rules.length - 1; slot >= 0; slot--) {
+                CompiledRule rule = network.rules[slot];
+                if (rule == null) {
+                    directory.freeSlots.push(slot);
+                } else {
+                    directory.slotsByRuleNo.put(rule.getRuleNo(), slot);
+                }
+            }
+            for (int id = network.nodes.length - 1; id >= 0; id--) {
+                AlphaNode node = network.nodes[id];
+                if (node == null) {
+                    directory.freeNodeIds.push(id);
+                } else {
+                    directory.nodeIdsByKey.put(AlphaNode.keyOf(node), id);
+                    directory.register(node);
+                }
+            }
+            directory.nextNodeId = network.nodes.length;
+            return directory;
+        }
+
+        void register(AlphaNode node) {
+            if (isIndexed(node)) {
+                indexedNodeIdsByField.computeIfAbsent(node.getConField(), field -> new TreeSet<>()).add(node.getId());
+            } else {
+                residualNodeIds.add(node.getId());
+            }
+            nextNodeId = Math.max(nextNodeId, node.getId() + 1);
+        }
+
+        void unregister(AlphaNode node) {
+            nodeIdsByKey.remove(AlphaNode.keyOf(node));
+            freeNodeIds.push(node.getId());
+            Set<Integer> ids = indexedNodeIdsByField.get(node.getConField());
+            if (ids != null && ids.remove(node.getId()) && ids.isEmpty()) {
+                indexedNodeIdsByField.remove(node.getConField());
+            }
+            residualNodeIds.remove(node.getId());
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.nhnacademy.ruleengineservice.engine.network;
+
+import com.nhnacademy.ruleengineservice.domain.rule.EventType;
+import com.nhnacademy.ruleengineservice.engine.compile.CompiledCondition;
+import com.nhnacademy.ruleengineservice.engine.compile.ConditionOperator;
+import com.nhnacademy.ruleengineservice.engine.compile.predicate.FactPredicate;
+import com.nhnacademy.ruleengineservice.engine.compile.predicate.FieldPredicate;
+import com.nhnacademy.ruleengineservice.engine.compile.predicate.ParameterPredicate;
+import com.nhnacademy.ruleengineservice.engine.fact.FactSlots;
+
+import java.util.Map;
+
+/**
+ * AlphaNode 는 여러 규칙이 공유하는 하나의 고유한 조건 검사 (conType, conField, conValue) 입니다.
+ * <p>
+ * 같은 검사를 가진 조건이 여러 규칙에 있어도 노드는 하나만 만들어지며,
+ * 팩트마다 한 번만 평가된 뒤 결과가 {@link #getRuleIndexes()} 의 모든 규칙에 전파됩니다.
+ */
+public final class AlphaNode {
+
+    /**
+     * 네트워크 내 노드 번호 (0부터 시작).
+     */
+    private final int id;
+
+    /**
+     * 조건 비교 연산자.
+     */
+    private final ConditionOperator operator;
+
+    /**
+     * 검사 대상 필드명.
+     */
+    private final String conField;
+
+    /**
+     * 네트워크 심볼 표에서 받은 conField 의 필드 id, 없으면 -1.
+     */
+    private final int fieldId;
+
+    /**
+     * 정규화된 비교 값.
+     */
+    private final String conValue;
+
+    /**
+     * 컴파일된 필드 검사 로직.
+     */
+    private final FieldPredicate predicate;
+
+    /**
+     * 이 노드에 의존하는 규칙의 인덱스 목록.
+     */
+    private final int[] ruleIndexes;
+
+    AlphaNode(int id, CompiledCondition condition, int fieldId, int[] ruleIndexes) {
+        this.id = id;
+        this.operator = condition.getOperator();
+        this.conField = condition.getConField();
+        this.fieldId = fieldId;
+        this.conValue = normalize(condition.getConValue());
+        this.predicate = condition.getPredicate();
+        this.ruleIndexes = ruleIndexes;
+    }
+
+    private AlphaNode(AlphaNode source, int[] ruleIndexes) {
+        this.id = source.id;
+        this.operator = source.operator;
+        this.conField = source.conField;
+        this.fieldId = source.fieldId;
+        this.conValue = source.conValue;
+        this.predicate = source.predicate;
+        this.ruleIndexes = ruleIndexes;
+    }
+
+    /**
+     * 검사는 그대로 두고 의존 규칙 목록만 바꾼 노드를 만듭니다. (네트워크 패치용)
+     *
+     * @param ruleIndexes 새 의존 규칙 인덱스 목록
+     * @return 새 AlphaNode
+     */
+    AlphaNode withRuleIndexes(int[] ruleIndexes) {
+        return new AlphaNode(this, ruleIndexes);
+    }
+
+    /**
+     * 동일한 검사를 식별하는 키를 만듭니다.
+     * 규칙 파라미터를 참조하는 검사는 규칙마다 값이 다르므로 파라미터 슬롯까지 키에 포함합니다.
+     *
+     * @param condition 컴파일된 조건
+     * @return 연산자, 필드, 정규화된 값으로 구성된 키
+     */
+    static String keyOf(CompiledCondition condition) {
+        return keyOf(condition.getOperator(), condition.getConField(), normalize(condition.getConValue()),
+                condition.getPredicate());
+    }
+
+    /**
+     * 노드의 검사 키를 만듭니다. {@link #keyOf(CompiledCondition)} 와 같은 형식입니다.
+     *
+     * @param node 알파 노드
+     * @return 검사 키
+     */
+    static String keyOf(AlphaNode node) {
+        return keyOf(node.operator, node.conField, node.conValue, node.predicate);
+    }
+
+    private static String keyOf(ConditionOperator operator, String conField, String conValue, FieldPredicate predicate) {
+        String key = operator.name() + '\u0000' + conField + '\u0000' + conValue;
+        return predicate instanceof ParameterPredicate parameter ? key + '\u0000' + parameter.getSlotKey() : key;
+    }
+
+    private static String normalize(String conValue) {
+        return conValue == null ? "" : conValue.trim();
+    }
+
+    /**
+     * 필드 값에 대해 노드 검사를 수행합니다.
+     *
+     * @param value 팩트의 필드 값
+     * @return 조건을 만족하면 true
+     */
+    public boolean test(Object value) {
+        return predicate.test(value);
+    }
+
+    /**
+     * 팩트에 대해 노드 검사를 수행합니다. 팩트 전체를 보는 조건은 팩트를, 나머지는 conField 값을 전달합니다.
+     *
+     * @param fact 필드명 → 값 형태의 팩트
+     * @return 조건을 만족하면 true
+     */
+    public boolean testFact(Map<String, Object> fact) {
+        return predicate instanceof FactPredicate factPredicate
+                ? factPredicate.testFact(fact) : predicate.test(fact.get(conField));
+    }
+
+    /**
+     * 이벤트 유형과 함께 팩트에 대해 노드 검사를 수행합니다. 유형을 보지 않는 조건은 {@link #testFact(Map)} 와 같습니다.
+     *
+     * @param eventType 이벤트 유형, 없으면 null
+     * @param fact      필드명 → 값 형태의 팩트
+     * @return 조건을 만족하면 true
+     */
+    public boolean testEvent(EventType eventType, Map<String, Object> fact) {
+        return predicate instanceof FactPredicate factPredicate
+                ? factPredicate.testEvent(eventType, fact) : predicate.test(fact.get(conField));
+    }
+
+    /**
+     * 슬롯으로 파싱된 팩트에 대해 노드 검사를 수행합니다. 필드 값은 필드 id 로 슬롯에서 읽으며,
+     * 팩트 전체를 보는 조건은 원본 팩트를 전달합니다.
+     *
+     * @param eventType 이벤트 유형, 없으면 null
+     * @param fact      필드명 → 값 형태의 팩트
+     * @param slots     fact 를 파싱한 슬롯
+     * @return 조건을 만족하면 true
+     */
+    public boolean testSlots(EventType eventType, Map<String, Object> fact, FactSlots slots) {
+        if (predicate instanceof FactPredicate factPredicate) {
+            return factPredicate.testEvent(eventType, fact);
+        }
+        return predicate.test(fieldId >= 0 ? slots.value(fieldId) : fact.get(conField));
+    }
+
+    /**
+     * 상태를 갱신하지 않고 슬롯으로 파싱된 팩트를 검사합니다. 상태를 가지는 조건은 현재 상태로만 판단하며,
+     * 나머지 조건은 {@link #testSlots(EventType, Map, FactSlots)} 와 같습니다.
+     *
+     * @param eventType 이벤트 유형, 없으면 null
+     * @param fact      필드명 → 값 형태의 팩트
+     * @param slots     fact 를 파싱한 슬롯
+     * @return 조건을 만족하면 true
+     */
+    public boolean peekSlots(EventType eventType, Map<String, Object> fact, FactSlots slots) {
+        if (predicate instanceof FactPredicate factPredicate) {
+            return factPredicate.peekFact(fact);
+        }
+        return testSlots(eventType, fact, slots);
+    }
+
+    /**
+     * 평가할 때마다 상태를 갱신하는 노드인지 확인합니다.
+     *
+     * @return 상태를 가지면 true
+     */
+    public boolean isStateful() {
+        return predicate instanceof FactPredicate;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public ConditionOperator getOperator() {
+        return operator;
+    }
+
+    public String getConField() {
+        return conField;
+    }
+
+    public int getFieldId() {
+        return fieldId;
+    }
+
+    public String getConValue() {
+        return conValue;
+    }
+
+    public FieldPredicate getPredicate() {
+        return predicate;
+    }
+
+    public int[] getRuleIndexes() {
+        return ruleIndexes;
+    }
+
+    @Override
+    public String toString() {
+        return "AlphaNode{" +
+                "id=" + id +
+                ", operator=" + operator +
+                ", conField='" + conField + '\'' +
+                ", conValue='" + conValue + '\'' +
+                ", rules=" + ruleIndexes.length +
+                '}';
+    }
+}
@@ -0,0 +1,16 @@
+package com.nhnacademy.ruleengineservice.engine.network;
+
+/**
+ * AlphaSink 는 필드 인덱스가 찾아낸 "만족된 노드" 를 전달받는 콜백입니다.
+ * 인덱스는 만족된 노드만 보고하므로, 호출 횟수는 만족된 조건 수(k)에 비례합니다.
+ */
+@FunctionalInterface
+public interface AlphaSink {
+
+    /**
+     * 조건을 만족한 노드를 전달합니다.
+     *
+     * @param nodeId 만족된 노드 번호
+     */
+    void activate(int nodeId);
+}
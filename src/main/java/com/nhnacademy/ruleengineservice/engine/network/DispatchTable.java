@@ -0,0 +1,147 @@
+package com.nhnacademy.ruleengineservice.engine.network;
+
+import com.nhnacademy.ruleengineservice.domain.rule.EventType;
+import com.nhnacademy.ruleengineservice.engine.compile.CompiledRule;
+import com.nhnacademy.ruleengineservice.engine.compile.RuleCompiler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * DispatchTable 은 이벤트 유형별로 구독 규칙을 미리 나눠 둔 메모리 디스패치 표입니다.
+ * <p>
+ * {@code TriggerRepository.findByEventType} 처럼 매 이벤트마다 DB 를 조회하지 않고,
+ * 활성 TriggerEvent 로부터 컴파일 시점에 {@code EnumMap<EventType, CompiledRule[]>} 를 만들어 둡니다.
+ * 각 배열은 그룹 우선순위 → 규칙 우선순위 순으로 정렬되어 있으며,
+ * 네트워크 매칭 시에는 같은 정보를 규칙 인덱스 비트 마스크로 사용해 구독하지 않은 규칙을 건너뜁니다.
+ */
+public final class DispatchTable {
+
+    private final Map<EventType, CompiledRule[]> rulesByType;
+
+    private final Map<EventType, long[]> masksByType;
+
+    private DispatchTable(Map<EventType, CompiledRule[]> rulesByType, Map<EventType, long[]> masksByType) {
+        this.rulesByType = rulesByType;
+        this.masksByType = masksByType;
+    }
+
+    /**
+     * 평가 순서로 정렬된 규칙 배열로 디스패치 표를 만듭니다.
+     *
+     * @param rules 평가 순서로 정렬된 규칙 배열 (배열 인덱스가 규칙 인덱스)
+     * @return 새 DispatchTable
+     */
+    static DispatchTable build(CompiledRule[] rules) {
+        Map<EventType, List<CompiledRule>> lists = new EnumMap<>(EventType.class);
+        Map<EventType, long[]> masks = new EnumMap<>(EventType.class);
+        for (EventType eventType : EventType.values()) {
+            lists.put(eventType, new ArrayList<>());
+            masks.put(eventType, new long[(rules.length + 63) >>> 6]);
+        }
+
+        for (int ruleIndex = 0; ruleIndex < rules.length; ruleIndex++) {
+            for (EventType eventType : rules[ruleIndex].getEventTypes()) {
+                lists.get(eventType).add(rules[ruleIndex]);
+                masks.get(eventType)[ruleIndex >>> 6] |= 1L << ruleIndex;
+            }
+        }
+
+        Map<EventType, CompiledRule[]> rulesByType = new EnumMap<>(EventType.class);
+        lists.forEach((eventType, list) -> rulesByType.put(eventType, list.toArray(new CompiledRule[0])));
+        return new DispatchTable(rulesByType, masks);
+    }
+
+    /**
+     * 바뀐 슬롯만 반영한 새 디스패치 표를 만듭니다.
+     * 바뀐 규칙이 구독하는 이벤트 유형의 배열과 마스크만 새로 만들고, 나머지 유형은 그대로 공유합니다.
+     *
+     * @param previous     이전 슬롯별 규칙 배열
+     * @param rules        새 슬롯별 규칙 배열 (빈 슬롯은 null)
+     * @param changedSlots 규칙이 바뀐 슬롯 목록
+     * @return 새 DispatchTable
+     */
+    DispatchTable patch(CompiledRule[] previous, CompiledRule[] rules, List<Integer> changedSlots) {
+        int words = (rules.length + 63) >>> 6;
+        Map<EventType, CompiledRule[]> newRulesByType = new EnumMap<>(rulesByType);
+        Map<EventType, long[]> newMasksByType = new EnumMap<>(masksByType);
+
+        for (EventType eventType : EventType.values()) {
+            Set<CompiledRule> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+            Set<CompiledRule> added = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (int slot : changedSlots) {
+                CompiledRule before = slot < previous.length ? previous[slot] : null;
+                if (before != null && before.subscribes(eventType)) {
+                    removed.add(before);
+                }
+                if (rules[slot] != null && rules[slot].subscribes(eventType)) {
+                    added.add(rules[slot]);
+                }
+            }
+            long[] mask = masksByType.get(eventType);
+            if (removed.isEmpty() && added.isEmpty() && mask.length == words) {
+                continue;
+            }
+
+            long[] newMask = Arrays.copyOf(mask, words);
+            for (int slot : changedSlots) {
+                newMask[slot >>> 6] &= ~(1L << slot);
+                if (rules[slot] != null && rules[slot].subscribes(eventType)) {
+                    newMask[slot >>> 6] |= 1L << slot;
+                }
+            }
+            newMasksByType.put(eventType, newMask);
+
+            if (!removed.isEmpty() || !added.isEmpty()) {
+                List<CompiledRule> list = new ArrayList<>(rulesByType.get(eventType).length + added.size());
+                for (CompiledRule rule : rulesByType.get(eventType)) {
+                    if (!removed.contains(rule)) {
+                        list.add(rule);
+                    }
+                }
+                for (CompiledRule rule : added) {
+                    int position = Collections.binarySearch(list, rule, RuleCompiler.EVALUATION_ORDER);
+                    list.add(position < 0 ? -position - 1 : position, rule);
+                }
+                newRulesByType.put(eventType, list.toArray(new CompiledRule[0]));
+            }
+        }
+        return new DispatchTable(newRulesByType, newMasksByType);
+    }
+
+    /**
+     * 이벤트 유형을 구독하는 규칙을 평가 순서대로 반환합니다.
+     *
+     * @param eventType 이벤트 유형
+     * @return 구독 규칙 배열 (복사본)
+     */
+    public CompiledRule[] getRules(EventType eventType) {
+        return rulesByType.get(eventType).clone();
+    }
+
+    /**
+     * 이벤트 유형을 구독하는 규칙 수를 반환합니다.
+     *
+     * @param eventType 이벤트 유형
+     * @return 구독 규칙 수
+     */
+    public int countRules(EventType eventType) {
+        return rulesByType.get(eventType).length;
+    }
+
+    /**
+     * 이벤트 유형의 규칙 인덱스 비트 마스크를 반환합니다.
+     *
+     * @param eventType 이벤트 유형, null 이면 모든 규칙
+     * @return 비트 마스크, eventType 이 null 이면 null
+     */
+    long[] maskOf(EventType eventType) {
+        return eventType == null ? null : masksByType.get(eventType);
+    }
+}
@@ -0,0 +1,202 @@
+package com.nhnacademy.ruleengineservice.engine.network;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * EqualityIndex 는 하나의 conField 에 걸린 동등 조건(EQ, IN)을
+ * "피연산자 값 → 만족되는 노드 목록" 해시 색인으로 보관합니다.
+ * <p>
+ * 장치 상태처럼 열거형에 가까운 문자열 필드는 팩트 값 하나로 한 번만 조회하면 되며,
+ * 숫자 피연산자는 박싱 없는 long 키(double 비트) 개방 주소 테이블로도 색인되어
+ * 숫자 팩트 값(30, 30.0)도 한 번의 조회로 찾습니다.
+ * <p>
+ * 색인은 불변이며, 조건이 바뀌면 {@link #toBuilder()} 로 해당 필드의 색인만 다시 만듭니다.
+ */
+public final class EqualityIndex {
+
+    private static final int[] NONE = new int[0];
+
+    /**
+     * 피연산자 문자열 → 노드 번호 목록.
+     */
+    private final Map<String, int[]> byText;
+
+    /**
+     * 숫자 피연산자 테이블의 키 (double 비트). 빈 슬롯은 {@link #occupied} 로 구분합니다.
+     */
+    private final long[] numericKeys;
+
+    private final int[][] numericNodes;
+
+    private final boolean[] occupied;
+
+    private final int mask;
+
+    /**
+     * 노드 번호 → 색인에 등록된 피연산자 목록 (증분 재구성용).
+     */
+    private final Map<Integer, Set<String>> operandsByNode;
+
+    private EqualityIndex(Map<Integer, Set<String>> operandsByNode) {
+        this.operandsByNode = operandsByNode;
+
+        Map<String, int[]> text = new HashMap<>();
+        Map<Long, int[]> numeric = new HashMap<>();
+        operandsByNode.forEach((nodeId, operands) -> {
+            for (String operand : operands) {
+                text.merge(operand, new int[]{nodeId}, EqualityIndex::concat);
+                double number = parse(operand);
+                if (!Double.isNaN(number)) {
+                    numeric.merge(keyOf(number), new int[]{nodeId}, EqualityIndex::concat);
+                }
+            }
+        });
+        this.byText = Map.copyOf(text);
+
+        int capacity = Integer.highestOneBit(Math.max(4, numeric.size() * 2) - 1) << 1;
+        this.numericKeys = new long[capacity];
+        this.numericNodes = new int[capacity][];
+        this.occupied = new boolean[capacity];
+        this.mask = capacity - 1;
+        numeric.forEach((key, nodeIds) -> {
+            int slot = slotOf(key);
+            while (occupied[slot]) {
+                slot = (slot + 1) & mask;
+            }
+            occupied[slot] = true;
+            numericKeys[slot] = key;
+            numericNodes[slot] = nodeIds;
+        });
+    }
+
+    public static Builder builder() {
+        return new Builder(new HashMap<>());
+    }
+
+    /**
+     * 현재 색인을 복사한 빌더를 반환합니다. 조건 추가/삭제 후 해당 필드의 색인만 다시 만들 때 사용합니다.
+     *
+     * @return 현재 내용을 담은 빌더
+     */
+    public Builder toBuilder() {
+        Map<Integer, Set<String>> copy = new HashMap<>();
+        operandsByNode.forEach((nodeId, operands) -> copy.put(nodeId, new LinkedHashSet<>(operands)));
+        return new Builder(copy);
+    }
+
+    /**
+     * 값과 같은 피연산자를 가진 모든 노드를 sink 로 전달합니다.
+     *
+     * @param value 팩트 값
+     * @param sink  만족된 노드를 받을 콜백
+     * @return 만족된 노드 수
+     */
+    public int probe(Object value, AlphaSink sink) {
+        int[] nodeIds = lookup(value);
+        for (int nodeId : nodeIds) {
+            sink.activate(nodeId);
+        }
+        return nodeIds.length;
+    }
+
+    private int[] lookup(Object value) {
+        if (value == null) {
+            return NONE;
+        }
+        if (value instanceof Number number) {
+            double d = number.doubleValue();
+            if (Double.isNaN(d)) {
+                return NONE;
+            }
+            long key = keyOf(d);
+            int slot = slotOf(key);
+            while (occupied[slot]) {
+                if (numericKeys[slot] == key) {
+                    return numericNodes[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            return NONE;
+        }
+        int[] nodeIds = byText.get(value instanceof String s ? s : value.toString());
+        return nodeIds != null ? nodeIds : NONE;
+    }
+
+    public int size() {
+        return operandsByNode.size();
+    }
+
+    private int slotOf(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private static long keyOf(double value) {
+        // -0.0 과 0.0 을 같은 키로 취급합니다.
+        return Double.doubleToLongBits(value + 0.0);
+    }
+
+    private static double parse(String operand) {
+        try {
+            return Double.parseDouble(operand);
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    private static int[] concat(int[] left, int[] right) {
+        // "30" 과 "30.0" 처럼 같은 키로 모이는 피연산자는 노드를 한 번만 등록합니다.
+        if (right.length == 1 && Arrays.stream(left).anyMatch(id -> id == right[0])) {
+            return left;
+        }
+        int[] merged = Arrays.copyOf(left, left.length + right.length);
+        System.arraycopy(right, 0, merged, left.length, right.length);
+        return merged;
+    }
+
+    /**
+     * EqualityIndex 를 구성하는 빌더입니다.
+     */
+    public static final class Builder {
+
+        private final Map<Integer, Set<String>> operandsByNode;
+
+        private Builder(Map<Integer, Set<String>> operandsByNode) {
+            this.operandsByNode = operandsByNode;
+        }
+
+        /**
+         * 노드와 피연산자들을 추가합니다. EQ 는 피연산자 하나, IN 은 후보 목록 전체를 전달합니다.
+         *
+         * @param nodeId   노드 번호
+         * @param operands 피연산자 목록
+         * @return 이 빌더
+         */
+        public Builder add(int nodeId, Collection<String> operands) {
+            operandsByNode.computeIfAbsent(nodeId, id -> new LinkedHashSet<>()).addAll(operands);
+            return this;
+        }
+
+        /**
+         * 노드를 색인에서 제거합니다.
+         *
+         * @param nodeId 노드 번호
+         * @return 이 빌더
+         */
+        public Builder remove(int nodeId) {
+            operandsByNode.remove(nodeId);
+            return this;
+        }
+
+        public EqualityIndex build() {
+            Map<Integer, Set<String>> copy = new HashMap<>();
+            operandsByNode.forEach((nodeId, operands) -> copy.put(nodeId, Set.copyOf(operands)));
+            return new EqualityIndex(Map.copyOf(copy));
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package com.nhnacademy.ruleengineservice.engine.network;
+
+import com.nhnacademy.ruleengineservice.engine.compile.CompiledCondition;
+import com.nhnacademy.ruleengineservice.engine.compile.CompiledRule;
+import com.nhnacademy.ruleengineservice.engine.compile.ConditionOperator;
+import com.nhnacademy.ruleengineservice.engine.fact.FactSlots;
+import com.nhnacademy.ruleengineservice.engine.fact.FieldSymbolTable;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * FieldDependencyIndex 는 conField → 그 필드를 읽는 규칙, 규칙 → 반드시 있어야 하는 필드를 컴파일 시점에 색인한 표입니다.
+ * <p>
+ * 필드는 네트워크의 {@link FieldSymbolTable} id 로 다루며, 필드 id 별로 읽는 규칙의 인덱스 비트셋과
+ * 규칙별로 필요한 필드 id 비트셋(required-field mask)을 보관합니다.
+ * 팩트가 오면 {@link FactSlots} 에 있는 필드의 비트셋만 합친 뒤,
+ * presence 비트마스크로 필요한 필드가 하나라도 빠진 규칙을 지워 후보 규칙을 만듭니다.
+ * 대부분의 팩트는 필드가 2~3 개뿐이므로 후보는 전체 규칙이 아니라 그 필드를 읽는 규칙으로 좁혀집니다.
+ * <p>
+ * 필드가 없으면 IS_NULL 을 제외한 조건은 만족하지 않으므로({@link com.nhnacademy.ruleengineservice.engine.compile.predicate.FieldPredicate}),
+ * IS_NULL 이 아닌 조건의 conField 를 필요한 필드로 봅니다. 상태를 가지는 조건이 있는 규칙은
+ * 팩트마다 상태를 갱신해야 하므로 필요한 필드 없이 항상 후보로 둡니다. 조건이 없는 규칙과
+ * 필드 id 를 받지 못한 필드를 읽는 규칙도 항상 후보입니다.
+ * <p>
+ * 생성 후에는 변경되지 않으며, 평가 경로의 작업 배열은 {@link MatchContext} 가 제공합니다.
+ */
+final class FieldDependencyIndex {
+
+    /**
+     * 필드 id 별로 그 필드를 읽는 규칙 인덱스 비트셋, 읽는 규칙이 없으면 null. 짧은 배열의 나머지 워드는 0 으로 봅니다.
+     */
+    private final long[][] readers;
+
+    /**
+     * 규칙 인덱스별로 반드시 있어야 하는 필드 id 비트셋, 없으면 null.
+     */
+    private final long[][] required;
+
+    /**
+     * 필요한 필드가 없어 항상 후보가 되는 규칙의 비트셋.
+     */
+    private final long[] optionalBits;
+
+    /**
+     * 필드 id 를 받지 못한 필드를 읽어 모든 필드의 독자로 보는 규칙의 비트셋.
+     */
+    private final long[] untrackedBits;
+
+    /**
+     * 필드 id 를 부여한 네트워크의 심볼 표.
+     */
+    private final FieldSymbolTable symbols;
+
+    private FieldDependencyIndex(FieldSymbolTable symbols, long[][] readers, long[][] required, long[] optionalBits,
+                                 long[] untrackedBits) {
+        this.symbols = symbols;
+        this.readers = readers;
+        this.required = required;
+        this.optionalBits = optionalBits;
+        this.untrackedBits = untrackedBits;
+    }
+
+    /**
+     * 슬롯별 규칙 배열로 색인을 만듭니다.
+     *
+     * @param rules   슬롯별 규칙 배열 (빈 슬롯은 null)
+     * @param symbols 네트워크의 필드 심볼 표
+     * @return 새 FieldDependencyIndex
+     */
+    static FieldDependencyIndex build(CompiledRule[] rules, FieldSymbolTable symbols) {
+        int words = wordsFor(rules.length);
+        Builder builder = new Builder(symbols, new long[0][], new long[rules.length][], new long[words],
+                new long[words]);
+        for (int ruleIndex = 0; ruleIndex < rules.length; ruleIndex++) {
+            builder.add(ruleIndex, rules[ruleIndex]);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 바뀐 슬롯만 반영한 새 색인을 만듭니다. 바뀐 규칙이 읽는 필드의 비트셋만 새로 만들고 나머지는 공유합니다.
+     *
+     * @param previous     이전 슬롯별 규칙 배열
+     * @param rules        새 슬롯별 규칙 배열 (빈 슬롯은 null)
+     * @param changedSlots 규칙이 바뀐 슬롯 목록
+     * @return 새 FieldDependencyIndex
+     */
+    FieldDependencyIndex patch(CompiledRule[] previous, CompiledRule[] rules, List<Integer> changedSlots) {
+        int words = wordsFor(rules.length);
+        Builder builder = new Builder(symbols, readers.clone(), Arrays.copyOf(required, rules.length),
+                Arrays.copyOf(optionalBits, words), Arrays.copyOf(untrackedBits, words));
+        for (int slot : changedSlots) {
+            builder.remove(slot, slot < previous.length ? previous[slot] : null);
+        }
+        for (int slot : changedSlots) {
+            builder.add(slot, rules[slot]);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 슬롯으로 파싱된 팩트에 필요한 필드가 모두 있는 규칙의 인덱스 비트셋을 만듭니다.
+     * 결과는 컨텍스트의 작업 배열이며 다음 호출에서 덮어씁니다.
+     *
+     * @param slots     파싱된 팩트
+     * @param slotCount 규칙 슬롯 수
+     * @param context   현재 스레드의 매칭 컨텍스트
+     * @return 후보 규칙 비트셋 (작업 배열)
+     */
+    long[] select(FactSlots slots, int slotCount, MatchContext context) {
+        int words = wordsFor(slotCount);
+        long[] candidates = context.candidateBuffer(words);
+        System.arraycopy(optionalBits, 0, candidates, 0, words);
+        for (int i = 0; i < slots.getPresentCount(); i++) {
+            int id = slots.getPresentId(i);
+            long[] bits = id < readers.length ? readers[id] : null;
+            if (bits == null) {
+                continue;
+            }
+            for (int word = Math.min(bits.length, words) - 1; word >= 0; word--) {
+                candidates[word] |= bits[word];
+            }
+        }
+
+        long[] presence = slots.getPresenceBits();
+        for (int word = 0; word < words; word++) {
+            long bits = candidates[word] & ~optionalBits[word];
+            while (bits != 0) {
+                int ruleIndex = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                if (!covers(presence, required[ruleIndex])) {
+                    candidates[word] &= ~(1L << ruleIndex);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * 필드 중 하나라도 읽는 규칙의 비트셋을 대상 배열에 더합니다.
+     *
+     * @param fields 필드명 목록
+     * @param into   규칙 인덱스 비트셋
+     */
+    void addReaders(Collection<String> fields, long[] into) {
+        for (int word = Math.min(untrackedBits.length, into.length) - 1; word >= 0; word--) {
+            into[word] |= untrackedBits[word];
+        }
+        for (String field : fields) {
+            int id = symbols.idOf(field);
+            long[] bits = id >= 0 && id < readers.length ? readers[id] : null;
+            if (bits == null) {
+                continue;
+            }
+            for (int word = Math.min(bits.length, into.length) - 1; word >= 0; word--) {
+                into[word] |= bits[word];
+            }
+        }
+    }
+
+    /**
+     * 규칙에 필요한 필드 수를 반환합니다. (테스트 및 진단용)
+     *
+     * @param ruleIndex 규칙 인덱스
+     * @return 필요한 필드 수, 항상 후보인 규칙이면 0
+     */
+    int countRequired(int ruleIndex) {
+        long[] fields = ruleIndex < required.length ? required[ruleIndex] : null;
+        int count = 0;
+        if (fields != null) {
+            for (long bits : fields) {
+                count += Long.bitCount(bits);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 필드를 읽는 규칙 수를 반환합니다. (테스트 및 진단용)
+     *
+     * @param fieldId 필드 id
+     * @return 규칙 수
+     */
+    int countReaders(int fieldId) {
+        long[] bits = fieldId >= 0 && fieldId < readers.length ? readers[fieldId] : null;
+        int count = 0;
+        if (bits != null) {
+            for (long word : bits) {
+                count += Long.bitCount(word);
+            }
+        }
+        return count;
+    }
+
+    private static boolean covers(long[] presence, long[] fields) {
+        for (int word = 0; word < fields.length; word++) {
+            if ((fields[word] & ~presence[word]) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int wordsFor(int count) {
+        return (count + 63) >>> 6;
+    }
+
+    /**
+     * 이전 색인의 배열을 복사해 둔 채로 슬롯을 떼어 내고 붙이는 작업 공간입니다.
+     * 공유된 필드 비트셋은 처음 수정할 때만 복사합니다.
+     */
+    private static final class Builder {
+
+        private final FieldSymbolTable symbols;
+
+        private long[][] readers;
+
+        private boolean[] owned;
+
+        private final long[][] required;
+
+        private final long[] optionalBits;
+
+        private final long[] untrackedBits;
+
+        Builder(FieldSymbolTable symbols, long[][] readers, long[][] required, long[] optionalBits,
+                long[] untrackedBits) {
+            this.symbols = symbols;
+            this.readers = readers;
+            this.owned = new boolean[readers.length];
+            this.required = required;
+            this.optionalBits = optionalBits;
+            this.untrackedBits = untrackedBits;
+        }
+
+        void remove(int slot, CompiledRule rule) {
+            long bit = 1L << slot;
+            required[slot] = null;
+            optionalBits[slot >>> 6] &= ~bit;
+            untrackedBits[slot >>> 6] &= ~bit;
+            if (rule == null) {
+                return;
+            }
+            for (CompiledCondition condition : rule.getConditions()) {
+                for (String field : condition.getReadFields()) {
+                    int id = symbols.idOf(field);
+                    if (id >= 0 && id < readers.length && readers[id] != null && slot >>> 6 < readers[id].length) {
+                        writable(id, slot)[slot >>> 6] &= ~bit;
+                    }
+                }
+            }
+        }
+
+        void add(int slot, CompiledRule rule) {
+            if (rule == null) {
+                return;
+            }
+            long bit = 1L << slot;
+            boolean optional = false;
+            long[] fields = null;
+            for (CompiledCondition condition : rule.getConditions()) {
+                for (String field : condition.getReadFields()) {
+                    int id = symbols.intern(field);
+                    if (id < 0) {
+                        untrackedBits[slot >>> 6] |= bit;
+                        optional = true;
+                    } else {
+                        writable(id, slot)[slot >>> 6] |= bit;
+                    }
+                }
+                optional |= condition.isStateful();
+                int id = symbols.intern(condition.getConField());
+                if (!condition.isStateful() && condition.getOperator() != ConditionOperator.IS_NULL && id >= 0) {
+                    if (fields == null || fields.length <= id >>> 6) {
+                        fields = fields == null ? new long[(id >>> 6) + 1] : Arrays.copyOf(fields, (id >>> 6) + 1);
+                    }
+                    fields[id >>> 6] |= 1L << id;
+                }
+            }
+            if (optional || fields == null) {
+                optionalBits[slot >>> 6] |= bit;
+            } else {
+                required[slot] = fields;
+            }
+        }
+
+        /**
+         * 필드 비트셋을 이 빌더 소유로 복사하고, 슬롯이 들어갈 만큼 늘립니다.
+         */
+        private long[] writable(int id, int slot) {
+            if (id >= readers.length) {
+                int capacity = Math.max(id + 1, readers.length * 2);
+                readers = Arrays.copyOf(readers, capacity);
+                owned = Arrays.copyOf(owned, capacity);
+            }
+            long[] bits = readers[id];
+            int words = (slot >>> 6) + 1;
+            if (bits == null) {
+                bits = new long[words];
+            } else if (!owned[id] || bits.length < words) {
+                bits = Arrays.copyOf(bits, Math.max(bits.length, words));
+            }
+            readers[id] = bits;
+            owned[id] = true;
+            return bits;
+        }
+
+        FieldDependencyIndex build() {
+            int length = readers.length;
+            while (length > 0 && readers[length - 1] == null) {
+                length--;
+            }
+            return new FieldDependencyIndex(symbols,
+                    length == readers.length ? readers : Arrays.copyOf(readers, length),
+                    required, optionalBits, untrackedBits);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.nhnacademy.ruleengineservice.engine.network;
+
+import com.nhnacademy.ruleengineservice.engine.compile.predicate.NumericPredicate;
+import com.nhnacademy.ruleengineservice.engine.fact.FactSlots;
+
+/**
+ * FieldIndex 는 하나의 conField 에 대한 색인 묶음으로,
+ * 숫자 임계값 색인({@link NumericThresholdIndex})과 동등 색인({@link EqualityIndex})을 함께 조회합니다.
+ */
+public final class FieldIndex {
+
+    private final String conField;
+
+    private final NumericThresholdIndex thresholds;
+
+    private final EqualityIndex equalities;
+
+    FieldIndex(String conField, NumericThresholdIndex thresholds, EqualityIndex equalities) {
+        this.conField = conField;
+        this.thresholds = thresholds;
+        this.equalities = equalities;
+    }
+
+    /**
+     * 팩트 값을 만족하는 모든 색인 노드를 sink 로 전달합니다.
+     *
+     * @param value 팩트의 필드 값
+     * @param sink  만족된 노드를 받을 콜백
+     * @return 만족된 노드 수
+     */
+    public int probe(Object value, AlphaSink sink) {
+        if (value == null) {
+            return 0;
+        }
+        int count = equalities.probe(value, sink);
+        if (thresholds.size() > 0) {
+            count += thresholds.probe(NumericPredicate.toDouble(value), sink);
+        }
+        return count;
+    }
+
+    /**
+     * 슬롯으로 파싱된 팩트 값을 만족하는 모든 색인 노드를 sink 로 전달합니다.
+     * 숫자 임계값 색인은 파싱 시 변환해 둔 숫자 열을 사용합니다.
+     *
+     * @param slots   파싱된 팩트
+     * @param fieldId 이 색인의 필드 id
+     * @param sink    만족된 노드를 받을 콜백
+     * @return 만족된 노드 수
+     */
+    public int probe(FactSlots slots, int fieldId, AlphaSink sink) {
+        Object value = slots.value(fieldId);
+        if (value == null) {
+            return 0;
+        }
+        int count = equalities.probe(value, sink);
+        if (thresholds.size() > 0) {
+            count += thresholds.probe(slots.number(fieldId), sink);
+        }
+        return count;
+    }
+
+    public String getConField() {
+        return conField;
+    }
+
+    public NumericThresholdIndex getThresholds() {
+        return thresholds;
+    }
+
+    public EqualityIndex getEqualities() {
+        return equalities;
+    }
+}
@@ -0,0 +1,345 @@
+package com.nhnacademy.ruleengineservice.engine.network;
+
+import com.nhnacademy.ruleengineservice.engine.fact.FactSlots;
+import com.nhnacademy.ruleengineservice.engine.fact.FieldSymbolTable;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * MatchContext 는 한 번의 팩트 평가 동안 규칙 활성화 상태를 담는 재사용 가능한 작업 공간입니다.
+ * <p>
+ * 만족된 노드마다 의존 규칙의 카운터를 올리고, 카운터가 규칙의 조건 수에 도달하는 즉시
+ * 발동 비트셋에 표시합니다. 따라서 매칭 비용은 전체 조건 수가 아니라 만족된 조건 수에 비례합니다.
+ * 구독 마스크가 주어지면 마스크에 없는 규칙은 카운트하지 않습니다.
+ * <p>
+ * 배열은 스레드마다 한 번 할당되어 재사용되며, 다음 평가 시작 시 이전 평가에서 건드린
+ * 카운터와 비트셋 워드만 초기화하므로 평가 경로에서 할당이 발생하지 않습니다.
+ * 하나의 컨텍스트는 한 스레드에서만 사용해야 합니다.
+ */
+public final class MatchContext implements AlphaSink {
+
+    private AlphaNetwork network;
+
+    /**
+     * 이번 평가에서 활성화할 수 있는 규칙 인덱스 마스크, null 이면 모든 규칙.
+     */
+    private long[] mask;
+
+    /**
+     * 규칙 인덱스별 만족된 조건 수.
+     */
+    private int[] counters = new int[0];
+
+    /**
+     * 이번 평가에서 카운터가 0 에서 증가한 규칙 인덱스 목록 (초기화용).
+     */
+    private int[] touched = new int[0];
+
+    private int touchedCount;
+
+    /**
+     * 발동된 규칙 인덱스 비트셋.
+     */
+    private long[] firedBits = new long[0];
+
+    private int firedCount;
+
+    /**
+     * 구독 마스크와 후보 마스크를 합친 마스크를 담는 재사용 배열.
+     */
+    private long[] combinedMask = new long[0];
+
+    /**
+     * 이번 평가에서 활성화할 수 있는 규칙이 하나라도 있는지 여부.
+     */
+    private boolean candidates;
+
+    /**
+     * 팩트를 필드 id 슬롯으로 파싱해 두는 재사용 작업 공간.
+     */
+    private FactSlots slots;
+
+    /**
+     * 필요한 필드가 모두 있는 후보 규칙 비트셋을 담는 재사용 배열.
+     */
+    private long[] candidateBits = new long[0];
+
+    /**
+     * 바뀐 필드를 읽는 규칙 비트셋을 담는 재사용 배열.
+     */
+    private long[] readerBits = new long[0];
+
+    /**
+     * 발동된 규칙 인덱스를 평가 순서로 담는 재사용 배열.
+     */
+    private int[] orderedFired = new int[0];
+
+    /**
+     * 평가 순서 정렬에 쓰는 (순위 << 32 | 규칙 인덱스) 재사용 배열.
+     */
+    private long[] rankKeys = new long[0];
+
+    /**
+     * 상태를 가지는 조건을 상태 갱신 없이 현재 상태로만 검사할지 여부 (드라이런).
+     */
+    private boolean peek;
+
+    /**
+     * 네트워크 평가를 위해 컨텍스트를 준비합니다. 필요한 경우에만 배열을 늘립니다.
+     *
+     * @param network 평가할 네트워크
+     * @param mask    구독 규칙 마스크, null 이면 모든 규칙
+     */
+    void begin(AlphaNetwork network, long[] mask) {
+        begin(network, mask, null);
+    }
+
+    /**
+     * 구독 마스크와 후보 마스크에 모두 있는 규칙만 활성화하도록 컨텍스트를 준비합니다.
+     *
+     * @param network 평가할 네트워크
+     * @param mask    구독 규칙 마스크, null 이면 모든 규칙
+     * @param allowed 후보 규칙 마스크, null 이면 모든 규칙
+     */
+    void begin(AlphaNetwork network, long[] mask, long[] allowed) {
+        clear();
+        int ruleCount = network.getSlotCount();
+        int words = wordsFor(ruleCount);
+        long[] effective = allowed == null ? mask : combine(mask, allowed, words);
+        this.network = network;
+        this.mask = effective;
+        this.candidates = effective == null || !isZero(effective, words);
+
+        if (counters.length < ruleCount) {
+            counters = new int[ruleCount];
+            touched = new int[ruleCount];
+        }
+        if (firedBits.length < words) {
+            firedBits = new long[words];
+        }
+        long[] unconditional = network.getUnconditionalBits();
+        for (int word = 0; word < unconditional.length; word++) {
+            long bits = effective == null ? unconditional[word] : unconditional[word] & effective[word];
+            if (bits != 0) {
+                firedBits[word] = bits;
+                firedCount += Long.bitCount(bits);
+            }
+        }
+    }
+
+    @Override
+    public void activate(int nodeId) {
+        int[] required = network.getRequiredCounts();
+        for (int ruleIndex : network.getNode(nodeId).getRuleIndexes()) {
+            if (mask != null && (mask[ruleIndex >>> 6] & (1L << ruleIndex)) == 0) {
+                continue;
+            }
+            int count = ++counters[ruleIndex];
+            if (count == 1) {
+                touched[touchedCount++] = ruleIndex;
+            }
+            if (count == required[ruleIndex]) {
+                firedBits[ruleIndex >>> 6] |= 1L << ruleIndex;
+                firedCount++;
+            }
+        }
+    }
+
+    /**
+     * 이번 평가에서 활성화할 수 있는 규칙이 하나도 없는지 확인합니다.
+     *
+     * @return 후보 규칙이 없으면 true
+     */
+    boolean isEmpty() {
+        return !candidates;
+    }
+
+    /**
+     * 이후 평가에서 상태를 가지는 조건(윈도, 지속, 순서 패턴)을 상태 갱신 없이 검사할지 정합니다.
+     * 드라이런 평가가 켜고, 끝나면 다시 끕니다.
+     *
+     * @param peek 상태를 갱신하지 않으려면 true
+     */
+    public void setPeek(boolean peek) {
+        this.peek = peek;
+    }
+
+    boolean isPeek() {
+        return peek;
+    }
+
+    /**
+     * 팩트를 이 컨텍스트의 슬롯으로 파싱합니다. 이전 팩트의 슬롯은 지워집니다.
+     * 네트워크의 심볼 표가 바뀌었으면(전체 재적재) 그 표로 슬롯을 새로 만듭니다.
+     *
+     * @param fact    필드명 → 값 형태의 팩트
+     * @param symbols 평가할 네트워크의 필드 심볼 표
+     * @return 파싱된 슬롯
+     */
+    FactSlots parse(Map<String, Object> fact, FieldSymbolTable symbols) {
+        if (slots == null || slots.getSymbols() != symbols) {
+            slots = new FactSlots(symbols);
+        }
+        return slots.parse(fact);
+    }
+
+    /**
+     * 후보 규칙 비트셋 작업 배열을 반환합니다. 내용은 호출자가 덮어씁니다.
+     *
+     * @param words 필요한 워드 수
+     * @return 작업 배열
+     */
+    long[] candidateBuffer(int words) {
+        if (candidateBits.length < words) {
+            candidateBits = new long[words];
+        }
+        return candidateBits;
+    }
+
+    /**
+     * 바뀐 필드를 읽는 규칙 비트셋 작업 배열을 반환합니다. 내용은 호출자가 덮어씁니다.
+     *
+     * @param words 필요한 워드 수
+     * @return 작업 배열
+     */
+    long[] readerBuffer(int words) {
+        if (readerBits.length < words) {
+            readerBits = new long[words];
+        }
+        return readerBits;
+    }
+
+    private long[] combine(long[] mask, long[] allowed, int words) {
+        if (combinedMask.length < words) {
+            combinedMask = new long[words];
+        }
+        for (int word = 0; word < words; word++) {
+            long bits = word < allowed.length ? allowed[word] : 0L;
+            combinedMask[word] = mask == null ? bits : bits & mask[word];
+        }
+        return combinedMask;
+    }
+
+    private static boolean isZero(long[] bits, int words) {
+        for (int word = 0; word < words; word++) {
+            if (bits[word] != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 규칙 중 하나라도 이번 평가의 구독 마스크에 있는지 확인합니다.
+     *
+     * @param ruleIndexes 규칙 인덱스 목록
+     * @return 마스크가 없거나 하나라도 구독하면 true
+     */
+    boolean subscribesAny(int[] ruleIndexes) {
+        if (mask == null) {
+            return true;
+        }
+        for (int ruleIndex : ruleIndexes) {
+            if ((mask[ruleIndex >>> 6] & (1L << ruleIndex)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * fromIndex 이상에서 발동된 첫 규칙 인덱스를 반환합니다.
+     * 네트워크가 {@link AlphaNetwork#isOrdered()} 이면 규칙 인덱스가 평가 순서이므로,
+     * 0 부터 차례로 호출하면 우선순위 순으로 순회합니다.
+     *
+     * @param fromIndex 시작 인덱스
+     * @return 발동된 규칙 인덱스, 없으면 -1
+     */
+    public int nextFired(int fromIndex) {
+        int ruleCount = network == null ? 0 : network.getSlotCount();
+        if (fromIndex >= ruleCount) {
+            return -1;
+        }
+        int word = fromIndex >>> 6;
+        long bits = firedBits[word] & (-1L << fromIndex);
+        while (true) {
+            if (bits != 0) {
+                int index = (word << 6) + Long.numberOfTrailingZeros(bits);
+                return index < ruleCount ? index : -1;
+            }
+            if (++word >= wordsFor(ruleCount)) {
+                return -1;
+            }
+            bits = firedBits[word];
+        }
+    }
+
+    /**
+     * 발동된 규칙 수를 반환합니다.
+     *
+     * @return 발동된 규칙 수
+     */
+    public int getFiredCount() {
+        return firedCount;
+    }
+
+    /**
+     * 발동된 규칙 인덱스를 평가 순서(그룹 우선순위 → 규칙 우선순위)로 재사용 배열에 담아 반환합니다.
+     * 슬롯 순서가 평가 순서와 다른 네트워크는 {@link AlphaNetwork#getEvaluationRank(int)} 순위로
+     * 기본형 배열에서 정렬하므로 박싱이나 비교자 할당이 없습니다. 배열은 다음 평가에서 덮어씁니다.
+     *
+     * @return 앞에서부터 {@link #getFiredCount()} 개가 유효한 규칙 인덱스 배열
+     */
+    public int[] firedInEvaluationOrder() {
+        if (orderedFired.length < firedCount) {
+            orderedFired = new int[Math.max(firedCount, counters.length)];
+        }
+        int count = 0;
+        for (int index = nextFired(0); index >= 0 && count < firedCount; index = nextFired(index + 1)) {
+            orderedFired[count++] = index;
+        }
+        if (count > 1 && !network.isOrdered()) {
+            if (rankKeys.length < count) {
+                rankKeys = new long[orderedFired.length];
+            }
+            for (int i = 0; i < count; i++) {
+                rankKeys[i] = ((long) network.getEvaluationRank(orderedFired[i]) << 32) | orderedFired[i];
+            }
+            Arrays.sort(rankKeys, 0, count);
+            for (int i = 0; i < count; i++) {
+                orderedFired[i] = (int) rankKeys[i];
+            }
+        }
+        return orderedFired;
+    }
+
+    /**
+     * 발동된 규칙 인덱스를 새 배열로 반환합니다. (테스트 및 디버깅용, 할당 발생)
+     *
+     * @return 평가 순서의 발동 규칙 인덱스
+     */
+    public int[] toFiredArray() {
+        int[] fired = new int[firedCount];
+        int count = 0;
+        for (int index = nextFired(0); index >= 0; index = nextFired(index + 1)) {
+            fired[count++] = index;
+        }
+        return count == fired.length ? fired : Arrays.copyOf(fired, count);
+    }
+
+    private void clear() {
+        for (int i = 0; i < touchedCount; i++) {
+            counters[touched[i]] = 0;
+        }
+        touchedCount = 0;
+        if (network != null) {
+            Arrays.fill(firedBits, 0, wordsFor(network.getSlotCount()), 0L);
+        }
+        firedCount = 0;
+    }
+
+    private static int wordsFor(int ruleCount) {
+        return (ruleCount + 63) >>> 6;
+    }
+}
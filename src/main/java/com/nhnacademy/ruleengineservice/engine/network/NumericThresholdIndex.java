@@ -0,0 +1,312 @@
+package com.nhnacademy.ruleengineservice.engine.network;
+
+import com.nhnacademy.ruleengineservice.engine.compile.ConditionOperator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * NumericThresholdIndex 는 하나의 conField 에 걸린 숫자 임계값 조건(GT, GTE, LT, LTE, BETWEEN)을
+ * 정렬 배열과 구간 트리로 색인합니다.
+ * <p>
+ * 팩트 값 하나가 주어지면 만족하는 모든 조건을 O(log n + k) 로 찾습니다.
+ * <ul>
+ *   <li>GT/GTE: 임계값 오름차순 배열에서 이진 탐색한 위치 앞쪽(prefix)이 모두 만족</li>
+ *   <li>LT/LTE: 임계값 오름차순 배열에서 이진 탐색한 위치 뒤쪽(suffix)이 모두 만족</li>
+ *   <li>BETWEEN: 중심 구간 트리(centered interval tree)로 값을 포함하는 구간만 방문</li>
+ * </ul>
+ * 모든 비교는 double 로 수행하므로 2^53 을 넘는 정수 임계값은 정밀도가 떨어질 수 있습니다.
+ * 생성 후에는 변경되지 않으므로 여러 스레드에서 동시에 조회해도 안전합니다.
+ */
+public final class NumericThresholdIndex {
+
+    private final Thresholds greater;
+
+    private final Thresholds greaterOrEqual;
+
+    private final Thresholds less;
+
+    private final Thresholds lessOrEqual;
+
+    private final IntervalNode ranges;
+
+    private final int size;
+
+    private NumericThresholdIndex(Builder builder) {
+        this.greater = Thresholds.of(builder.greater);
+        this.greaterOrEqual = Thresholds.of(builder.greaterOrEqual);
+        this.less = Thresholds.of(builder.less);
+        this.lessOrEqual = Thresholds.of(builder.lessOrEqual);
+        this.ranges = IntervalNode.build(builder.ranges);
+        this.size = builder.greater.size() + builder.greaterOrEqual.size()
+                + builder.less.size() + builder.lessOrEqual.size() + builder.ranges.size();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 값을 만족하는 모든 노드를 sink 로 전달합니다.
+     *
+     * @param value 팩트 값 (NaN 이면 아무 노드도 만족하지 않음)
+     * @param sink  만족된 노드를 받을 콜백
+     * @return 만족된 노드 수
+     */
+    public int probe(double value, AlphaSink sink) {
+        if (Double.isNaN(value)) {
+            return 0;
+        }
+        int count = 0;
+        // value > t  ⇔  t < value : 엄격히 작은 임계값들이 prefix
+        count += greater.emitPrefix(greater.firstNotLess(value), sink);
+        // value >= t ⇔  t <= value
+        count += greaterOrEqual.emitPrefix(greaterOrEqual.firstGreater(value), sink);
+        // value < t  ⇔  t > value
+        count += less.emitSuffix(less.firstGreater(value), sink);
+        // value <= t ⇔  t >= value
+        count += lessOrEqual.emitSuffix(lessOrEqual.firstNotLess(value), sink);
+        count += IntervalNode.query(ranges, value, sink);
+        return count;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 임계값 오름차순으로 정렬된 (임계값, 노드 번호) 배열입니다.
+     */
+    private static final class Thresholds {
+
+        private static final Thresholds EMPTY = new Thresholds(new double[0], new int[0]);
+
+        private final double[] values;
+
+        private final int[] nodeIds;
+
+        private Thresholds(double[] values, int[] nodeIds) {
+            this.values = values;
+            this.nodeIds = nodeIds;
+        }
+
+        static Thresholds of(List<double[]> entries) {
+            if (entries.isEmpty()) {
+                return EMPTY;
+            }
+            entries.sort(Comparator.comparingDouble(entry -> entry[0]));
+            double[] values = new double[entries.size()];
+            int[] nodeIds = new int[entries.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = entries.get(i)[0];
+                nodeIds[i] = (int) entries.get(i)[1];
+            }
+            return new Thresholds(values, nodeIds);
+        }
+
+        /**
+         * value 이상인 첫 위치 (lower bound).
+         */
+        int firstNotLess(double value) {
+            int low = 0;
+            int high = values.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid] < value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * value 보다 큰 첫 위치 (upper bound).
+         */
+        int firstGreater(double value) {
+            int low = 0;
+            int high = values.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid] <= value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        int emitPrefix(int end, AlphaSink sink) {
+            for (int i = 0; i < end; i++) {
+                sink.activate(nodeIds[i]);
+            }
+            return end;
+        }
+
+        int emitSuffix(int start, AlphaSink sink) {
+            for (int i = start; i < nodeIds.length; i++) {
+                sink.activate(nodeIds[i]);
+            }
+            return nodeIds.length - start;
+        }
+    }
+
+    /**
+     * 정적 중심 구간 트리의 노드입니다.
+     * 중심값(center)을 포함하는 구간을 하한 오름차순/상한 내림차순 두 배열로 보관합니다.
+     */
+    private static final class IntervalNode {
+
+        private final double center;
+
+        private final double[] lowerAsc;
+
+        private final int[] lowerAscIds;
+
+        private final double[] upperDesc;
+
+        private final int[] upperDescIds;
+
+        private final IntervalNode left;
+
+        private final IntervalNode right;
+
+        private IntervalNode(double center, List<double[]> overlapping, IntervalNode left, IntervalNode right) {
+            this.center = center;
+            this.left = left;
+            this.right = right;
+
+            overlapping.sort(Comparator.comparingDouble(entry -> entry[0]));
+            this.lowerAsc = new double[overlapping.size()];
+            this.lowerAscIds = new int[overlapping.size()];
+            for (int i = 0; i < lowerAsc.length; i++) {
+                lowerAsc[i] = overlapping.get(i)[0];
+                lowerAscIds[i] = (int) overlapping.get(i)[2];
+            }
+
+            overlapping.sort(Comparator.comparingDouble((double[] entry) -> entry[1]).reversed());
+            this.upperDesc = new double[overlapping.size()];
+            this.upperDescIds = new int[overlapping.size()];
+            for (int i = 0; i < upperDesc.length; i++) {
+                upperDesc[i] = overlapping.get(i)[1];
+                upperDescIds[i] = (int) overlapping.get(i)[2];
+            }
+        }
+
+        /**
+         * (하한, 상한, 노드 번호) 목록으로 트리를 만듭니다.
+         */
+        static IntervalNode build(List<double[]> intervals) {
+            if (intervals.isEmpty()) {
+                return null;
+            }
+            double[] endpoints = new double[intervals.size() * 2];
+            for (int i = 0; i < intervals.size(); i++) {
+                endpoints[i * 2] = intervals.get(i)[0];
+                endpoints[i * 2 + 1] = intervals.get(i)[1];
+            }
+            Arrays.sort(endpoints);
+            double center = endpoints[endpoints.length / 2];
+
+            List<double[]> leftIntervals = new ArrayList<>();
+            List<double[]> rightIntervals = new ArrayList<>();
+            List<double[]> overlapping = new ArrayList<>();
+            for (double[] interval : intervals) {
+                if (interval[1] < center) {
+                    leftIntervals.add(interval);
+                } else if (interval[0] > center) {
+                    rightIntervals.add(interval);
+                } else {
+                    overlapping.add(interval);
+                }
+            }
+            return new IntervalNode(center, overlapping, build(leftIntervals), build(rightIntervals));
+        }
+
+        static int query(IntervalNode node, double value, AlphaSink sink) {
+            int count = 0;
+            while (node != null) {
+                if (value < node.center) {
+                    for (int i = 0; i < node.lowerAsc.length && node.lowerAsc[i] <= value; i++) {
+                        sink.activate(node.lowerAscIds[i]);
+                        count++;
+                    }
+                    node = node.left;
+                } else if (value > node.center) {
+                    for (int i = 0; i < node.upperDesc.length && node.upperDesc[i] >= value; i++) {
+                        sink.activate(node.upperDescIds[i]);
+                        count++;
+                    }
+                    node = node.right;
+                } else {
+                    for (int id : node.lowerAscIds) {
+                        sink.activate(id);
+                    }
+                    count += node.lowerAscIds.length;
+                    node = null;
+                }
+            }
+            return count;
+        }
+    }
+
+    /**
+     * NumericThresholdIndex 를 구성하는 빌더입니다.
+     */
+    public static final class Builder {
+
+        private final List<double[]> greater = new ArrayList<>();
+
+        private final List<double[]> greaterOrEqual = new ArrayList<>();
+
+        private final List<double[]> less = new ArrayList<>();
+
+        private final List<double[]> lessOrEqual = new ArrayList<>();
+
+        private final List<double[]> ranges = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * 임계값 조건을 추가합니다.
+         *
+         * @param nodeId    노드 번호
+         * @param operator  GT, GTE, LT, LTE 중 하나
+         * @param threshold 임계값
+         * @return 이 빌더
+         */
+        public Builder addThreshold(int nodeId, ConditionOperator operator, double threshold) {
+            double[] entry = {threshold, nodeId};
+            switch (operator) {
+                case GT -> greater.add(entry);
+                case GTE -> greaterOrEqual.add(entry);
+                case LT -> less.add(entry);
+                case LTE -> lessOrEqual.add(entry);
+                default -> throw new IllegalArgumentException("임계값 비교 연산자가 아닙니다: " + operator);
+            }
+            return this;
+        }
+
+        /**
+         * BETWEEN 구간 조건을 추가합니다.
+         *
+         * @param nodeId 노드 번호
+         * @param lower  하한 (포함)
+         * @param upper  상한 (포함)
+         * @return 이 빌더
+         */
+        public Builder addRange(int nodeId, double lower, double upper) {
+            ranges.add(new double[]{lower, upper, nodeId});
+            return this;
+        }
+
+        public NumericThresholdIndex build() {
+            return new NumericThresholdIndex(this);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.nhnacademy.ruleengineservice.engine.schedule;
+
+import com.nhnacademy.ruleengineservice.engine.exception.RuleCompileException;
+import org.springframework.scheduling.support.CronExpression;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * CronSchedule 은 {@code RuleSchedule} 을 JPA 와 분리된 불변 형태로 옮겨 담은 런타임 스케줄입니다.
+ * <p>
+ * 크론 표현식과 시간대는 생성 시 한 번만 해석하며, 다음 실행 시각은 스케줄의 시간대 기준으로 계산합니다.
+ * (일광 절약 시간 전환도 해당 시간대 규칙을 따릅니다.)
+ * RuleSchedule 의 7번째 연도 필드는 {@code *} 또는 {@code ?} 만 지원하며 해석 시 제거합니다.
+ */
+public final class CronSchedule {
+
+    private final Long scheduleNo;
+
+    private final Long ruleNo;
+
+    private final String cronExpression;
+
+    private final CronExpression cron;
+
+    private final ZoneId zone;
+
+    private final int maxRetries;
+
+    /**
+     * 적재 시점에 기록되어 있던 마지막 실행 시각. 한 번도 실행되지 않았으면 null.
+     */
+    private final Instant lastFiredAt;
+
+    private CronSchedule(Long scheduleNo, Long ruleNo, String cronExpression, CronExpression cron, ZoneId zone,
+                         int maxRetries, Instant lastFiredAt) {
+        this.scheduleNo = scheduleNo;
+        this.ruleNo = ruleNo;
+        this.cronExpression = cronExpression;
+        this.cron = cron;
+        this.zone = zone;
+        this.maxRetries = maxRetries;
+        this.lastFiredAt = lastFiredAt;
+    }
+
+    /**
+     * 스케줄을 컴파일합니다.
+     *
+     * @param scheduleNo     스케줄 식별자
+     * @param ruleNo         규칙 식별자
+     * @param cronExpression 크론 표현식 (6~7개 필드)
+     * @param timeZone       IANA 시간대 ID
+     * @param maxRetries     최대 재시도 횟수, null 이면 0
+     * @return 컴파일된 스케줄
+     * @throws RuleCompileException 크론 표현식이나 시간대를 해석할 수 없는 경우
+     */
+    public static CronSchedule compile(Long scheduleNo, Long ruleNo, String cronExpression, String timeZone,
+                                       Integer maxRetries) {
+        return compile(scheduleNo, ruleNo, cronExpression, timeZone, maxRetries, null);
+    }
+
+    /**
+     * 마지막 실행 시각과 함께 스케줄을 컴파일합니다.
+     *
+     * @param scheduleNo     스케줄 식별자
+     * @param ruleNo         규칙 식별자
+     * @param cronExpression 크론 표현식 (6~7개 필드)
+     * @param timeZone       IANA 시간대 ID
+     * @param maxRetries     최대 재시도 횟수, null 이면 0
+     * @param lastFiredAt    마지막 실행 시각, 없으면 null
+     * @return 컴파일된 스케줄
+     * @throws RuleCompileException 크론 표현식이나 시간대를 해석할 수 없는 경우
+     */
+    public static CronSchedule compile(Long scheduleNo, Long ruleNo, String cronExpression, String timeZone,
+                                       Integer maxRetries, Instant lastFiredAt) {
+        if (cronExpression == null || cronExpression.isBlank()) {
+            throw new RuleCompileException("스케줄(" + scheduleNo + ") cronExpression 이 비어 있습니다.");
+        }
+        ZoneId zone;
+        try {
+            zone = ZoneId.of(timeZone.trim());
+        } catch (DateTimeException | NullPointerException e) {
+            throw new RuleCompileException("스케줄(" + scheduleNo + ") 알 수 없는 timeZone 입니다: " + timeZone, e);
+        }
+        CronExpression cron;
+        try {
+            cron = CronExpression.parse(withoutYear(scheduleNo, cronExpression.trim()));
+        } catch (IllegalArgumentException e) {
+            throw new RuleCompileException("스케줄(" + scheduleNo + ") 크론 표현식을 해석할 수 없습니다: "
+                    + cronExpression + " (" + e.getMessage() + ")", e);
+        }
+        return new CronSchedule(scheduleNo, ruleNo, cronExpression, cron, zone,
+                maxRetries != null ? Math.max(maxRetries, 0) : 0, lastFiredAt);
+    }
+
+    private static String withoutYear(Long scheduleNo, String expression) {
+        String[] fields = expression.split("\\s+");
+        if (fields.length != 7) {
+            return expression;
+        }
+        String year = fields[6];
+        if (!year.equals("*") && !year.equals("?")) {
+            throw new RuleCompileException("스케줄(" + scheduleNo + ") 연도 필드는 * 또는 ? 만 지원합니다: " + expression);
+        }
+        return String.join(" ", Arrays.copyOf(fields, 6));
+    }
+
+    /**
+     * 주어진 시각 이후의 다음 실행 시각을 계산합니다.
+     *
+     * @param after 기준 시각 (이 시각은 포함하지 않음)
+     * @return 다음 실행 시각 (스케줄 시간대), 더 이상 없으면 null
+     */
+    public ZonedDateTime nextFireAfter(Instant after) {
+        return cron.next(after.atZone(zone));
+    }
+
+    /**
+     * 구간 (from, to] 안의 실행 시각을 이른 순서로 최대 limit 개 계산합니다.
+     *
+     * @param from  시작 시각 (포함하지 않음)
+     * @param to    끝 시각 (포함)
+     * @param limit 최대 개수
+     * @return 실행 시각 목록
+     */
+    public List<ZonedDateTime> firesBetween(Instant from, Instant to, int limit) {
+        List<ZonedDateTime> fires = new ArrayList<>();
+        ZonedDateTime next = nextFireAfter(from);
+        while (next != null && !next.toInstant().isAfter(to) && fires.size() < limit) {
+            fires.add(next);
+            next = cron.next(next);
+        }
+        return fires;
+    }
+
+    public Long getScheduleNo() {
+        return scheduleNo;
+    }
+
+    public Long getRuleNo() {
+        return ruleNo;
+    }
+
+    public String getCronExpression() {
+        return cronExpression;
+    }
+
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public Instant getLastFiredAt() {
+        return lastFiredAt;
+    }
+
+    @Override
+    public String toString() {
+        return "CronSchedule{" +
+                "scheduleNo=" + scheduleNo +
+                ", ruleNo=" + ruleNo +
+                ", cronExpression='" + cronExpression + '\'' +
+                ", zone=" + zone +
+                ", maxRetries=" + maxRetries +
+                ", lastFiredAt=" + lastFiredAt +
+                '}';
+    }
+}
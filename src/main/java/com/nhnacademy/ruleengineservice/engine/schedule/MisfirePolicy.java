@@ -0,0 +1,16 @@
+package com.nhnacademy.ruleengineservice.engine.schedule;
+
+/**
+ * 재시작 등으로 놓친 스케줄 실행을 처리하는 방식입니다.
+ *
+ * <ul>
+ *   <li>{@link #FIRE_ONCE} : 놓친 실행을 한 번으로 합쳐, 가장 최근 예정 시각으로 실행</li>
+ *   <li>{@link #FIRE_ALL} : 놓친 실행을 예정 시각마다 모두 실행</li>
+ *   <li>{@link #SKIP} : 놓친 실행은 건너뛰고 다음 예정 시각부터 실행</li>
+ * </ul>
+ */
+public enum MisfirePolicy {
+    FIRE_ONCE,
+    FIRE_ALL,
+    SKIP
+}
@@ -0,0 +1,105 @@
+package com.nhnacademy.ruleengineservice.engine.schedule;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * MissedFire 는 재시작 등으로 놓친 스케줄 실행 한 건입니다.
+ * {@link MisfirePolicy#FIRE_ONCE} 로 합쳐진 경우 {@link #getCoalesced()} 가 합쳐진 실행 수입니다.
+ */
+public final class MissedFire {
+
+    private final CronSchedule schedule;
+
+    private final ZonedDateTime scheduledAt;
+
+    private final int coalesced;
+
+    private MissedFire(CronSchedule schedule, ZonedDateTime scheduledAt, int coalesced) {
+        this.schedule = schedule;
+        this.scheduledAt = scheduledAt;
+        this.coalesced = coalesced;
+    }
+
+    /**
+     * 스케줄들의 놓친 실행을 정책에 따라 계산하여 예정 시각 순으로 반환합니다.
+     * 마지막 실행 시각이 없는(한 번도 실행되지 않은) 스케줄은 따라잡지 않으며,
+     * maxAge 보다 오래전의 실행은 계산하지 않으며, {@link MisfirePolicy#FIRE_ALL} 은 스케줄당 maxCatchUp 개까지만 실행합니다.
+     * {@link MisfirePolicy#FIRE_ONCE} 는 현재 시각 이전의 가장 최근 예정 시각 한 번으로 합치고, 합쳐진 수는 maxCatchUp 과 무관하게 셉니다.
+     *
+     * @param schedules  스케줄 목록
+     * @param now        현재 시각
+     * @param policy     놓친 실행 처리 방식
+     * @param maxCatchUp FIRE_ALL 의 스케줄당 최대 실행 수
+     * @param maxAge     따라잡을 최대 기간
+     * @return 실행할 놓친 실행 목록
+     */
+    public static List<MissedFire> plan(List<CronSchedule> schedules, Instant now, MisfirePolicy policy,
+                                        int maxCatchUp, Duration maxAge) {
+        List<MissedFire> missed = new ArrayList<>();
+        if (policy == MisfirePolicy.SKIP) {
+            return missed;
+        }
+        Instant oldest = now.minus(maxAge);
+        for (CronSchedule schedule : schedules) {
+            Instant lastFiredAt = schedule.getLastFiredAt();
+            if (lastFiredAt == null) {
+                continue;
+            }
+            Instant from = lastFiredAt.isBefore(oldest) ? oldest : lastFiredAt;
+            if (policy == MisfirePolicy.FIRE_ONCE) {
+                MissedFire once = coalesce(schedule, from, now);
+                if (once != null) {
+                    missed.add(once);
+                }
+                continue;
+            }
+            for (ZonedDateTime fire : schedule.firesBetween(from, now, Math.max(1, maxCatchUp))) {
+                missed.add(new MissedFire(schedule, fire, 1));
+            }
+        }
+        missed.sort(Comparator.comparing(fire -> fire.scheduledAt.toInstant()));
+        return missed;
+    }
+
+    /**
+     * 구간 (from, now] 의 놓친 실행을 가장 최근 예정 시각 한 번으로 합칩니다.
+     * maxCatchUp 은 실행 수를 제한하는 값이므로 여기서는 적용하지 않고, 구간의 모든 예정 시각을 셉니다.
+     */
+    private static MissedFire coalesce(CronSchedule schedule, Instant from, Instant now) {
+        ZonedDateTime last = null;
+        int count = 0;
+        ZonedDateTime next = schedule.nextFireAfter(from);
+        while (next != null && !next.toInstant().isAfter(now)) {
+            last = next;
+            count++;
+            next = schedule.nextFireAfter(next.toInstant());
+        }
+        return last != null ? new MissedFire(schedule, last, count) : null;
+    }
+
+    public CronSchedule getSchedule() {
+        return schedule;
+    }
+
+    public ZonedDateTime getScheduledAt() {
+        return scheduledAt;
+    }
+
+    public int getCoalesced() {
+        return coalesced;
+    }
+
+    @Override
+    public String toString() {
+        return "MissedFire{" +
+                "scheduleNo=" + schedule.getScheduleNo() +
+                ", scheduledAt=" + scheduledAt +
+                ", coalesced=" + coalesced +
+                '}';
+    }
+}
@@ -0,0 +1,67 @@
+package com.nhnacademy.ruleengineservice.engine.schedule;
+
+import com.nhnacademy.ruleengineservice.domain.schedule.RuleSchedule;
+import com.nhnacademy.ruleengineservice.engine.exception.RuleCompileException;
+import com.nhnacademy.ruleengineservice.repository.schedule.RuleScheduleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RuleScheduleLoader 는 데이터베이스에서 활성 스케줄을 읽어 {@link CronSchedule} 목록으로 컴파일합니다.
+ * 해석할 수 없는 스케줄은 경고 로그를 남기고 제외합니다.
+ * 실행된 시각은 {@link #saveLastFired(Map)} 로 모아서 기록합니다.
+ */
+@Component
+public class RuleScheduleLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(RuleScheduleLoader.class);
+
+    private final RuleScheduleRepository ruleScheduleRepository;
+
+    public RuleScheduleLoader(RuleScheduleRepository ruleScheduleRepository) {
+        this.ruleScheduleRepository = ruleScheduleRepository;
+    }
+
+    /**
+     * 활성 스케줄을 모두 조회하여 컴파일합니다.
+     *
+     * @return 컴파일된 스케줄 목록
+     */
+    @Transactional(readOnly = true)
+    public List<CronSchedule> loadActiveSchedules() {
+        List<RuleSchedule> schedules = ruleScheduleRepository.findByActiveTrue();
+        List<CronSchedule> compiled = new ArrayList<>(schedules.size());
+        for (RuleSchedule schedule : schedules) {
+            if (schedule.getRule() == null) {
+                continue;
+            }
+            try {
+                compiled.add(CronSchedule.compile(schedule.getScheduleNo(), schedule.getRule().getRuleNo(),
+                        schedule.getCronExpression(), schedule.getTimeZone(), schedule.getMaxRetires(),
+                        schedule.getLastFiredAt()));
+            } catch (RuleCompileException e) {
+                log.warn("스케줄({})을 해석할 수 없어 제외합니다: {}", schedule.getScheduleNo(), e.getMessage());
+            }
+        }
+        return compiled;
+    }
+
+    /**
+     * 스케줄별 마지막 실행 시각을 한 트랜잭션으로 기록합니다. 기록된 시각보다 이전 값은 무시됩니다.
+     *
+     * @param lastFired scheduleNo → 마지막 실행 예정 시각
+     */
+    @Transactional
+    public void saveLastFired(Map<Long, Instant> lastFired) {
+        for (RuleSchedule schedule : ruleScheduleRepository.findAllById(lastFired.keySet())) {
+            schedule.markFired(lastFired.get(schedule.getScheduleNo()));
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package com.nhnacademy.ruleengineservice.engine.schedule;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 스케줄 실행 설정입니다. ({@code rule.engine.schedule.*})
+ * <pre>
+ * rule.engine.schedule.enabled=true
+ * rule.engine.schedule.tick=100ms
+ * rule.engine.schedule.wheel-size=512
+ * rule.engine.schedule.misfire-policy=fire-once
+ * rule.engine.schedule.retry.base-delay=1s
+ * rule.engine.schedule.retry.journal=data/schedule-retry.journal
+ * rule.engine.schedule.cluster.virtual-nodes=160
+ * </pre>
+ */
+@Component
+@ConfigurationProperties(prefix = "rule.engine.schedule")
+public class RuleScheduleProperties {
+
+    /**
+     * 스케줄 실행 여부.
+     */
+    private boolean enabled = true;
+
+    /**
+     * 타이밍 휠의 틱 길이. 실행 시각의 정밀도입니다.
+     */
+    private Duration tick = Duration.ofMillis(100);
+
+    /**
+     * 타이밍 휠의 버킷 수 (2의 거듭제곱으로 올림).
+     */
+    private int wheelSize = 512;
+
+    /**
+     * 재시작 후 놓친 실행의 처리 방식.
+     */
+    private MisfirePolicy misfirePolicy = MisfirePolicy.FIRE_ONCE;
+
+    /**
+     * 스케줄 하나에서 따라잡을 최대 실행 수.
+     */
+    private int maxCatchUp = 100;
+
+    /**
+     * 이 시간보다 오래전에 놓친 실행은 따라잡지 않습니다.
+     */
+    private Duration maxCatchUpAge = Duration.ofDays(1);
+
+    /**
+     * 실행 시각을 데이터베이스에 모아서 기록하는 주기.
+     * 프로세스가 갑자기 종료되면 이 주기 안의 실행은 재시작 후 한 번 더 실행될 수 있습니다.
+     */
+    private Duration checkpointInterval = Duration.ofSeconds(5);
+
+    /**
+     * 실패한 스케줄 액션의 재시도 설정.
+     */
+    private Retry retry = new Retry();
+
+    /**
+     * 여러 인스턴스 사이의 스케줄 분배 설정.
+     */
+    private Cluster cluster = new Cluster();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getTick() {
+        return tick;
+    }
+
+    public void setTick(Duration tick) {
+        this.tick = tick;
+    }
+
+    public int getWheelSize() {
+        return wheelSize;
+    }
+
+    public void setWheelSize(int wheelSize) {
+        this.wheelSize = wheelSize;
+    }
+
+    public MisfirePolicy getMisfirePolicy() {
+        return misfirePolicy;
+    }
+
+    public void setMisfirePolicy(MisfirePolicy misfirePolicy) {
+        this.misfirePolicy = misfirePolicy;
+    }
+
+    public int getMaxCatchUp() {
+        return maxCatchUp;
+    }
+
+    public void setMaxCatchUp(int maxCatchUp) {
+        this.maxCatchUp = maxCatchUp;
+    }
+
+    public Duration getMaxCatchUpAge() {
+        return maxCatchUpAge;
+    }
+
+    public void setMaxCatchUpAge(Duration maxCatchUpAge) {
+        this.maxCatchUpAge = maxCatchUpAge;
+    }
+
+    public Duration getCheckpointInterval() {
+        return checkpointInterval;
+    }
+
+    public void setCheckpointInterval(Duration checkpointInterval) {
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    public Retry getRetry() {
+        return retry;
+    }
+
+    public void setRetry(Retry retry) {
+        this.retry = retry;
+    }
+
+    public Cluster getCluster() {
+        return cluster;
+    }
+
+    public void setCluster(Cluster cluster) {
+        this.cluster = cluster;
+    }
+
+    /**
+     * 재시도 설정입니다. 재시도 횟수는 스케줄의 maxRetires 를 따릅니다.
+     */
+    public static class Retry {
+
+        /**
+         * 첫 재시도 대기 시간. 회차마다 두 배로 늘어납니다.
+         */
+        private Duration baseDelay = Duration.ofSeconds(1);
+
+        /**
+         * 최대 대기 시간.
+         */
+        private Duration maxDelay = Duration.ofMinutes(5);
+
+        /**
+         * 대기 시간을 무작위로 줄일 최대 비율 (0~1).
+         */
+        private double jitter = 0.5;
+
+        /**
+         * 재시도 레인의 동시 실행 수. 새 액션의 actType 레인과 별도입니다.
+         */
+        private int concurrency = 8;
+
+        /**
+         * 재시도 한 건의 실행 시간 제한.
+         */
+        private Duration timeout = Duration.ofSeconds(10);
+
+        /**
+         * 재시도 레인의 최대 대기 수.
+         */
+        private int maxPending = 1_000;
+
+        /**
+         * 재시도 대기 항목을 보관할 저널 파일 경로.
+         */
+        private String journal = "data/schedule-retry.journal";
+
+        public Duration getBaseDelay() {
+            return baseDelay;
+        }
+
+        public void setBaseDelay(Duration baseDelay) {
+            this.baseDelay = baseDelay;
+        }
+
+        public Duration getMaxDelay() {
+            return maxDelay;
+        }
+
+        public void setMaxDelay(Duration maxDelay) {
+            this.maxDelay = maxDelay;
+        }
+
+        public double getJitter() {
+            return jitter;
+        }
+
+        public void setJitter(double jitter) {
+            this.jitter = jitter;
+        }
+
+        public int getConcurrency() {
+            return concurrency;
+        }
+
+        public void setConcurrency(int concurrency) {
+            this.concurrency = concurrency;
+        }
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(Duration timeout) {
+            this.timeout = timeout;
+        }
+
+        public int getMaxPending() {
+            return maxPending;
+        }
+
+        public void setMaxPending(int maxPending) {
+            this.maxPending = maxPending;
+        }
+
+        public String getJournal() {
+            return journal;
+        }
+
+        public void setJournal(String journal) {
+            this.journal = journal;
+        }
+    }
+
+    /**
+     * 스케줄 분배 설정입니다. 스케줄은 rule_no 의 일관 해시로 살아 있는 인스턴스 중 하나에게만 배정됩니다.
+     */
+    public static class Cluster {
+
+        /**
+         * 인스턴스 사이에 스케줄을 나눌지 여부. 끄면 모든 인스턴스가 모든 스케줄을 실행합니다.
+         */
+        private boolean enabled = true;
+
+        /**
+         * 해시 링에 올릴 인스턴스당 점 수. 많을수록 고르게 나뉩니다.
+         */
+        private int virtualNodes = 160;
+
+        /**
+         * 인스턴스 목록을 다시 확인하는 주기.
+         */
+        private Duration rebalanceInterval = Duration.ofSeconds(15);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getVirtualNodes() {
+            return virtualNodes;
+        }
+
+        public void setVirtualNodes(int virtualNodes) {
+            this.virtualNodes = virtualNodes;
+        }
+
+        public Duration getRebalanceInterval() {
+            return rebalanceInterval;
+        }
+
+        public void setRebalanceInterval(Duration rebalanceInterval) {
+            this.rebalanceInterval = rebalanceInterval;
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package com.nhnacademy.ruleengineservice.engine.schedule;
+
+import com.nhnacademy.ruleengineservice.engine.RuleEngine;
+import com.nhnacademy.ruleengineservice.engine.action.ActionCallback;
+import com.nhnacademy.ruleengineservice.engine.schedule.cluster.ClusterMembership;
+import com.nhnacademy.ruleengineservice.engine.schedule.cluster.ScheduleOwnership;
+import com.nhnacademy.ruleengineservice.engine.schedule.retry.ScheduleRetryEngine;
+import com.nhnacademy.ruleengineservice.engine.snapshot.RuleSetSnapshot;
+import com.nhnacademy.ruleengineservice.engine.timer.TimingWheel;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * RuleScheduler 는 활성 {@code RuleSchedule} 의 크론 일정에 맞춰 규칙을 발동시킵니다.
+ * <p>
+ * 스케줄마다 다음 실행 시각 하나만 {@link TimingWheel} 에 등록하고, 실행되면 그 다음 시각을 다시 등록합니다.
+ * 스케줄 수와 관계없이 스레드는 휠 스레드 하나이며, 틱마다 현재 버킷만 훑습니다.
+ * 실행 시에는 {@link RuleEngine#fire} 로 해당 규칙만 평가하고 액션은 디스패처에 넘기므로 휠 스레드는 막히지 않습니다.
+ * <p>
+ * 발동 팩트에는 scheduleNo, ruleNo, scheduledAt(스케줄 시간대의 ISO-8601 시각), timeZone 이 담깁니다.
+ * 실패한 액션은 {@link ScheduleRetryEngine} 이 스케줄의 maxRetires 까지 다시 실행합니다.
+ * <p>
+ * 실행된 예정 시각은 메모리에 모았다가 checkpointInterval 마다 {@code RuleSchedule.lastFiredAt} 에 한 번에 기록합니다.
+ * 시작 시에는 그 시각 이후 놓친 실행을 {@link MisfirePolicy} 에 따라 한 스냅샷으로 먼저 실행한 뒤 휠을 시작합니다.
+ * 따라잡기 실행의 팩트에는 catchUp=true 와 합쳐진 실행 수 missedFires 가 추가됩니다.
+ * 엔진은 {@code SCHEDULED_DAILY} 이벤트를 따로 만들지 않으므로, 매일 실행되어야 하는 규칙도
+ * {@code RuleSchedule} 크론 행으로 예약해야 실행되고 따라잡기 대상이 됩니다.
+ * <p>
+ * 여러 인스턴스가 떠 있으면 {@link ScheduleOwnership} 이 rule_no 로 배정한 스케줄만 예약합니다.
+ * rebalanceInterval 마다 인스턴스 목록을 확인하여 바뀌었으면 스케줄을 다시 읽어 예약을 교체하고,
+ * 새로 맡게 된 스케줄은 놓친 실행을 따라잡습니다.
+ */
+@Component
+public class RuleScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(RuleScheduler.class);
+
+    private final RuleScheduleLoader ruleScheduleLoader;
+
+    private final RuleEngine ruleEngine;
+
+    private final RuleScheduleProperties properties;
+
+    private final ScheduleRetryEngine retryEngine;
+
+    private final Clock clock = Clock.systemUTC();
+
+    private final TimingWheel wheel;
+
+    private final ScheduleOwnership ownership;
+
+    /**
+     * scheduleNo → 등록된 다음 실행. 재적재 시 모두 취소합니다.
+     */
+    private final Map<Long, TimingWheel.Timeout> timeouts = new HashMap<>();
+
+    /**
+     * 재적재마다 증가하는 세대. 이전 세대의 실행은 다음 시각을 다시 등록하지 않습니다.
+     */
+    private long generation;
+
+    /**
+     * 마지막 체크포인트 이후 실행된 scheduleNo → 가장 늦은 예정 시각.
+     */
+    private final Map<Long, Instant> firedSinceCheckpoint = new ConcurrentHashMap<>();
+
+    /**
+     * 체크포인트 기록을 직렬화합니다. 기록 중에도 휠 스레드가 막히지 않도록 this 와 분리합니다.
+     */
+    private final Object checkpointLock = new Object();
+
+    public RuleScheduler(RuleScheduleLoader ruleScheduleLoader, RuleEngine ruleEngine,
+                         RuleScheduleProperties properties, ScheduleRetryEngine retryEngine,
+                         ClusterMembership clusterMembership) {
+        this.ruleScheduleLoader = ruleScheduleLoader;
+        this.ruleEngine = ruleEngine;
+        this.properties = properties;
+        this.retryEngine = retryEngine;
+        this.wheel = new TimingWheel("rule-scheduler", clock, properties.getTick(), properties.getWheelSize());
+        this.ownership = new ScheduleOwnership(clusterMembership, properties.getCluster().getVirtualNodes());
+    }
+
+    /**
+     * 애플리케이션이 준비되면 스케줄을 적재하고, 놓친 실행을 따라잡은 뒤 휠을 시작합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!properties.isEnabled()) {
+            log.info("규칙 스케줄 실행이 비활성화되어 있습니다.");
+            return;
+        }
+        ownership.refresh();
+        List<CronSchedule> schedules = loadOwnedSchedules();
+        catchUp(schedules);
+        rearm(schedules);
+        wheel.start();
+        scheduleCheckpoint();
+        scheduleRebalance();
+    }
+
+    /**
+     * 활성 스케줄을 다시 읽어 모든 실행 예약을 교체합니다.
+     * 스케줄이 추가·수정·삭제된 트랜잭션이 커밋되면 {@code RuleChangeTracker} 가 호출합니다.
+     *
+     * @return 예약된 스케줄 수, 스케줄 실행이 비활성화되어 있으면 0
+     */
+    public int reload() {
+        if (!properties.isEnabled()) {
+            return 0;
+        }
+        return rearm(loadOwnedSchedules());
+    }
+
+    /**
+     * 인스턴스 목록이 바뀌었으면 이 인스턴스가 맡을 스케줄을 다시 계산하여 예약을 교체합니다.
+     * 새로 맡게 된 스케줄은 이전 담당 인스턴스가 기록한 마지막 실행 시각부터 따라잡습니다.
+     *
+     * @return 분배가 바뀌었으면 true
+     */
+    public boolean rebalance() {
+        if (!ownership.refresh()) {
+            return false;
+        }
+        List<CronSchedule> schedules = loadOwnedSchedules();
+        Set<Long> armed;
+        synchronized (this) {
+            armed = Set.copyOf(timeouts.keySet());
+        }
+        catchUp(schedules.stream().filter(schedule -> !armed.contains(schedule.getScheduleNo())).toList());
+        int scheduled = rearm(schedules);
+        log.info("스케줄 재분배: 인스턴스 {}개 중 {} 이(가) {}건 담당",
+                ownership.getInstances().size(), ownership.getLocalInstanceId(), scheduled);
+        return true;
+    }
+
+    private List<CronSchedule> loadOwnedSchedules() {
+        return ruleScheduleLoader.loadActiveSchedules().stream()
+                .filter(schedule -> ownership.owns(schedule.getRuleNo()))
+                .toList();
+    }
+
+    /**
+     * 마지막 실행 시각 이후 놓친 실행을 정책에 따라 예정 시각 순으로 실행합니다.
+     * 모든 실행은 하나의 스냅샷으로 평가하며, 끝나면 실행 시각을 바로 기록합니다.
+     *
+     * @param schedules 스케줄 목록
+     * @return 실행한 놓친 실행 수
+     */
+    int catchUp(List<CronSchedule> schedules) {
+        List<MissedFire> missed = MissedFire.plan(schedules, clock.instant(), properties.getMisfirePolicy(),
+                properties.getMaxCatchUp(), properties.getMaxCatchUpAge());
+        if (missed.isEmpty()) {
+            return 0;
+        }
+        RuleSetSnapshot snapshot = ruleEngine.getSnapshot();
+        for (MissedFire fire : missed) {
+            CronSchedule schedule = fire.getSchedule();
+            String scheduledAt = fire.getScheduledAt().toOffsetDateTime().toString();
+            Map<String, Object> fact = new HashMap<>(factOf(schedule.getScheduleNo(), schedule.getRuleNo(),
+                    scheduledAt, schedule.getZone().getId()));
+            fact.put("catchUp", true);
+            fact.put("missedFires", fire.getCoalesced());
+            try {
+                ruleEngine.fire(snapshot, schedule.getRuleNo(), fact, retryOnFailure(schedule, scheduledAt));
+            } catch (RuntimeException e) {
+                log.error("스케줄({}) 규칙({}) 따라잡기 실행 실패", schedule.getScheduleNo(), schedule.getRuleNo(), e);
+            }
+            markFired(schedule, fire.getScheduledAt());
+        }
+        log.info("놓친 스케줄 실행 {}건 따라잡음 (정책 {}, 스냅샷 버전 {})",
+                missed.size(), properties.getMisfirePolicy(), snapshot.getVersion());
+        checkpoint();
+        return missed.size();
+    }
+
+    /**
+     * 모든 실행 예약을 주어진 스케줄로 교체합니다.
+     */
+    private synchronized int rearm(List<CronSchedule> schedules) {
+        generation++;
+        timeouts.values().forEach(TimingWheel.Timeout::cancel);
+        timeouts.clear();
+        for (CronSchedule schedule : schedules) {
+            arm(schedule, generation, clock.instant());
+        }
+        log.info("규칙 스케줄 {}건 예약 (세대 {})", timeouts.size(), generation);
+        return timeouts.size();
+    }
+
+    /**
+     * 기준 시각 이후의 다음 실행을 휠에 등록합니다. this 의 모니터를 잡은 상태에서 호출합니다.
+     */
+    private void arm(CronSchedule schedule, long armedGeneration, Instant after) {
+        ZonedDateTime next = schedule.nextFireAfter(after);
+        if (next == null) {
+            timeouts.remove(schedule.getScheduleNo());
+            log.info("스케줄({})의 다음 실행 시각이 없습니다: {}", schedule.getScheduleNo(), schedule.getCronExpression());
+            return;
+        }
+        timeouts.put(schedule.getScheduleNo(),
+                wheel.schedule(next.toInstant(), () -> fire(schedule, armedGeneration, next)));
+    }
+
+    /**
+     * 휠 스레드에서 스케줄을 실행하고 다음 시각을 등록합니다.
+     */
+    private void fire(CronSchedule schedule, long armedGeneration, ZonedDateTime scheduledAt) {
+        synchronized (this) {
+            if (armedGeneration != generation) {
+                return;
+            }
+            arm(schedule, armedGeneration, scheduledAt.toInstant());
+        }
+        String scheduledAtText = scheduledAt.toOffsetDateTime().toString();
+        try {
+            ruleEngine.fire(schedule.getRuleNo(), factOf(schedule.getScheduleNo(), schedule.getRuleNo(), scheduledAtText,
+                    schedule.getZone().getId()), retryOnFailure(schedule, scheduledAtText));
+        } catch (RuntimeException e) {
+            log.error("스케줄({}) 규칙({}) 실행 실패", schedule.getScheduleNo(), schedule.getRuleNo(), e);
+        }
+        markFired(schedule, scheduledAt);
+    }
+
+    private ActionCallback retryOnFailure(CronSchedule schedule, String scheduledAt) {
+        return (request, failure) -> {
+            if (failure != null) {
+                retryEngine.onActionFailed(schedule, scheduledAt, request, failure);
+            }
+        };
+    }
+
+    private void markFired(CronSchedule schedule, ZonedDateTime scheduledAt) {
+        firedSinceCheckpoint.merge(schedule.getScheduleNo(), scheduledAt.toInstant(),
+                (prev, next) -> next.isAfter(prev) ? next : prev);
+    }
+
+    /**
+     * 다음 체크포인트를 휠에 등록합니다. 데이터베이스 기록은 휠 스레드를 막지 않도록 가상 스레드에서 수행합니다.
+     */
+    private void scheduleCheckpoint() {
+        wheel.schedule(properties.getCheckpointInterval(), () -> Thread.ofVirtual()
+                .name("rule-scheduler-checkpoint")
+                .start(() -> {
+                    checkpoint();
+                    scheduleCheckpoint();
+                }));
+    }
+
+    /**
+     * 다음 인스턴스 목록 확인을 휠에 등록합니다. 스케줄 적재가 휠 스레드를 막지 않도록 가상 스레드에서 수행합니다.
+     */
+    private void scheduleRebalance() {
+        wheel.schedule(properties.getCluster().getRebalanceInterval(), () -> Thread.ofVirtual()
+                .name("rule-scheduler-rebalance")
+                .start(() -> {
+                    try {
+                        rebalance();
+                    } catch (RuntimeException e) {
+                        log.warn("스케줄 재분배 실패, 다음 주기에 다시 시도합니다: {}", e.getMessage());
+                    }
+                    scheduleRebalance();
+                }));
+    }
+
+    /**
+     * 모아 둔 실행 시각을 기록합니다. 기록하는 동안 더 늦은 시각으로 갱신된 항목은 다음 체크포인트로 넘깁니다.
+     * 기록에 실패하면 항목을 그대로 두고 다음 체크포인트에서 다시 시도합니다.
+     */
+    void checkpoint() {
+        synchronized (checkpointLock) {
+            if (firedSinceCheckpoint.isEmpty()) {
+                return;
+            }
+            Map<Long, Instant> pending = Map.copyOf(firedSinceCheckpoint);
+            try {
+                ruleScheduleLoader.saveLastFired(pending);
+            } catch (RuntimeException e) {
+                log.warn("스케줄 실행 시각 {}건을 기록하지 못했습니다: {}", pending.size(), e.getMessage());
+                return;
+            }
+            pending.forEach((scheduleNo, firedAt) -> firedSinceCheckpoint.remove(scheduleNo, firedAt));
+        }
+    }
+
+    /**
+     * 스케줄 실행 시 규칙에 전달할 팩트를 만듭니다. 재시도도 같은 팩트로 실행합니다.
+     *
+     * @param scheduleNo  스케줄 식별자
+     * @param ruleNo      규칙 식별자
+     * @param scheduledAt 예정 실행 시각 (ISO-8601)
+     * @param timeZone    스케줄 시간대
+     * @return 팩트
+     */
+    public static Map<String, Object> factOf(Long scheduleNo, Long ruleNo, String scheduledAt, String timeZone) {
+        return Map.of(
+                "scheduleNo", scheduleNo,
+                "ruleNo", ruleNo,
+                "scheduledAt", scheduledAt,
+                "timeZone", timeZone);
+    }
+
+    /**
+     * 예약된 스케줄 수를 반환합니다.
+     *
+     * @return 예약된 스케줄 수
+     */
+    public synchronized int getScheduledCount() {
+        return timeouts.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        wheel.stop();
+        checkpoint();
+    }
+}
@@ -0,0 +1,26 @@
+package com.nhnacademy.ruleengineservice.engine.schedule.cluster;
+
+import java.util.Set;
+
+/**
+ * ClusterMembership 은 스케줄을 나눠 맡을 살아 있는 서비스 인스턴스 목록을 제공합니다.
+ * <p>
+ * 운영에서는 {@link DiscoveryClusterMembership} 이 Eureka 레지스트리를 사용하며,
+ * 테스트에서는 {@code InMemoryClusterMembership} 으로 여러 인스턴스를 한 프로세스 안에서 흉내 낼 수 있습니다.
+ */
+public interface ClusterMembership {
+
+    /**
+     * 이 인스턴스의 식별자를 반환합니다.
+     *
+     * @return 인스턴스 식별자
+     */
+    String localInstanceId();
+
+    /**
+     * 현재 살아 있는 인스턴스 식별자를 반환합니다. 레지스트리에 아직 보이지 않더라도 자신은 항상 포함합니다.
+     *
+     * @return 인스턴스 식별자 집합
+     */
+    Set<String> liveInstanceIds();
+}
@@ -0,0 +1,124 @@
+package com.nhnacademy.ruleengineservice.engine.schedule.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * ConsistentHashRing 은 키(rule_no)를 인스턴스에 나눠 주는 불변 일관 해시 링입니다.
+ * <p>
+ * 인스턴스마다 virtualNodes 개의 점을 링에 올리고, 키는 해시값 이후 첫 번째 점의 인스턴스가 맡습니다.
+ * 인스턴스가 들어오거나 나가면 그 인스턴스의 점과 인접한 구간의 키만 주인이 바뀝니다.
+ * 해시는 JVM 과 무관하게 결정적이므로 같은 인스턴스 목록을 본 인스턴스들은 같은 결과를 얻습니다.
+ */
+public final class ConsistentHashRing {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final Set<String> instances;
+
+    /**
+     * 정렬된 점의 해시값.
+     */
+    private final long[] points;
+
+    /**
+     * points 와 같은 순서의 점 주인.
+     */
+    private final String[] owners;
+
+    private ConsistentHashRing(Set<String> instances, long[] points, String[] owners) {
+        this.instances = instances;
+        this.points = points;
+        this.owners = owners;
+    }
+
+    /**
+     * 인스턴스 목록으로 링을 만듭니다.
+     *
+     * @param instances    인스턴스 식별자 목록 (비어 있지 않아야 함)
+     * @param virtualNodes 인스턴스당 점 수
+     * @return 해시 링
+     * @throws IllegalArgumentException 인스턴스가 없거나 virtualNodes 가 1 미만인 경우
+     */
+    public static ConsistentHashRing of(Collection<String> instances, int virtualNodes) {
+        if (instances.isEmpty()) {
+            throw new IllegalArgumentException("해시 링에는 인스턴스가 하나 이상 있어야 합니다.");
+        }
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("virtualNodes 는 1 이상이어야 합니다: " + virtualNodes);
+        }
+        Set<String> sorted = new TreeSet<>(instances);
+        Point[] ring = new Point[sorted.size() * virtualNodes];
+        int i = 0;
+        for (String instance : sorted) {
+            for (int replica = 0; replica < virtualNodes; replica++) {
+                ring[i++] = new Point(hash(instance + '#' + replica), instance);
+            }
+        }
+        // 해시가 겹치면 인스턴스 이름으로 순서를 정해 모든 인스턴스가 같은 링을 얻도록 합니다.
+        Arrays.sort(ring, Comparator.comparingLong(Point::hash).thenComparing(Point::owner));
+        long[] points = new long[ring.length];
+        String[] owners = new String[ring.length];
+        for (int j = 0; j < ring.length; j++) {
+            points[j] = ring[j].hash();
+            owners[j] = ring[j].owner();
+        }
+        return new ConsistentHashRing(Set.copyOf(sorted), points, owners);
+    }
+
+    /**
+     * 키를 맡을 인스턴스를 반환합니다.
+     *
+     * @param key 키 (rule_no)
+     * @return 인스턴스 식별자
+     */
+    public String ownerOf(long key) {
+        int index = Arrays.binarySearch(points, mix(key));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return owners[index == points.length ? 0 : index];
+    }
+
+    public Set<String> getInstances() {
+        return instances;
+    }
+
+    static long hash(String value) {
+        long hash = FNV_OFFSET;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * 64비트 값을 고르게 흩뜨립니다. (MurmurHash3 fmix64)
+     */
+    static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "ConsistentHashRing{" +
+                "instances=" + instances +
+                ", points=" + points.length +
+                '}';
+    }
+
+    private record Point(long hash, String owner) {
+    }
+}
@@ -0,0 +1,76 @@
+package com.nhnacademy.ruleengineservice.engine.schedule.cluster;
+
+import com.nhnacademy.ruleengineservice.engine.schedule.RuleScheduleProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.serviceregistry.Registration;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * DiscoveryClusterMembership 은 {@link DiscoveryClient}(Eureka)에 등록된 같은 서비스의 인스턴스를 멤버로 봅니다.
+ * <p>
+ * 레지스트리 조회는 클라이언트의 로컬 캐시를 읽으므로 네트워크를 타지 않습니다.
+ * 클러스터 분배가 꺼져 있거나 등록 정보가 없으면(디스커버리 비활성) 자신만 있는 단일 인스턴스로 동작합니다.
+ */
+@Component
+public class DiscoveryClusterMembership implements ClusterMembership {
+
+    private static final Logger log = LoggerFactory.getLogger(DiscoveryClusterMembership.class);
+
+    private static final String STANDALONE = "standalone";
+
+    private final DiscoveryClient discoveryClient;
+
+    private final String serviceId;
+
+    private final String localInstanceId;
+
+    /**
+     * 마지막으로 조회에 성공한 인스턴스 목록. 조회가 실패하면 이 목록을 그대로 사용합니다.
+     */
+    private volatile Set<String> lastKnown;
+
+    public DiscoveryClusterMembership(ObjectProvider<DiscoveryClient> discoveryClient,
+                                      ObjectProvider<Registration> registration,
+                                      RuleScheduleProperties properties) {
+        Registration local = properties.getCluster().isEnabled() ? registration.getIfAvailable() : null;
+        this.discoveryClient = local != null ? discoveryClient.getIfAvailable() : null;
+        this.serviceId = local != null ? local.getServiceId() : null;
+        this.localInstanceId = local != null ? instanceIdOf(local) : STANDALONE;
+        this.lastKnown = Set.of(localInstanceId);
+    }
+
+    @Override
+    public String localInstanceId() {
+        return localInstanceId;
+    }
+
+    @Override
+    public Set<String> liveInstanceIds() {
+        if (discoveryClient == null) {
+            return lastKnown;
+        }
+        try {
+            Set<String> live = new HashSet<>();
+            live.add(localInstanceId);
+            for (ServiceInstance instance : discoveryClient.getInstances(serviceId)) {
+                live.add(instanceIdOf(instance));
+            }
+            lastKnown = Set.copyOf(live);
+        } catch (RuntimeException e) {
+            log.warn("서비스({}) 인스턴스 조회 실패, 이전 목록을 사용합니다: {}", serviceId, e.getMessage());
+        }
+        return lastKnown;
+    }
+
+    private static String instanceIdOf(ServiceInstance instance) {
+        String instanceId = instance.getInstanceId();
+        return instanceId != null ? instanceId : instance.getHost() + ":" + instance.getPort();
+    }
+}
@@ -0,0 +1,69 @@
+package com.nhnacademy.ruleengineservice.engine.schedule.cluster;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Set;
+
+/**
+ * ScheduleOwnership 은 이 인스턴스가 어떤 규칙의 스케줄을 맡는지 판단합니다.
+ * <p>
+ * {@link ClusterMembership} 의 인스턴스 목록으로 {@link ConsistentHashRing} 을 만들고,
+ * rule_no 가 이 인스턴스에 배정된 스케줄만 실행하도록 합니다.
+ * 목록이 바뀌면 {@link #refresh()} 가 새 링으로 교체하며, 한 인스턴스가 나가면 그 인스턴스의 규칙만 다른 인스턴스로 옮겨집니다.
+ */
+public final class ScheduleOwnership {
+
+    private static final Logger log = LoggerFactory.getLogger(ScheduleOwnership.class);
+
+    private final ClusterMembership membership;
+
+    private final int virtualNodes;
+
+    private volatile ConsistentHashRing ring;
+
+    /**
+     * 현재 인스턴스 목록으로 링을 만듭니다.
+     *
+     * @param membership   클러스터 멤버십
+     * @param virtualNodes 인스턴스당 링의 점 수
+     */
+    public ScheduleOwnership(ClusterMembership membership, int virtualNodes) {
+        this.membership = membership;
+        this.virtualNodes = virtualNodes;
+        this.ring = ConsistentHashRing.of(membership.liveInstanceIds(), virtualNodes);
+    }
+
+    /**
+     * 인스턴스 목록을 다시 읽어 바뀌었으면 링을 교체합니다.
+     *
+     * @return 링이 바뀌었으면 true
+     */
+    public synchronized boolean refresh() {
+        Set<String> live = membership.liveInstanceIds();
+        if (live.equals(ring.getInstances())) {
+            return false;
+        }
+        log.info("스케줄 분배 인스턴스 변경: {} → {}", ring.getInstances(), live);
+        ring = ConsistentHashRing.of(live, virtualNodes);
+        return true;
+    }
+
+    /**
+     * 규칙의 스케줄을 이 인스턴스가 맡는지 확인합니다.
+     *
+     * @param ruleNo 규칙 번호
+     * @return 맡으면 true
+     */
+    public boolean owns(Long ruleNo) {
+        return membership.localInstanceId().equals(ring.ownerOf(ruleNo));
+    }
+
+    public String getLocalInstanceId() {
+        return membership.localInstanceId();
+    }
+
+    public Set<String> getInstances() {
+        return ring.getInstances();
+    }
+}
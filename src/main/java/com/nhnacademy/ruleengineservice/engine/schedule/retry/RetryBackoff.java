@@ -0,0 +1,44 @@
+package com.nhnacademy.ruleengineservice.engine.schedule.retry;
+
+import java.time.Duration;
+
+/**
+ * RetryBackoff 는 재시도 회차별 대기 시간을 계산합니다.
+ * <p>
+ * 대기 시간은 {@code baseDelay × 2^(회차-1)} 로 늘어나며 maxDelay 에서 멈추고,
+ * 같은 시각에 실패한 재시도가 한꺼번에 몰리지 않도록 최대 jitter 비율만큼 무작위로 줄입니다.
+ */
+public final class RetryBackoff {
+
+    private final long baseMillis;
+
+    private final long maxMillis;
+
+    private final double jitter;
+
+    /**
+     * RetryBackoff 생성자.
+     *
+     * @param baseDelay 첫 재시도 대기 시간
+     * @param maxDelay  최대 대기 시간
+     * @param jitter    무작위로 줄일 최대 비율 (0~1)
+     */
+    public RetryBackoff(Duration baseDelay, Duration maxDelay, double jitter) {
+        this.baseMillis = Math.max(1, baseDelay.toMillis());
+        this.maxMillis = Math.max(baseMillis, maxDelay.toMillis());
+        this.jitter = Math.min(Math.max(jitter, 0.0), 1.0);
+    }
+
+    /**
+     * 회차의 대기 시간을 계산합니다.
+     *
+     * @param attempt 재시도 회차 (1부터 시작)
+     * @param random  0 이상 1 미만의 난수
+     * @return 대기 시간
+     */
+    public Duration delayOf(int attempt, double random) {
+        int shift = Math.min(Math.max(attempt - 1, 0), 62);
+        long delay = baseMillis > (maxMillis >> shift) ? maxMillis : Math.min(maxMillis, baseMillis << shift);
+        return Duration.ofMillis(Math.round(delay * (1.0 - jitter * random)));
+    }
+}
@@ -0,0 +1,162 @@
+package com.nhnacademy.ruleengineservice.engine.schedule.retry;
+
+import com.nhnacademy.ruleengineservice.engine.schedule.RuleScheduler;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * RetryEntry 는 스케줄 실행에서 실패한 액션 한 건의 재시도 대기 항목입니다.
+ * <p>
+ * 재시도 시 규칙과 액션은 현재 스냅샷에서 다시 찾고, 팩트는 원래 실행과 같은 값으로 다시 만듭니다.
+ */
+public final class RetryEntry {
+
+    /**
+     * 저널 내 식별자.
+     */
+    private final long id;
+
+    private final long scheduleNo;
+
+    private final long ruleNo;
+
+    private final long actNo;
+
+    /**
+     * 다음에 시도할 재시도 회차 (1부터 시작).
+     */
+    private final int attempt;
+
+    private final int maxRetries;
+
+    /**
+     * 다음 재시도 시각 (epoch 밀리초).
+     */
+    private final long dueAtMillis;
+
+    /**
+     * 처음 실패한 시각 (epoch 밀리초).
+     */
+    private final long firstFailedAtMillis;
+
+    /**
+     * 원래 실행 예정 시각 (ISO-8601).
+     */
+    private final String scheduledAt;
+
+    private final String timeZone;
+
+    RetryEntry(long id, long scheduleNo, long ruleNo, long actNo, int attempt, int maxRetries, long dueAtMillis,
+               long firstFailedAtMillis, String scheduledAt, String timeZone) {
+        this.id = id;
+        this.scheduleNo = scheduleNo;
+        this.ruleNo = ruleNo;
+        this.actNo = actNo;
+        this.attempt = attempt;
+        this.maxRetries = maxRetries;
+        this.dueAtMillis = dueAtMillis;
+        this.firstFailedAtMillis = firstFailedAtMillis;
+        this.scheduledAt = scheduledAt;
+        this.timeZone = timeZone;
+    }
+
+    /**
+     * 다음 회차 항목을 만듭니다.
+     *
+     * @param nextId      새 저널 식별자
+     * @param dueAtMillis 다음 재시도 시각
+     * @return 다음 회차 항목
+     */
+    RetryEntry next(long nextId, long dueAtMillis) {
+        return new RetryEntry(nextId, scheduleNo, ruleNo, actNo, attempt + 1, maxRetries, dueAtMillis,
+                firstFailedAtMillis, scheduledAt, timeZone);
+    }
+
+    /**
+     * 같은 실행의 같은 액션을 식별하는 키입니다. 중복 등록을 막는 데 사용합니다.
+     *
+     * @return 스케줄, 액션, 예정 시각으로 구성된 키
+     */
+    String key() {
+        return keyOf(scheduleNo, actNo, scheduledAt);
+    }
+
+    static String keyOf(long scheduleNo, long actNo, String scheduledAt) {
+        return scheduleNo + "/" + actNo + "/" + scheduledAt;
+    }
+
+    /**
+     * 원래 실행과 같은 팩트를 만듭니다.
+     *
+     * @return 팩트
+     */
+    Map<String, Object> fact() {
+        return RuleScheduler.factOf(scheduleNo, ruleNo, scheduledAt, timeZone);
+    }
+
+    boolean isLastAttempt() {
+        return attempt >= maxRetries;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public long getScheduleNo() {
+        return scheduleNo;
+    }
+
+    public long getRuleNo() {
+        return ruleNo;
+    }
+
+    public long getActNo() {
+        return actNo;
+    }
+
+    public int getAttempt() {
+        return attempt;
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public Instant getDueAt() {
+        return Instant.ofEpochMilli(dueAtMillis);
+    }
+
+    long getDueAtMillis() {
+        return dueAtMillis;
+    }
+
+    public Instant getFirstFailedAt() {
+        return Instant.ofEpochMilli(firstFailedAtMillis);
+    }
+
+    long getFirstFailedAtMillis() {
+        return firstFailedAtMillis;
+    }
+
+    public String getScheduledAt() {
+        return scheduledAt;
+    }
+
+    public String getTimeZone() {
+        return timeZone;
+    }
+
+    @Override
+    public String toString() {
+        return "RetryEntry{" +
+                "id=" + id +
+                ", scheduleNo=" + scheduleNo +
+                ", ruleNo=" + ruleNo +
+                ", actNo=" + actNo +
+                ", attempt=" + attempt + "/" + maxRetries +
+                ", dueAt=" + getDueAt() +
+                ", scheduledAt='" + scheduledAt + '\'' +
+                '}';
+    }
+}
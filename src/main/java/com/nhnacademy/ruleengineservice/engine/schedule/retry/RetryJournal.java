@@ -0,0 +1,303 @@
+package com.nhnacademy.ruleengineservice.engine.schedule.retry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * RetryJournal 은 재시도 대기 항목을 파일에 보관하는 추가 전용(append-only) 저널입니다.
+ * <p>
+ * 항목 등록은 ADD 레코드, 완료(성공 또는 포기)는 DONE 레코드 하나로 기록하며, 레코드마다 길이와 CRC 를 붙입니다.
+ * 재시작 시에는 ADD 중 DONE 이 없는 항목만 복원하고, 중간에 끊긴 마지막 레코드는 잘라냅니다.
+ * 기록할 때마다 디스크에 동기화하므로 재시작으로 대기 항목을 잃지 않으며,
+ * 회차 교체는 DONE 과 다음 ADD 를 한 번에 기록해 같은 회차가 두 번 복원되지 않습니다.
+ * 완료된 레코드가 살아 있는 항목보다 많아지면 살아 있는 항목만 새 파일에 옮겨 적고 교체합니다.
+ * <p>
+ * 모든 메서드는 동기화되어 있어 여러 스레드에서 호출할 수 있습니다.
+ */
+public final class RetryJournal implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(RetryJournal.class);
+
+    private static final byte ADD = 'A';
+
+    private static final byte DONE = 'D';
+
+    /**
+     * 압축을 시작하는 최소 완료 레코드 수.
+     */
+    private static final int COMPACT_THRESHOLD = 1024;
+
+    private final Path path;
+
+    private final Map<Long, RetryEntry> live = new LinkedHashMap<>();
+
+    private FileChannel channel;
+
+    private long nextId = 1;
+
+    /**
+     * 파일에 남아 있는 완료된(더 이상 필요 없는) 레코드 수.
+     */
+    private int deadRecords;
+
+    private RetryJournal(Path path) {
+        this.path = path;
+    }
+
+    /**
+     * 저널 파일을 열고 남아 있는 항목을 복원합니다. 파일이 없으면 새로 만듭니다.
+     *
+     * @param path 저널 파일 경로
+     * @return 열린 저널
+     * @throws UncheckedIOException 파일을 읽거나 만들 수 없는 경우
+     */
+    public static RetryJournal open(Path path) {
+        RetryJournal journal = new RetryJournal(path);
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            journal.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+            journal.replay();
+        } catch (IOException e) {
+            throw new UncheckedIOException("재시도 저널을 열 수 없습니다: " + path, e);
+        }
+        return journal;
+    }
+
+    private void replay() throws IOException {
+        long valid = 0;
+        long size = channel.size();
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(path))) {
+            while (valid < size) {
+                int length;
+                byte[] payload;
+                long checksum;
+                try {
+                    length = in.readInt();
+                    if (length <= 0 || valid + 8 + length > size) {
+                        break;
+                    }
+                    payload = in.readNBytes(length);
+                    checksum = in.readInt() & 0xFFFFFFFFL;
+                } catch (IOException e) {
+                    break;
+                }
+                if (payload.length != length || checksum != crcOf(payload)) {
+                    break;
+                }
+                apply(payload);
+                valid += 8 + length;
+            }
+        }
+        if (valid < size) {
+            log.warn("재시도 저널({}) 끝의 손상된 {} 바이트를 잘라냅니다.", path, size - valid);
+            channel.truncate(valid);
+        }
+        channel.position(valid);
+    }
+
+    private void apply(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        byte type = in.readByte();
+        long id = in.readLong();
+        nextId = Math.max(nextId, id + 1);
+        if (type == DONE) {
+            if (live.remove(id) != null) {
+                deadRecords++;
+            }
+            deadRecords++;
+            return;
+        }
+        live.put(id, new RetryEntry(id, in.readLong(), in.readLong(), in.readLong(), in.readInt(), in.readInt(),
+                in.readLong(), in.readLong(), in.readUTF(), in.readUTF()));
+    }
+
+    /**
+     * 새 항목의 식별자를 발급합니다.
+     *
+     * @return 식별자
+     */
+    public synchronized long nextId() {
+        return nextId++;
+    }
+
+    /**
+     * 항목을 기록합니다.
+     *
+     * @param entry 재시도 항목
+     */
+    public synchronized void add(RetryEntry entry) {
+        write(List.of(addRecord(entry)));
+        live.put(entry.getId(), entry);
+    }
+
+    /**
+     * 항목을 완료 처리합니다.
+     *
+     * @param id 항목 식별자
+     */
+    public synchronized void complete(long id) {
+        if (!live.containsKey(id)) {
+            return;
+        }
+        write(List.of(doneRecord(id)));
+        live.remove(id);
+        deadRecords += 2;
+        compactIfNeeded();
+    }
+
+    /**
+     * 항목을 다음 회차 항목으로 교체합니다. 두 레코드는 한 번의 쓰기와 동기화로 기록됩니다.
+     *
+     * @param previousId 완료할 항목 식별자
+     * @param next       새 항목
+     */
+    public synchronized void replace(long previousId, RetryEntry next) {
+        write(List.of(doneRecord(previousId), addRecord(next)));
+        if (live.remove(previousId) != null) {
+            deadRecords += 2;
+        }
+        live.put(next.getId(), next);
+        compactIfNeeded();
+    }
+
+    /**
+     * 완료되지 않은 항목을 등록 순서로 반환합니다.
+     *
+     * @return 대기 중인 항목
+     */
+    public synchronized List<RetryEntry> entries() {
+        return new ArrayList<>(live.values());
+    }
+
+    public synchronized int size() {
+        return live.size();
+    }
+
+    /**
+     * 저널 파일 크기를 반환합니다.
+     *
+     * @return 바이트 수
+     */
+    public synchronized long fileSize() {
+        try {
+            return channel.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (deadRecords < COMPACT_THRESHOLD || deadRecords < live.size()) {
+            return;
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".compact");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            write(out, records(live.values()));
+            out.force(true);
+        } catch (IOException e) {
+            log.warn("재시도 저널({}) 압축 실패, 기존 파일을 계속 사용합니다.", path, e);
+            return;
+        }
+        try {
+            channel.close();
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            channel.position(channel.size());
+            deadRecords = 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException("재시도 저널을 교체할 수 없습니다: " + path, e);
+        }
+    }
+
+    private void write(List<byte[]> records) {
+        try {
+            write(channel, records);
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("재시도 저널에 기록할 수 없습니다: " + path, e);
+        }
+    }
+
+    private static void write(FileChannel target, List<byte[]> records) throws IOException {
+        int total = 0;
+        for (byte[] record : records) {
+            total += 8 + record.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(total);
+        for (byte[] record : records) {
+            buffer.putInt(record.length).put(record).putInt((int) crcOf(record));
+        }
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            target.write(buffer);
+        }
+    }
+
+    private static List<byte[]> records(Collection<RetryEntry> entries) {
+        List<byte[]> records = new ArrayList<>(entries.size());
+        for (RetryEntry entry : entries) {
+            records.add(addRecord(entry));
+        }
+        return records;
+    }
+
+    private static byte[] addRecord(RetryEntry entry) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(96);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(ADD);
+            out.writeLong(entry.getId());
+            out.writeLong(entry.getScheduleNo());
+            out.writeLong(entry.getRuleNo());
+            out.writeLong(entry.getActNo());
+            out.writeInt(entry.getAttempt());
+            out.writeInt(entry.getMaxRetries());
+            out.writeLong(entry.getDueAtMillis());
+            out.writeLong(entry.getFirstFailedAtMillis());
+            out.writeUTF(entry.getScheduledAt());
+            out.writeUTF(entry.getTimeZone());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] doneRecord(long id) {
+        return ByteBuffer.allocate(9).put(DONE).putLong(id).array();
+    }
+
+    private static long crcOf(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return crc.getValue();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+}
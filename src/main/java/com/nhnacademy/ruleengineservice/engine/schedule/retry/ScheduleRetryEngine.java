@@ -0,0 +1,248 @@
+package com.nhnacademy.ruleengineservice.engine.schedule.retry;
+
+import com.nhnacademy.ruleengineservice.engine.RuleEngine;
+import com.nhnacademy.ruleengineservice.engine.action.ActionDispatcher;
+import com.nhnacademy.ruleengineservice.engine.action.ActionLane;
+import com.nhnacademy.ruleengineservice.engine.action.ActionRequest;
+import com.nhnacademy.ruleengineservice.engine.compile.CompiledAction;
+import com.nhnacademy.ruleengineservice.engine.compile.CompiledRule;
+import com.nhnacademy.ruleengineservice.engine.schedule.CronSchedule;
+import com.nhnacademy.ruleengineservice.engine.schedule.RuleScheduleProperties;
+import com.nhnacademy.ruleengineservice.engine.timer.TimingWheel;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ScheduleRetryEngine 은 스케줄 실행에서 실패한 액션을 스케줄의 maxRetires 까지 다시 실행합니다.
+ * <p>
+ * 회차마다 {@link RetryBackoff} 만큼(지수 증가 + jitter) 기다리며, 대기 항목은 {@link RetryJournal} 에 기록해
+ * 재시작 후에도 남은 회차부터 이어서 실행합니다. 재시도는 actType 레인과 허용량을 나누지 않는 전용 레인에서 실행되어,
+ * 실패가 몰려도 새로 발동된 액션의 실행 자리를 빼앗지 않습니다.
+ * <p>
+ * 재시도 시 규칙과 액션은 현재 스냅샷에서 다시 찾으므로, 그 사이 삭제되거나 비활성화된 규칙은 재시도하지 않습니다.
+ * 실행 도중 프로세스가 종료되면 그 회차는 재시작 후 한 번 더 실행될 수 있습니다. (at-least-once)
+ * <p>
+ * 대기 수({@code rule.schedule.retry.depth})와 가장 오래된 실패의 경과 시간({@code rule.schedule.retry.oldest.age})은
+ * Micrometer 게이지로 노출합니다.
+ */
+@Component
+public class ScheduleRetryEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(ScheduleRetryEngine.class);
+
+    private static final String LANE_NAME = "SCHEDULE_RETRY";
+
+    private final RuleEngine ruleEngine;
+
+    private final ActionDispatcher actionDispatcher;
+
+    private final RetryBackoff backoff;
+
+    private final RetryJournal journal;
+
+    private final ActionLane lane;
+
+    private final Clock clock = Clock.systemUTC();
+
+    private final TimingWheel wheel;
+
+    /**
+     * 대기 항목 (실행 중인 회차 포함). 키는 {@link RetryEntry#key()}.
+     */
+    private final Map<String, RetryEntry> pending = new ConcurrentHashMap<>();
+
+    private final LongAdder succeeded = new LongAdder();
+
+    private final LongAdder exhausted = new LongAdder();
+
+    public ScheduleRetryEngine(RuleEngine ruleEngine, ActionDispatcher actionDispatcher,
+                               RuleScheduleProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        RuleScheduleProperties.Retry retry = properties.getRetry();
+        this.ruleEngine = ruleEngine;
+        this.actionDispatcher = actionDispatcher;
+        this.backoff = new RetryBackoff(retry.getBaseDelay(), retry.getMaxDelay(), retry.getJitter());
+        this.lane = actionDispatcher.newLane(LANE_NAME, retry.getConcurrency(), retry.getTimeout(), retry.getMaxPending());
+        this.wheel = new TimingWheel("schedule-retry", clock, properties.getTick(), properties.getWheelSize());
+        this.journal = RetryJournal.open(Path.of(retry.getJournal()));
+        for (RetryEntry entry : journal.entries()) {
+            pending.put(entry.key(), entry);
+            arm(entry);
+        }
+        if (!pending.isEmpty()) {
+            log.info("재시도 저널에서 {}건을 복원했습니다.", pending.size());
+        }
+        meterRegistry.ifAvailable(this::bindTo);
+    }
+
+    private void bindTo(MeterRegistry registry) {
+        Gauge.builder("rule.schedule.retry.depth", this, ScheduleRetryEngine::getDepth)
+                .description("재시도 대기 중인 스케줄 액션 수")
+                .register(registry);
+        TimeGauge.builder("rule.schedule.retry.oldest.age", this, TimeUnit.MILLISECONDS,
+                        engine -> engine.getOldestAge().toMillis())
+                .description("가장 오래 재시도 중인 액션이 처음 실패한 뒤 지난 시간")
+                .register(registry);
+    }
+
+    /**
+     * 애플리케이션이 준비되면 재시도 휠을 시작합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        wheel.start();
+    }
+
+    /**
+     * 스케줄 실행에서 실패한 액션을 재시도 대기열에 올립니다.
+     * 같은 실행의 같은 액션이 이미 대기 중이면 무시하며, maxRetires 가 0 이면 재시도하지 않습니다.
+     *
+     * @param schedule    스케줄
+     * @param scheduledAt 실행 예정 시각 (ISO-8601)
+     * @param request     실패한 액션 요청
+     * @param failure     실패 원인
+     */
+    public void onActionFailed(CronSchedule schedule, String scheduledAt, ActionRequest request, Throwable failure) {
+        if (schedule.getMaxRetries() <= 0) {
+            log.warn("스케줄({}) 액션({}) 실패, 재시도하지 않습니다: {}", schedule.getScheduleNo(),
+                    request.getAction().getActNo(), failure.toString());
+            return;
+        }
+        long now = clock.millis();
+        String key = RetryEntry.keyOf(schedule.getScheduleNo(), request.getAction().getActNo(), scheduledAt);
+        boolean[] created = new boolean[1];
+        RetryEntry entry = pending.computeIfAbsent(key, k -> {
+            RetryEntry first = new RetryEntry(journal.nextId(), schedule.getScheduleNo(), schedule.getRuleNo(),
+                    request.getAction().getActNo(), 1, schedule.getMaxRetries(), now + delayOf(1), now, scheduledAt,
+                    schedule.getZone().getId());
+            journal.add(first);
+            created[0] = true;
+            return first;
+        });
+        if (created[0]) {
+            arm(entry);
+        }
+    }
+
+    private void arm(RetryEntry entry) {
+        wheel.schedule(entry.getDueAt(), () -> attempt(entry));
+    }
+
+    /**
+     * 휠 스레드에서 재시도 한 회차를 전용 레인에 올립니다.
+     */
+    private void attempt(RetryEntry entry) {
+        CompiledRule rule = ruleEngine.getSnapshot().getNetwork().findRule(entry.getRuleNo());
+        CompiledAction action = rule != null ? actionOf(rule, entry.getActNo()) : null;
+        if (action == null) {
+            log.info("규칙({}) 또는 액션({})이 더 이상 없어 재시도를 중단합니다.", entry.getRuleNo(), entry.getActNo());
+            finish(entry);
+            return;
+        }
+        ActionRequest request = new ActionRequest(rule.getRuleNo(), rule.getRuleName(), action, rule.getParameters(),
+                entry.fact());
+        if (!actionDispatcher.dispatch(request, lane, (completed, failure) -> onResult(entry, failure))) {
+            onResult(entry, new RejectedExecutionException("재시도 레인에 올릴 수 없습니다."));
+        }
+    }
+
+    private static CompiledAction actionOf(CompiledRule rule, long actNo) {
+        for (CompiledAction action : rule.getActions()) {
+            if (action.getActNo() != null && action.getActNo() == actNo) {
+                return action;
+            }
+        }
+        return null;
+    }
+
+    private void onResult(RetryEntry entry, Throwable failure) {
+        if (failure == null) {
+            succeeded.increment();
+            finish(entry);
+            return;
+        }
+        if (entry.isLastAttempt()) {
+            exhausted.increment();
+            log.error("스케줄({}) 액션({}) {}회 재시도 모두 실패: {}", entry.getScheduleNo(), entry.getActNo(),
+                    entry.getMaxRetries(), failure.toString());
+            finish(entry);
+            return;
+        }
+        RetryEntry next = entry.next(journal.nextId(), clock.millis() + delayOf(entry.getAttempt() + 1));
+        journal.replace(entry.getId(), next);
+        pending.put(next.key(), next);
+        arm(next);
+    }
+
+    private void finish(RetryEntry entry) {
+        journal.complete(entry.getId());
+        pending.remove(entry.key(), entry);
+    }
+
+    private long delayOf(int attempt) {
+        return backoff.delayOf(attempt, ThreadLocalRandom.current().nextDouble()).toMillis();
+    }
+
+    /**
+     * 재시도 대기 중인 액션 수를 반환합니다.
+     *
+     * @return 대기 수
+     */
+    public int getDepth() {
+        return pending.size();
+    }
+
+    /**
+     * 가장 오래 재시도 중인 액션이 처음 실패한 뒤 지난 시간을 반환합니다.
+     *
+     * @return 경과 시간, 대기 항목이 없으면 0
+     */
+    public Duration getOldestAge() {
+        long oldest = Long.MAX_VALUE;
+        for (RetryEntry entry : pending.values()) {
+            oldest = Math.min(oldest, entry.getFirstFailedAtMillis());
+        }
+        return oldest == Long.MAX_VALUE ? Duration.ZERO : Duration.ofMillis(Math.max(0, clock.millis() - oldest));
+    }
+
+    public long getSucceeded() {
+        return succeeded.sum();
+    }
+
+    public long getExhausted() {
+        return exhausted.sum();
+    }
+
+    /**
+     * 재시도 레인의 실행 통계를 반환합니다.
+     *
+     * @return 재시도 레인
+     */
+    public ActionLane getLane() {
+        return lane;
+    }
+
+    @PreDestroy
+    public void shutdown() throws IOException {
+        wheel.stop();
+        journal.close();
+    }
+}
@@ -0,0 +1,81 @@
+package com.nhnacademy.ruleengineservice.engine.snapshot;
+
+import com.nhnacademy.ruleengineservice.engine.compile.CompiledRule;
+import com.nhnacademy.ruleengineservice.engine.network.AlphaNetwork;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * RuleSetRegistry 는 현재 게시된 {@link RuleSetSnapshot} 을 하나의 원자적 참조로 보관합니다.
+ * <p>
+ * 평가 스레드는 {@link #current()} 로 락 없이 스냅샷을 읽으며,
+ * 규칙 변경 시에는 새 네트워크를 참조 밖에서 모두 구성한 뒤 참조만 교체(copy-on-write)하므로
+ * 교체 중에도 평가가 멈추지 않고, 진행 중인 평가는 시작할 때 읽은 버전을 그대로 사용합니다.
+ * <p>
+ * 게시는 현재 스냅샷을 기준으로 다음 스냅샷을 만드므로 {@link #publish(AlphaNetwork)} 와 {@link #patch} 는
+ * synchronized 로 쓰기끼리만 직렬화한 뒤 {@link AtomicReference#set} 으로 교체하며, 읽기에는 락이 없습니다.
+ * 전체 재적재의 네트워크 구성은 이 락 밖에서 수행하고, 패치는 현재 네트워크를 기준으로 하므로 락 안에서 구성합니다.
+ */
+@Component
+public class RuleSetRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(RuleSetRegistry.class);
+
+    private final AtomicReference<RuleSetSnapshot> snapshot = new AtomicReference<>(RuleSetSnapshot.empty());
+
+    /**
+     * 현재 게시된 스냅샷을 반환합니다.
+     *
+     * @return 현재 스냅샷
+     */
+    public RuleSetSnapshot current() {
+        return snapshot.get();
+    }
+
+    /**
+     * 평가 순서로 정렬된 규칙 목록으로 새 스냅샷을 만들어 게시합니다.
+     *
+     * @param compiledRules 평가 순서로 정렬된 규칙 목록
+     * @return 게시된 스냅샷
+     */
+    public RuleSetSnapshot publish(List<CompiledRule> compiledRules) {
+        return publish(AlphaNetwork.build(compiledRules));
+    }
+
+    /**
+     * 이미 구성된 네트워크로 새 스냅샷을 게시합니다.
+     * 동시에 여러 번 게시되더라도 버전은 게시된 순서대로 1씩 증가합니다.
+     *
+     * @param network 새 알파 네트워크
+     * @return 게시된 스냅샷
+     */
+    public synchronized RuleSetSnapshot publish(AlphaNetwork network) {
+        RuleSetSnapshot published = snapshot.get().next(network);
+        snapshot.set(published);
+        log.info("규칙 스냅샷 v{} 게시 (규칙 {}개, 노드 {}개)",
+                published.getVersion(), network.getRuleCount(), network.getNodeCount());
+        return published;
+    }
+
+    /**
+     * 현재 스냅샷의 네트워크에서 일부 규칙만 교체한 새 스냅샷을 게시합니다.
+     *
+     * @param removedRuleNos 제거할 규칙 번호
+     * @param changedRules   추가하거나 교체할 규칙
+     * @return 게시된 스냅샷
+     * @see AlphaNetwork#patch(Collection, Collection)
+     */
+    public synchronized RuleSetSnapshot patch(Collection<Long> removedRuleNos, Collection<CompiledRule> changedRules) {
+        RuleSetSnapshot current = snapshot.get();
+        RuleSetSnapshot published = current.next(current.getNetwork().patch(removedRuleNos, changedRules));
+        snapshot.set(published);
+        log.debug("규칙 스냅샷 v{} 패치 게시 (변경 {}개, 제거 {}개)",
+                published.getVersion(), changedRules.size(), removedRuleNos.size());
+        return published;
+    }
+}
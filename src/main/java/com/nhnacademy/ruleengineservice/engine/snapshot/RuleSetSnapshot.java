@@ -0,0 +1,82 @@
+package com.nhnacademy.ruleengineservice.engine.snapshot;
+
+import com.nhnacademy.ruleengineservice.engine.compile.CompiledRule;
+import com.nhnacademy.ruleengineservice.engine.network.AlphaNetwork;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * RuleSetSnapshot 은 특정 시점에 게시된 컴파일 규칙 집합의 불변 스냅샷입니다.
+ * <p>
+ * 스냅샷은 생성 후 변경되지 않으며, 규칙이 수정되면 기존 스냅샷을 고치지 않고
+ * 새 버전의 스냅샷을 만들어 {@link RuleSetRegistry} 에서 교체합니다.
+ * 평가 스레드는 평가 시작 시 스냅샷 하나를 읽어 끝까지 같은 버전으로 평가합니다.
+ */
+public final class RuleSetSnapshot {
+
+    /**
+     * 게시 순서대로 1씩 증가하는 버전. 규칙이 게시되기 전의 빈 스냅샷은 0 입니다.
+     */
+    private final long version;
+
+    /**
+     * 이 버전의 규칙으로 구성된 알파 네트워크.
+     */
+    private final AlphaNetwork network;
+
+    /**
+     * 스냅샷이 게시된 시각.
+     */
+    private final Instant publishedAt;
+
+    private RuleSetSnapshot(long version, AlphaNetwork network, Instant publishedAt) {
+        this.version = version;
+        this.network = network;
+        this.publishedAt = publishedAt;
+    }
+
+    /**
+     * 규칙이 없는 초기 스냅샷(버전 0)을 생성합니다.
+     *
+     * @return 빈 스냅샷
+     */
+    public static RuleSetSnapshot empty() {
+        return new RuleSetSnapshot(0L, AlphaNetwork.build(List.of()), Instant.now());
+    }
+
+    /**
+     * 이 스냅샷의 다음 버전으로 새 네트워크를 담은 스냅샷을 생성합니다.
+     *
+     * @param network 새 알파 네트워크
+     * @return 버전이 1 증가한 스냅샷
+     */
+    public RuleSetSnapshot next(AlphaNetwork network) {
+        return new RuleSetSnapshot(version + 1, network, Instant.now());
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public AlphaNetwork getNetwork() {
+        return network;
+    }
+
+    public Instant getPublishedAt() {
+        return publishedAt;
+    }
+
+    public List<CompiledRule> getRules() {
+        return network.getRules();
+    }
+
+    @Override
+    public String toString() {
+        return "RuleSetSnapshot{" +
+                "version=" + version +
+                ", ruleCount=" + network.getRuleCount() +
+                ", publishedAt=" + publishedAt +
+                '}';
+    }
+}
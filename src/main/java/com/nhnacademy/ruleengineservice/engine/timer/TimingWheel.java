@@ -0,0 +1,294 @@
+package com.nhnacademy.ruleengineservice.engine.timer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * TimingWheel 은 많은 수의 지연 작업을 스레드 하나로 구동하는 해시 타이밍 휠입니다.
+ * <p>
+ * 마감 시각을 틱 단위로 나누어 {@code 틱 번호 & (버킷 수 - 1)} 버킷의 연결 리스트에 넣으므로,
+ * 등록과 취소는 O(1) 이고 틱마다 현재 버킷 하나만 훑습니다.
+ * 휠 한 바퀴보다 먼 작업은 같은 버킷에 남아 있다가 마감 틱이 된 바퀴에서 실행됩니다.
+ * 작업이 몇만 개여도 타이머 스레드나 {@code ScheduledFuture} 를 작업마다 만들지 않습니다.
+ * <p>
+ * 등록은 어느 스레드에서나 할 수 있으며, 다음 틱에 휠 스레드가 버킷으로 옮깁니다.
+ * 작업은 휠 스레드에서 바로 실행되므로 오래 걸리는 일은 다른 실행기로 넘겨야 합니다.
+ */
+public final class TimingWheel {
+
+    private static final Logger log = LoggerFactory.getLogger(TimingWheel.class);
+
+    private final String name;
+
+    private final Clock clock;
+
+    private final long tickMillis;
+
+    private final Bucket[] buckets;
+
+    private final int mask;
+
+    /**
+     * 다음 틱에 버킷으로 옮길 새 작업.
+     */
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * 다음에 처리할 틱 번호 (epoch 밀리초 / 틱 길이). 휠 스레드만 읽고 씁니다.
+     */
+    private long currentTick = -1;
+
+    private volatile Thread worker;
+
+    /**
+     * TimingWheel 생성자.
+     *
+     * @param name       스레드 이름
+     * @param clock      현재 시각
+     * @param tick       틱 길이 (실행 시각의 정밀도)
+     * @param wheelSize  버킷 수, 2의 거듭제곱으로 올림됩니다
+     */
+    public TimingWheel(String name, Clock clock, Duration tick, int wheelSize) {
+        if (tick.toMillis() <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tick 과 wheelSize 는 0보다 커야 합니다.");
+        }
+        this.name = name;
+        this.clock = clock;
+        this.tickMillis = tick.toMillis();
+        int bucketCount = 1;
+        while (bucketCount < wheelSize) {
+            bucketCount <<= 1;
+        }
+        this.buckets = new Bucket[bucketCount];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new Bucket();
+        }
+        this.mask = buckets.length - 1;
+    }
+
+    /**
+     * 마감 시각에 실행할 작업을 등록합니다. 이미 지난 시각이면 다음 틱에 실행됩니다.
+     *
+     * @param deadline 마감 시각
+     * @param task     실행할 작업
+     * @return 취소에 사용할 핸들
+     */
+    public Timeout schedule(Instant deadline, Runnable task) {
+        Timeout timeout = new Timeout(deadline.toEpochMilli(), task);
+        size.incrementAndGet();
+        pending.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * 현재 시각 기준으로 지연 후 실행할 작업을 등록합니다.
+     *
+     * @param delay 지연 시간
+     * @param task  실행할 작업
+     * @return 취소에 사용할 핸들
+     */
+    public Timeout schedule(Duration delay, Runnable task) {
+        return schedule(clock.instant().plus(delay), task);
+    }
+
+    /**
+     * 주어진 시각까지 마감된 작업을 모두 실행합니다.
+     * 휠 스레드가 틱마다 호출하며, 휠을 시작하지 않고 직접 구동할 때(테스트 등)에도 사용합니다.
+     *
+     * @param nowMillis 현재 시각 (epoch 밀리초)
+     * @return 실행한 작업 수
+     */
+    public synchronized int advanceTo(long nowMillis) {
+        long nowTick = nowMillis / tickMillis;
+        if (currentTick < 0) {
+            currentTick = nowTick;
+        }
+        transferPending();
+        int fired = 0;
+        while (currentTick <= nowTick) {
+            fired += buckets[(int) (currentTick & mask)].expire(currentTick);
+            currentTick++;
+            // 실행된 작업이 같은 틱 안으로 다시 등록한 작업도 이번 호출에서 처리합니다.
+            transferPending();
+        }
+        return fired;
+    }
+
+    private void transferPending() {
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.cancelled) {
+                size.decrementAndGet();
+                continue;
+            }
+            long tick = Math.max(timeout.deadlineMillis / tickMillis, currentTick);
+            timeout.tick = tick;
+            buckets[(int) (tick & mask)].add(timeout);
+        }
+    }
+
+    /**
+     * 휠 스레드를 시작합니다.
+     */
+    public synchronized void start() {
+        if (worker != null) {
+            return;
+        }
+        worker = Thread.ofPlatform().name(name).daemon(true).start(this::run);
+    }
+
+    /**
+     * 휠 스레드를 멈춥니다. 등록된 작업은 실행되지 않습니다.
+     */
+    public void stop() {
+        Thread thread = worker;
+        worker = null;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private void run() {
+        Thread self = Thread.currentThread();
+        while (worker == self) {
+            long now = clock.millis();
+            try {
+                advanceTo(now);
+                long sleep = tickMillis - Math.floorMod(clock.millis(), tickMillis);
+                TimeUnit.MILLISECONDS.sleep(sleep);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 아직 실행되거나 취소되지 않은 작업 수를 반환합니다.
+     *
+     * @return 대기 중인 작업 수
+     */
+    public int size() {
+        return size.get();
+    }
+
+    public Duration getTick() {
+        return Duration.ofMillis(tickMillis);
+    }
+
+    public int getWheelSize() {
+        return buckets.length;
+    }
+
+    /**
+     * 등록된 작업 하나의 핸들입니다.
+     */
+    public final class Timeout {
+
+        private final long deadlineMillis;
+
+        private final Runnable task;
+
+        private long tick;
+
+        private Timeout next;
+
+        private Timeout previous;
+
+        private volatile boolean cancelled;
+
+        private Timeout(long deadlineMillis, Runnable task) {
+            this.deadlineMillis = deadlineMillis;
+            this.task = task;
+        }
+
+        /**
+         * 작업을 취소합니다. 이미 실행된 작업에는 영향이 없습니다.
+         * 버킷에서는 휠 스레드가 다음에 그 버킷을 지날 때 제거됩니다.
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        public Instant getDeadline() {
+            return Instant.ofEpochMilli(deadlineMillis);
+        }
+    }
+
+    /**
+     * 같은 슬롯에 놓인 작업의 이중 연결 리스트입니다. 휠 스레드만 접근합니다.
+     */
+    private final class Bucket {
+
+        private Timeout head;
+
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.previous = tail;
+            timeout.next = null;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+
+        int expire(long tick) {
+            int fired = 0;
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.cancelled) {
+                    remove(timeout);
+                    size.decrementAndGet();
+                } else if (timeout.tick <= tick) {
+                    remove(timeout);
+                    size.decrementAndGet();
+                    fire(timeout);
+                    fired++;
+                }
+                timeout = next;
+            }
+            return fired;
+        }
+
+        private void remove(Timeout timeout) {
+            if (timeout.previous == null) {
+                head = timeout.next;
+            } else {
+                timeout.previous.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.previous;
+            } else {
+                timeout.next.previous = timeout.previous;
+            }
+            timeout.next = null;
+            timeout.previous = null;
+        }
+
+        private void fire(Timeout timeout) {
+            try {
+                timeout.task.run();
+            } catch (RuntimeException e) {
+                log.error("타이밍 휠({}) 작업 실행 실패", name, e);
+            }
+        }
+    }
+}
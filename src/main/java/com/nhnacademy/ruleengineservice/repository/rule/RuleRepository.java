@@ -4,6 +4,7 @@ import com.nhnacademy.ruleengineservice.domain.rule.Rule;
 import com.nhnacademy.ruleengineservice.domain.rule.RuleGroup;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,6 +36,14 @@ public interface RuleRepository extends JpaRepository<Rule, Long> {
      */
     List<Rule> findByRuleGroup(RuleGroup ruleGroup);
 
+    /**
+     * 주어진 그룹 번호 중 하나에 속한 모든 Rule 엔티티를 조회합니다.
+     *
+     * @param ruleGroupNos 조회할 그룹 번호 목록
+     * @return 해당 그룹들에 속한 Rule 엔티티 리스트
+     */
+    List<Rule> findByRuleGroup_RuleGroupNoIn(Collection<Long> ruleGroupNos);
+
     /**
      * 주어진 규칙 번호(ruleNo)와 일치하는 Rule 엔티티를 조회합니다.
      *
@@ -0,0 +1,23 @@
+package com.nhnacademy.ruleengineservice.repository.rule;
+
+import com.nhnacademy.ruleengineservice.domain.rule.RuleSetRevision;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * RuleSetRevision 엔티티의 데이터 접근을 담당하는 레포지토리 인터페이스입니다.
+ */
+public interface RuleSetRevisionRepository extends JpaRepository<RuleSetRevision, Long> {
+
+    /**
+     * 변경 번호를 데이터베이스에서 원자적으로 1 올립니다.
+     *
+     * @param revisionNo 행 식별자
+     * @return 갱신된 행 수, 행이 없으면 0
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE RuleSetRevision r SET r.revision = r.revision + 1 WHERE r.revisionNo = :revisionNo")
+    int increment(@Param("revisionNo") Long revisionNo);
+}
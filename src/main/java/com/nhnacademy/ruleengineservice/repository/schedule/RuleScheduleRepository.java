@@ -0,0 +1,19 @@
+package com.nhnacademy.ruleengineservice.repository.schedule;
+
+import com.nhnacademy.ruleengineservice.domain.schedule.RuleSchedule;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+/**
+ * RuleSchedule 엔티티의 데이터 접근을 담당하는 레포지토리 인터페이스입니다.
+ */
+public interface RuleScheduleRepository extends JpaRepository<RuleSchedule, Long> {
+
+    /**
+     * 활성화된(Active) RuleSchedule 목록을 조회합니다.
+     *
+     * @return 활성화된 RuleSchedule 리스트
+     */
+    List<RuleSchedule> findByActiveTrue();
+}
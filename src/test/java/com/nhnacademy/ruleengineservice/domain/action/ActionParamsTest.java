@@ -0,0 +1,42 @@
+package com.nhnacademy.ruleengineservice.domain.action;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActionParamsTest {
+
+    @Test
+    @DisplayName("actParams JSON 은 중첩 값까지 불변 Map 으로 해석됨")
+    void parse_immutable() {
+        Map<String, Object> params = ActionParams.parse("{\"to\":\"a@b.c\",\"retry\":3,\"tags\":[\"x\",{\"k\":null}]}");
+
+        assertEquals("a@b.c", params.get("to"));
+        assertEquals(3, params.get("retry"));
+        List<?> tags = (List<?>) params.get("tags");
+        assertNull(((Map<?, ?>) tags.get(1)).get("k"));
+        assertThrows(UnsupportedOperationException.class, () -> params.put("to", "x"));
+        assertThrows(UnsupportedOperationException.class, () -> tags.clear());
+    }
+
+    @Test
+    @DisplayName("비어 있는 actParams 는 빈 Map, JSON 객체가 아니면 예외")
+    void parse_emptyAndInvalid() {
+        assertTrue(ActionParams.parse(null).isEmpty());
+        assertTrue(ActionParams.parse(" ").isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> ActionParams.parse("[1,2]"));
+        assertThrows(IllegalArgumentException.class, () -> ActionParams.parse("{broken"));
+    }
+
+    @Test
+    @DisplayName("Map 은 JSON 문자열로 직렬화되고 다시 같은 값으로 해석됨")
+    void write_roundTrip() throws Exception {
+        String json = ActionParams.write(Map.of("url", "https://example.com"));
+
+        assertEquals(Map.of("url", "https://example.com"), ActionParams.parse(json));
+    }
+}
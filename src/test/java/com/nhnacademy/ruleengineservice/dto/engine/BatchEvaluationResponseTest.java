@@ -0,0 +1,38 @@
+package com.nhnacademy.ruleengineservice.dto.engine;
+
+import com.nhnacademy.ruleengineservice.engine.compile.CompiledAction;
+import com.nhnacademy.ruleengineservice.engine.evaluate.BatchEvaluationResult;
+import com.nhnacademy.ruleengineservice.engine.evaluate.EvaluationResult;
+import com.nhnacademy.ruleengineservice.engine.evaluate.RuleMatch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchEvaluationResponseTest {
+
+    @Test
+    @DisplayName("자리표시자 액션은 팩트마다 렌더링하고 고정 액션은 규칙에 한 번만 담음")
+    void from_rendersTemplatedParamsPerFact() {
+        CompiledAction templated = new CompiledAction(1L, "LOG", "{\"device\":\"${deviceId}\",\"limit\":\"${limit}\"}", 1);
+        CompiledAction constant = new CompiledAction(2L, "PUSH", "{\"title\":\"alert\"}", 2);
+        RuleMatch match = new RuleMatch(10L, "온도 경고", List.of(templated, constant), Map.of("limit", "30"));
+        BatchEvaluationResult result = new BatchEvaluationResult(3L, List.of(
+                new EvaluationResult(3L, List.of(match)),
+                new EvaluationResult(3L, List.of(match))));
+
+        BatchEvaluationResponse response = BatchEvaluationResponse.from(result,
+                List.of(Map.of("deviceId", "d-1"), Map.of("deviceId", "d-2")));
+
+        List<BatchEvaluationResponse.QueuedAction> queued = response.rules().get(10L).actions();
+        assertNull(queued.get(0).actParams());
+        assertEquals("{\"title\":\"alert\"}", queued.get(1).actParams());
+        assertEquals(List.of(new BatchEvaluationResponse.RenderedAction(10L, 1L, "{\"device\":\"d-1\",\"limit\":\"30\"}")),
+                response.results().get(0).renderedActions());
+        assertEquals(List.of(new BatchEvaluationResponse.RenderedAction(10L, 1L, "{\"device\":\"d-2\",\"limit\":\"30\"}")),
+                response.results().get(1).renderedActions());
+    }
+}
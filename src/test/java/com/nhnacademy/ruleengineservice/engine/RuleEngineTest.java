@@ -0,0 +1,60 @@
+package com.nhnacademy.ruleengineservice.engine;
+
+import com.nhnacademy.ruleengineservice.engine.action.ActionDispatcher;
+import com.nhnacademy.ruleengineservice.engine.action.ActionExecutionProperties;
+import com.nhnacademy.ruleengineservice.engine.compile.CompiledRule;
+import com.nhnacademy.ruleengineservice.engine.compile.ConditionCompiler;
+import com.nhnacademy.ruleengineservice.engine.device.DeviceStateStore;
+import com.nhnacademy.ruleengineservice.engine.evaluate.ParallelRuleEvaluator;
+import com.nhnacademy.ruleengineservice.engine.loader.RuleSetLoader;
+import com.nhnacademy.ruleengineservice.engine.snapshot.RuleSetRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RuleEngineTest {
+
+    private final RuleSetLoader ruleSetLoader = new RuleSetLoader(null, () -> null);
+
+    private final RuleSetRegistry ruleSetRegistry = new RuleSetRegistry();
+
+    private final ParallelRuleEvaluator parallelRuleEvaluator = new ParallelRuleEvaluator(1, 64);
+
+    private final RuleEngine ruleEngine = new RuleEngine(ruleSetLoader, ruleSetRegistry, parallelRuleEvaluator,
+            new ActionDispatcher(List.of(), new ActionExecutionProperties()),
+            new DeviceStateStore(true, "deviceId", 10, () -> null));
+
+    private final ConditionCompiler conditionCompiler = new ConditionCompiler(ruleSetLoader.getStateStore());
+
+    @AfterEach
+    void tearDown() {
+        parallelRuleEvaluator.shutdown();
+        ruleSetLoader.shutdown();
+    }
+
+    private CompiledRule windowRule(long ruleNo, String conValue) {
+        return new CompiledRule(ruleNo, "rule-" + ruleNo, 1, 1L, 1,
+                List.of(conditionCompiler.compile(ruleNo, "WINDOW_COUNT", "scheduleNo", conValue, 1)),
+                List.of(), Map.of());
+    }
+
+    @Test
+    @DisplayName("스케줄 실행은 윈도에 집계하지 않고 현재 윈도 상태로만 규칙을 확인함")
+    void fire_readsWindowWithoutRecording() {
+        ruleSetRegistry.publish(List.of(windowRule(1L, "1m,GTE,2")));
+        Map<String, Object> fact = Map.of("scheduleNo", 10L, "ruleNo", 1L);
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(ruleEngine.fire(1L, fact).getMatches().isEmpty());
+        }
+
+        ruleEngine.evaluate(fact);
+        ruleEngine.evaluate(fact);
+        assertEquals(1, ruleEngine.fire(1L, fact).getMatches().size());
+    }
+}
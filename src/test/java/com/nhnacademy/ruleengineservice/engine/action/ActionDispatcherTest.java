@@ -0,0 +1,157 @@
+package com.nhnacademy.ruleengineservice.engine.action;
+
+import com.nhnacademy.ruleengineservice.engine.compile.CompiledAction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActionDispatcherTest {
+
+    private ActionDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    private static ActionRequest request(long actNo, String actType) {
+        return new ActionRequest(1L, "rule", new CompiledAction(actNo, actType, "{}", 1), Map.of());
+    }
+
+    private static ActionHandler handler(String actType, HandlerBody body) {
+        return new ActionHandler() {
+            @Override
+            public String getActType() {
+                return actType;
+            }
+
+            @Override
+            public void handle(ActionRequest request) throws Exception {
+                body.run();
+            }
+        };
+    }
+
+    private interface HandlerBody {
+        void run() throws Exception;
+    }
+
+    private static void await(ActionLane lane, long expectedDone) throws InterruptedException {
+        awaitUntil(() -> lane.getCompleted() + lane.getFailed() + lane.getTimedOut() >= expectedDone);
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean(), "5초 안에 조건을 만족하지 않음");
+    }
+
+    @Test
+    @DisplayName("dispatch 는 액션 실행을 기다리지 않고 즉시 반환하며 actType 별 동시 실행 수를 지킴")
+    void dispatch_limitsConcurrencyPerActType() throws Exception {
+        ActionExecutionProperties properties = new ActionExecutionProperties();
+        ActionExecutionProperties.Limit limit = new ActionExecutionProperties.Limit();
+        limit.setConcurrency(2);
+        properties.getTypes().put("webhook", limit);
+
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        dispatcher = new ActionDispatcher(List.of(handler("WEBHOOK", () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            release.await();
+            running.decrementAndGet();
+        })), properties);
+
+        long start = System.nanoTime();
+        for (long i = 0; i < 10; i++) {
+            assertTrue(dispatcher.dispatch(request(i, "WEBHOOK")));
+        }
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+
+        ActionLane lane = dispatcher.getLane("webhook");
+        awaitUntil(() -> running.get() == 2 && lane.getPermits().getQueueLength() == 8);
+        assertEquals(2, maxRunning.get());
+        release.countDown();
+
+        await(lane, 10);
+        assertEquals(10, lane.getCompleted());
+        assertEquals(2, maxRunning.get());
+    }
+
+    @Test
+    @DisplayName("실행 시간 제한을 넘긴 액션은 중단되고 다른 actType 은 영향을 받지 않음")
+    void dispatch_timeout() throws Exception {
+        ActionExecutionProperties properties = new ActionExecutionProperties();
+        ActionExecutionProperties.Limit limit = new ActionExecutionProperties.Limit();
+        limit.setTimeout(Duration.ofMillis(50));
+        properties.getTypes().put("EMAIL", limit);
+
+        dispatcher = new ActionDispatcher(List.of(
+                handler("EMAIL", () -> Thread.sleep(10_000)),
+                handler("LOG", () -> { })), properties);
+
+        dispatcher.dispatch(request(1L, "EMAIL"));
+        dispatcher.dispatch(request(2L, "LOG"));
+        assertFalse(dispatcher.dispatch(request(3L, "SMS")));
+
+        await(dispatcher.getLane("EMAIL"), 1);
+        await(dispatcher.getLane("LOG"), 1);
+        assertEquals(1, dispatcher.getLane("EMAIL").getTimedOut());
+        assertEquals(1, dispatcher.getLane("LOG").getCompleted());
+        assertNull(dispatcher.getLane("SMS"));
+    }
+
+    @Test
+    @DisplayName("시간 제한을 넘긴 핸들러가 끝나기 전에는 허용량을 반납하지 않고 초과 실행으로 따로 셈")
+    void dispatch_timeoutKeepsPermitUntilHandlerEnds() throws Exception {
+        ActionExecutionProperties properties = new ActionExecutionProperties();
+        ActionExecutionProperties.Limit limit = new ActionExecutionProperties.Limit();
+        limit.setConcurrency(1);
+        limit.setTimeout(Duration.ofMillis(50));
+        properties.getTypes().put("WEBHOOK", limit);
+
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger started = new AtomicInteger();
+        dispatcher = new ActionDispatcher(List.of(handler("WEBHOOK", () -> {
+            if (started.incrementAndGet() == 1) {
+                // 인터럽트를 무시하고 계속 실행되는 핸들러
+                while (release.getCount() > 0) {
+                    try {
+                        release.await();
+                    } catch (InterruptedException ignored) {
+                        // 계속 기다립니다.
+                    }
+                }
+            }
+        })), properties);
+
+        dispatcher.dispatch(request(1L, "WEBHOOK"));
+        ActionLane lane = dispatcher.getLane("WEBHOOK");
+        await(lane, 1);
+        dispatcher.dispatch(request(2L, "WEBHOOK"));
+        awaitUntil(() -> lane.getPermits().hasQueuedThreads());
+
+        assertEquals(1, lane.getTimedOut());
+        assertEquals(1, lane.getOverrunning());
+        assertEquals(1, started.get());
+
+        release.countDown();
+        await(lane, 2);
+        assertEquals(1, lane.getCompleted());
+        assertEquals(2, started.get());
+        assertEquals(0, lane.getOverrunning());
+    }
+}
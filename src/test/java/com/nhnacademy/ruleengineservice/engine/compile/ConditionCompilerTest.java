@@ -0,0 +1,157 @@
+package com.nhnacademy.ruleengineservice.engine.compile;
+
+import com.nhnacademy.ruleengineservice.engine.compile.predicate.ComparisonPredicate;
+import com.nhnacademy.ruleengineservice.engine.compile.predicate.FieldPredicate;
+import com.nhnacademy.ruleengineservice.engine.exception.RuleCompileException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConditionCompilerTest {
+
+    private final ConditionCompiler conditionCompiler = new ConditionCompiler();
+
+    private FieldPredicate predicate(String conType, String conValue) {
+        return conditionCompiler.compile(1L, conType, "field", conValue, 1).getPredicate();
+    }
+
+    @Test
+    @DisplayName("숫자 임계값 조건은 정수/실수 팩트 모두 기본형으로 비교됨")
+    void compile_threshold() {
+        FieldPredicate gt = predicate("GT", "30");
+        FieldPredicate lte = predicate("lte", "20.5");
+
+        assertInstanceOf(ComparisonPredicate.class, gt);
+        Assertions.assertAll(
+                () -> assertTrue(gt.test(31)),
+                () -> assertTrue(gt.test(30.01)),
+                () -> assertFalse(gt.test(30L)),
+                () -> assertFalse(gt.test("abc")),
+                () -> assertFalse(gt.test(null)),
+                () -> assertTrue(lte.test(20.5)),
+                () -> assertFalse(lte.test(21))
+        );
+    }
+
+    @Test
+    @DisplayName("EQ/NE 는 문자열과 숫자를 모두 비교함")
+    void compile_equality() {
+        FieldPredicate eq = predicate("EQ", "30");
+        FieldPredicate state = predicate("EQ", "OFFLINE");
+        FieldPredicate ne = predicate("NE", "ONLINE");
+
+        Assertions.assertAll(
+                () -> assertTrue(eq.test(30)),
+                () -> assertTrue(eq.test(30.0)),
+                () -> assertTrue(eq.test("30")),
+                () -> assertTrue(state.test("OFFLINE")),
+                () -> assertFalse(state.test("ONLINE")),
+                () -> assertTrue(ne.test("OFFLINE")),
+                () -> assertFalse(ne.test("ONLINE")),
+                () -> assertFalse(ne.test(null))
+        );
+    }
+
+    @Test
+    @DisplayName("BETWEEN/IN/LIKE/IS_NULL 조건 평가")
+    void compile_otherOperators() {
+        FieldPredicate between = predicate("BETWEEN", "10, 20");
+        FieldPredicate in = predicate("IN", "ON, OFF, 3");
+        FieldPredicate notIn = predicate("NOT_IN", "ON,OFF");
+        FieldPredicate like = predicate("LIKE", "sensor-%.a_");
+        FieldPredicate isNull = predicate("IS_NULL", null);
+
+        Assertions.assertAll(
+                () -> assertTrue(between.test(10)),
+                () -> assertTrue(between.test(20.0)),
+                () -> assertFalse(between.test(20.1)),
+                () -> assertTrue(in.test("OFF")),
+                () -> assertTrue(in.test(3L)),
+                () -> assertFalse(in.test("IDLE")),
+                () -> assertTrue(notIn.test("IDLE")),
+                () -> assertTrue(like.test("sensor-12.ab")),
+                () -> assertFalse(like.test("sensor-12xab")),
+                () -> assertTrue(isNull.test(null)),
+                () -> assertFalse(isNull.test("x"))
+        );
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 조건은 컴파일 시점에 거부됨")
+    void compile_rejectsMalformed() {
+        Assertions.assertAll(
+                () -> assertThrows(RuleCompileException.class, () -> predicate("UNKNOWN", "1")),
+                () -> assertThrows(RuleCompileException.class, () -> predicate("GT", "thirty")),
+                () -> assertThrows(RuleCompileException.class, () -> predicate("BETWEEN", "20,10")),
+                () -> assertThrows(RuleCompileException.class, () -> predicate("BETWEEN", "10")),
+                () -> assertThrows(RuleCompileException.class, () -> predicate("IN", " , ")),
+                () -> assertThrows(RuleCompileException.class, () -> predicate("EQ", " ")),
+                () -> assertThrows(RuleCompileException.class,
+                        () -> conditionCompiler.compile(1L, "EQ", " ", "1", 1))
+        );
+    }
+
+    @Test
+    @DisplayName("윈도 조건은 키별로 집계하고, 같은 검사를 다시 컴파일해도 윈도가 이어짐")
+    void compile_window() {
+        CompiledCondition avg = conditionCompiler.compile(1L, "WINDOW_AVG", "temperature", "5m,GT,30,deviceId", 1);
+        CompiledCondition recompiled = conditionCompiler.compile(2L, "window_avg", "temperature", "5m,GT,30,deviceId", 1);
+
+        Assertions.assertAll(
+                () -> assertTrue(avg.isStateful()),
+                () -> assertFalse(avg.test(Map.of("deviceId", 1, "temperature", 20))),
+                () -> assertTrue(avg.test(Map.of("deviceId", 1L, "temperature", 50))),
+                () -> assertFalse(avg.test(Map.of("deviceId", "2", "temperature", 29.5))),
+                () -> assertFalse(avg.test(Map.of("temperature", 100))),
+                () -> assertFalse(recompiled.test(Map.of("deviceId", "1", "temperature", 10)))
+        );
+        assertEquals(1, conditionCompiler.getStateStore().getStateCount());
+        assertEquals(2, conditionCompiler.getStateStore().getKeyCount());
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 윈도 조건은 거부됨")
+    void compile_rejectsMalformedWindow() {
+        Assertions.assertAll(
+                () -> assertThrows(RuleCompileException.class, () -> predicate("WINDOW_SUM", "5m,GT")),
+                () -> assertThrows(RuleCompileException.class, () -> predicate("WINDOW_SUM", "5x,GT,1")),
+                () -> assertThrows(RuleCompileException.class, () -> predicate("WINDOW_SUM", "2d,GT,1")),
+                () -> assertThrows(RuleCompileException.class, () -> predicate("WINDOW_SUM", "5m,EQ,1")),
+                () -> assertThrows(RuleCompileException.class, () -> predicate("WINDOW_COUNT", "1m,GT,${limit}"))
+        );
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 지속 조건은 거부됨")
+    void compile_rejectsMalformedSustained() {
+        Assertions.assertAll(
+                () -> assertThrows(RuleCompileException.class, () -> predicate("SUSTAINED", "10m,GT")),
+                () -> assertThrows(RuleCompileException.class, () -> predicate("SUSTAINED", "500ms,GT,30")),
+                () -> assertThrows(RuleCompileException.class, () -> predicate("SUSTAINED", "10m,NE,30")),
+                () -> assertThrows(RuleCompileException.class, () -> predicate("SUSTAINED", "10m,GT,30,35")),
+                () -> assertThrows(RuleCompileException.class, () -> predicate("SUSTAINED", "10m,LT,10,5")),
+                () -> assertThrows(RuleCompileException.class, () -> predicate("SUSTAINED", "10m,GT,30,deviceId,extra")),
+                () -> assertThrows(RuleCompileException.class, () -> predicate("SUSTAINED", "10m,GT,${limit}")),
+                () -> assertDoesNotThrow(() -> conditionCompiler.compile(1L, "SUSTAINED", "temperature", "10m,GT,30,28,deviceId", 1)),
+                () -> assertDoesNotThrow(() -> conditionCompiler.compile(2L, "SUSTAINED", "temperature", "10m,LT,10,deviceId", 1))
+        );
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 순서 패턴은 거부됨")
+    void compile_rejectsMalformedSequence() {
+        Assertions.assertAll(
+                () -> assertThrows(RuleCompileException.class, () -> predicate("SEQUENCE", "30s,USER_LOGIN")),
+                () -> assertThrows(RuleCompileException.class, () -> predicate("SEQUENCE", "30s,!USER_LOGIN,DB_DELETE")),
+                () -> assertThrows(RuleCompileException.class, () -> predicate("SEQUENCE", "30s,USER_LOGIN,UNKNOWN")),
+                () -> assertThrows(RuleCompileException.class, () -> predicate("SEQUENCE", "30s,USER_LOGIN,DB_DELETE:table")),
+                () -> assertThrows(RuleCompileException.class, () -> predicate("SEQUENCE", "2d,USER_LOGIN,DB_DELETE")),
+                () -> assertThrows(RuleCompileException.class, () -> predicate("SEQUENCE", "30s,USER_LOGIN,${next}")),
+                () -> assertDoesNotThrow(() -> predicate("SEQUENCE", "10m,DEVICE_STATUS_CHANGE:status=OFFLINE,!DEVICE_STATUS_CHANGE:status=ONLINE"))
+        );
+    }
+}
@@ -0,0 +1,114 @@
+package com.nhnacademy.ruleengineservice.engine.compile;
+
+import com.nhnacademy.ruleengineservice.domain.action.Action;
+import com.nhnacademy.ruleengineservice.domain.condition.Condition;
+import com.nhnacademy.ruleengineservice.domain.parameter.RuleParameter;
+import com.nhnacademy.ruleengineservice.domain.rule.EventType;
+import com.nhnacademy.ruleengineservice.domain.rule.Rule;
+import com.nhnacademy.ruleengineservice.domain.rule.RuleGroup;
+import com.nhnacademy.ruleengineservice.domain.trigger.TriggerEvent;
+import com.nhnacademy.ruleengineservice.engine.exception.RuleCompileException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RuleCompilerTest {
+
+    private final RuleCompiler ruleCompiler = new RuleCompiler();
+
+    @Test
+    @DisplayName("Rule 컴파일 시 조건/액션/파라미터가 우선순위 순으로 복사됨")
+    void compile_copiesChildren() {
+        RuleGroup group = RuleGroup.ofNewRuleGroup("group", "desc", 1);
+        Rule rule = Rule.ofNewRule(group, "rule", "desc", 1);
+        ReflectionTestUtils.setField(rule, "ruleNo", 10L);
+
+        rule.getConditionList().add(Condition.ofNewCondition(rule, "LT", "humidity", "70", 2));
+        rule.getConditionList().add(Condition.ofNewCondition(rule, "GT", "temperature", "30", 1));
+        rule.getActionList().add(Action.ofNewAction(rule, "LOG", "{}", 2));
+        rule.getActionList().add(Action.ofNewAction(rule, "EMAIL", "{\"to\":\"a@b.c\"}", 1));
+        rule.getRuleParameterList().add(RuleParameter.ofNewRuleParameter(rule, "max_limit", "100"));
+
+        CompiledRule compiled = ruleCompiler.compile(rule);
+
+        Assertions.assertAll(
+                () -> assertEquals(10L, compiled.getRuleNo()),
+                () -> assertEquals("temperature", compiled.getConditions().getFirst().getConField()),
+                () -> assertEquals("EMAIL", compiled.getActions().getFirst().getActType()),
+                () -> assertEquals("100", compiled.getParameters().get("max_limit"))
+        );
+    }
+
+    @Test
+    @DisplayName("비활성 규칙과 비활성 그룹의 규칙은 제외되고 그룹/규칙 우선순위 순으로 정렬됨")
+    void compileAll_filtersAndSorts() {
+        RuleGroup high = RuleGroup.ofNewRuleGroup("high", "desc", 1);
+        RuleGroup low = RuleGroup.ofNewRuleGroup("low", "desc", 2);
+        RuleGroup off = RuleGroup.ofNewRuleGroup("off", "desc", 0);
+        off.setActive(false);
+
+        Rule a = Rule.ofNewRule(low, "a", "desc", 1);
+        Rule b = Rule.ofNewRule(high, "b", "desc", 2);
+        Rule c = Rule.ofNewRule(high, "c", "desc", 1);
+        Rule d = Rule.ofNewRule(high, "d", "desc", 0);
+        d.setActive(false);
+        Rule e = Rule.ofNewRule(off, "e", "desc", 0);
+
+        List<CompiledRule> compiled = ruleCompiler.compileAll(List.of(a, b, c, d, e));
+
+        assertEquals(List.of("c", "b", "a"), compiled.stream().map(CompiledRule::getRuleName).toList());
+    }
+
+    @Test
+    @DisplayName("트리거 이벤트는 EventType 으로 변환되고 트리거가 없으면 모든 유형을 구독함")
+    void compile_eventTypes() {
+        RuleGroup group = RuleGroup.ofNewRuleGroup("group", "desc", 1);
+        Rule triggered = Rule.ofNewRule(group, "triggered", "desc", 1);
+        triggered.getTriggerEventList().add(TriggerEvent.ofNewTriggerEvent(triggered, "DB_INSERT", "{}"));
+        triggered.getTriggerEventList().add(TriggerEvent.ofNewTriggerEvent(triggered, "webhook", "{}"));
+        triggered.getTriggerEventList().add(TriggerEvent.ofNewTriggerEvent(triggered, "DEVICE_ON", "{}"));
+        Rule unknownOnly = Rule.ofNewRule(group, "unknown", "desc", 1);
+        unknownOnly.getTriggerEventList().add(TriggerEvent.ofNewTriggerEvent(unknownOnly, "SLACK_MESSAGE", "{}"));
+        Rule untriggered = Rule.ofNewRule(group, "untriggered", "desc", 1);
+
+        assertEquals(Set.of(EventType.DB_INSERT, EventType.WEBHOOK), ruleCompiler.compile(triggered).getEventTypes());
+        assertTrue(ruleCompiler.compile(unknownOnly).getEventTypes().isEmpty());
+        assertEquals(EnumSet.allOf(EventType.class), ruleCompiler.compile(untriggered).getEventTypes());
+    }
+
+    @Test
+    @DisplayName("순서 조건의 단계가 구독하지 않는 이벤트 유형을 고르면 컴파일에 실패함")
+    void compile_rejectsUnsubscribedSequenceSteps() {
+        RuleGroup group = RuleGroup.ofNewRuleGroup("group", "desc", 1);
+        Rule rule = Rule.ofNewRule(group, "sequence", "desc", 1);
+        rule.getConditionList().add(Condition.ofNewCondition(rule, "SEQUENCE", "mbNo",
+                "30s,USER_LOGIN,DB_DELETE,!API_CALL", 1));
+        rule.getTriggerEventList().add(TriggerEvent.ofNewTriggerEvent(rule, "USER_LOGIN", "{}"));
+        rule.getTriggerEventList().add(TriggerEvent.ofNewTriggerEvent(rule, "DB_DELETE", "{}"));
+
+        RuleCompileException e = assertThrows(RuleCompileException.class, () -> ruleCompiler.compile(rule));
+        assertTrue(e.getMessage().contains("API_CALL"));
+
+        rule.getTriggerEventList().add(TriggerEvent.ofNewTriggerEvent(rule, "API_CALL", "{}"));
+        assertDoesNotThrow(() -> ruleCompiler.compile(rule));
+    }
+
+    @Test
+    @DisplayName("actParams 는 처음 사용할 때 한 번만 해석되어 재사용됨")
+    void compiledAction_paramsParsedOnce() {
+        CompiledAction action = new CompiledAction(1L, "EMAIL", "{\"to\":\"admin@nhnacademy.com\"}", 1);
+
+        Map<String, Object> params = action.getParams();
+
+        assertEquals("admin@nhnacademy.com", params.get("to"));
+        assertSame(params, action.getParams());
+    }
+}
@@ -0,0 +1,71 @@
+package com.nhnacademy.ruleengineservice.engine.compile.parameter;
+
+import com.nhnacademy.ruleengineservice.domain.rule.EventType;
+import com.nhnacademy.ruleengineservice.engine.compile.CompiledRule;
+import com.nhnacademy.ruleengineservice.engine.compile.ConditionCompiler;
+import com.nhnacademy.ruleengineservice.engine.evaluate.RuleEvaluator;
+import com.nhnacademy.ruleengineservice.engine.exception.RuleCompileException;
+import com.nhnacademy.ruleengineservice.engine.network.AlphaNetwork;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RuleParametersTest {
+
+    private final ConditionCompiler conditionCompiler = new ConditionCompiler();
+
+    private final RuleEvaluator ruleEvaluator = new RuleEvaluator();
+
+    private CompiledRule rule(long ruleNo, RuleParameters parameters, String conType, String conValue) {
+        return new CompiledRule(ruleNo, "rule-" + ruleNo, 1, 1L, 1,
+                List.of(conditionCompiler.compile(ruleNo, conType, "temperature", conValue, 1, parameters)),
+                List.of(), parameters, EnumSet.allOf(EventType.class));
+    }
+
+    @Test
+    @DisplayName("파라미터 값을 바꾸면 네트워크를 다시 만들지 않아도 조건에 반영됨")
+    void update_patchesConditionInPlace() {
+        RuleParameters first = new RuleParameters(Map.of("max", "30"), Map.of("max", 10L));
+        RuleParameters second = new RuleParameters(Map.of("max", "40"), Map.of("max", 20L));
+        AlphaNetwork network = AlphaNetwork.build(List.of(
+                rule(1L, first, "GT", "${max}"),
+                rule(2L, second, "GT", "${max}")));
+
+        assertEquals(2, network.getNodeCount(), "같은 conValue 라도 규칙마다 다른 노드");
+        assertEquals(1, ruleEvaluator.evaluate(network, Map.of("temperature", 35)).getMatches().size());
+
+        assertTrue(network.findRule(2L).getRuleParameters().update(20L, "max", "32"));
+
+        assertEquals(2, ruleEvaluator.evaluate(network, Map.of("temperature", 35)).getMatches().size());
+        assertEquals(Map.of("max", "32"), network.findRule(2L).getParameters());
+    }
+
+    @Test
+    @DisplayName("여러 파라미터를 참조하는 BETWEEN 조건도 슬롯으로 갱신됨")
+    void update_rangeWithTwoParameters() {
+        RuleParameters parameters = new RuleParameters(Map.of("low", "10", "high", "20"));
+        CompiledRule rule = rule(1L, parameters, "BETWEEN", "${low},${high}");
+
+        assertTrue(rule.matches(Map.of("temperature", 15)));
+        assertTrue(parameters.update(null, "high", "12"));
+        assertFalse(rule.matches(Map.of("temperature", 15)));
+    }
+
+    @Test
+    @DisplayName("컴파일할 수 없는 값이나 모르는 파라미터는 반영하지 않음")
+    void update_rejected() {
+        RuleParameters parameters = new RuleParameters(Map.of("max", "30"), Map.of("max", 10L));
+        CompiledRule rule = rule(1L, parameters, "GT", "${max}");
+
+        assertThrows(RuleCompileException.class, () -> parameters.update(10L, "max", "hot"));
+        assertTrue(rule.matches(Map.of("temperature", 31)));
+        assertFalse(parameters.update(10L, "limit", "40"), "이름이 바뀐 파라미터");
+        assertFalse(parameters.update(11L, "max", "40"), "다른 파라미터");
+        assertThrows(RuleCompileException.class, () -> rule(2L, parameters, "GT", "${unknown}"));
+    }
+}
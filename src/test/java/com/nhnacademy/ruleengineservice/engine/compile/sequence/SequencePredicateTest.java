@@ -0,0 +1,115 @@
+package com.nhnacademy.ruleengineservice.engine.compile.sequence;
+
+import com.nhnacademy.ruleengineservice.domain.rule.EventType;
+import com.nhnacademy.ruleengineservice.engine.compile.CompiledCondition;
+import com.nhnacademy.ruleengineservice.engine.compile.ConditionCompiler;
+import com.nhnacademy.ruleengineservice.engine.compile.predicate.FactPredicate;
+import com.nhnacademy.ruleengineservice.engine.compile.state.ConditionStateStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SequencePredicateTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    private final ConditionStateStore store = new ConditionStateStore(now::get);
+
+    private final ConditionCompiler conditionCompiler = new ConditionCompiler(store);
+
+    private final List<Map<String, Object>> resolved = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        store.setResolutionListener((state, fact) -> resolved.add(fact));
+    }
+
+    private FactPredicate sequence(String conField, String conValue) {
+        CompiledCondition condition = conditionCompiler.compile(1L, "SEQUENCE", conField, conValue, 1);
+        assertTrue(condition.isStateful());
+        return condition.getFactPredicate();
+    }
+
+    private void advance(long millis) {
+        store.getTimer().advanceTo(now.addAndGet(millis));
+    }
+
+    @Test
+    @DisplayName("같은 회원의 로그인 다음 기간 안의 삭제만 일치함")
+    void advance_matchesOrderedEventsPerKey() {
+        FactPredicate pattern = sequence("mbNo", "30s,USER_LOGIN,DB_DELETE");
+
+        assertFalse(pattern.testEvent(EventType.DB_DELETE, Map.of("mbNo", 1)));
+        assertFalse(pattern.testEvent(EventType.USER_LOGIN, Map.of("mbNo", 1)));
+        advance(10_000L);
+        assertFalse(pattern.testEvent(EventType.DB_DELETE, Map.of("mbNo", 2)));
+        assertFalse(pattern.testEvent(EventType.DB_UPDATE, Map.of("mbNo", 1)));
+        assertTrue(pattern.testEvent(EventType.DB_DELETE, Map.of("mbNo", "1")));
+        assertFalse(pattern.testFact(Map.of("mbNo", 1)));
+
+        advance(25_000L);
+        assertFalse(pattern.testEvent(EventType.DB_DELETE, Map.of("mbNo", 1)));
+        assertEquals(0, store.getKeyCount());
+    }
+
+    @Test
+    @DisplayName("한 이벤트가 두 단계를 연달아 통과하지 않고, 늦게 시작한 부분 일치가 살아남음")
+    void advance_keepsLatestPartialPerState() {
+        FactPredicate pattern = sequence("mbNo", "30s,*:action=open,*:action=open,*:action=close");
+
+        assertFalse(pattern.testEvent(EventType.API_CALL, Map.of("mbNo", 1, "action", "open")));
+        advance(20_000L);
+        assertFalse(pattern.testEvent(EventType.API_CALL, Map.of("mbNo", 1, "action", "open")));
+        advance(15_000L);
+        assertFalse(pattern.testEvent(EventType.API_CALL, Map.of("mbNo", 1, "action", "close")));
+
+        assertFalse(pattern.testEvent(EventType.API_CALL, Map.of("mbNo", 1, "action", "open")));
+        assertTrue(pattern.testEvent(EventType.API_CALL, Map.of("mbNo", 1, "action", "close")));
+    }
+
+    @Test
+    @DisplayName("오프라인 다음 기간 안에 온라인이 없으면 타이머가 완성시킴")
+    void absence_resolvedByTimer() {
+        FactPredicate pattern = sequence("deviceId",
+                "10m,DEVICE_STATUS_CHANGE:status=OFFLINE,!DEVICE_STATUS_CHANGE:status=ONLINE");
+
+        assertFalse(pattern.testEvent(EventType.DEVICE_STATUS_CHANGE, Map.of("deviceId", 1, "status", "OFFLINE")));
+        assertFalse(pattern.testEvent(EventType.DEVICE_STATUS_CHANGE, Map.of("deviceId", 2, "status", "OFFLINE")));
+        advance(300_000L);
+        assertFalse(pattern.testEvent(EventType.DEVICE_STATUS_CHANGE, Map.of("deviceId", 1, "status", "OFFLINE")));
+        assertFalse(pattern.testEvent(EventType.DEVICE_STATUS_CHANGE, Map.of("deviceId", 2, "status", "ONLINE")));
+
+        advance(300_200L);
+        assertEquals(1, resolved.size());
+        assertEquals(1, resolved.get(0).get("deviceId"));
+        assertTrue(pattern.peekFact(resolved.get(0)));
+        assertFalse(pattern.peekFact(Map.of("deviceId", 2)));
+
+        assertFalse(pattern.testEvent(EventType.DEVICE_STATUS_CHANGE, Map.of("deviceId", 1, "status", "ONLINE")));
+        assertFalse(pattern.peekFact(Map.of("deviceId", 1)));
+        assertEquals(0, store.getKeyCount());
+    }
+
+    @Test
+    @DisplayName("이벤트가 끊긴 키는 타이머가 기간마다 비움")
+    void sweep_expiresIdleKeys() {
+        FactPredicate pattern = sequence("mbNo", "30s,USER_LOGIN,DB_DELETE");
+
+        for (int member = 0; member < 1_000; member++) {
+            pattern.testEvent(EventType.USER_LOGIN, Map.of("mbNo", member));
+        }
+        assertEquals(1_000, store.getKeyCount());
+
+        advance(30_200L);
+        advance(30_200L);
+        assertEquals(0, store.getKeyCount());
+        assertEquals(0, store.getTimer().size());
+    }
+}
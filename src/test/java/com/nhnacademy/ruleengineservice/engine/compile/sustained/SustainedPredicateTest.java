@@ -0,0 +1,162 @@
+package com.nhnacademy.ruleengineservice.engine.compile.sustained;
+
+import com.nhnacademy.ruleengineservice.engine.compile.CompiledCondition;
+import com.nhnacademy.ruleengineservice.engine.compile.ConditionCompiler;
+import com.nhnacademy.ruleengineservice.engine.compile.state.ConditionState;
+import com.nhnacademy.ruleengineservice.engine.compile.state.ConditionStateStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SustainedPredicateTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    private final ConditionStateStore store = new ConditionStateStore(now::get);
+
+    private final ConditionCompiler conditionCompiler = new ConditionCompiler(store);
+
+    private final List<Map<String, Object>> resolved = new ArrayList<>();
+
+    private final List<ConditionState> resolvedStates = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        store.setResolutionListener((state, fact) -> {
+            resolvedStates.add(state);
+            resolved.add(fact);
+        });
+    }
+
+    private void advance(long millis) {
+        store.getTimer().advanceTo(now.addAndGet(millis));
+    }
+
+    @Test
+    @DisplayName("기간 동안 임계값을 넘으면 새 팩트 없이 타이머가 충족시킴")
+    void timer_resolvesAfterDuration() {
+        CompiledCondition hot = conditionCompiler.compile(1L, "SUSTAINED", "temperature", "10s,GT,30,deviceId", 1);
+
+        assertFalse(hot.test(Map.of("deviceId", 1, "temperature", 35)));
+        advance(5_000L);
+        assertFalse(hot.test(Map.of("deviceId", 1, "temperature", 36)));
+        assertFalse(hot.peek(Map.of("deviceId", 1, "temperature", 36)));
+        assertTrue(resolved.isEmpty());
+
+        advance(5_200L);
+        assertEquals(1, resolved.size());
+        assertEquals(36, resolved.get(0).get("temperature"));
+        assertSame(hot.getFactPredicate().getState(), resolvedStates.get(0));
+        assertTrue(hot.peek(Map.of("deviceId", "1", "temperature", 36)));
+        assertTrue(hot.test(Map.of("deviceId", 1L, "temperature", 37)));
+    }
+
+    @Test
+    @DisplayName("기간 안에 임계값 아래로 내려가면 처음부터 다시 셈")
+    void dip_resetsPending() {
+        CompiledCondition hot = conditionCompiler.compile(1L, "SUSTAINED", "temperature", "10s,GT,30,deviceId", 1);
+
+        hot.test(Map.of("deviceId", 1, "temperature", 35));
+        advance(6_000L);
+        hot.test(Map.of("deviceId", 1, "temperature", 25));
+        hot.test(Map.of("deviceId", 1, "temperature", 35));
+        advance(6_000L);
+
+        assertTrue(resolved.isEmpty());
+        assertEquals(1, store.getKeyCount());
+        advance(4_200L);
+        assertEquals(1, resolved.size());
+    }
+
+    @Test
+    @DisplayName("충족된 뒤에는 해제 임계값을 벗어나야 해제됨")
+    void hysteresis_holdsUntilClear() {
+        CompiledCondition hot = conditionCompiler.compile(1L, "SUSTAINED", "temperature", "10s,GT,30,28,deviceId", 1);
+
+        hot.test(Map.of("deviceId", 1, "temperature", 35));
+        advance(10_200L);
+        assertEquals(1, resolved.size());
+
+        assertTrue(hot.test(Map.of("deviceId", 1, "temperature", 29)));
+        assertFalse(hot.test(Map.of("deviceId", 1, "temperature", 27)));
+        assertFalse(hot.peek(Map.of("deviceId", 1, "temperature", 27)));
+        assertEquals(0, store.getKeyCount());
+
+        assertFalse(hot.test(Map.of("deviceId", 1, "temperature", 29)));
+        assertEquals(0, store.getKeyCount());
+    }
+
+    @Test
+    @DisplayName("키마다 따로 추적하고 임계값을 넘지 않은 키는 보관하지 않음")
+    void perKey_tracksOnlyBreachingKeys() {
+        CompiledCondition hot = conditionCompiler.compile(1L, "SUSTAINED", "temperature", "10s,GT,30,deviceId", 1);
+
+        for (int device = 0; device < 1_000; device++) {
+            hot.test(Map.of("deviceId", device, "temperature", device % 10 == 0 ? 40 : 20));
+        }
+        assertEquals(100, store.getKeyCount());
+        assertEquals(100, store.getTimer().size());
+
+        advance(10_200L);
+        assertEquals(100, resolved.size());
+        assertEquals(100, store.getTimer().size());
+        assertFalse(hot.test(Map.of("temperature", 40)));
+    }
+
+    @Test
+    @DisplayName("충족된 키는 기간 동안 팩트가 없으면 타이머가 추적을 멈춤")
+    void timer_expiresIdleActiveKeys() {
+        CompiledCondition hot = conditionCompiler.compile(1L, "SUSTAINED", "temperature", "10s,GT,30,deviceId", 1);
+
+        hot.test(Map.of("deviceId", 1, "temperature", 35));
+        hot.test(Map.of("deviceId", 2, "temperature", 35));
+        advance(10_200L);
+        assertEquals(2, resolved.size());
+
+        advance(5_000L);
+        assertTrue(hot.test(Map.of("deviceId", 2, "temperature", 36)));
+        advance(5_200L);
+        assertEquals(1, store.getKeyCount());
+        assertFalse(hot.peek(Map.of("deviceId", 1, "temperature", 35)));
+        assertTrue(hot.peek(Map.of("deviceId", 2, "temperature", 36)));
+
+        advance(5_000L);
+        assertEquals(0, store.getKeyCount());
+        assertEquals(0, store.getTimer().size());
+    }
+
+    @Test
+    @DisplayName("대기 중에는 스칼라 필드만 제한된 개수로 복사해 보관하고 충족되면 버림")
+    void pending_retainsBoundedFactCopy() {
+        CompiledCondition hot = conditionCompiler.compile(1L, "SUSTAINED", "temperature", "10s,GT,30,deviceId", 1);
+        Map<String, Object> fact = new HashMap<>();
+        fact.put("deviceId", 1);
+        fact.put("temperature", 35);
+        fact.put("payload", "x".repeat(SustainedState.MAX_VALUE_LENGTH + 1));
+        fact.put("nested", Map.of("a", 1));
+        for (int i = 0; i < 40; i++) {
+            fact.put("f" + i, i);
+        }
+
+        hot.test(fact);
+        long memory = store.getMemoryBytes();
+        assertTrue(memory > hot.getFactPredicate().getState().getBytesPerKey());
+        advance(10_200L);
+
+        Map<String, Object> retained = resolved.get(0);
+        assertTrue(retained.size() <= SustainedState.MAX_FACT_FIELDS);
+        assertEquals(1, retained.get("deviceId"));
+        assertEquals(35, retained.get("temperature"));
+        assertFalse(retained.containsKey("payload"));
+        assertFalse(retained.containsKey("nested"));
+        assertEquals(hot.getFactPredicate().getState().getBytesPerKey(), store.getMemoryBytes());
+    }
+}
@@ -0,0 +1,44 @@
+package com.nhnacademy.ruleengineservice.engine.compile.template;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParamTemplateTest {
+
+    @Test
+    @DisplayName("자리표시자는 팩트 값, 없으면 규칙 파라미터 값으로 채워짐")
+    void render_factThenParameter() {
+        ParamTemplate template = ParamTemplate.compile("set fan speed to ${speed} on ${deviceId} (max ${ maxSpeed })");
+
+        String rendered = template.render(Map.of("speed", 3, "deviceId", "fan-01"),
+                Map.of("maxSpeed", "5", "speed", "9"));
+
+        assertEquals("set fan speed to 3 on fan-01 (max 5)", rendered);
+        assertArrayEquals(new String[]{"speed", "deviceId", "maxSpeed"}, template.getVariableNames());
+    }
+
+    @Test
+    @DisplayName("JSON actParams 의 값은 JSON 문자열로 이스케이프됨")
+    void render_jsonEscaped() {
+        ParamTemplate template = ParamTemplate.compile("{\"message\":\"${message}\",\"speed\":${speed}}");
+
+        String rendered = template.render(Map.of("message", "say \"hi\"\n", "speed", 2.5), Map.of());
+
+        assertEquals("{\"message\":\"say \\\"hi\\\"\\n\",\"speed\":2.5}", rendered);
+    }
+
+    @Test
+    @DisplayName("값이 없거나 자리표시자가 아니면 원문을 그대로 둠")
+    void render_missingAndLiteral() {
+        ParamTemplate constant = ParamTemplate.compile("{\"to\":\"admin@nhnacademy.com\"}");
+        ParamTemplate template = ParamTemplate.compile("${unknown} ${} ${open");
+
+        assertTrue(constant.isConstant());
+        assertSame(constant.getSource(), constant.render(Map.of(), Map.of()));
+        assertEquals("${unknown} ${} ${open", template.render(Map.of(), Map.of()));
+    }
+}
@@ -0,0 +1,83 @@
+package com.nhnacademy.ruleengineservice.engine.compile.window;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlidingWindowTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    @Test
+    @DisplayName("윈도 밖으로 밀려난 값은 합계, 평균, 개수에서 빠짐")
+    void record_expiresOldBuckets() {
+        SlidingWindow sum = new SlidingWindow(WindowAggregate.SUM, 60_000L, now::get);
+        SlidingWindow avg = new SlidingWindow(WindowAggregate.AVG, 60_000L, now::get);
+
+        sum.record("d1", 10);
+        avg.record("d1", 10);
+        now.addAndGet(30_000L);
+        assertEquals(30, sum.record("d1", 20));
+        assertEquals(15, avg.record("d1", 20));
+
+        now.addAndGet(31_000L);
+        assertEquals(20, sum.current("d1"));
+        assertEquals(25, avg.record("d1", 30));
+
+        now.addAndGet(120_000L);
+        assertEquals(0, sum.current("d1"));
+        assertTrue(Double.isNaN(avg.current("d1")));
+    }
+
+    @Test
+    @DisplayName("최솟값/최댓값은 만료된 버킷을 빼고 다시 계산됨")
+    void record_minMax() {
+        SlidingWindow min = new SlidingWindow(WindowAggregate.MIN, 60_000L, now::get);
+        SlidingWindow max = new SlidingWindow(WindowAggregate.MAX, 60_000L, now::get);
+
+        min.record("d1", 1);
+        max.record("d1", 100);
+        now.addAndGet(40_000L);
+        assertEquals(1, min.record("d1", 5));
+        assertEquals(100, max.record("d1", 50));
+
+        now.addAndGet(30_000L);
+        assertEquals(5, min.current("d1"));
+        assertEquals(50, max.current("d1"));
+    }
+
+    @Test
+    @DisplayName("키마다 윈도가 따로 유지되고 키당 메모리는 고정됨")
+    void record_perKey() {
+        SlidingWindow count = new SlidingWindow(WindowAggregate.COUNT, 60_000L, now::get);
+
+        for (int i = 0; i < 1_000; i++) {
+            count.record(i % 2 == 0 ? "a" : "b", 0);
+        }
+
+        assertEquals(500, count.current("a"));
+        assertEquals(500, count.current("b"));
+        assertEquals(2, count.getKeyCount());
+        assertEquals(2 * count.getBytesPerKey(), count.getMemoryBytes());
+        assertTrue(count.getBytesPerKey() < new SlidingWindow(WindowAggregate.SUM, 60_000L, now::get).getBytesPerKey());
+    }
+
+    @Test
+    @DisplayName("키가 가득 차면 유휴 키를 비우고, 그래도 없으면 새 키는 집계하지 않음")
+    void record_maxKeys() {
+        SlidingWindow count = new SlidingWindow(WindowAggregate.COUNT, 60_000L, 2, now::get);
+
+        count.record("a", 0);
+        count.record("b", 0);
+        assertTrue(Double.isNaN(count.record("c", 0)));
+        assertEquals(1, count.getRejectedCount());
+
+        now.addAndGet(61_000L);
+        count.record("b", 0);
+        assertEquals(1, count.record("c", 0));
+        assertEquals(2, count.getKeyCount());
+    }
+}
@@ -0,0 +1,131 @@
+package com.nhnacademy.ruleengineservice.engine.device;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeviceStateStoreTest {
+
+    private final DeviceStateStore store = new DeviceStateStore(true, "deviceId", 2, () -> null);
+
+    private static Map<String, Object> fact(Object... keyValues) {
+        Map<String, Object> fact = new LinkedHashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            fact.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return fact;
+    }
+
+    @Test
+    @DisplayName("처음 본 장치는 모든 필드가 바뀐 것으로 봄")
+    void update_newDeviceReportsAllFields() {
+        assertEquals(List.of("deviceId", "temperature", "state"),
+                store.update(fact("deviceId", "d-1", "temperature", 25, "state", "ON")));
+        assertEquals(1, store.getDeviceCount());
+    }
+
+    @Test
+    @DisplayName("같은 값을 다시 받으면 바뀐 필드가 없음")
+    void update_sameValuesReportNothing() {
+        store.update(fact("deviceId", "d-1", "temperature", 25.5, "state", "ON", "power", true));
+
+        assertTrue(store.update(fact("deviceId", "d-1", "temperature", 25.5, "state", "ON", "power", true)).isEmpty());
+        assertEquals(1, store.getUnchangedCount());
+    }
+
+    @Test
+    @DisplayName("값이 바뀐 필드만 반환하고 팩트에 없는 필드는 바뀌지 않은 것으로 봄")
+    void update_reportsChangedFieldsOnly() {
+        store.update(fact("deviceId", "d-1", "temperature", 25, "state", "ON"));
+
+        assertEquals(List.of("state"), store.update(fact("deviceId", "d-1", "temperature", 25, "state", "OFF")));
+        assertEquals(List.of("temperature"), store.update(fact("deviceId", "d-1", "temperature", 26)));
+        assertTrue(store.update(fact("deviceId", "d-1", "state", "OFF")).isEmpty());
+    }
+
+    @Test
+    @DisplayName("값의 종류가 바뀌면 바뀐 것으로 보고, null 도 값으로 비교함")
+    void update_comparesKinds() {
+        store.update(fact("deviceId", "d-1", "level", 1, "mode", "1"));
+
+        assertEquals(List.of("level"), store.update(fact("deviceId", "d-1", "level", 1.0, "mode", "1")));
+        assertEquals(List.of("mode"), store.update(fact("deviceId", "d-1", "level", 1.0, "mode", null)));
+        assertTrue(store.update(fact("deviceId", "d-1", "mode", null)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("장치별로 최신 값을 따로 보관함")
+    void update_keepsDevicesApart() {
+        store.update(fact("deviceId", "d-1", "state", "ON"));
+
+        assertEquals(List.of("deviceId", "state"), store.update(fact("deviceId", 2L, "state", "ON")));
+        assertTrue(store.update(fact("deviceId", 2, "state", "ON")).isEmpty());
+    }
+
+    @Test
+    @DisplayName("장치를 식별할 수 없거나 장치 수가 가득 차면 null 을 반환함")
+    void update_returnsNullWhenUntracked() {
+        assertNull(store.update(fact("temperature", 25)));
+
+        store.update(fact("deviceId", "d-1"));
+        store.update(fact("deviceId", "d-2"));
+        assertNull(store.update(fact("deviceId", "d-3", "temperature", 25)));
+        assertEquals(1, store.getRejectedCount());
+    }
+
+    @Test
+    @DisplayName("맵처럼 비교할 수 없는 값은 항상 바뀐 것으로 봄")
+    void update_opaqueValuesAlwaysChange() {
+        Map<String, Object> payload = new HashMap<>(Map.of("a", 1));
+        store.update(fact("deviceId", "d-1", "payload", payload));
+
+        assertEquals(List.of("payload"), store.update(fact("deviceId", "d-1", "payload", payload)));
+    }
+
+    @Test
+    @DisplayName("잊은 장치의 다음 팩트는 모든 필드가 바뀐 것으로 봄")
+    void forget_resetsDevice() {
+        store.update(fact("deviceId", "d-1", "state", "ON"));
+        store.forget("d-1");
+
+        assertEquals(List.of("deviceId", "state"), store.update(fact("deviceId", "d-1", "state", "ON")));
+        assertTrue(store.getMemoryBytes() > 0);
+    }
+
+    @Test
+    @DisplayName("peekChanges 는 배치 안에서만 앞선 팩트와 비교하고 저장소에는 기록하지 않음")
+    void peekChanges_doesNotWrite() {
+        store.update(fact("deviceId", "d-1", "temperature", 25, "state", "ON"));
+
+        List<List<String>> changes = store.peekChanges(List.of(
+                fact("deviceId", "d-1", "temperature", 25, "state", "ON"),
+                fact("deviceId", "d-1", "temperature", 26, "state", "IDLE"),
+                fact("deviceId", "d-1", "temperature", 26, "state", "IDLE"),
+                fact("deviceId", "d-2", "state", "ON"),
+                fact("temperature", 25)));
+
+        assertEquals(List.of(), changes.get(0));
+        assertEquals(List.of("temperature", "state"), changes.get(1));
+        assertEquals(List.of(), changes.get(2));
+        assertEquals(List.of("deviceId", "state"), changes.get(3));
+        assertNull(changes.get(4));
+        assertEquals(1, store.getDeviceCount());
+        assertEquals(0, store.getUnchangedCount());
+        assertTrue(store.update(fact("deviceId", "d-1", "temperature", 25, "state", "ON")).isEmpty());
+    }
+
+    @Test
+    @DisplayName("장치 행은 이 저장소가 본 필드 수만큼만 커짐")
+    void update_usesDenseLocalFieldIds() {
+        store.update(fact("deviceId", "d-1", "dense-999", 1));
+
+        assertEquals(2, store.getFieldCount());
+        assertTrue(store.getMemoryBytes() < 1_000);
+    }
+}
@@ -0,0 +1,187 @@
+package com.nhnacademy.ruleengineservice.engine.evaluate;
+
+import com.nhnacademy.ruleengineservice.domain.rule.EventType;
+import com.nhnacademy.ruleengineservice.engine.compile.CompiledAction;
+import com.nhnacademy.ruleengineservice.engine.compile.CompiledRule;
+import com.nhnacademy.ruleengineservice.engine.compile.ConditionCompiler;
+import com.nhnacademy.ruleengineservice.engine.compile.RuleCompiler;
+import com.nhnacademy.ruleengineservice.engine.compile.state.ConditionStateStore;
+import com.nhnacademy.ruleengineservice.engine.snapshot.RuleSetRegistry;
+import com.nhnacademy.ruleengineservice.engine.snapshot.RuleSetSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelRuleEvaluatorTest {
+
+    private final ParallelRuleEvaluator parallelRuleEvaluator = new ParallelRuleEvaluator(4, 16);
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    private final ConditionStateStore stateStore = new ConditionStateStore(now::get);
+
+    private final ConditionCompiler conditionCompiler = new ConditionCompiler(stateStore);
+
+    @AfterEach
+    void tearDown() {
+        parallelRuleEvaluator.shutdown();
+    }
+
+    private CompiledRule rule(long ruleNo, int groupPriority, String threshold) {
+        return new CompiledRule(ruleNo, "rule-" + ruleNo, 1, (long) groupPriority, groupPriority,
+                List.of(conditionCompiler.compile(ruleNo, "GT", "temperature", threshold, 1)),
+                List.of(new CompiledAction(ruleNo, "LOG", "{}", 1)), Map.of());
+    }
+
+    @Test
+    @DisplayName("병렬 평가 결과는 순차 평가와 팩트 순서 및 규칙 우선순위 순서가 같음")
+    void evaluateAll_sameAsSequential() {
+        List<CompiledRule> rules = new ArrayList<>();
+        for (long i = 1; i <= 30; i++) {
+            rules.add(rule(i, (int) (i % 5), String.valueOf(i)));
+        }
+        rules.sort(RuleCompiler.EVALUATION_ORDER);
+        RuleSetRegistry registry = new RuleSetRegistry();
+        RuleSetSnapshot snapshot = registry.publish(rules);
+
+        List<Map<String, Object>> facts = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            facts.add(Map.of("temperature", i % 40));
+        }
+
+        BatchEvaluationResult parallel = parallelRuleEvaluator.evaluateAll(snapshot, null, facts);
+        BatchEvaluationResult sequential = new RuleEvaluator().evaluateAll(snapshot, null, facts);
+
+        assertEquals(snapshot.getVersion(), parallel.getVersion());
+        assertEquals(facts.size(), parallel.getResults().size());
+        for (int i = 0; i < facts.size(); i++) {
+            assertEquals(ruleNos(sequential.getResults().get(i)), ruleNos(parallel.getResults().get(i)));
+        }
+    }
+
+    private CompiledRule statefulRule(long ruleNo, String conType, String conField, String conValue) {
+        return new CompiledRule(ruleNo, "rule-" + ruleNo, 1, 1L, 1,
+                List.of(conditionCompiler.compile(ruleNo, conType, conField, conValue, 1)),
+                List.of(new CompiledAction(ruleNo, "LOG", "{}", 1)), Map.of());
+    }
+
+    @Test
+    @DisplayName("순서 패턴을 구독하는 큰 묶음은 같은 키의 팩트를 입력 순서대로 평가함")
+    void evaluateAll_keepsSequenceOrder() {
+        RuleSetSnapshot snapshot = new RuleSetRegistry().publish(List.of(statefulRule(1L, "SEQUENCE", "deviceId",
+                "30s,DEVICE_STATUS_CHANGE:state=ON,DEVICE_STATUS_CHANGE:state=OFF")));
+        List<Map<String, Object>> facts = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            facts.add(Map.of("deviceId", "d-" + (i % 10), "state", "IDLE"));
+        }
+        facts.set(3, Map.of("deviceId", "target", "state", "ON"));
+        facts.set(190, Map.of("deviceId", "target", "state", "OFF"));
+
+        assertTrue(snapshot.getNetwork().hasStatefulSubscribers(EventType.DEVICE_STATUS_CHANGE));
+        BatchEvaluationResult result = parallelRuleEvaluator.evaluateAll(snapshot, EventType.DEVICE_STATUS_CHANGE, facts);
+
+        for (int i = 0; i < facts.size(); i++) {
+            assertEquals(i == 190 ? List.of(1L) : List.of(), ruleNos(result.getResults().get(i)), "fact " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("지속 조건을 구독하는 큰 묶음에서 임계값 초과 뒤 하락이 순서대로 반영되어 거짓 충족이 없음")
+    void evaluateAll_keepsSustainedOrder() {
+        List<Map<String, Object>> resolved = new ArrayList<>();
+        stateStore.setResolutionListener((state, fact) -> resolved.add(fact));
+        RuleSetSnapshot snapshot = new RuleSetRegistry().publish(List.of(
+                statefulRule(1L, "SUSTAINED", "temperature", "10s,GT,30,deviceId")));
+        List<Map<String, Object>> facts = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            facts.add(Map.of("deviceId", "d-" + (i % 10), "temperature", 20));
+        }
+        facts.set(5, Map.of("deviceId", "target", "temperature", 40));
+        facts.set(150, Map.of("deviceId", "target", "temperature", 20));
+
+        parallelRuleEvaluator.evaluateAll(snapshot, EventType.DEVICE_STATUS_CHANGE, facts);
+        stateStore.getTimer().advanceTo(now.addAndGet(11_000L));
+
+        assertTrue(resolved.isEmpty());
+    }
+
+    @Test
+    @DisplayName("키별 윈도 집계와 상태 없는 규칙이 섞인 큰 묶음은 키별로 나눠 평가해도 입력 순서대로 집계함")
+    void evaluateAll_partitionsStatefulWorkByKey() {
+        List<CompiledRule> rules = new ArrayList<>(List.of(
+                statefulRule(1L, "WINDOW_COUNT", "deviceId", "1m,GTE,3,deviceId"), rule(2L, 1, "30")));
+        rules.sort(RuleCompiler.EVALUATION_ORDER);
+        RuleSetSnapshot snapshot = new RuleSetRegistry().publish(rules);
+        List<Map<String, Object>> facts = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            facts.add(Map.of("deviceId", "d-" + (i % 10), "temperature", i % 40));
+        }
+
+        assertEquals(Set.of("deviceId"), snapshot.getNetwork().getStatefulKeyFields(EventType.DEVICE_STATUS_CHANGE));
+        BatchEvaluationResult result = parallelRuleEvaluator.evaluateAll(snapshot, EventType.DEVICE_STATUS_CHANGE, facts);
+
+        for (int i = 0; i < facts.size(); i++) {
+            List<Long> expected = new ArrayList<>();
+            if (i >= 20) {
+                expected.add(1L);
+            }
+            if (i % 40 > 30) {
+                expected.add(2L);
+            }
+            assertEquals(expected, ruleNos(result.getResults().get(i)).stream().sorted().toList(), "fact " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("키 필드 없이 하나의 윈도를 공유하는 규칙이 있으면 묶음 전체를 입력 순서대로 평가함")
+    void evaluateAll_globalStateFallsBackToSequential() {
+        RuleSetSnapshot snapshot = new RuleSetRegistry().publish(List.of(
+                statefulRule(1L, "WINDOW_COUNT", "deviceId", "1m,GTE,3")));
+        List<Map<String, Object>> facts = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            facts.add(Map.of("deviceId", "d-" + i));
+        }
+
+        assertNull(snapshot.getNetwork().getStatefulKeyFields(EventType.DEVICE_STATUS_CHANGE));
+        BatchEvaluationResult result = parallelRuleEvaluator.evaluateAll(snapshot, EventType.DEVICE_STATUS_CHANGE, facts);
+
+        for (int i = 0; i < facts.size(); i++) {
+            assertEquals(i >= 2 ? List.of(1L) : List.of(), ruleNos(result.getResults().get(i)), "fact " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("드라이런 평가는 윈도 집계를 바꾸지 않음")
+    void peekAll_leavesWindowCountsUnchanged() {
+        RuleSetSnapshot snapshot = new RuleSetRegistry().publish(List.of(
+                statefulRule(1L, "WINDOW_COUNT", "deviceId", "1m,GTE,3,deviceId")));
+        List<Map<String, Object>> facts = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            facts.add(Map.of("deviceId", "target"));
+        }
+
+        BatchEvaluationResult dryRun = parallelRuleEvaluator.peekAll(snapshot, EventType.DEVICE_STATUS_CHANGE, facts, null);
+        assertTrue(dryRun.getResults().stream().allMatch(result -> result.getMatches().isEmpty()));
+
+        BatchEvaluationResult live = parallelRuleEvaluator.evaluateAll(snapshot, EventType.DEVICE_STATUS_CHANGE,
+                facts.subList(0, 3));
+        assertEquals(List.of(), ruleNos(live.getResults().get(1)));
+        assertEquals(List.of(1L), ruleNos(live.getResults().get(2)));
+
+        BatchEvaluationResult afterLive = parallelRuleEvaluator.peekAll(snapshot, EventType.DEVICE_STATUS_CHANGE,
+                facts.subList(0, 1), null);
+        assertEquals(List.of(1L), ruleNos(afterLive.getResults().get(0)));
+    }
+
+    private static List<Long> ruleNos(EvaluationResult result) {
+        return result.getMatches().stream().map(RuleMatch::getRuleNo).toList();
+    }
+}
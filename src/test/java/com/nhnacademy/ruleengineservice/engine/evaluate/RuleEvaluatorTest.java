@@ -0,0 +1,94 @@
+package com.nhnacademy.ruleengineservice.engine.evaluate;
+
+import com.nhnacademy.ruleengineservice.engine.compile.CompiledAction;
+import com.nhnacademy.ruleengineservice.engine.compile.CompiledCondition;
+import com.nhnacademy.ruleengineservice.engine.compile.CompiledRule;
+import com.nhnacademy.ruleengineservice.engine.compile.ConditionCompiler;
+import com.nhnacademy.ruleengineservice.engine.network.AlphaNetwork;
+import com.nhnacademy.ruleengineservice.engine.snapshot.RuleSetRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RuleEvaluatorTest {
+
+    private final RuleEvaluator ruleEvaluator = new RuleEvaluator();
+
+    private final ConditionCompiler conditionCompiler = new ConditionCompiler();
+
+    private CompiledRule rule(long ruleNo, CompiledCondition... conditions) {
+        return new CompiledRule(ruleNo, "rule-" + ruleNo, 1, 1L, 1, List.of(conditions),
+                List.of(new CompiledAction(ruleNo, "LOG", "{}", 1)), Map.of());
+    }
+
+    @Test
+    @DisplayName("모든 조건을 만족하는 규칙만 발동됨")
+    void evaluate_allConditionsMustMatch() {
+        CompiledRule hot = rule(1L, conditionCompiler.compile(1L, "GT", "temperature", "30", 1));
+        CompiledRule hotAndDry = rule(2L,
+                conditionCompiler.compile(2L, "GT", "temperature", "30", 1),
+                conditionCompiler.compile(3L, "LT", "humidity", "40", 2));
+
+        EvaluationResult result = ruleEvaluator.evaluate(AlphaNetwork.build(List.of(hot, hotAndDry)),
+                Map.of("temperature", 31.5, "humidity", 55));
+
+        assertEquals(1, result.getMatches().size());
+        assertEquals(1L, result.getMatches().getFirst().getRuleNo());
+    }
+
+    @Test
+    @DisplayName("문자열 EQ 및 IS_NULL 조건 평가")
+    void evaluate_equalityAndNull() {
+        CompiledRule offline = rule(1L,
+                conditionCompiler.compile(1L, "EQ", "state", "OFFLINE", 1),
+                conditionCompiler.compile(2L, "IS_NULL", "reason", null, 2));
+        AlphaNetwork network = AlphaNetwork.build(List.of(offline));
+
+        assertTrue(ruleEvaluator.evaluate(network, Map.of("state", "OFFLINE")).hasMatches());
+        assertFalse(ruleEvaluator.evaluate(network, Map.of("state", "ONLINE")).hasMatches());
+        assertFalse(ruleEvaluator.evaluate(network, Map.of("state", "OFFLINE", "reason", "x")).hasMatches());
+    }
+
+    @Test
+    @DisplayName("배치 평가는 하나의 스냅샷으로 팩트마다 입력 순서대로 결과를 반환함")
+    void evaluateAll_perFactResults() {
+        RuleSetRegistry registry = new RuleSetRegistry();
+        registry.publish(List.of(
+                rule(1L, conditionCompiler.compile(1L, "GT", "temperature", "30", 1)),
+                rule(2L, conditionCompiler.compile(2L, "EQ", "state", "OFFLINE", 1))));
+
+        BatchEvaluationResult result = ruleEvaluator.evaluateAll(registry.current(), null, List.of(
+                Map.of("temperature", 35),
+                Map.of("temperature", 20),
+                Map.of("temperature", 40, "state", "OFFLINE")));
+
+        assertEquals(1L, result.getVersion());
+        assertEquals(3, result.getResults().size());
+        assertEquals(List.of(1L), result.getResults().get(0).getMatches().stream().map(RuleMatch::getRuleNo).toList());
+        assertFalse(result.getResults().get(1).hasMatches());
+        assertEquals(List.of(1L, 2L), result.getResults().get(2).getMatches().stream().map(RuleMatch::getRuleNo).toList());
+        assertSame(result.getResults().get(0).getMatches().getFirst(), result.getResults().get(2).getMatches().getFirst());
+        assertEquals(2, result.countMatchedFacts());
+    }
+
+    @Test
+    @DisplayName("패치로 슬롯 순서가 어긋나도 발동 규칙은 평가 순서로 반환됨")
+    void evaluate_patchedNetworkKeepsEvaluationOrder() {
+        AlphaNetwork network = AlphaNetwork.build(List.of(
+                rule(2L, conditionCompiler.compile(2L, "GT", "temperature", "10", 1)),
+                rule(3L, conditionCompiler.compile(3L, "GT", "temperature", "20", 1))));
+        AlphaNetwork patched = network.patch(List.of(), List.of(
+                rule(1L, conditionCompiler.compile(1L, "GT", "temperature", "30", 1))));
+        assertFalse(patched.isOrdered());
+
+        EvaluationResult result = ruleEvaluator.evaluate(patched, Map.of("temperature", 35));
+        assertEquals(List.of(1L, 2L, 3L), result.getMatches().stream().map(RuleMatch::getRuleNo).toList());
+
+        result = ruleEvaluator.evaluate(patched, Map.of("temperature", 25));
+        assertEquals(List.of(2L, 3L), result.getMatches().stream().map(RuleMatch::getRuleNo).toList());
+    }
+}
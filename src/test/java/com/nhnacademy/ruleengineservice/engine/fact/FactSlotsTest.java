@@ -0,0 +1,81 @@
+package com.nhnacademy.ruleengineservice.engine.fact;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FactSlotsTest {
+
+    private final FieldSymbolTable symbols = new FieldSymbolTable();
+
+    @Test
+    @DisplayName("같은 필드명은 항상 같은 id 를 받고, 조회는 id 를 새로 만들지 않음")
+    void intern_isStable() {
+        int temperature = symbols.intern("temperature");
+        int humidity = symbols.intern("humidity");
+
+        assertEquals(temperature, symbols.intern(new String("temperature")));
+        assertNotEquals(temperature, humidity);
+        assertEquals("humidity", symbols.nameOf(humidity));
+        assertEquals(-1, symbols.idOf("co2"));
+        assertEquals(-1, symbols.intern(null));
+        assertEquals(2, symbols.size());
+    }
+
+    @Test
+    @DisplayName("등록된 필드만 슬롯에 옮기고 숫자 값은 기본형 열에 담음")
+    void parse_fillsPrimitiveColumns() {
+        int temperature = symbols.intern("temperature");
+        int count = symbols.intern("count");
+        int state = symbols.intern("state");
+        FactSlots slots = new FactSlots(symbols);
+
+        slots.parse(Map.of("temperature", "31.5", "count", 7, "state", "ON", "unknown", 1));
+
+        assertEquals(3, slots.getPresentCount());
+        assertEquals(31.5, slots.number(temperature));
+        assertFalse(slots.isIntegral(temperature));
+        assertTrue(slots.isIntegral(count));
+        assertEquals(7L, slots.longValue(count));
+        assertEquals("ON", slots.value(state));
+        assertTrue(Double.isNaN(slots.number(state)));
+    }
+
+    @Test
+    @DisplayName("값이 null 인 필드는 없는 것으로 보고, 재사용하면 이전 팩트의 슬롯이 지워짐")
+    void parse_resetsPreviousFact() {
+        int temperature = symbols.intern("temperature");
+        int state = symbols.intern("state");
+        FactSlots slots = new FactSlots(symbols);
+        slots.parse(Map.of("temperature", 30, "state", "ON"));
+
+        Map<String, Object> fact = new HashMap<>();
+        fact.put("state", null);
+        slots.parse(fact);
+
+        assertEquals(0, slots.getPresentCount());
+        assertFalse(slots.isPresent(temperature));
+        assertNull(slots.value(state));
+        assertEquals(0L, slots.getPresenceBits()[0]);
+    }
+
+    @Test
+    @DisplayName("파싱 이후 등록된 필드도 다음 파싱부터 슬롯에 담김")
+    void parse_growsWithSymbolTable() {
+        FactSlots slots = new FactSlots(symbols);
+        slots.parse(Map.of("f0", 1));
+
+        int last = -1;
+        for (int i = 0; i < 100; i++) {
+            last = symbols.intern("f" + i);
+        }
+        slots.parse(Map.of("f99", 2.5));
+
+        assertTrue(slots.isPresent(last));
+        assertEquals(2.5, slots.number(last));
+    }
+}
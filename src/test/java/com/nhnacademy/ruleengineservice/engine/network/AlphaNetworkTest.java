@@ -0,0 +1,160 @@
+package com.nhnacademy.ruleengineservice.engine.network;
+
+import com.nhnacademy.ruleengineservice.engine.compile.CompiledRule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AlphaNetworkTest extends NetworkFixture {
+
+    @Test
+    @DisplayName("여러 규칙의 동일한 조건은 하나의 노드로 공유됨")
+    void build_dedupesIdenticalConditions() {
+        List<CompiledRule> rules = new ArrayList<>();
+        for (long i = 1; i <= 40; i++) {
+            rules.add(rule(i, condition("GT", "temperature", "30"), condition("LT", "humidity", " 70 ")));
+        }
+        rules.add(rule(41L, condition("GT", "temperature", "35")));
+
+        AlphaNetwork network = AlphaNetwork.build(rules);
+
+        assertEquals(3, network.getNodeCount());
+        assertEquals(40, network.getNode(0).getRuleIndexes().length);
+    }
+
+    @Test
+    @DisplayName("고유 검사는 팩트당 한 번만 평가되고 결과가 의존 규칙에 전파되며, 값은 슬롯에서 읽음")
+    void match_evaluatesEachNodeOnce() {
+        List<CompiledRule> rules = new ArrayList<>();
+        for (long i = 1; i <= 10; i++) {
+            rules.add(rule(i, condition("LIKE", "deviceId", "sensor-%")));
+        }
+        rules.add(rule(11L, condition("LIKE", "deviceId", "sensor-%"), condition("NE", "state", "OFF")));
+        AlphaNetwork network = AlphaNetwork.build(rules);
+
+        Map<String, Integer> reads = new HashMap<>();
+        Map<String, Object> fact = new HashMap<>(Map.of("deviceId", "sensor-1", "state", "OFF")) {
+            @Override
+            public Object get(Object key) {
+                reads.merge((String) key, 1, Integer::sum);
+                return super.get(key);
+            }
+        };
+
+        int[] fired = network.match(fact);
+
+        assertEquals(10, fired.length);
+        // 팩트는 슬롯으로 한 번 파싱되므로 조건마다 맵을 조회하지 않음
+        assertTrue(reads.isEmpty());
+    }
+
+    @Test
+    @DisplayName("숫자 임계값/동등 조건은 색인으로 평가되어 직접 검사 대상에서 빠짐")
+    void match_thresholdIndex() {
+        AlphaNetwork network = AlphaNetwork.build(List.of(
+                rule(1L, condition("GT", "temperature", "30")),
+                rule(2L, condition("BETWEEN", "temperature", "20,25"), condition("LTE", "co2", "1000")),
+                rule(3L, condition("GTE", "temperature", "31"), condition("EQ", "state", "ON"))));
+
+        assertEquals(0, network.getResidualNodeCount());
+        assertArrayEquals(new int[]{0, 2}, network.match(Map.of("temperature", 31, "state", "ON")));
+        assertArrayEquals(new int[]{1}, network.match(Map.of("temperature", 22.5, "co2", 800)));
+        assertArrayEquals(new int[]{}, network.match(Map.of("temperature", "hot", "co2", 800)));
+    }
+
+    @Test
+    @DisplayName("조건이 없는 규칙은 항상 발동됨")
+    void match_ruleWithoutConditions() {
+        AlphaNetwork network = AlphaNetwork.build(List.of(rule(1L)));
+
+        assertArrayEquals(new int[]{0}, network.match(Map.of()));
+    }
+
+    @Test
+    @DisplayName("패치는 바뀐 규칙의 노드와 필드 색인만 교체하고 나머지는 공유함")
+    void patch_sharesUnchangedStructures() {
+        AlphaNetwork network = AlphaNetwork.build(List.of(
+                rule(1L, condition("GT", "temperature", "30")),
+                rule(2L, condition("GT", "temperature", "30"), condition("EQ", "state", "ON")),
+                rule(3L, condition("LT", "humidity", "40"))));
+
+        AlphaNetwork patched = network.patch(List.of(), List.of(rule(2L, condition("GT", "temperature", "35"))));
+
+        assertSame(network.getFieldIndex("humidity"), patched.getFieldIndex("humidity"));
+        assertNotSame(network.getFieldIndex("temperature"), patched.getFieldIndex("temperature"));
+        assertNull(patched.getFieldIndex("state"));
+        assertEquals(3, patched.getNodeCount());
+        assertArrayEquals(new int[]{0, 1}, network.match(Map.of("temperature", 31, "state", "ON")));
+        assertArrayEquals(new int[]{0}, patched.match(Map.of("temperature", 31, "state", "ON")));
+        assertArrayEquals(new int[]{0, 1}, patched.match(Map.of("temperature", 36)));
+    }
+
+    @Test
+    @DisplayName("제거한 규칙의 슬롯은 새 규칙이 재사용하며 평가 순서가 어긋나면 표시됨")
+    void patch_removeAndAdd() {
+        AlphaNetwork network = AlphaNetwork.build(List.of(
+                rule(1L, condition("GT", "temperature", "30")),
+                rule(2L, condition("GT", "temperature", "30")),
+                rule(3L, condition("GT", "temperature", "30"))));
+
+        AlphaNetwork removed = network.patch(List.of(2L), List.of());
+        assertEquals(2, removed.getRuleCount());
+        assertTrue(removed.isOrdered());
+        assertArrayEquals(new int[]{0, 2}, removed.match(Map.of("temperature", 31)));
+
+        AlphaNetwork added = removed.patch(List.of(), List.of(rule(9L, condition("GT", "temperature", "30"))));
+        assertEquals(3, added.getRuleCount());
+        assertEquals(9L, added.getRule(1).getRuleNo());
+        assertFalse(added.isOrdered());
+        assertEquals(List.of(1L, 3L, 9L), added.getRules().stream().map(CompiledRule::getRuleNo).toList());
+
+        AlphaNetwork grown = added.patch(List.of(), List.of(rule(10L)));
+        assertEquals(4, grown.getRuleCount());
+        assertArrayEquals(new int[]{0, 1, 2, 3}, grown.match(Map.of("temperature", 31)));
+        assertArrayEquals(new int[]{0, 1, 2}, added.match(Map.of("temperature", 31)));
+    }
+
+    @Test
+    @DisplayName("패치된 네트워크는 처음부터 만든 네트워크와 같은 규칙을 발동함")
+    void patch_matchesFullBuild() {
+        List<CompiledRule> rules = new ArrayList<>();
+        for (long i = 1; i <= 20; i++) {
+            rules.add(rule(i, condition("GT", "temperature", String.valueOf(i)), condition("NE", "state", "OFF")));
+        }
+        AlphaNetwork patched = AlphaNetwork.build(rules);
+        for (long i = 1; i <= 20; i += 3) {
+            CompiledRule changed = rule(i, condition("LT", "temperature", String.valueOf(i)));
+            rules.set((int) i - 1, changed);
+            patched = patched.patch(List.of(), List.of(changed));
+        }
+        AlphaNetwork rebuilt = AlphaNetwork.build(rules);
+
+        for (int temperature = 0; temperature <= 22; temperature++) {
+            Map<String, Object> fact = Map.of("temperature", temperature, "state", "ON");
+            assertArrayEquals(rebuilt.match(fact), patched.match(fact));
+        }
+        assertEquals(rebuilt.getNodeCount(), patched.getNodeCount());
+        assertEquals(rebuilt.getResidualNodeCount(), patched.getResidualNodeCount());
+    }
+
+    @Test
+    @DisplayName("패치는 심볼 표를 이어 쓰고 전체 재구성은 새 심볼 표에서 시작함")
+    void build_startsFreshSymbolTable() {
+        AlphaNetwork network = AlphaNetwork.build(List.of(rule(1L, condition("GT", "temperature", "30"))));
+        AlphaNetwork patched = network.patch(List.of(1L), List.of(rule(2L, condition("EQ", "legacy", "ON"))));
+        assertSame(network.getSymbols(), patched.getSymbols());
+        assertTrue(patched.getSymbols().idOf("legacy") >= 0);
+
+        AlphaNetwork rebuilt = AlphaNetwork.build(List.of(rule(3L, condition("EQ", "state", "ON"))));
+        assertNotSame(patched.getSymbols(), rebuilt.getSymbols());
+        assertEquals(-1, rebuilt.getSymbols().idOf("legacy"));
+        assertEquals(0, rebuilt.getSymbols().idOf("state"));
+        assertArrayEquals(new int[]{0}, rebuilt.match(Map.of("state", "ON", "legacy", "ON")));
+    }
+}
@@ -0,0 +1,90 @@
+package com.nhnacademy.ruleengineservice.engine.network;
+
+import com.nhnacademy.ruleengineservice.domain.rule.EventType;
+import com.nhnacademy.ruleengineservice.engine.compile.CompiledCondition;
+import com.nhnacademy.ruleengineservice.engine.compile.CompiledRule;
+import com.nhnacademy.ruleengineservice.engine.compile.ConditionCompiler;
+import com.nhnacademy.ruleengineservice.engine.compile.RuleCompiler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DispatchTableTest {
+
+    private final ConditionCompiler conditionCompiler = new ConditionCompiler();
+
+    private CompiledRule rule(long ruleNo, int groupPriority, int rulePriority, Set<EventType> eventTypes,
+                              CompiledCondition... conditions) {
+        return new CompiledRule(ruleNo, "rule-" + ruleNo, rulePriority, (long) groupPriority, groupPriority,
+                List.of(conditions), List.of(), Map.of(), eventTypes);
+    }
+
+    private AlphaNetwork network(CompiledRule... rules) {
+        List<CompiledRule> sorted = new ArrayList<>(List.of(rules));
+        sorted.sort(RuleCompiler.EVALUATION_ORDER);
+        return AlphaNetwork.build(sorted);
+    }
+
+    @Test
+    @DisplayName("이벤트 유형별 규칙은 그룹 우선순위 → 규칙 우선순위 순으로 정렬됨")
+    void getRules_orderedByPriority() {
+        AlphaNetwork network = network(
+                rule(1L, 2, 1, EnumSet.of(EventType.DB_INSERT)),
+                rule(2L, 1, 5, EnumSet.of(EventType.DB_INSERT, EventType.WEBHOOK)),
+                rule(3L, 1, 2, EnumSet.of(EventType.DB_INSERT)),
+                rule(4L, 1, 1, EnumSet.of(EventType.USER_LOGIN)));
+
+        DispatchTable table = network.getDispatchTable();
+
+        assertEquals(List.of(3L, 2L, 1L),
+                Arrays.stream(table.getRules(EventType.DB_INSERT)).map(CompiledRule::getRuleNo).toList());
+        assertEquals(1, table.countRules(EventType.WEBHOOK));
+        assertEquals(0, table.countRules(EventType.API_CALL));
+    }
+
+    @Test
+    @DisplayName("이벤트 유형이 주어지면 구독한 규칙만 발동됨")
+    void match_onlySubscribedRules() {
+        CompiledCondition hot = conditionCompiler.compile(1L, "GT", "temperature", "30", 1);
+        AlphaNetwork network = network(
+                rule(1L, 1, 1, EnumSet.of(EventType.DEVICE_STATUS_CHANGE), hot),
+                rule(2L, 1, 2, EnumSet.of(EventType.WEBHOOK), hot),
+                rule(3L, 1, 3, EnumSet.of(EventType.WEBHOOK)),
+                rule(4L, 1, 4, EnumSet.noneOf(EventType.class)));
+        MatchContext context = new MatchContext();
+
+        network.match(EventType.WEBHOOK, Map.of("temperature", 35), context);
+        assertArrayEquals(new int[]{1, 2}, context.toFiredArray());
+
+        network.match(EventType.DEVICE_STATUS_CHANGE, Map.of("temperature", 35), context);
+        assertArrayEquals(new int[]{0}, context.toFiredArray());
+
+        network.match(null, Map.of("temperature", 35), context);
+        assertArrayEquals(new int[]{0, 1, 2, 3}, context.toFiredArray());
+    }
+
+    @Test
+    @DisplayName("윈도 조건은 구독한 이벤트 유형의 팩트만 집계함")
+    void match_windowCountsOnlySubscribedEvents() {
+        CompiledCondition logins = conditionCompiler.compile(1L, "WINDOW_COUNT", "mbNo", "1m,GTE,3,mbNo", 1);
+        AlphaNetwork network = network(rule(1L, 1, 1, EnumSet.of(EventType.USER_LOGIN), logins));
+        MatchContext context = new MatchContext();
+
+        network.match(EventType.USER_LOGIN, Map.of("mbNo", 7L), context);
+        network.match(EventType.API_CALL, Map.of("mbNo", 7L), context);
+        network.match(EventType.API_CALL, Map.of("mbNo", 7L), context);
+        network.match(EventType.USER_LOGIN, Map.of("mbNo", 7L), context);
+        assertEquals(0, context.getFiredCount());
+
+        network.match(EventType.USER_LOGIN, Map.of("mbNo", 7L), context);
+        assertArrayEquals(new int[]{0}, context.toFiredArray());
+    }
+}
@@ -0,0 +1,67 @@
+package com.nhnacademy.ruleengineservice.engine.network;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EqualityIndexTest {
+
+    private Set<Integer> probe(EqualityIndex index, Object value) {
+        Set<Integer> satisfied = new TreeSet<>();
+        index.probe(value, satisfied::add);
+        return satisfied;
+    }
+
+    @Test
+    @DisplayName("문자열 값은 한 번의 조회로 EQ/IN 노드를 모두 찾음")
+    void probe_text() {
+        EqualityIndex index = EqualityIndex.builder()
+                .add(0, List.of("OFFLINE"))
+                .add(1, List.of("ONLINE"))
+                .add(2, List.of("OFFLINE", "ERROR"))
+                .build();
+
+        assertEquals(Set.of(0, 2), probe(index, "OFFLINE"));
+        assertEquals(Set.of(2), probe(index, "ERROR"));
+        assertTrue(probe(index, "IDLE").isEmpty());
+        assertTrue(probe(index, null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("숫자 피연산자는 정수/실수 팩트 값 모두와 일치함")
+    void probe_numeric() {
+        EqualityIndex index = EqualityIndex.builder()
+                .add(0, List.of("30"))
+                .add(1, List.of("0"))
+                .add(2, List.of("1", "2", "3"))
+                .build();
+
+        assertEquals(Set.of(0), probe(index, 30));
+        assertEquals(Set.of(0), probe(index, 30.0));
+        assertEquals(Set.of(0), probe(index, "30"));
+        assertEquals(Set.of(1), probe(index, -0.0));
+        assertEquals(Set.of(2), probe(index, 3L));
+        assertTrue(probe(index, 30.5).isEmpty());
+    }
+
+    @Test
+    @DisplayName("toBuilder 로 필드 색인만 증분 재구성함")
+    void toBuilder_incrementalRebuild() {
+        EqualityIndex index = EqualityIndex.builder()
+                .add(0, List.of("ON"))
+                .add(1, List.of("OFF"))
+                .build();
+
+        EqualityIndex rebuilt = index.toBuilder().remove(0).add(2, List.of("ON")).build();
+
+        assertEquals(Set.of(0), probe(index, "ON"));
+        assertEquals(Set.of(2), probe(rebuilt, "ON"));
+        assertEquals(Set.of(1), probe(rebuilt, "OFF"));
+        assertEquals(2, rebuilt.size());
+    }
+}
@@ -0,0 +1,93 @@
+package com.nhnacademy.ruleengineservice.engine.network;
+
+import com.nhnacademy.ruleengineservice.engine.compile.CompiledRule;
+import com.nhnacademy.ruleengineservice.engine.fact.FactSlots;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FieldDependencyIndexTest extends NetworkFixture {
+
+    private static int[] selected(AlphaNetwork network, Map<String, Object> fact) {
+        long[] bits = network.getDependencies()
+                .select(new FactSlots(network.getSymbols()).parse(fact), network.getSlotCount(), new MatchContext());
+        List<Integer> indexes = new ArrayList<>();
+        for (int ruleIndex = 0; ruleIndex < network.getSlotCount(); ruleIndex++) {
+            if ((bits[ruleIndex >>> 6] & (1L << ruleIndex)) != 0) {
+                indexes.add(ruleIndex);
+            }
+        }
+        return indexes.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    @Test
+    @DisplayName("필요한 필드가 팩트에 모두 있는 규칙만 후보가 됨")
+    void select_skipsRulesWithAbsentFields() {
+        AlphaNetwork network = AlphaNetwork.build(List.of(
+                rule(1L, condition("GT", "temperature", "30")),
+                rule(2L, condition("GT", "temperature", "30"), condition("LT", "humidity", "70")),
+                rule(3L, condition("LT", "humidity", "70")),
+                rule(4L, condition("EQ", "state", "ON"))));
+
+        assertArrayEquals(new int[]{2}, selected(network, Map.of("humidity", 40)));
+        assertArrayEquals(new int[]{0, 1, 2}, selected(network, Map.of("humidity", 40, "temperature", 20)));
+        assertArrayEquals(new int[0], selected(network, Map.of("co2", 800)));
+        assertEquals(2, network.getDependencies().countRequired(1));
+    }
+
+    @Test
+    @DisplayName("IS_NULL 만 가진 규칙, 조건이 없는 규칙, 상태를 가지는 규칙은 항상 후보가 됨")
+    void select_keepsOptionalRules() {
+        AlphaNetwork network = AlphaNetwork.build(List.of(
+                rule(1L, condition("IS_NULL", "state", "")),
+                rule(2L),
+                rule(3L, condition("WINDOW_COUNT", "temperature", "5m,GT,3"), condition("EQ", "state", "ON")),
+                rule(4L, condition("IS_NULL", "state", ""), condition("GT", "temperature", "30"))));
+
+        assertArrayEquals(new int[]{0, 1, 2}, selected(network, Map.of("humidity", 40)));
+        assertArrayEquals(new int[]{0, 1, 2, 3}, selected(network, Map.of("temperature", 40)));
+        assertEquals(0, network.getDependencies().countRequired(2));
+        assertEquals(1, network.getDependencies().countRequired(3));
+    }
+
+    @Test
+    @DisplayName("값이 null 인 필드는 없는 것으로 봄")
+    void select_treatsNullAsAbsent() {
+        AlphaNetwork network = AlphaNetwork.build(List.of(rule(1L, condition("IS_NOT_NULL", "state", ""))));
+        Map<String, Object> fact = new HashMap<>();
+        fact.put("state", null);
+
+        assertArrayEquals(new int[0], selected(network, fact));
+        assertArrayEquals(new int[0], network.match(fact));
+    }
+
+    @Test
+    @DisplayName("패치한 색인은 새로 만든 색인과 같은 후보를 고르고 이전 색인은 바뀌지 않음")
+    void patch_matchesFullBuild() {
+        List<CompiledRule> rules = new ArrayList<>();
+        for (long i = 0; i < 70; i++) {
+            rules.add(rule(i, condition("GT", "temperature", String.valueOf(i))));
+        }
+        AlphaNetwork network = AlphaNetwork.build(rules);
+        AlphaNetwork patched = network.patch(List.of(3L), List.of(
+                rule(5L, condition("LT", "humidity", "70")),
+                rule(70L, condition("EQ", "state", "ON"), condition("LT", "humidity", "70"))));
+
+        Map<String, Object> humidity = Map.of("humidity", 40);
+        assertArrayEquals(new int[0], selected(network, humidity));
+        assertArrayEquals(new int[]{5}, selected(patched, humidity));
+        assertArrayEquals(new int[]{3, 5}, selected(patched, Map.of("humidity", 40, "state", "ON")));
+        assertEquals(70, selected(network, Map.of("temperature", 1)).length);
+        assertEquals(68, selected(patched, Map.of("temperature", 1)).length);
+        assertSame(network.getSymbols(), patched.getSymbols());
+        int humidityId = patched.getSymbols().idOf("humidity");
+        assertEquals(2, patched.getDependencies().countReaders(humidityId));
+        assertEquals(0, network.getDependencies().countReaders(humidityId));
+    }
+}
@@ -0,0 +1,97 @@
+package com.nhnacademy.ruleengineservice.engine.network;
+
+import com.nhnacademy.ruleengineservice.domain.rule.EventType;
+import com.nhnacademy.ruleengineservice.engine.compile.CompiledRule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchContextTest extends NetworkFixture {
+
+    @Test
+    @DisplayName("재사용된 컨텍스트는 이전 평가 결과를 남기지 않음")
+    void reuse_resetsPreviousState() {
+        List<CompiledRule> rules = new ArrayList<>();
+        for (long i = 0; i < 130; i++) {
+            rules.add(rule(i, condition("GT", "temperature", String.valueOf(i)), condition("EQ", "state", "ON")));
+        }
+        rules.add(rule(130L));
+        AlphaNetwork network = AlphaNetwork.build(rules);
+        MatchContext context = new MatchContext();
+
+        network.match(Map.of("temperature", 100, "state", "ON"), context);
+        assertEquals(101, context.getFiredCount());
+        assertEquals(0, context.nextFired(0));
+        assertEquals(130, context.nextFired(100));
+
+        network.match(Map.of("temperature", 100, "state", "OFF"), context);
+        assertArrayEquals(new int[]{130}, context.toFiredArray());
+
+        network.match(Map.of("temperature", 1.5, "state", "ON"), context);
+        assertArrayEquals(new int[]{0, 1, 130}, context.toFiredArray());
+    }
+
+    @Test
+    @DisplayName("규칙 수가 다른 네트워크 사이에서도 컨텍스트를 재사용할 수 있음")
+    void reuse_acrossNetworks() {
+        MatchContext context = new MatchContext();
+        AlphaNetwork small = AlphaNetwork.build(List.of(rule(1L, condition("EQ", "state", "ON"))));
+        List<CompiledRule> many = new ArrayList<>();
+        for (long i = 0; i < 200; i++) {
+            many.add(rule(i, condition("EQ", "state", "ON")));
+        }
+        AlphaNetwork large = AlphaNetwork.build(many);
+
+        small.match(Map.of("state", "ON"), context);
+        assertEquals(1, context.getFiredCount());
+        large.match(Map.of("state", "ON"), context);
+        assertEquals(200, context.getFiredCount());
+        small.match(Map.of("state", "OFF"), context);
+        assertEquals(-1, context.nextFired(0));
+    }
+
+    @Test
+    @DisplayName("바뀐 필드가 주어지면 그 필드를 읽는 규칙만 평가함")
+    void match_changedFieldsOnly() {
+        AlphaNetwork network = AlphaNetwork.build(List.of(
+                rule(1L, condition("GT", "temperature", "30")),
+                rule(2L, condition("EQ", "state", "ON")),
+                rule(3L, condition("GT", "temperature", "30"), condition("EQ", "state", "ON")),
+                rule(4L)));
+        MatchContext context = new MatchContext();
+        Map<String, Object> fact = Map.of("temperature", 35, "state", "ON");
+
+        network.match(EventType.DEVICE_STATUS_CHANGE, fact, List.of("state"), context);
+        assertArrayEquals(new int[]{1, 2, 3}, context.toFiredArray());
+
+        network.match(EventType.DEVICE_STATUS_CHANGE, fact, List.of("humidity"), context);
+        assertArrayEquals(new int[]{3}, context.toFiredArray());
+
+        network.match(EventType.DEVICE_STATUS_CHANGE, fact, null, context);
+        assertArrayEquals(new int[]{0, 1, 2, 3}, context.toFiredArray());
+    }
+
+    @Test
+    @DisplayName("값이 같은 팩트를 다시 보내도 윈도 조건은 팩트마다 집계함")
+    void match_unchangedFactStillCountsWindow() {
+        AlphaNetwork network = AlphaNetwork.build(List.of(
+                rule(1L, condition("WINDOW_COUNT", "deviceId", "1m,GTE,3,deviceId")),
+                rule(2L, condition("EQ", "state", "ON"))));
+        MatchContext context = new MatchContext();
+        Map<String, Object> fact = Map.of("deviceId", "d-1", "state", "ON");
+
+        network.match(EventType.DEVICE_STATUS_CHANGE, fact, null, context);
+        assertArrayEquals(new int[]{1}, context.toFiredArray());
+
+        network.match(EventType.DEVICE_STATUS_CHANGE, fact, List.of(), context);
+        assertEquals(0, context.getFiredCount());
+
+        network.match(EventType.DEVICE_STATUS_CHANGE, fact, List.of(), context);
+        assertArrayEquals(new int[]{0}, context.toFiredArray());
+    }
+}
@@ -0,0 +1,28 @@
+package com.nhnacademy.ruleengineservice.engine.network;
+
+import com.nhnacademy.ruleengineservice.engine.compile.CompiledCondition;
+import com.nhnacademy.ruleengineservice.engine.compile.CompiledRule;
+import com.nhnacademy.ruleengineservice.engine.compile.ConditionCompiler;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알파 네트워크 테스트가 공유하는 규칙·조건 생성 도우미입니다.
+ * 테스트 인스턴스마다 컴파일러를 새로 만들므로 상태를 가지는 조건의 상태는 테스트끼리 공유되지 않습니다.
+ */
+abstract class NetworkFixture {
+
+    private final ConditionCompiler conditionCompiler = new ConditionCompiler();
+
+    /**
+     * 그룹 1 에 속하고 규칙 번호를 우선순위로 쓰는 규칙을 만듭니다.
+     */
+    protected CompiledRule rule(long ruleNo, CompiledCondition... conditions) {
+        return new CompiledRule(ruleNo, "rule-" + ruleNo, (int) ruleNo, 1L, 1, List.of(conditions), List.of(), Map.of());
+    }
+
+    protected CompiledCondition condition(String conType, String conField, String conValue) {
+        return conditionCompiler.compile(1L, conType, conField, conValue, 1);
+    }
+}
@@ -0,0 +1,80 @@
+package com.nhnacademy.ruleengineservice.engine.network;
+
+import com.nhnacademy.ruleengineservice.engine.compile.ConditionOperator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NumericThresholdIndexTest {
+
+    private TreeSet<Integer> probe(NumericThresholdIndex index, double value) {
+        TreeSet<Integer> satisfied = new TreeSet<>();
+        int count = index.probe(value, satisfied::add);
+        assertEquals(satisfied.size(), count);
+        return satisfied;
+    }
+
+    @Test
+    @DisplayName("임계값 경계에서 GT/GTE/LT/LTE 가 올바르게 구분됨")
+    void probe_thresholdBoundaries() {
+        NumericThresholdIndex index = NumericThresholdIndex.builder()
+                .addThreshold(0, ConditionOperator.GT, 30)
+                .addThreshold(1, ConditionOperator.GTE, 30)
+                .addThreshold(2, ConditionOperator.LT, 30)
+                .addThreshold(3, ConditionOperator.LTE, 30)
+                .addRange(4, 30, 40)
+                .build();
+
+        assertEquals(new TreeSet<>(List.of(1, 3, 4)), probe(index, 30));
+        assertEquals(new TreeSet<>(List.of(0, 1, 4)), probe(index, 30.5));
+        assertEquals(new TreeSet<>(List.of(2, 3)), probe(index, 29.9));
+        assertTrue(probe(index, Double.NaN).isEmpty());
+    }
+
+    @Test
+    @DisplayName("무작위 조건에 대해 선형 검사와 같은 결과를 반환함")
+    void probe_matchesLinearScan() {
+        Random random = new Random(42);
+        ConditionOperator[] operators = {ConditionOperator.GT, ConditionOperator.GTE, ConditionOperator.LT, ConditionOperator.LTE};
+        NumericThresholdIndex.Builder builder = NumericThresholdIndex.builder();
+        List<double[]> linear = new ArrayList<>();
+
+        for (int id = 0; id < 500; id++) {
+            double a = random.nextInt(100);
+            if (id % 3 == 0) {
+                double b = a + random.nextInt(20);
+                builder.addRange(id, a, b);
+                linear.add(new double[]{-1, a, b});
+            } else {
+                int op = random.nextInt(operators.length);
+                builder.addThreshold(id, operators[op], a);
+                linear.add(new double[]{op, a, 0});
+            }
+        }
+        NumericThresholdIndex index = builder.build();
+
+        for (double value = -5; value <= 125; value += 0.5) {
+            TreeSet<Integer> expected = new TreeSet<>();
+            for (int id = 0; id < linear.size(); id++) {
+                double[] c = linear.get(id);
+                boolean ok = switch ((int) c[0]) {
+                    case -1 -> value >= c[1] && value <= c[2];
+                    case 0 -> value > c[1];
+                    case 1 -> value >= c[1];
+                    case 2 -> value < c[1];
+                    default -> value <= c[1];
+                };
+                if (ok) {
+                    expected.add(id);
+                }
+            }
+            assertEquals(expected, probe(index, value), "value=" + value);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.nhnacademy.ruleengineservice.engine.schedule;
+
+import com.nhnacademy.ruleengineservice.engine.exception.RuleCompileException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CronScheduleTest {
+
+    @Test
+    @DisplayName("다음 실행 시각은 스케줄 시간대 기준으로 계산되고 연도 필드는 무시됨")
+    void nextFireAfter_usesTimeZone() {
+        CronSchedule schedule = CronSchedule.compile(1L, 10L, "0 0 12 * * ? *", "Asia/Seoul", 5);
+
+        ZonedDateTime next = schedule.nextFireAfter(Instant.parse("2025-01-01T04:00:00Z"));
+
+        assertEquals(Instant.parse("2025-01-02T03:00:00Z"), next.toInstant());
+        assertEquals("Asia/Seoul", next.getZone().getId());
+        assertEquals(5, schedule.getMaxRetries());
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 크론 표현식이나 시간대는 거부됨")
+    void compile_rejectsInvalid() {
+        assertThrows(RuleCompileException.class, () -> CronSchedule.compile(1L, 10L, "0 0 99 * * ?", "UTC", 0));
+        assertThrows(RuleCompileException.class, () -> CronSchedule.compile(1L, 10L, "0 0 12 * * ?", "Mars/Base", 0));
+        assertThrows(RuleCompileException.class, () -> CronSchedule.compile(1L, 10L, "0 0 12 * * ? 2030", "UTC", 0));
+    }
+}
@@ -0,0 +1,69 @@
+package com.nhnacademy.ruleengineservice.engine.schedule;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MissedFireTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T10:30:00Z");
+
+    private final CronSchedule hourly = CronSchedule.compile(1L, 10L, "0 0 * * * ?", "UTC", 0,
+            Instant.parse("2025-01-01T07:00:00Z"));
+
+    private final CronSchedule halfHourly = CronSchedule.compile(2L, 20L, "0 15,45 * * * ?", "UTC", 0,
+            Instant.parse("2025-01-01T09:45:00Z"));
+
+    @Test
+    @DisplayName("FIRE_ALL 은 놓친 실행을 모든 스케줄에 걸쳐 예정 시각 순으로 반환함")
+    void plan_fireAll() {
+        List<MissedFire> missed = MissedFire.plan(List.of(hourly, halfHourly), NOW, MisfirePolicy.FIRE_ALL,
+                100, Duration.ofDays(1));
+
+        assertEquals(List.of("08:00", "09:00", "10:00", "10:15"),
+                missed.stream().map(fire -> fire.getScheduledAt().toLocalTime().toString()).toList());
+        assertEquals(2L, missed.get(3).getSchedule().getScheduleNo());
+    }
+
+    @Test
+    @DisplayName("FIRE_ONCE 는 스케줄마다 가장 최근 예정 시각 한 번으로 합침")
+    void plan_fireOnce() {
+        List<MissedFire> missed = MissedFire.plan(List.of(hourly, halfHourly), NOW, MisfirePolicy.FIRE_ONCE,
+                100, Duration.ofDays(1));
+
+        assertEquals(2, missed.size());
+        assertEquals(Instant.parse("2025-01-01T10:00:00Z"), missed.get(0).getScheduledAt().toInstant());
+        assertEquals(3, missed.get(0).getCoalesced());
+        assertEquals(1, missed.get(1).getCoalesced());
+    }
+
+    @Test
+    @DisplayName("FIRE_ONCE 는 놓친 실행이 maxCatchUp 보다 많아도 가장 최근 예정 시각으로 합치고 모두 셈")
+    void plan_fireOnceBeyondMaxCatchUp() {
+        CronSchedule everyMinute = CronSchedule.compile(4L, 40L, "0 * * * * ?", "UTC", 0,
+                Instant.parse("2025-01-01T08:00:00Z"));
+
+        List<MissedFire> missed = MissedFire.plan(List.of(everyMinute), NOW, MisfirePolicy.FIRE_ONCE,
+                100, Duration.ofDays(1));
+
+        assertEquals(1, missed.size());
+        assertEquals(NOW, missed.get(0).getScheduledAt().toInstant());
+        assertEquals(150, missed.get(0).getCoalesced());
+    }
+
+    @Test
+    @DisplayName("SKIP 이나 실행 이력이 없는 스케줄은 따라잡지 않고, 최대 기간과 개수를 넘는 실행은 버림")
+    void plan_limits() {
+        CronSchedule neverFired = CronSchedule.compile(3L, 30L, "0 0 * * * ?", "UTC", 0);
+
+        assertTrue(MissedFire.plan(List.of(hourly), NOW, MisfirePolicy.SKIP, 100, Duration.ofDays(1)).isEmpty());
+        assertTrue(MissedFire.plan(List.of(neverFired), NOW, MisfirePolicy.FIRE_ALL, 100, Duration.ofDays(1)).isEmpty());
+        assertEquals(1, MissedFire.plan(List.of(hourly), NOW, MisfirePolicy.FIRE_ALL, 100, Duration.ofHours(1)).size());
+        assertEquals(2, MissedFire.plan(List.of(hourly), NOW, MisfirePolicy.FIRE_ALL, 2, Duration.ofDays(1)).size());
+    }
+}
@@ -0,0 +1,62 @@
+package com.nhnacademy.ruleengineservice.engine.schedule.cluster;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConsistentHashRingTest {
+
+    @Test
+    @DisplayName("인스턴스 순서와 관계없이 같은 목록이면 같은 인스턴스에 배정됨")
+    void ownerOf_deterministic() {
+        ConsistentHashRing ring = ConsistentHashRing.of(List.of("a", "b", "c"), 160);
+        ConsistentHashRing reordered = ConsistentHashRing.of(List.of("c", "a", "b"), 160);
+
+        for (long ruleNo = 1; ruleNo <= 1_000; ruleNo++) {
+            assertEquals(ring.ownerOf(ruleNo), reordered.ownerOf(ruleNo));
+        }
+    }
+
+    @Test
+    @DisplayName("규칙은 인스턴스들에 고르게 나뉨")
+    void ownerOf_balanced() {
+        ConsistentHashRing ring = ConsistentHashRing.of(List.of("a", "b", "c", "d"), 160);
+        Map<String, Integer> counts = new HashMap<>();
+
+        for (long ruleNo = 1; ruleNo <= 10_000; ruleNo++) {
+            counts.merge(ring.ownerOf(ruleNo), 1, Integer::sum);
+        }
+
+        assertEquals(4, counts.size());
+        counts.values().forEach(count -> assertTrue(count > 1_750 && count < 3_250, counts.toString()));
+    }
+
+    @Test
+    @DisplayName("인스턴스가 추가되면 새 인스턴스로 가는 규칙만 주인이 바뀜")
+    void ownerOf_minimalMovement() {
+        ConsistentHashRing before = ConsistentHashRing.of(List.of("a", "b", "c"), 160);
+        ConsistentHashRing after = ConsistentHashRing.of(List.of("a", "b", "c", "d"), 160);
+        int moved = 0;
+
+        for (long ruleNo = 1; ruleNo <= 10_000; ruleNo++) {
+            String owner = after.ownerOf(ruleNo);
+            if (!owner.equals(before.ownerOf(ruleNo))) {
+                assertEquals("d", owner);
+                moved++;
+            }
+        }
+
+        assertTrue(moved > 1_500 && moved < 3_500, "moved=" + moved);
+    }
+
+    @Test
+    @DisplayName("인스턴스가 없으면 링을 만들 수 없음")
+    void of_rejectsEmpty() {
+        assertThrows(IllegalArgumentException.class, () -> ConsistentHashRing.of(List.of(), 160));
+    }
+}
@@ -0,0 +1,69 @@
+package com.nhnacademy.ruleengineservice.engine.schedule.cluster;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * InMemoryClusterMembership 은 한 프로세스 안의 공유 {@link Registry} 를 레지스트리로 사용하는 멤버십입니다.
+ * 여러 인스턴스의 스케줄 분배와 재분배를 Eureka 없이 확인하는 테스트 전용 구현입니다.
+ */
+public final class InMemoryClusterMembership implements ClusterMembership {
+
+    private final Registry registry;
+
+    private final String localInstanceId;
+
+    private InMemoryClusterMembership(Registry registry, String localInstanceId) {
+        this.registry = registry;
+        this.localInstanceId = localInstanceId;
+    }
+
+    @Override
+    public String localInstanceId() {
+        return localInstanceId;
+    }
+
+    @Override
+    public Set<String> liveInstanceIds() {
+        Set<String> live = registry.instanceIds();
+        if (live.contains(localInstanceId)) {
+            return live;
+        }
+        Set<String> withLocal = new HashSet<>(live);
+        withLocal.add(localInstanceId);
+        return Set.copyOf(withLocal);
+    }
+
+    /**
+     * 인스턴스가 등록하고 떠나는 프로세스 내 레지스트리입니다.
+     */
+    public static final class Registry {
+
+        private final Set<String> instances = ConcurrentHashMap.newKeySet();
+
+        /**
+         * 인스턴스를 등록하고 그 인스턴스의 멤버십을 반환합니다.
+         *
+         * @param instanceId 인스턴스 식별자
+         * @return 멤버십
+         */
+        public InMemoryClusterMembership join(String instanceId) {
+            instances.add(instanceId);
+            return new InMemoryClusterMembership(this, instanceId);
+        }
+
+        /**
+         * 인스턴스를 레지스트리에서 제거합니다.
+         *
+         * @param instanceId 인스턴스 식별자
+         */
+        public void leave(String instanceId) {
+            instances.remove(instanceId);
+        }
+
+        public Set<String> instanceIds() {
+            return Set.copyOf(instances);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.nhnacademy.ruleengineservice.engine.schedule.cluster;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScheduleOwnershipTest {
+
+    @Test
+    @DisplayName("모든 규칙은 정확히 한 인스턴스가 맡고, 인스턴스가 떠나면 남은 인스턴스가 나눠 맡음")
+    void owns_exactlyOnceAcrossInstances() {
+        InMemoryClusterMembership.Registry registry = new InMemoryClusterMembership.Registry();
+        InMemoryClusterMembership a = registry.join("a");
+        InMemoryClusterMembership b = registry.join("b");
+        InMemoryClusterMembership c = registry.join("c");
+        List<ScheduleOwnership> instances = List.of(
+                new ScheduleOwnership(a, 160), new ScheduleOwnership(b, 160), new ScheduleOwnership(c, 160));
+        ScheduleOwnership ownershipA = instances.get(0);
+        ScheduleOwnership ownershipB = instances.get(1);
+
+        for (long ruleNo = 1; ruleNo <= 1_000; ruleNo++) {
+            long id = ruleNo;
+            assertEquals(1, instances.stream().filter(ownership -> ownership.owns(id)).count());
+        }
+
+        boolean[] ownedByA = new boolean[1_001];
+        for (int ruleNo = 1; ruleNo <= 1_000; ruleNo++) {
+            ownedByA[ruleNo] = ownershipA.owns((long) ruleNo);
+        }
+        registry.leave("c");
+
+        assertTrue(ownershipA.refresh());
+        assertTrue(ownershipB.refresh());
+        assertFalse(ownershipA.refresh());
+        for (int ruleNo = 1; ruleNo <= 1_000; ruleNo++) {
+            assertNotEquals(ownershipA.owns((long) ruleNo), ownershipB.owns((long) ruleNo));
+            if (ownedByA[ruleNo]) {
+                assertTrue(ownershipA.owns((long) ruleNo));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("레지스트리에 아직 보이지 않아도 자신은 멤버에 포함됨")
+    void liveInstanceIds_includesLocal() {
+        InMemoryClusterMembership.Registry registry = new InMemoryClusterMembership.Registry();
+        InMemoryClusterMembership a = registry.join("a");
+        registry.leave("a");
+
+        ScheduleOwnership ownership = new ScheduleOwnership(a, 16);
+
+        assertEquals(Set.of("a"), ownership.getInstances());
+        assertTrue(ownership.owns(42L));
+    }
+}
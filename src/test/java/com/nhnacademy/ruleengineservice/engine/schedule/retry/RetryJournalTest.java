@@ -0,0 +1,110 @@
+package com.nhnacademy.ruleengineservice.engine.schedule.retry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryJournalTest {
+
+    private final Path directory = createDirectory();
+
+    private final Path path = directory.resolve("retry.journal");
+
+    private static Path createDirectory() {
+        try {
+            return Files.createTempDirectory("retry-journal");
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    private static RetryEntry entry(long id, long actNo, int attempt) {
+        return new RetryEntry(id, 1L, 10L, actNo, attempt, 3, 1_000L * attempt, 500L,
+                "2025-01-01T07:00+09:00", "Asia/Seoul");
+    }
+
+    @Test
+    @DisplayName("재시작 후 완료되지 않은 항목만 마지막 회차로 복원됨")
+    void reopen_restoresPendingEntries() throws IOException {
+        try (RetryJournal journal = RetryJournal.open(path)) {
+            journal.add(entry(journal.nextId(), 100L, 1));
+            journal.add(entry(journal.nextId(), 200L, 1));
+            journal.replace(1L, entry(journal.nextId(), 100L, 1).next(4L, 9_000L));
+            journal.complete(2L);
+        }
+
+        try (RetryJournal journal = RetryJournal.open(path)) {
+            List<RetryEntry> entries = journal.entries();
+            assertEquals(1, entries.size());
+            assertEquals(100L, entries.getFirst().getActNo());
+            assertEquals(2, entries.getFirst().getAttempt());
+            assertEquals(9_000L, entries.getFirst().getDueAtMillis());
+            assertEquals("Asia/Seoul", entries.getFirst().getTimeZone());
+            assertEquals(5L, journal.nextId(), "식별자는 재시작 후에도 이어짐");
+        }
+    }
+
+    @Test
+    @DisplayName("끊긴 마지막 레코드는 잘라내고 앞의 항목은 유지함")
+    void reopen_truncatesTornTail() throws IOException {
+        try (RetryJournal journal = RetryJournal.open(path)) {
+            journal.add(entry(journal.nextId(), 100L, 1));
+        }
+        long intact = Files.size(path);
+        Files.write(path, new byte[]{0, 0, 0, 40, 'A', 1, 2}, StandardOpenOption.APPEND);
+
+        try (RetryJournal journal = RetryJournal.open(path)) {
+            assertEquals(1, journal.size());
+            assertEquals(intact, journal.fileSize());
+        }
+    }
+
+    @Test
+    @DisplayName("완료 레코드가 쌓이면 살아 있는 항목만 남도록 압축됨")
+    void complete_compactsJournal() throws IOException {
+        try (RetryJournal journal = RetryJournal.open(path)) {
+            journal.add(entry(journal.nextId(), 1L, 1));
+            for (int i = 0; i < 512; i++) {
+                long id = journal.nextId();
+                journal.add(entry(id, 2L, 1));
+                journal.complete(id);
+            }
+            assertEquals(1, journal.size());
+            assertTrue(journal.fileSize() < 200, "압축 후 크기: " + journal.fileSize());
+        }
+        try (RetryJournal journal = RetryJournal.open(path)) {
+            assertEquals(List.of(1L), journal.entries().stream().map(RetryEntry::getActNo).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("재시도 대기 시간은 회차마다 두 배로 늘고 최대값과 jitter 가 적용됨")
+    void backoff_exponentialWithJitter() {
+        RetryBackoff backoff = new RetryBackoff(Duration.ofSeconds(1), Duration.ofSeconds(30), 0.5);
+
+        assertEquals(Duration.ofSeconds(1), backoff.delayOf(1, 0.0));
+        assertEquals(Duration.ofSeconds(4), backoff.delayOf(3, 0.0));
+        assertEquals(Duration.ofSeconds(30), backoff.delayOf(10, 0.0));
+        assertEquals(Duration.ofSeconds(30), backoff.delayOf(100, 0.0));
+        assertEquals(Duration.ofSeconds(2), backoff.delayOf(3, 1.0));
+    }
+}
@@ -0,0 +1,82 @@
+package com.nhnacademy.ruleengineservice.engine.snapshot;
+
+import com.nhnacademy.ruleengineservice.engine.compile.CompiledAction;
+import com.nhnacademy.ruleengineservice.engine.compile.CompiledRule;
+import com.nhnacademy.ruleengineservice.engine.compile.ConditionCompiler;
+import com.nhnacademy.ruleengineservice.engine.evaluate.EvaluationResult;
+import com.nhnacademy.ruleengineservice.engine.evaluate.RuleEvaluator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RuleSetRegistryTest {
+
+    private final ConditionCompiler conditionCompiler = new ConditionCompiler();
+
+    private final RuleEvaluator ruleEvaluator = new RuleEvaluator();
+
+    private CompiledRule rule(long ruleNo, String threshold) {
+        return new CompiledRule(ruleNo, "rule-" + ruleNo, 1, 1L, 1,
+                List.of(conditionCompiler.compile(ruleNo, "GT", "temperature", threshold, 1)),
+                List.of(new CompiledAction(ruleNo, "LOG", "{}", 1)), Map.of());
+    }
+
+    @Test
+    @DisplayName("초기 스냅샷은 버전 0 이며 규칙이 없음")
+    void current_initiallyEmpty() {
+        RuleSetRegistry registry = new RuleSetRegistry();
+
+        assertEquals(0L, registry.current().getVersion());
+        assertTrue(registry.current().getRules().isEmpty());
+    }
+
+    @Test
+    @DisplayName("게시할 때마다 버전이 증가하고 이전 스냅샷은 변경되지 않음")
+    void publish_incrementsVersion() {
+        RuleSetRegistry registry = new RuleSetRegistry();
+
+        RuleSetSnapshot first = registry.publish(List.of(rule(1L, "30")));
+        RuleSetSnapshot second = registry.publish(List.of(rule(1L, "40"), rule(2L, "10")));
+
+        assertEquals(1L, first.getVersion());
+        assertEquals(2L, second.getVersion());
+        assertSame(second, registry.current());
+        assertEquals(1, first.getRules().size());
+        assertEquals(2, second.getRules().size());
+    }
+
+    @Test
+    @DisplayName("평가 결과는 읽어 둔 스냅샷의 버전과 규칙으로 평가됨")
+    void evaluate_reportsSnapshotVersion() {
+        RuleSetRegistry registry = new RuleSetRegistry();
+        RuleSetSnapshot first = registry.publish(List.of(rule(1L, "30")));
+        registry.publish(List.of(rule(1L, "40")));
+
+        EvaluationResult stale = ruleEvaluator.evaluate(first, null, Map.of("temperature", 35));
+        EvaluationResult latest = ruleEvaluator.evaluate(registry.current(), null, Map.of("temperature", 35));
+
+        assertEquals(1L, stale.getVersion());
+        assertTrue(stale.hasMatches());
+        assertEquals(2L, latest.getVersion());
+        assertFalse(latest.hasMatches());
+    }
+
+    @Test
+    @DisplayName("패치는 현재 스냅샷에서 바뀐 규칙만 교체한 새 버전을 게시함")
+    void patch_publishesNextVersion() {
+        RuleSetRegistry registry = new RuleSetRegistry();
+        RuleSetSnapshot first = registry.publish(List.of(rule(1L, "30"), rule(2L, "30")));
+
+        RuleSetSnapshot patched = registry.patch(List.of(1L), List.of(rule(2L, "40")));
+
+        assertEquals(first.getVersion() + 1, patched.getVersion());
+        assertEquals(2, first.getRules().size());
+        assertEquals(1, patched.getRules().size());
+        assertFalse(ruleEvaluator.evaluate(patched, null, Map.of("temperature", 35)).hasMatches());
+        assertTrue(ruleEvaluator.evaluate(patched, null, Map.of("temperature", 45)).hasMatches());
+    }
+}
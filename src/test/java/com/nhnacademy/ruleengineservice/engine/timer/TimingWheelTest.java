@@ -0,0 +1,78 @@
+package com.nhnacademy.ruleengineservice.engine.timer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    private static final Instant START = Instant.parse("2025-01-01T00:00:00Z");
+
+    private final TimingWheel wheel = new TimingWheel("test-wheel", Clock.fixed(START, ZoneOffset.UTC),
+            Duration.ofMillis(100), 8);
+
+    @Test
+    @DisplayName("마감 틱이 된 작업만 실행되며, 휠 한 바퀴보다 먼 작업은 다음 바퀴에 실행됨")
+    void advanceTo_firesOnDeadlineTick() {
+        List<String> fired = new ArrayList<>();
+        wheel.advanceTo(START.toEpochMilli());
+        wheel.schedule(START.plusMillis(250), () -> fired.add("near"));
+        wheel.schedule(START.plusMillis(1_050), () -> fired.add("far"));
+
+        assertEquals(8, wheel.getWheelSize());
+        wheel.advanceTo(START.toEpochMilli() + 199);
+        assertTrue(fired.isEmpty());
+
+        wheel.advanceTo(START.toEpochMilli() + 300);
+        assertEquals(List.of("near"), fired);
+
+        wheel.advanceTo(START.toEpochMilli() + 900);
+        assertEquals(List.of("near"), fired, "같은 버킷이지만 다음 바퀴의 작업");
+
+        wheel.advanceTo(START.toEpochMilli() + 1_100);
+        assertEquals(List.of("near", "far"), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("취소된 작업은 실행되지 않고, 지난 시각의 작업은 다음 틱에 실행됨")
+    void cancelAndPastDeadline() {
+        List<String> fired = new ArrayList<>();
+        wheel.advanceTo(START.toEpochMilli());
+        TimingWheel.Timeout cancelled = wheel.schedule(START.plusMillis(500), () -> fired.add("cancelled"));
+        wheel.schedule(START.minusSeconds(10), () -> fired.add("past"));
+        cancelled.cancel();
+
+        wheel.advanceTo(START.toEpochMilli() + 1_000);
+
+        assertEquals(List.of("past"), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("실행 중 다시 등록한 작업도 마감 시각에 실행됨")
+    void reschedulingFromTask() {
+        List<Long> fired = new ArrayList<>();
+        wheel.advanceTo(START.toEpochMilli());
+        Runnable[] task = new Runnable[1];
+        task[0] = () -> {
+            fired.add((long) fired.size());
+            if (fired.size() < 3) {
+                wheel.schedule(START.plusMillis(200L * (fired.size() + 1)), task[0]);
+            }
+        };
+        wheel.schedule(START.plusMillis(200), task[0]);
+
+        wheel.advanceTo(START.toEpochMilli() + 1_000);
+
+        assertEquals(3, fired.size());
+    }
+}